@@ -0,0 +1,79 @@
+package io.neonbee.config;
+
+import java.util.Base64;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+
+/**
+ * Converter and mapper for {@link io.neonbee.config.CircuitBreakerConfig}. NOTE: This class has been automatically
+ * generated from the {@link io.neonbee.config.CircuitBreakerConfig} original class using Vert.x codegen.
+ */
+public class CircuitBreakerConfigConverter {
+
+    private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+
+    private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, CircuitBreakerConfig obj) {
+        for (java.util.Map.Entry<String, Object> member : json) {
+            switch (member.getKey()) {
+            case "enabled":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setEnabled((Boolean) member.getValue());
+                }
+                break;
+            case "failureRateThreshold":
+                if (member.getValue() instanceof Number) {
+                    obj.setFailureRateThreshold(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "halfOpenCalls":
+                if (member.getValue() instanceof Number) {
+                    obj.setHalfOpenCalls(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "minimumCalls":
+                if (member.getValue() instanceof Number) {
+                    obj.setMinimumCalls(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "openDuration":
+                if (member.getValue() instanceof Number) {
+                    obj.setOpenDuration(((Number) member.getValue()).longValue());
+                }
+                break;
+            case "slowCallDuration":
+                if (member.getValue() instanceof Number) {
+                    obj.setSlowCallDuration(((Number) member.getValue()).longValue());
+                }
+                break;
+            case "slowCallRateThreshold":
+                if (member.getValue() instanceof Number) {
+                    obj.setSlowCallRateThreshold(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "windowSize":
+                if (member.getValue() instanceof Number) {
+                    obj.setWindowSize(((Number) member.getValue()).intValue());
+                }
+                break;
+            }
+        }
+    }
+
+    static void toJson(CircuitBreakerConfig obj, JsonObject json) {
+        toJson(obj, json.getMap());
+    }
+
+    static void toJson(CircuitBreakerConfig obj, java.util.Map<String, Object> json) {
+        json.put("enabled", obj.isEnabled());
+        json.put("failureRateThreshold", obj.getFailureRateThreshold());
+        json.put("halfOpenCalls", obj.getHalfOpenCalls());
+        json.put("minimumCalls", obj.getMinimumCalls());
+        json.put("openDuration", obj.getOpenDuration());
+        json.put("slowCallDuration", obj.getSlowCallDuration());
+        json.put("slowCallRateThreshold", obj.getSlowCallRateThreshold());
+        json.put("windowSize", obj.getWindowSize());
+    }
+}
@@ -19,6 +19,42 @@ public class NeonBeeConfigConverter {
     static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, NeonBeeConfig obj) {
         for (java.util.Map.Entry<String, Object> member : json) {
             switch (member.getKey()) {
+            case "adaptiveTimeouts":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setAdaptiveTimeouts((Boolean) member.getValue());
+                }
+                break;
+            case "circuitBreakerConfig":
+                if (member.getValue() instanceof JsonObject) {
+                    obj.setCircuitBreakerConfig(new io.neonbee.config.CircuitBreakerConfig(
+                            (io.vertx.core.json.JsonObject) member.getValue()));
+                }
+                break;
+            case "compactDataContextFormat":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setCompactDataContextFormat((Boolean) member.getValue());
+                }
+                break;
+            case "dataQueryBinaryFormat":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setDataQueryBinaryFormat((Boolean) member.getValue());
+                }
+                break;
+            case "dataRequestCoalescing":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setDataRequestCoalescing((Boolean) member.getValue());
+                }
+                break;
+            case "directLocalDispatch":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setDirectLocalDispatch((Boolean) member.getValue());
+                }
+                break;
+            case "entityWrapperBinaryFormat":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setEntityWrapperBinaryFormat((Boolean) member.getValue());
+                }
+                break;
             case "eventBusCodecs":
                 if (member.getValue() instanceof JsonObject) {
                     java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
@@ -40,6 +76,11 @@ public class NeonBeeConfigConverter {
                             new io.neonbee.config.HealthConfig((io.vertx.core.json.JsonObject) member.getValue()));
                 }
                 break;
+            case "hedgedRequests":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setHedgedRequests((Boolean) member.getValue());
+                }
+                break;
             case "metricsConfig":
                 if (member.getValue() instanceof JsonObject) {
                     obj.setMetricsConfig(
@@ -86,6 +127,15 @@ public class NeonBeeConfigConverter {
     }
 
     static void toJson(NeonBeeConfig obj, java.util.Map<String, Object> json) {
+        json.put("adaptiveTimeouts", obj.isAdaptiveTimeouts());
+        if (obj.getCircuitBreakerConfig() != null) {
+            json.put("circuitBreakerConfig", obj.getCircuitBreakerConfig().toJson());
+        }
+        json.put("compactDataContextFormat", obj.isCompactDataContextFormat());
+        json.put("dataQueryBinaryFormat", obj.isDataQueryBinaryFormat());
+        json.put("dataRequestCoalescing", obj.isDataRequestCoalescing());
+        json.put("directLocalDispatch", obj.isDirectLocalDispatch());
+        json.put("entityWrapperBinaryFormat", obj.isEntityWrapperBinaryFormat());
         if (obj.getEventBusCodecs() != null) {
             JsonObject map = new JsonObject();
             obj.getEventBusCodecs().forEach((key, value) -> map.put(key, value));
@@ -95,6 +145,7 @@ public class NeonBeeConfigConverter {
         if (obj.getHealthConfig() != null) {
             json.put("healthConfig", obj.getHealthConfig().toJson());
         }
+        json.put("hedgedRequests", obj.isHedgedRequests());
         if (obj.getMetricsConfig() != null) {
             json.put("metricsConfig", obj.getMetricsConfig().toJson());
         }
@@ -27,7 +27,9 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -45,6 +47,10 @@ import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.config.ServerConfig;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.data.internal.DataCircuitBreakers;
+import io.neonbee.data.internal.DataRequestCoalescer;
+import io.neonbee.data.internal.DataRequestLatencyTracker;
 import io.neonbee.entity.EntityModelManager;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.health.EventLoopHealthCheck;
@@ -173,8 +179,18 @@ public class NeonBee {
 
     private final Set<String> localConsumers = new ConcurrentHashSet<>();
 
+    private final Map<String, List<DataVerticle<?>>> localDataVerticles = new ConcurrentHashMap<>();
+
+    private final AtomicInteger localDataVerticleIndex = new AtomicInteger();
+
     private final EntityModelManager modelManager;
 
+    private final DataRequestCoalescer dataRequestCoalescer;
+
+    private final DataRequestLatencyTracker dataRequestLatencyTracker = new DataRequestLatencyTracker();
+
+    private final DataCircuitBreakers dataCircuitBreakers;
+
     private final CompositeMeterRegistry compositeMeterRegistry;
 
     /**
@@ -413,8 +429,10 @@ public class NeonBee {
                     .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy));
 
             // add any default system codecs (bundled w/ NeonBee) here
-            vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec())
-                    .registerDefaultCodec(EntityWrapper.class, new EntityWrapperMessageCodec(vertx))
+            vertx.eventBus()
+                    .registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec(config.isDataQueryBinaryFormat()))
+                    .registerDefaultCodec(EntityWrapper.class,
+                            new EntityWrapperMessageCodec(vertx, config.isEntityWrapperBinaryFormat()))
                     .registerDefaultCodec(ImmutableBuffer.class, new ImmutableBufferMessageCodec())
                     .registerDefaultCodec(ImmutableJsonArray.class, new ImmutableJsonArrayMessageCodec())
                     .registerDefaultCodec(ImmutableJsonObject.class, new ImmutableJsonObjectMessageCodec())
@@ -592,7 +610,10 @@ public class NeonBee {
 
         this.healthRegistry = new HealthCheckRegistry(vertx);
         this.modelManager = new EntityModelManager(this);
+        this.dataRequestCoalescer = new DataRequestCoalescer(vertx);
         this.compositeMeterRegistry = compositeMeterRegistry;
+        this.dataCircuitBreakers =
+                new DataCircuitBreakers(() -> this.config.getCircuitBreakerConfig(), compositeMeterRegistry);
 
         // to be able to retrieve the NeonBee instance from any point you have a Vert.x instance add it to a global map
         NEONBEE_INSTANCES.put(vertx, this);
@@ -716,6 +737,50 @@ public class NeonBee {
         localConsumers.remove(verticleAddress);
     }
 
+    /**
+     * Registers a data verticle instance deployed in the local VM, for direct dispatching of data requests.
+     *
+     * @param verticleAddress verticle address
+     * @param verticle        the data verticle instance
+     */
+    public void registerLocalDataVerticle(String verticleAddress, DataVerticle<?> verticle) {
+        localDataVerticles.compute(verticleAddress, (address, verticles) -> {
+            List<DataVerticle<?>> registered = verticles != null ? new ArrayList<>(verticles) : new ArrayList<>();
+            registered.add(verticle);
+            return List.copyOf(registered);
+        });
+    }
+
+    /**
+     * Unregisters a data verticle instance deployed in the local VM.
+     *
+     * @param verticleAddress verticle address
+     * @param verticle        the data verticle instance
+     */
+    public void unregisterLocalDataVerticle(String verticleAddress, DataVerticle<?> verticle) {
+        localDataVerticles.computeIfPresent(verticleAddress, (address, verticles) -> {
+            List<DataVerticle<?>> registered = new ArrayList<>(verticles);
+            registered.remove(verticle);
+            return registered.isEmpty() ? null : List.copyOf(registered);
+        });
+    }
+
+    /**
+     * Returns one of the data verticle instances deployed in the local VM for a given address. In case multiple
+     * instances are deployed, the instances are returned round-robin.
+     *
+     * @param verticleAddress verticle address
+     * @return a data verticle instance or null, in case no instance is deployed in the local VM
+     */
+    public DataVerticle<?> getLocalDataVerticle(String verticleAddress) {
+        List<DataVerticle<?>> verticles = localDataVerticles.get(verticleAddress);
+        if (verticles == null) {
+            return null;
+        }
+
+        return verticles.get(Math.floorMod(localDataVerticleIndex.getAndIncrement(), verticles.size()));
+    }
+
     /**
      * Returns the ServerConfig if NeonBee is started with WEB profile.
      *
@@ -734,6 +799,33 @@ public class NeonBee {
         return modelManager;
     }
 
+    /**
+     * Get the {@link DataRequestCoalescer}.
+     *
+     * @return the {@link DataRequestCoalescer}
+     */
+    public DataRequestCoalescer getDataRequestCoalescer() {
+        return dataRequestCoalescer;
+    }
+
+    /**
+     * Get the {@link DataRequestLatencyTracker}.
+     *
+     * @return the {@link DataRequestLatencyTracker}
+     */
+    public DataRequestLatencyTracker getDataRequestLatencyTracker() {
+        return dataRequestLatencyTracker;
+    }
+
+    /**
+     * Get the {@link DataCircuitBreakers}.
+     *
+     * @return the {@link DataCircuitBreakers}
+     */
+    public DataCircuitBreakers getDataCircuitBreakers() {
+        return dataCircuitBreakers;
+    }
+
     /**
      * Get the {@link CompositeMeterRegistry}.
      *
@@ -0,0 +1,241 @@
+package io.neonbee.config;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Configuration of the circuit breakers, which are applied per requested data verticle, when requesting data.
+ * <p>
+ * A circuit breaker is closed initially and records the outcome of the last {@code windowSize} data requests. As soon
+ * as at least {@code minimumCalls} requests were recorded and either the rate of failed requests, or the rate of slow
+ * requests (taking longer than {@code slowCallDuration}) reach their threshold, the circuit breaker opens. While open,
+ * data requests fail immediately. After {@code openDuration}, the circuit breaker becomes half-open and permits
+ * {@code halfOpenCalls} trial requests. In case the trial requests stay below the thresholds, the circuit breaker
+ * closes again, otherwise it opens again.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class CircuitBreakerConfig {
+    private static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+    private static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+
+    private static final long DEFAULT_SLOW_CALL_DURATION = 10000;
+
+    private static final int DEFAULT_WINDOW_SIZE = 50;
+
+    private static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    private static final long DEFAULT_OPEN_DURATION = 30000;
+
+    private static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+    private boolean enabled;
+
+    private int failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+    private int slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+    private long slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+    private long openDuration = DEFAULT_OPEN_DURATION;
+
+    private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+    /**
+     * Constructs an instance of {@linkplain CircuitBreakerConfig}.
+     */
+    public CircuitBreakerConfig() {}
+
+    /**
+     * Creates a {@linkplain CircuitBreakerConfig} parsing a given JSON object.
+     *
+     * @param json the JSON object to parse
+     */
+    public CircuitBreakerConfig(JsonObject json) {
+        CircuitBreakerConfigConverter.fromJson(json, this);
+    }
+
+    /**
+     * Are circuit breakers enabled?
+     *
+     * @return true if circuit breakers are enabled, otherwise false.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the value to enable, disable circuit breakers.
+     *
+     * @param enabled true if circuit breakers should be enabled, false otherwise.
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Gets the rate of failed requests in percent, at which a circuit breaker opens.
+     *
+     * @return the failure rate threshold in percent
+     */
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Sets the rate of failed requests in percent, at which a circuit breaker opens.
+     *
+     * @param failureRateThreshold the failure rate threshold in percent
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the rate of slow requests in percent, at which a circuit breaker opens.
+     *
+     * @return the slow call rate threshold in percent
+     */
+    public int getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * Sets the rate of slow requests in percent, at which a circuit breaker opens.
+     *
+     * @param slowCallRateThreshold the slow call rate threshold in percent
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setSlowCallRateThreshold(int slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the duration in milliseconds, after which a request is considered slow.
+     *
+     * @return the slow call duration in milliseconds
+     */
+    public long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    /**
+     * Sets the duration in milliseconds, after which a request is considered slow.
+     *
+     * @param slowCallDuration the slow call duration in milliseconds
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setSlowCallDuration(long slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+        return this;
+    }
+
+    /**
+     * Gets the number of latest requests, the failure and slow call rates are calculated from.
+     *
+     * @return the window size
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the number of latest requests, the failure and slow call rates are calculated from.
+     *
+     * @param windowSize the window size
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+        return this;
+    }
+
+    /**
+     * Gets the minimum number of requests, which have to be recorded, before a circuit breaker may open.
+     *
+     * @return the minimum number of calls
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    /**
+     * Sets the minimum number of requests, which have to be recorded, before a circuit breaker may open.
+     *
+     * @param minimumCalls the minimum number of calls
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+        return this;
+    }
+
+    /**
+     * Gets the duration in milliseconds a circuit breaker stays open, before it becomes half-open.
+     *
+     * @return the open duration in milliseconds
+     */
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Sets the duration in milliseconds a circuit breaker stays open, before it becomes half-open.
+     *
+     * @param openDuration the open duration in milliseconds
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+        return this;
+    }
+
+    /**
+     * Gets the number of trial requests permitted, while a circuit breaker is half-open.
+     *
+     * @return the number of half-open calls
+     */
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    /**
+     * Sets the number of trial requests permitted, while a circuit breaker is half-open.
+     *
+     * @param halfOpenCalls the number of half-open calls
+     * @return the {@linkplain CircuitBreakerConfig} for fluent use
+     */
+    @Fluent
+    public CircuitBreakerConfig setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+        return this;
+    }
+
+    /**
+     * Transforms this configuration object into JSON.
+     *
+     * @return a JSON representation of this configuration
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        CircuitBreakerConfigConverter.toJson(this, json);
+        return json;
+    }
+}
@@ -54,12 +54,27 @@ public class NeonBeeConfig {
     public static final String DEFAULT_TIME_ZONE = "UTC";
 
     private static final ImmutableBiMap<String, String> REPHRASE_MAP =
-            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics");
+            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics", "circuitBreakerConfig",
+                    "circuitBreaker");
 
     private int eventBusTimeout = DEFAULT_EVENT_BUS_TIMEOUT;
 
     private Map<String, String> eventBusCodecs = Map.of();
 
+    private boolean entityWrapperBinaryFormat;
+
+    private boolean dataQueryBinaryFormat;
+
+    private boolean compactDataContextFormat;
+
+    private boolean directLocalDispatch;
+
+    private boolean dataRequestCoalescing;
+
+    private boolean adaptiveTimeouts;
+
+    private boolean hedgedRequests;
+
     private String trackingDataHandlingStrategy = DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
 
     private List<String> platformClasses = List.of("io.vertx.*", "io.neonbee.*", "org.slf4j.*", "org.apache.olingo.*");
@@ -70,6 +85,8 @@ public class NeonBeeConfig {
 
     private HealthConfig healthConfig = new HealthConfig();
 
+    private CircuitBreakerConfig circuitBreakerConfig = new CircuitBreakerConfig();
+
     private MetricsConfig metricsConfig = new MetricsConfig();
 
     /**
@@ -157,6 +174,27 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Gets the circuit breaker config.
+     *
+     * @return the {@link CircuitBreakerConfig}
+     */
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Sets the circuit breaker config.
+     *
+     * @param circuitBreakerConfig the circuit breaker config to set
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+        return this;
+    }
+
     /**
      * Try to load all {@link MicrometerRegistryLoader}s which are configured in the {@link NeonBeeConfig}.
      *
@@ -289,6 +327,188 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Returns whether entity wrappers are sent over the event bus in the compact binary format.
+     * <p>
+     * NeonBee nodes always decode both, the binary and the JSON format. As nodes of previous NeonBee versions are not
+     * able to decode the binary format, it is disabled by default. Enable it, as soon as all nodes of the cluster
+     * support decoding the binary format. Defaults to false.
+     *
+     * @return true if the binary format is used, false if entity wrappers are sent as OData JSON
+     */
+    public boolean isEntityWrapperBinaryFormat() {
+        return entityWrapperBinaryFormat;
+    }
+
+    /**
+     * Sets whether entity wrappers are sent over the event bus in the compact binary format.
+     *
+     * @param entityWrapperBinaryFormat true to use the binary format, false to send entity wrappers as OData JSON
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setEntityWrapperBinaryFormat(boolean entityWrapperBinaryFormat) {
+        this.entityWrapperBinaryFormat = entityWrapperBinaryFormat;
+        return this;
+    }
+
+    /**
+     * Returns whether data queries are sent over the event bus in the compact binary format.
+     * <p>
+     * NeonBee nodes always decode both, the binary and the JSON format. As nodes of previous NeonBee versions are not
+     * able to decode the binary format, it is disabled by default. Enable it, as soon as all nodes of the cluster
+     * support decoding the binary format. Defaults to false.
+     *
+     * @return true if the binary format is used, false if data queries are sent as JSON
+     */
+    public boolean isDataQueryBinaryFormat() {
+        return dataQueryBinaryFormat;
+    }
+
+    /**
+     * Sets whether data queries are sent over the event bus in the compact binary format.
+     *
+     * @param dataQueryBinaryFormat true to use the binary format, false to send data queries as JSON
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setDataQueryBinaryFormat(boolean dataQueryBinaryFormat) {
+        this.dataQueryBinaryFormat = dataQueryBinaryFormat;
+        return this;
+    }
+
+    /**
+     * Returns whether the data context is sent in the header of event bus messages in the compact format.
+     * <p>
+     * NeonBee nodes always decode both, the compact and the JSON format. As nodes of previous NeonBee versions are not
+     * able to decode the compact format, it is disabled by default. Enable it, as soon as all nodes of the cluster
+     * support decoding the compact format. Defaults to false.
+     *
+     * @return true if the compact format is used, false if the data context is sent as JSON
+     */
+    public boolean isCompactDataContextFormat() {
+        return compactDataContextFormat;
+    }
+
+    /**
+     * Sets whether the data context is sent in the header of event bus messages in the compact format.
+     *
+     * @param compactDataContextFormat true to use the compact format, false to send the data context as JSON
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setCompactDataContextFormat(boolean compactDataContextFormat) {
+        this.compactDataContextFormat = compactDataContextFormat;
+        return this;
+    }
+
+    /**
+     * Returns whether data requests to data verticles deployed in the same JVM are dispatched directly.
+     * <p>
+     * If enabled, a data request to a data verticle which has an instance deployed locally, is scheduled onto the
+     * context of the target verticle, instead of being sent via the event bus. The query, context and result are passed
+     * without encoding them, skipping any message codecs and event bus interceptors. Requests are only dispatched
+     * directly if they would be delivered locally via the event bus anyways, so if the request is local only, local
+     * preferred or Vert.x is not clustered.
+     *
+     * @return true if data requests to local data verticles are dispatched directly
+     */
+    public boolean isDirectLocalDispatch() {
+        return directLocalDispatch;
+    }
+
+    /**
+     * Sets whether data requests to data verticles deployed in the same JVM are dispatched directly, bypassing the
+     * event bus.
+     *
+     * @param directLocalDispatch true to dispatch data requests to local data verticles directly
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setDirectLocalDispatch(boolean directLocalDispatch) {
+        this.directLocalDispatch = directLocalDispatch;
+        return this;
+    }
+
+    /**
+     * Returns whether identical data requests to data verticles, which are in-flight at the same time, are coalesced.
+     * <p>
+     * If enabled, concurrent read requests to the same data verticle with an equal query, equal resolution options and
+     * an equal session, user principal, bearer token and data of the data context, share one request. The first caller
+     * receives the result of the request, all further callers receive a copy of it (if the result can be copied). As
+     * soon as the request completed, the next identical request will be sent again, results are not cached.
+     *
+     * @return true if identical in-flight data requests are coalesced
+     */
+    public boolean isDataRequestCoalescing() {
+        return dataRequestCoalescing;
+    }
+
+    /**
+     * Sets whether identical data requests to data verticles, which are in-flight at the same time, are coalesced.
+     *
+     * @param dataRequestCoalescing true to coalesce identical in-flight data requests
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setDataRequestCoalescing(boolean dataRequestCoalescing) {
+        this.dataRequestCoalescing = dataRequestCoalescing;
+        return this;
+    }
+
+    /**
+     * Returns whether the timeout of data requests sent via the event bus adapts to the latencies observed per data
+     * verticle.
+     * <p>
+     * If enabled, data requests without an explicit send timeout time out after a multiple of the 99th percentile of
+     * the latencies recently observed for the requested data verticle, but never later than after the
+     * {@link #getEventBusTimeout() event bus timeout}.
+     *
+     * @return true if adaptive timeouts are used for data requests
+     */
+    public boolean isAdaptiveTimeouts() {
+        return adaptiveTimeouts;
+    }
+
+    /**
+     * Sets whether the timeout of data requests sent via the event bus adapts to the latencies observed per data
+     * verticle.
+     *
+     * @param adaptiveTimeouts true to use adaptive timeouts for data requests
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setAdaptiveTimeouts(boolean adaptiveTimeouts) {
+        this.adaptiveTimeouts = adaptiveTimeouts;
+        return this;
+    }
+
+    /**
+     * Returns whether read requests to data verticles sent via the event bus are hedged.
+     * <p>
+     * If enabled, a duplicate of a read request is sent, in case no reply was received after the 95th percentile of
+     * the latencies recently observed for the requested data verticle. As the event bus delivers requests to the
+     * registered consumers in a round-robin fashion, the duplicate is likely processed by another instance of the data
+     * verticle. The first reply received is used.
+     *
+     * @return true if read requests are hedged
+     */
+    public boolean isHedgedRequests() {
+        return hedgedRequests;
+    }
+
+    /**
+     * Sets whether read requests to data verticles sent via the event bus are hedged.
+     *
+     * @param hedgedRequests true to hedge read requests
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setHedgedRequests(boolean hedgedRequests) {
+        this.hedgedRequests = hedgedRequests;
+        return this;
+    }
+
     /**
      * Returns the implementation class name of the tracking data handling strategy.
      *
@@ -23,6 +23,10 @@ public class DataException extends RuntimeException {
 
     public static final int FAILURE_CODE_PROCESSING_FAILED = 1030;
 
+    public static final int FAILURE_CODE_OVERLOADED = 1040;
+
+    public static final int FAILURE_CODE_CIRCUIT_OPEN = 1050;
+
     private static final long serialVersionUID = 1L;
 
     private final int failureCode;
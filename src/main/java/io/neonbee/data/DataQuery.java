@@ -23,12 +23,14 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 
+import io.neonbee.internal.buffer.ImmutableBuffer;
 import io.neonbee.internal.codec.BufferDeserializer;
 import io.neonbee.internal.codec.BufferSerializer;
 import io.neonbee.internal.helper.CollectionHelper;
@@ -36,6 +38,11 @@ import io.vertx.core.buffer.Buffer;
 
 /**
  * Note that DataQuery is always mutable, as a copy of it will be created when sent via the event bus.
+ * <p>
+ * Copies of a DataQuery are cheap: a copy shares the parameters, headers and body with the query it was created from
+ * and the query accessing or modifying one of these mutable structures first, creates its own copy of this structure
+ * (copy-on-write). Only structures which have been handed out via one of the getters before, are copied immediately.
+ * This way, sending a query via the local event bus does not require a defensive deep copy of the query.
  */
 public final class DataQuery { // NOPMD not a "god class"
     private static final Pattern QUERY_SPLIT_PATTERN = Pattern.compile("&");
@@ -66,6 +73,26 @@ public final class DataQuery { // NOPMD not a "god class"
     @JsonProperty
     Buffer body;
 
+    private static final int PARAMETERS = 1;
+
+    private static final int HEADERS = 1 << 1;
+
+    private static final int BODY = 1 << 2;
+
+    private static final int ALL_STRUCTURES = PARAMETERS | HEADERS | BODY;
+
+    /**
+     * The structures (parameters, headers and / or body) shared with (at least) one other DataQuery, which have to be
+     * copied before they are handed out or modified.
+     */
+    private int shared;
+
+    /**
+     * The structures (parameters, headers and / or body) handed out via one of the getters, which could be modified
+     * without this DataQuery noticing and thus must not be shared with a copy of this DataQuery.
+     */
+    private int exposed;
+
     /**
      * New DataQuery.
      */
@@ -304,7 +331,7 @@ public final class DataQuery { // NOPMD not a "god class"
     }
 
     private String getQuery(Function<String, String> encoder) {
-        Function<String, Stream<String>> paramBuilder = name -> getParameterValues(name).stream()
+        Function<String, Stream<String>> paramBuilder = name -> parameters.get(name).stream()
                 .map(value -> String.format("%s=%s", encoder.apply(name), encoder.apply(value)));
 
         return parameters.keySet().stream().flatMap(paramBuilder).collect(joining("&"));
@@ -322,6 +349,7 @@ public final class DataQuery { // NOPMD not a "god class"
      */
     @Deprecated
     public DataQuery setQuery(String query) {
+        replaced(PARAMETERS);
         this.parameters = parseQueryString(query);
         return this;
     }
@@ -334,6 +362,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @throws IllegalArgumentException if the implementation encounters illegal characters
      */
     public DataQuery setRawQuery(String encodedQuery) {
+        replaced(PARAMETERS);
         this.parameters = parseEncodedQueryString(encodedQuery);
         return this;
     }
@@ -344,7 +373,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the parameters as Map
      */
     public Map<String, List<String>> getParameters() {
-        return parameters;
+        exposed |= PARAMETERS;
+        return ownParameters();
     }
 
     /**
@@ -375,7 +405,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return The value for a given query parameter or {@code defaultValue} if parameter is not present
      */
     public String getParameter(String name, String defaultValue) {
-        return Optional.ofNullable(getParameterValues(name)).map(List::stream).flatMap(Stream::findFirst)
+        return Optional.ofNullable(parameters.get(name)).map(List::stream).flatMap(Stream::findFirst)
                 .orElse(defaultValue);
     }
 
@@ -388,7 +418,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery addParameter(String name, String... values) {
-        getParameters().computeIfAbsent(name, s -> new ArrayList<>()).addAll(Arrays.asList(values));
+        ownParameters().computeIfAbsent(name, s -> new ArrayList<>()).addAll(Arrays.asList(values));
         return this;
     }
 
@@ -412,7 +442,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery removeParameter(String name) {
-        getParameters().remove(name);
+        ownParameters().remove(name);
         return this;
     }
 
@@ -460,7 +490,8 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the headers
      */
     public Map<String, List<String>> getHeaders() {
-        return headers;
+        exposed |= HEADERS;
+        return ownHeaders();
     }
 
     /**
@@ -470,7 +501,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return A list of values for this header
      */
     public List<String> getHeaderValues(String name) {
-        return headers.get(name);
+        return getHeaders().get(name);
     }
 
     /**
@@ -480,7 +511,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return The header or null
      */
     public String getHeader(String name) {
-        return Optional.ofNullable(getHeaderValues(name)).map(List::stream).orElseGet(Stream::empty).findFirst()
+        return Optional.ofNullable(headers.get(name)).map(List::stream).orElseGet(Stream::empty).findFirst()
                 .orElse(null);
     }
 
@@ -491,6 +522,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery setHeaders(Map<String, List<String>> headers) {
+        replaced(HEADERS);
         this.headers = CollectionHelper.mapToCaseInsensitiveTreeMap(headers);
         return this;
     }
@@ -503,7 +535,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery addHeader(String name, String value) {
-        this.headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        ownHeaders().computeIfAbsent(name, key -> new ArrayList<>()).add(value);
         return this;
     }
 
@@ -515,7 +547,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery setHeader(String name, String value) {
-        this.headers.put(name, new ArrayList<>(Collections.singleton(value)));
+        ownHeaders().put(name, new ArrayList<>(Collections.singleton(value)));
         return this;
     }
 
@@ -526,7 +558,7 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery removeHeader(String name) {
-        this.headers.remove(name);
+        ownHeaders().remove(name);
         return this;
     }
 
@@ -536,6 +568,11 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the body
      */
     public Buffer getBody() {
+        exposed |= BODY;
+        if ((shared & BODY) != 0) {
+            body = CollectionHelper.copyOf(body);
+            shared &= ~BODY;
+        }
         return body;
     }
 
@@ -546,17 +583,101 @@ public final class DataQuery { // NOPMD not a "god class"
      * @return the DataQuery for chaining
      */
     public DataQuery setBody(Buffer body) {
+        replaced(BODY);
         this.body = CollectionHelper.copyOf(body);
         return this;
     }
 
+    /**
+     * Returns an unmodifiable view of the parameters of this data query. As opposed to {@link #getParameters()}, the
+     * parameters are never copied, in case they are shared with a copy of this query.
+     *
+     * @return an unmodifiable view of the parameters
+     */
+    @JsonIgnore
+    public Map<String, List<String>> getParametersView() {
+        return parameters != null ? Collections.unmodifiableMap(parameters) : null;
+    }
+
+    /**
+     * Returns an unmodifiable view of the headers of this data query. As opposed to {@link #getHeaders()}, the headers
+     * are never copied, in case they are shared with a copy of this query.
+     *
+     * @return an unmodifiable view of the headers
+     */
+    @JsonIgnore
+    public Map<String, List<String>> getHeadersView() {
+        return headers != null ? Collections.unmodifiableMap(headers) : null;
+    }
+
+    /**
+     * Returns a read-only view of the body of this data query. As opposed to {@link #getBody()}, the body is never
+     * copied, in case it is shared with a copy of this query.
+     *
+     * @return a read-only view of the body
+     */
+    @JsonIgnore
+    public Buffer getBodyView() {
+        return body != null ? ImmutableBuffer.buffer(body).getBuffer() : null;
+    }
+
     /**
      * Copy a DataQuery (decided to not go for a copy constructor as brace handling can easily be messed up).
+     * <p>
+     * The copy shares the parameters, headers and body with this query, until either of the two queries accesses them
+     * via one of the getters or modifies them. Structures handed out via one of the getters of this query before, are
+     * copied immediately, so that references obtained before the copy was created cannot modify the copy.
      *
      * @return a copy of this DataQuery
      */
     public DataQuery copy() {
-        return new DataQuery(action, uriPath, parameters, headers, body);
+        DataQuery copy = new DataQuery(action, uriPath);
+        copy.parameters = (exposed & PARAMETERS) != 0 ? CollectionHelper.mutableCopyOf(parameters) : parameters;
+        copy.headers = (exposed & HEADERS) != 0 ? CollectionHelper.mapToCaseInsensitiveTreeMap(headers) : headers;
+        copy.body = (exposed & BODY) != 0 ? CollectionHelper.copyOf(body) : body;
+
+        int sharedStructures = ALL_STRUCTURES & ~exposed;
+        copy.shared = sharedStructures;
+        shared |= sharedStructures;
+        return copy;
+    }
+
+    /**
+     * Returns the parameters owned by this query, to be modified. In case the parameters are shared with another
+     * DataQuery, an own copy of them is created first. Note that the structures shared are never modified, so it does
+     * not matter if the other query already created its own copy.
+     *
+     * @return the parameters owned by this query
+     */
+    private Map<String, List<String>> ownParameters() {
+        if ((shared & PARAMETERS) != 0) {
+            parameters = CollectionHelper.mutableCopyOf(parameters);
+            shared &= ~PARAMETERS;
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns the headers owned by this query, to be modified, see {@link #ownParameters()}.
+     *
+     * @return the headers owned by this query
+     */
+    private Map<String, List<String>> ownHeaders() {
+        if ((shared & HEADERS) != 0) {
+            headers = CollectionHelper.mapToCaseInsensitiveTreeMap(headers);
+            shared &= ~HEADERS;
+        }
+        return headers;
+    }
+
+    /**
+     * Called before a structure is replaced, the new structure is neither shared nor handed out.
+     *
+     * @param structure the structure to be replaced
+     */
+    private void replaced(int structure) {
+        shared &= ~structure;
+        exposed &= ~structure;
     }
 
     @Override
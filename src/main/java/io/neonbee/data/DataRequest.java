@@ -7,6 +7,8 @@ import java.util.Optional;
 
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
+import io.vertx.core.json.JsonObject;
+
 public class DataRequest {
     /**
      * The ResolutionStrategy effectively defines, how DataRequests are processed by Vert.x.
@@ -52,10 +54,27 @@ public class DataRequest {
          * Notes: Further optimizations possible, e.g. data requests which are only required by one certain verticle (so
          * it could not be optimized in the optimization step), could be directly done by the respective data verticle.
          * This would reduce the amount of data exchanged via the event bus.
+         * <p>
+         * Data requests to a {@link DataSource}, a {@link DataSink} or an entity verticle, as well as data requests
+         * explicitly set to the {@link #RECURSIVE} strategy, are treated as leaves of the tree of required data.
          */
         OPTIMIZED
     }
 
+    private static final String QUALIFIED_NAME_KEY = "qualifiedName";
+
+    private static final String ENTITY_TYPE_NAME_KEY = "entityTypeName";
+
+    private static final String QUERY_KEY = "query";
+
+    private static final String RESOLUTION_STRATEGY_KEY = "resolutionStrategy";
+
+    private static final String SEND_TIMEOUT_KEY = "sendTimeout";
+
+    private static final String LOCAL_ONLY_KEY = "localOnly";
+
+    private static final String LOCAL_PREFERRED_KEY = "localPreferred";
+
     private DataSource<?> dataSource;
 
     private DataSink<?> dataSink;
@@ -282,6 +301,47 @@ public class DataRequest {
         return this;
     }
 
+    /**
+     * Encodes this request to JSON, so that it can be sent via the event bus. Requests to a {@link DataSource} or a
+     * {@link DataSink} are bound to the instance they have been created in and can therefore not be encoded.
+     *
+     * @return this request encoded as JsonObject, or null in case the request cannot be encoded
+     */
+    JsonObject toJson() {
+        if (qualifiedName == null && entityTypeName == null) {
+            return null;
+        }
+
+        return new JsonObject().put(QUALIFIED_NAME_KEY, qualifiedName)
+                .put(ENTITY_TYPE_NAME_KEY,
+                        Optional.ofNullable(entityTypeName).map(FullQualifiedName::getFullQualifiedNameAsString)
+                                .orElse(null))
+                .put(QUERY_KEY, JsonObject.mapFrom(query))
+                .put(RESOLUTION_STRATEGY_KEY,
+                        Optional.ofNullable(resolutionStrategy).map(ResolutionStrategy::name).orElse(null))
+                .put(SEND_TIMEOUT_KEY, sendTimeout).put(LOCAL_ONLY_KEY, localOnly)
+                .put(LOCAL_PREFERRED_KEY, localPreferred);
+    }
+
+    /**
+     * Decodes a request previously encoded with {@link #toJson()}.
+     *
+     * @param json the encoded request
+     * @return a new DataRequest
+     */
+    static DataRequest fromJson(JsonObject json) {
+        DataQuery query = json.getJsonObject(QUERY_KEY).mapTo(DataQuery.class);
+        String qualifiedName = json.getString(QUALIFIED_NAME_KEY);
+        DataRequest request = qualifiedName != null ? new DataRequest(qualifiedName, query)
+                : new DataRequest(new FullQualifiedName(json.getString(ENTITY_TYPE_NAME_KEY)), query);
+        return request
+                .setResolutionStrategy(Optional.ofNullable(json.getString(RESOLUTION_STRATEGY_KEY))
+                        .map(ResolutionStrategy::valueOf).orElse(null))
+                .setSendTimeout(json.getLong(SEND_TIMEOUT_KEY, -1L))
+                .setLocalOnly(json.getBoolean(LOCAL_ONLY_KEY, false))
+                .setLocalPreferred(json.getBoolean(LOCAL_PREFERRED_KEY, true));
+    }
+
     @Override
     public String toString() {
         return Optional.ofNullable(dataSource).map(Object::getClass).map(Class::getName)
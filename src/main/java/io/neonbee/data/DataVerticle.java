@@ -13,18 +13,25 @@ import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
@@ -36,10 +43,19 @@ import io.micrometer.core.instrument.Tag;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.config.MetricsConfig;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataRequest.ResolutionStrategy;
+import io.neonbee.data.internal.DataCircuitBreaker;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataRequestLatencyTracker;
+import io.neonbee.data.internal.DataRequestLimiter;
+import io.neonbee.data.internal.DataResultCache;
+import io.neonbee.data.internal.DataResultCache.CachedResult;
+import io.neonbee.data.internal.DataStreamProducer;
+import io.neonbee.data.internal.DataStreamReader;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.data.internal.metrics.DataVerticleMetrics;
+import io.neonbee.internal.helper.CollectionHelper;
 import io.neonbee.internal.helper.FunctionalHelper;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AbstractVerticle;
@@ -47,13 +63,21 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 
 @SuppressWarnings("PMD.GodClass")
 public abstract class DataVerticle<T> extends AbstractVerticle implements DataAdapter<T> {
@@ -67,8 +91,32 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      */
     public static final String CONFIG_METRICS_KEY = "metrics";
 
+    /**
+     * Result cache configuration name, see {@link DataResultCache} for the available options.
+     */
+    public static final String CONFIG_CACHE_KEY = "cache";
+
+    /**
+     * Concurrency configuration name, see {@link DataRequestLimiter} for the available options.
+     */
+    public static final String CONFIG_CONCURRENCY_KEY = "concurrency";
+
     static final String RESOLUTION_STRATEGY_HEADER = "resolutionStrategy";
 
+    static final String STREAM_HEADER = "stream";
+
+    static final String RESOLUTION_PHASE_HEADER = "resolutionPhase";
+
+    static final String RESOLUTION_ADDRESS_HEADER = "resolutionAddress";
+
+    static final String RESOLUTION_PLAN_HEADER = "resolutionPlan";
+
+    private static final String CODEC_KEY = "codec";
+
+    private static final String REQUESTS_KEY = "requests";
+
+    private static final String PLAN_KEY = "plan";
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private static final String SUCCEEDED_RESPONSE_COUNT = "succeeded response count";
@@ -80,6 +128,12 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     private DataVerticleMetrics dataVerticleMetrics;
 
+    private DataResultCache resultCache;
+
+    private DataRequestLimiter requestLimiter;
+
+    private final Map<String, Collection<DataRequest>> plannedRequests = new HashMap<>();
+
     /**
      * Requesting data from other DataSources or Data/EntityVerticles.
      *
@@ -91,6 +145,60 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a future to the data requested
      */
     public static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context) {
+        return requestData(vertx, request, context, MultiMap.caseInsensitiveMultiMap());
+    }
+
+    /**
+     * Requesting data from a data verticle as a stream of chunks, see
+     * {@link #retrieveStream(DataQuery, DataContext)}. The chunks are transferred via the event bus, one chunk at a
+     * time, as soon as the returned stream is consumed. Pausing the returned stream pauses the retrieval of the data.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data verticle to request data from, only read requests can be
+     *                streamed
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @return a future to the stream of the data requested
+     */
+    public static Future<ReadStream<Buffer>> requestStream(Vertx vertx, DataRequest request, DataContext context) {
+        String qualifiedName = request.getQualifiedName();
+        if (qualifiedName == null || request.getQuery() == null || request.getQuery().getAction() != READ) {
+            return failedFuture(new IllegalArgumentException("Only read requests to data verticles can be streamed"));
+        }
+
+        LOGGER.correlateWith(context).debug("Requesting a stream from {} via the event bus", qualifiedName);
+        String address = getAddress(qualifiedName);
+        DeliveryOptions deliveryOptions = requestDeliveryOptions(vertx, request, context, address)
+                .addHeader(STREAM_HEADER, Boolean.TRUE.toString());
+        return vertx.eventBus().request(address, request.getQuery(), deliveryOptions).transform(asyncReply -> {
+            if (asyncReply.failed()) {
+                return failedFuture(mapException(asyncReply.cause()));
+            }
+
+            Object body = asyncReply.result().body();
+            if (body instanceof DataException) {
+                return failedFuture((DataException) body);
+            }
+
+            mergeResponseContext(context, asyncReply.result().headers());
+            return succeededFuture(new DataStreamReader(vertx, (String) body, deliveryOptions.getSendTimeout()));
+        });
+    }
+
+    /**
+     * Requesting data from other DataSources or Data/EntityVerticles, passing additional headers, in case the data is
+     * requested via the event bus.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @param headers Any additional headers to add to the event bus message
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context,
+            MultiMap headers) {
         DataSource<?> dataSource = request.getDataSource();
 
         if (dataSource != null) {
@@ -104,42 +212,10 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
         String qualifiedName = request.getQualifiedName();
         if (qualifiedName != null) {
-            /*
-             * Event bus outbound message handling.
-             */
-            LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
-            String address = getAddress(qualifiedName);
-            return vertx.eventBus()
-                    .<U>request(address, request.getQuery(), requestDeliveryOptions(vertx, request, context, address))
-                    .transform(asyncReply -> {
-                        LOGGER.correlateWith(context).debug("Received event bus reply");
-
-                        if (asyncReply.succeeded()) {
-                            U body = asyncReply.result().body();
-                            if (body instanceof DataException) {
-                                if (LOGGER.isWarnEnabled()) {
-                                    LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
-                                            qualifiedName, (DataException) body);
-                                }
-                                return failedFuture((DataException) body);
-                            } else {
-                                DataContext responseDataContext =
-                                        decodeContextFromString(asyncReply.result().headers().get(CONTEXT_HEADER));
-                                context.setData(
-                                        Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
-                                context.mergeResponseData(Optional.ofNullable(responseDataContext)
-                                        .map(DataContext::responseData).orElse(null));
-                                return succeededFuture(asyncReply.result().body());
-                            }
-                        } else {
-                            Throwable cause = asyncReply.cause();
-                            if (LOGGER.isWarnEnabled()) {
-                                LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}",
-                                        qualifiedName, cause);
-                            }
-                            return failedFuture(mapException(cause));
-                        }
-                    });
+            if (headers.isEmpty() && isCoalescable(vertx, request)) {
+                return requestDataCoalesced(vertx, request, context);
+            }
+            return requestDataFromVerticle(vertx, request, context, headers);
         }
 
         FullQualifiedName entityTypeName = request.getEntityTypeName();
@@ -150,6 +226,421 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         return failedFuture(new IllegalArgumentException("Data request did not specify what data to request"));
     }
 
+    /**
+     * Requesting data from a data verticle, guarded by the circuit breaker of the data verticle, if enabled.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @param headers Any additional headers to add to the event bus message
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestDataFromVerticle(Vertx vertx, DataRequest request, DataContext context,
+            MultiMap headers) {
+        DataCircuitBreaker circuitBreaker =
+                NeonBee.get(vertx).getDataCircuitBreakers().get(request.getQualifiedName());
+        if (circuitBreaker != null) {
+            return circuitBreaker.execute(() -> sendDataRequest(vertx, request, context, headers));
+        }
+        return sendDataRequest(vertx, request, context, headers);
+    }
+
+    /**
+     * Sends a data request to a data verticle, either by dispatching it directly to a local data verticle, or via the
+     * event bus.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @param headers Any additional headers to add to the event bus message
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> sendDataRequest(Vertx vertx, DataRequest request, DataContext context,
+            MultiMap headers) {
+        String qualifiedName = request.getQualifiedName();
+        String address = getAddress(qualifiedName);
+        DataVerticle<?> localVerticle = headers.isEmpty() ? localDataVerticle(vertx, request, address) : null;
+        if (localVerticle != null) {
+            LOGGER.correlateWith(context).debug("Dispatching data request directly to {}", qualifiedName);
+            return localVerticle.dispatchDirectly(request, context);
+        }
+
+        /*
+         * Event bus outbound message handling.
+         */
+        LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
+        DeliveryOptions deliveryOptions = requestDeliveryOptions(vertx, request, context, address);
+        headers.forEach(header -> deliveryOptions.addHeader(header.getKey(), header.getValue()));
+        return DataVerticle.<U>sendRequest(vertx, address, request, deliveryOptions).transform(asyncReply -> {
+            LOGGER.correlateWith(context).debug("Received event bus reply");
+
+            if (asyncReply.succeeded()) {
+                U body = asyncReply.result().body();
+                if (body instanceof DataException) {
+                    if (LOGGER.isWarnEnabled()) {
+                        LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
+                                qualifiedName, (DataException) body);
+                    }
+                    return failedFuture((DataException) body);
+                } else {
+                    mergeResponseContext(context, asyncReply.result().headers());
+                    return succeededFuture(asyncReply.result().body());
+                }
+            } else {
+                Throwable cause = asyncReply.cause();
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}", qualifiedName,
+                            cause);
+                }
+                return failedFuture(mapException(cause));
+            }
+        });
+    }
+
+    /**
+     * Sends a data request via the event bus. Depending on the configuration, the send timeout adapts to the latencies
+     * observed for the address and read requests are hedged, by sending a duplicate request in case no reply was
+     * received after the usual latency of the address. The first reply received is returned.
+     *
+     * @param vertx           The Vertx instance
+     * @param address         The address to send the request to
+     * @param request         The DataRequest to send
+     * @param deliveryOptions The delivery options of the request
+     * @param <U>             The type of the body of the reply
+     * @return a future to the first reply received
+     */
+    private static <U> Future<Message<U>> sendRequest(Vertx vertx, String address, DataRequest request,
+            DeliveryOptions deliveryOptions) {
+        NeonBee neonBee = NeonBee.get(vertx);
+        NeonBeeConfig config = neonBee.getConfig();
+        if (!config.isAdaptiveTimeouts() && !config.isHedgedRequests()) {
+            return vertx.eventBus().request(address, request.getQuery(), deliveryOptions);
+        }
+
+        DataRequestLatencyTracker latencyTracker = neonBee.getDataRequestLatencyTracker();
+        if (config.isAdaptiveTimeouts() && request.getSendTimeout() <= 0) {
+            deliveryOptions.setSendTimeout(latencyTracker.adaptiveTimeout(address, deliveryOptions.getSendTimeout()));
+        }
+
+        long hedgeDelay = config.isHedgedRequests() && request.getQuery().getAction() == READ
+                ? latencyTracker.hedgeDelay(address)
+                : -1;
+        long startTime = System.nanoTime();
+        long sendTimeout = deliveryOptions.getSendTimeout();
+        Future<Message<U>> reply = vertx.eventBus().request(address, request.getQuery(), deliveryOptions);
+        reply.onComplete(asyncReply -> recordLatency(latencyTracker, address, startTime, sendTimeout, asyncReply));
+        if (hedgeDelay < 0 || hedgeDelay >= sendTimeout) {
+            return reply;
+        }
+
+        Promise<Message<U>> promise = Promise.promise();
+        AtomicInteger pendingRequests = new AtomicInteger(1);
+        Handler<AsyncResult<Message<U>>> replyHandler = asyncReply -> {
+            // the first reply received wins, a failure is only propagated if all requests sent failed
+            if (asyncReply.succeeded()) {
+                promise.tryComplete(asyncReply.result());
+            } else if (pendingRequests.decrementAndGet() == 0) {
+                promise.tryFail(asyncReply.cause());
+            }
+        };
+
+        long timerId = vertx.setTimer(hedgeDelay, id -> {
+            if (!promise.future().isComplete()) {
+                LOGGER.debug("Hedging data request to {} after {}ms without a reply", address, hedgeDelay);
+                pendingRequests.incrementAndGet();
+                vertx.eventBus().<U>request(address, request.getQuery(), new DeliveryOptions(deliveryOptions)
+                        .setSendTimeout(sendTimeout - hedgeDelay)).onComplete(asyncReply -> {
+                            if (asyncReply.succeeded() && !promise.future().isComplete()) {
+                                // the hedged reply wins, record the latency the caller experienced
+                                latencyTracker.record(address, NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                            }
+                            replyHandler.handle(asyncReply);
+                        });
+            }
+        });
+        reply.onComplete(asyncReply -> {
+            if (asyncReply.succeeded()) {
+                vertx.cancelTimer(timerId);
+            }
+            replyHandler.handle(asyncReply);
+        });
+        return promise.future();
+    }
+
+    /**
+     * Records the latency of a reply. Failed replies are recorded as well, capped at the send timeout, as especially
+     * timed out requests make up the tail of the latencies. Only replies failed, because no handler was registered for
+     * the address, are not recorded, as they do not indicate anything about the latency of the address.
+     *
+     * @param latencyTracker the latency tracker to record the latency with
+     * @param address        the address the request was sent to
+     * @param startTime      the time the request was sent in nanoseconds
+     * @param sendTimeout    the send timeout of the request in milliseconds
+     * @param asyncReply     the reply received
+     */
+    private static void recordLatency(DataRequestLatencyTracker latencyTracker, String address, long startTime,
+            long sendTimeout, AsyncResult<?> asyncReply) {
+        if (asyncReply.failed() && asyncReply.cause() instanceof ReplyException
+                && ((ReplyException) asyncReply.cause()).failureType() == ReplyFailure.NO_HANDLERS) {
+            return;
+        }
+        latencyTracker.record(address, Math.min(NANOSECONDS.toMillis(System.nanoTime() - startTime), sendTimeout));
+    }
+
+    /**
+     * Returns whether a data request may be coalesced with identical data requests in-flight.
+     *
+     * @param vertx   the Vert.x instance
+     * @param request the data request
+     * @return true if the request may be coalesced
+     */
+    private static boolean isCoalescable(Vertx vertx, DataRequest request) {
+        // only read requests are coalesced, as any other action would change the state of the data verticle
+        return request.getQuery() != null && request.getQuery().getAction() == READ
+                && NeonBee.get(vertx).getConfig().isDataRequestCoalescing();
+    }
+
+    /**
+     * Requests data from a data verticle, sharing one request with all identical requests in-flight. The request is
+     * performed with a copy of the context of the first caller. After the request completed, the data and response
+     * data of this copy are merged into the context of each caller, the same way the context of an event bus reply
+     * would be merged. All callers, except the first one, receive a copy of the result. In case the result can neither
+     * be copied nor is immutable (see {@link CollectionHelper#isCopyable(Object)}), the other callers perform their
+     * own request instead, as the result must not be shared.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} of the caller
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestDataCoalesced(Vertx vertx, DataRequest request, DataContext context) {
+        List<Object> key = new ArrayList<>(Arrays.asList(request.getQualifiedName(), request.getQuery().copy(),
+                request.getResolutionStrategy(), request.isLocalOnly(), request.isLocalPreferred()));
+        if (context != null) {
+            key.addAll(Arrays.asList(context.sessionId(), context.bearerToken(), context.userPrincipal(),
+                    CollectionHelper.mutableCopyOf(context.data())));
+        }
+
+        boolean[] executed = { false };
+        return NeonBee.get(vertx).getDataRequestCoalescer().<CoalescedResult>coalesce(key, () -> {
+            executed[0] = true;
+            DataContext requestContext = context != null ? context.copy() : null;
+            return requestDataFromVerticle(vertx, request, requestContext, MultiMap.caseInsensitiveMultiMap())
+                    .map(result -> new CoalescedResult(result, requestContext));
+        }).<U>compose(coalescedResult -> {
+            if (!executed[0]) {
+                if (!CollectionHelper.isCopyable(coalescedResult.result)) {
+                    return requestDataFromVerticle(vertx, request, context, MultiMap.caseInsensitiveMultiMap());
+                }
+                LOGGER.correlateWith(context).debug("Coalesced data request to {} with an identical request in-flight",
+                        request.getQualifiedName());
+            }
+            if (context != null && coalescedResult.context != null) {
+                context.setData(coalescedResult.context.data());
+                context.mergeResponseData(coalescedResult.context.responseData());
+            }
+
+            @SuppressWarnings("unchecked")
+            U result = (U) (executed[0] ? coalescedResult.result : CollectionHelper.copyOf(coalescedResult.result));
+            return succeededFuture(result);
+        });
+    }
+
+    /**
+     * Returns a data verticle instance deployed in this JVM, in case the data request can be dispatched directly to it.
+     *
+     * @param vertx   the Vert.x instance
+     * @param request the data request
+     * @param address the address of the requested data verticle
+     * @return the local data verticle to dispatch the request to, or null if the request must be sent via event bus
+     */
+    private static DataVerticle<?> localDataVerticle(Vertx vertx, DataRequest request, String address) {
+        NeonBee neonBee = NeonBee.get(vertx);
+        if (request.getQuery() == null || !neonBee.getConfig().isDirectLocalDispatch()) {
+            return null;
+        }
+
+        // only dispatch requests directly, that the event bus would also deliver to a local consumer
+        if (request.isLocalOnly() || request.isLocalPreferred() || !vertx.isClustered()) {
+            return neonBee.getLocalDataVerticle(address);
+        }
+        return null;
+    }
+
+    /**
+     * Dispatches a data request directly to this data verticle, by scheduling it onto the context of this verticle
+     * instead of sending it via the event bus. The send timeout and failure codes are the same as for requests sent via
+     * the event bus. The query and the data context are copied (which is cheap, as both are copy-on-write / lazily
+     * decoded), the result of this verticle is passed by reference, without using any message codec.
+     *
+     * @param request the data request to dispatch
+     * @param context the data context of the request
+     * @param <U>     the type of the returned future
+     * @return a future to the data requested, completed on the context of the caller
+     */
+    private <U> Future<U> dispatchDirectly(DataRequest request, DataContext context) {
+        Context callerContext = vertx.getOrCreateContext();
+        DataQuery query = request.getQuery().copy();
+        DataContext requestContext = context != null ? context.copy() : null;
+        if (requestContext instanceof DataContextImpl) {
+            ((DataContextImpl) requestContext).pushVerticleToPath(request.getQualifiedName());
+            ((DataContextImpl) requestContext).amendTopVerticleCoordinate(deploymentID());
+        }
+
+        Promise<U> promise = Promise.promise();
+        long timeout = request.getSendTimeout() > 0 ? request.getSendTimeout()
+                : SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout());
+        long timerId = vertx.setTimer(timeout, id -> promise.tryFail(new DataException(FAILURE_CODE_TIMEOUT,
+                String.format("Timed out after waiting %d(ms) for a reply. address: %s", timeout, getAddress()))));
+
+        this.context.runOnContext(nothing -> executeDirectly(query, request.getResolutionStrategy(), requestContext)
+                .onComplete(asyncResult -> callerContext.runOnContext(alsoNothing -> {
+                    vertx.cancelTimer(timerId);
+                    if (asyncResult.failed()) {
+                        promise.tryFail(asyncResult.cause());
+                        return;
+                    }
+
+                    if (context != null && requestContext != null) {
+                        context.setData(requestContext.data());
+                        context.mergeResponseData(requestContext.responseData());
+                    }
+                    @SuppressWarnings("unchecked")
+                    U result = (U) asyncResult.result();
+                    promise.tryComplete(result);
+                })));
+
+        return promise.future();
+    }
+
+    /**
+     * Executes the resolution routine for a directly dispatched query and maps any failure the same way, as it would
+     * have been mapped, when replying to an event bus message.
+     *
+     * @param query    the query to resolve
+     * @param strategy the resolution strategy of the request
+     * @param context  the data context of the request
+     * @return a future to the result of the routine, failed with a {@link DataException} in case of an error
+     */
+    private Future<?> executeDirectly(DataQuery query, ResolutionStrategy strategy, DataContext context) {
+        ResolutionRoutine routine = query.getAction() == READ
+                ? resolutionRoutineForStrategy(Optional.ofNullable(strategy).orElse(RECURSIVE))
+                : new ManipulationRoutine();
+
+        Future<?> future;
+        try {
+            future = executeRoutine(routine, query, context);
+        } catch (IllegalArgumentException e) {
+            LOGGER.correlateWith(context).error("Missing message codec", e);
+            return failedFuture(new DataException(FAILURE_CODE_MISSING_MESSAGE_CODEC, e.getMessage()));
+        } catch (DataException e) {
+            LOGGER.correlateWith(context).error("Processing of message failed", e);
+            return failedFuture(new DataException(e.failureCode(), e.getMessage()));
+        }
+
+        return future.recover(cause -> {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.correlateWith(context).warn("Data verticle {} routine execution failed", getQualifiedName(),
+                        cause instanceof DataException ? cause.toString() : EMPTY, cause);
+            }
+
+            return failedFuture(cause instanceof DataException ? cause
+                    : new DataException(FAILURE_CODE_PROCESSING_FAILED,
+                            "Processing of message failed. " + cause.getMessage()));
+        });
+    }
+
+    /**
+     * Replies a request for a stream with the address of a {@link DataStreamProducer} producing the stream.
+     *
+     * @param message the message requesting the stream
+     * @param routine the routine to execute, in case this verticle does not support streaming
+     * @param context the data context of the request
+     */
+    private void replyStream(Message<DataQuery> message, ResolutionRoutine routine, DataContext context) {
+        long idleTimeout = SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout());
+        Future<String> streamAddress;
+        try {
+            ReadStream<Buffer> stream = retrieveStream(message.body(), context);
+            streamAddress = stream != null ? succeededFuture(DataStreamProducer.produce(vertx, stream, idleTimeout))
+                    : executeRoutine(routine, message.body(), context)
+                            .map(result -> DataStreamProducer.produce(vertx, encodeChunk(result), idleTimeout));
+        } catch (Exception e) {
+            streamAddress = failedFuture(e);
+        }
+
+        streamAddress.onComplete(asyncResult -> {
+            if (asyncResult.succeeded()) {
+                message.reply(asyncResult.result(), deliveryOptions(vertx, null, context));
+                return;
+            }
+
+            Throwable cause = asyncResult.cause();
+            LOGGER.correlateWith(context).warn("Data verticle {} failed to stream data", getQualifiedName(), cause);
+            if (cause instanceof DataException) {
+                message.reply(cause);
+            } else {
+                message.fail(FAILURE_CODE_PROCESSING_FAILED, "Processing of message failed. " + cause.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Encodes the result of a data verticle not supporting streaming, to be streamed as one chunk.
+     *
+     * @param result the result
+     * @return the result encoded as a buffer
+     */
+    private static Buffer encodeChunk(Object result) {
+        if (result == null) {
+            return Buffer.buffer();
+        } else if (result instanceof Buffer) {
+            return (Buffer) result;
+        } else if (result instanceof JsonObject) {
+            return ((JsonObject) result).toBuffer();
+        } else if (result instanceof JsonArray) {
+            return ((JsonArray) result).toBuffer();
+        } else if (result instanceof String) {
+            return Buffer.buffer((String) result);
+        }
+        return Json.encodeToBuffer(result);
+    }
+
+    /**
+     * Executes a resolution routine for a query received, bounded by the maximum number of requests in-flight, in case
+     * a {@link DataRequestLimiter} is configured.
+     *
+     * @param routine the routine to execute
+     * @param query   the query to resolve
+     * @param context the data context of the query
+     * @return a future to the result of the routine, failed with {@link DataException#FAILURE_CODE_OVERLOADED} in
+     *         case the verticle is overloaded
+     */
+    @SuppressWarnings("unchecked")
+    private Future<?> executeRoutine(ResolutionRoutine routine, DataQuery query, DataContext context) {
+        return requestLimiter != null ? requestLimiter.execute(() -> (Future<Object>) routine.execute(query, context))
+                : routine.execute(query, context);
+    }
+
+    /**
+     * Merges the data and response data of the context received in the headers of an event bus reply into a given
+     * context.
+     *
+     * @param context the context to merge the received context into
+     * @param headers the headers of the event bus reply
+     */
+    private static void mergeResponseContext(DataContext context, MultiMap headers) {
+        DataContext responseDataContext = decodeContextFromString(headers.get(CONTEXT_HEADER));
+        context.setData(Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
+        context.mergeResponseData(
+                Optional.ofNullable(responseDataContext).map(DataContext::responseData).orElse(null));
+    }
+
     /**
      * Convenience method for calling the {@link #requestData(Vertx, DataRequest, DataContext)} method.
      *
@@ -242,10 +733,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a new DeliveryOptions
      */
     private static DeliveryOptions deliveryOptions(Vertx vertx, MessageCodec<?, ?> codec, DataContext context) {
+        NeonBeeConfig config = NeonBee.get(vertx).getConfig();
         DeliveryOptions deliveryOptions = new DeliveryOptions();
-        deliveryOptions.setSendTimeout(SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout()))
+        deliveryOptions.setSendTimeout(SECONDS.toMillis(config.getEventBusTimeout()))
                 .setCodecName(Optional.ofNullable(codec).map(MessageCodec::name).orElse(null));
-        Optional.ofNullable(context).map(DataContextImpl::encodeContextToString)
+        // nodes of previous versions of NeonBee are only able to decode the context in the JSON format
+        Optional.ofNullable(context).map(config.isCompactDataContextFormat() ? DataContextImpl::encodeContextToString
+                : DataContextImpl::encodeContextToJsonString)
                 .ifPresent(value -> deliveryOptions.addHeader(CONTEXT_HEADER, value));
         return deliveryOptions;
     }
@@ -334,6 +828,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         super.init(vertx, context);
         JsonObject metrics = getMetricsConfig(NeonBee.get(vertx).getConfig().getMetricsConfig());
         this.dataVerticleMetrics = ConfiguredDataVerticleMetrics.configureMetricsReporting(NeonBee.get(vertx), metrics);
+        this.resultCache = DataResultCache.create(config() != null ? config().getJsonObject(CONFIG_CACHE_KEY) : null);
+        this.requestLimiter = DataRequestLimiter
+                .create(config() != null ? config().getJsonObject(CONFIG_CONCURRENCY_KEY) : null, getQualifiedName());
+        if (resultCache != null) {
+            dataVerticleMetrics.reportCacheMetrics("retrieve.data.cache." + getAddress(), resultCache.getCache(),
+                    List.of());
+        }
 
         // if present, register the custom codec. IMPORTANT: do NOT register the codec in the start method, as the
         // codec will need to be available on all instances, even if no instance of the verticle is started later on
@@ -385,9 +886,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             ResolutionRoutine routine;
             MultiMap headers = message.headers();
             try {
-                routine = message.body().getAction() == READ
-                        ? resolutionRoutineForStrategy(Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
-                                .map(ResolutionStrategy::valueOf).orElse(RECURSIVE))
+                routine = message.body().getAction() == READ ? resolutionRoutineForHeaders(headers)
                         : new ManipulationRoutine();
             } catch (IllegalArgumentException e) {
                 message.fail(FAILURE_CODE_UNKNOWN_STRATEGY, "Unknown data resolution strategy");
@@ -405,11 +904,17 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                         getQualifiedName(), message.replyAddress(), routine.getClass().getSimpleName());
             }
 
+            if (headers.contains(STREAM_HEADER)) {
+                replyStream(message, routine, context);
+                return;
+            }
+
             try {
-                routine.execute(message.body(), context).onComplete(asyncResult -> {
+                executeRoutine(routine, message.body(), context).onComplete(asyncResult -> {
                     try {
                         if (asyncResult.succeeded()) {
-                            message.reply(asyncResult.result(), deliveryOptions(vertx, getMessageCodec(), context));
+                            message.reply(asyncResult.result(), deliveryOptions(vertx,
+                                    routine.usesMessageCodec() ? getMessageCodec() : null, context));
 
                         } else {
                             Throwable cause = asyncResult.cause();
@@ -441,10 +946,11 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             }
         }).completionHandler(registerDataVerticlePromise);
 
-        registerDataVerticlePromise.future().compose(v -> {
+        registerDataVerticlePromise.future().compose(v -> connectResultCache(address)).compose(v -> {
             try {
                 start();
                 NeonBee.get(vertx).registerLocalConsumer(address);
+                NeonBee.get(vertx).registerLocalDataVerticle(address, this);
                 return succeededFuture((Void) null);
             } catch (Exception e) {
                 return failedFuture(e);
@@ -452,11 +958,16 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         }).onComplete(promise);
     }
 
+    private Future<Void> connectResultCache(String address) {
+        return resultCache != null ? resultCache.connect(vertx, address) : succeededFuture();
+    }
+
     @Override
     public void stop() throws Exception {
         NeonBee neonBee = NeonBee.get(vertx);
         if (neonBee != null) { // NeonBee can be null, when the close hook has removed NeonBee - Vert.x mapping before
             neonBee.unregisterLocalConsumer(getAddress());
+            neonBee.unregisterLocalDataVerticle(getAddress(), this);
         }
         super.stop();
     }
@@ -492,6 +1003,39 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         return retrieveData(query, context);
     }
 
+    /**
+     * Retrieve the requested data as a stream of chunks, in case the data is requested via
+     * {@link #requestStream(Vertx, DataRequest, DataContext)}. Streaming the data avoids materializing large results in
+     * memory, as the chunks are only fetched from the returned stream, as soon as the requester consumes them.
+     * <p>
+     * Note that no data is required before the stream is retrieved. In case this method returns null (the default),
+     * the data is retrieved via {@link #retrieveData(DataQuery, DataMap, DataContext)} and the result is streamed as
+     * one chunk instead.
+     *
+     * @param query   The query describing the data requested
+     * @param context A context object passed through the whole data retrieving life cycle
+     * @return A stream of chunks of the data requested, or null in case this verticle does not support streaming
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    public ReadStream<Buffer> retrieveStream(DataQuery query, DataContext context) {
+        return null;
+    }
+
+    /**
+     * Transforms the data retrieved via {@link #retrieveData(DataQuery, DataMap, DataContext)}, before it is replied to
+     * the requester or put into the result cache, e.g. to reduce the data to the parts actually requested by the query,
+     * before it is encoded and sent via the event bus.
+     *
+     * @param query   The query describing the data requested
+     * @param data    The data retrieved
+     * @param context A context object passed through the whole data retrieving life cycle
+     * @return The transformed data, by default the data retrieved
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    protected T transformRetrievedData(DataQuery query, T data, DataContext context) {
+        return data;
+    }
+
     private <U> void reportRequestDataMetrics(DataRequest request, Future<U> future) {
         List<Tag> tags;
         if (request.getQuery() == null) {
@@ -523,6 +1067,26 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         return namespace != null ? createQualifiedName(namespace, name) : name;
     }
 
+    /**
+     * Get an instance of a resolution routine for the headers of a received message.
+     *
+     * @param headers the headers of the received message
+     * @return the resolution routine
+     * @throws IllegalArgumentException in case the headers contain an unknown strategy or resolution phase
+     */
+    private ResolutionRoutine resolutionRoutineForHeaders(MultiMap headers) {
+        String phase = headers.get(RESOLUTION_PHASE_HEADER);
+        if (phase != null) {
+            // a message in a certain phase of a resolution, is always part of an optimized resolution
+            return ResolutionPhase.valueOf(phase) == ResolutionPhase.REQUIRE ? new OptimizedRequireRoutine()
+                    : new OptimizedRetrieveRoutine(headers.get(RESOLUTION_ADDRESS_HEADER),
+                            headers.get(RESOLUTION_PLAN_HEADER));
+        }
+
+        return resolutionRoutineForStrategy(Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
+                .map(ResolutionStrategy::valueOf).orElse(RECURSIVE));
+    }
+
     /**
      * Get an instance of a resolution routine for a certain strategy.
      *
@@ -531,10 +1095,37 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      */
     private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy) {
         // case RECURSIVE:
-        if (strategy == ResolutionStrategy.OPTIMIZED) {
-            return new OptimizedResolutionRoutine();
-        }
-        return new RecursiveResolutionRoutine();
+        ResolutionRoutine routine = strategy == ResolutionStrategy.OPTIMIZED ? new OptimizedResolutionRoutine()
+                : new RecursiveResolutionRoutine();
+        return resultCache != null ? new CachingResolutionRoutine(routine) : routine;
+    }
+
+    /**
+     * Returns a key for a data request, which is equal for all identical data requests.
+     *
+     * @param request the data request
+     * @return the key of the data request
+     */
+    private static List<Object> requestKey(DataRequest request) {
+        return Arrays.asList(request.getDataSource(), request.getDataSink(), request.getQualifiedName(),
+                request.getEntityTypeName(), request.getQuery(), request.getResolutionStrategy(),
+                request.getSendTimeout(), request.isLocalOnly(), request.isLocalPreferred());
+    }
+
+    /**
+     * The phases of an optimized resolution, a data verticle can be requested in.
+     */
+    private enum ResolutionPhase {
+        /**
+         * Only determine the required data of a verticle, without retrieving any data.
+         */
+        REQUIRE,
+
+        /**
+         * Retrieve the data of a verticle, with the required data being provided by the verticle orchestrating the
+         * optimized resolution.
+         */
+        RETRIEVE
     }
 
     /**
@@ -550,6 +1141,54 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
          * @return A future to the data returned by the query
          */
         Future<?> execute(DataQuery query, DataContext context);
+
+        /**
+         * Whether the result of this routine is the data of the verticle, and thus should be sent via the event bus
+         * using the message codec of the verticle.
+         *
+         * @return true if the message codec of the verticle should be used to reply the result
+         */
+        default boolean usesMessageCodec() {
+            return true;
+        }
+    }
+
+    /**
+     * A routine returning the results of this verticle from the result cache. Only in case no result is cached, the
+     * wrapped routine is executed, thus cache hits skip requiring any data.
+     */
+    private class CachingResolutionRoutine implements ResolutionRoutine {
+        private final ResolutionRoutine routine;
+
+        CachingResolutionRoutine(ResolutionRoutine routine) {
+            this.routine = routine;
+        }
+
+        @Override
+        public Future<?> execute(DataQuery query, DataContext context) {
+            List<Object> key = resultCache.key(query, context);
+            long generation = resultCache.generation();
+            return resultCache.lookup(key).<Object>compose(cachedResult -> {
+                if (cachedResult != null) {
+                    LOGGER.correlateWith(context).debug("Data verticle {} returns a cached result",
+                            getQualifiedName());
+                    if (context != null) {
+                        context.mergeResponseData(cachedResult.getResponseData());
+                    }
+                    return succeededFuture(cachedResult.getResult());
+                }
+
+                return routine.execute(query, context).map(result -> {
+                    resultCache.put(key, generation, result, context != null ? context.responseData() : null);
+                    return result;
+                });
+            });
+        }
+
+        @Override
+        public boolean usesMessageCodec() {
+            return routine.usesMessageCodec();
+        }
     }
 
     private class RecursiveResolutionRoutine implements ResolutionRoutine {
@@ -560,37 +1199,74 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             // requireData(), where any index of the requireData array corresponded with the indexes of the data array
             Map<DataRequest, AsyncResult<?>> requestResults = new LinkedHashMap<>();
             Map<DataRequest, DataContext> receivedDataContextMap = new LinkedHashMap<>();
-            return requireData(query, context).compose(requests -> {
-                // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data method
-                // should decide if it needs to handle success or failure of any of the individual asynchronous results
-                return CompositeFuture.join(
-                        Optional.ofNullable(requests).map(Collection::stream).orElse(Stream.empty()).map(request -> {
+            return requireRequests(query, context)
+                    .map(requests -> Optional.ofNullable(requests).orElse(emptyList()))
+                    .compose(requests -> prepareRequests(requests, context).map(requests)).compose(requests -> {
+                        // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data
+                        // method should decide if it needs to handle success or failure of any of the individual
+                        // asynchronous results
+                        return CompositeFuture.join(requests.stream().map(request -> {
                             // use one copy of DataContext for each request to avoid data clash
                             DataContext requestContext = context.copy();
                             receivedDataContextMap.put(request, requestContext);
-                            return requestResults.computeIfAbsent(request, mapRequest -> {
-                                Future<Object> future = requestData(vertx, request, requestContext);
-                                reportRequestDataMetrics(request, future);
-                                return future;
-                            });
+                            return requestResults.computeIfAbsent(request,
+                                    mapRequest -> resolveRequest(request, requestContext));
                         }).map(Future.class::cast).collect(Collectors.toList())).otherwiseEmpty();
-            }).compose(requiredCompositeOrNothing -> {
-                List<Tag> tags = retrieveDataTags();
-                try {
-                    Map<DataRequest, Map<String, Object>> receivedData = receivedDataContextMap.entrySet().stream()
-                            .map(entry -> Map.entry(entry.getKey(), entry.getValue().responseData()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-                    context.setReceivedData(receivedData);
-                    Future<T> future = retrieveData(query, new DataMap(requestResults), context);
-                    reportRetrieveDataMetrics(tags, future);
-                    return future;
-                } catch (Exception e) {
-                    dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
-                            SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
-                    // handle any (runtime) exception here and fail the result future
-                    return failedFuture(e);
-                }
-            });
+                    }).compose(requiredCompositeOrNothing -> {
+                        List<Tag> tags = retrieveDataTags();
+                        try {
+                            Map<DataRequest, Map<String, Object>> receivedData =
+                                    receivedDataContextMap.entrySet().stream()
+                                            .map(entry -> Map.entry(entry.getKey(), entry.getValue().responseData()))
+                                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            context.setReceivedData(receivedData);
+                            Future<T> future = retrieveData(query, new DataMap(requestResults), context);
+                            reportRetrieveDataMetrics(tags, future);
+                            return future.map(data -> transformRetrievedData(query, data, context));
+                        } catch (Exception e) {
+                            dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
+                                    SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
+                            // handle any (runtime) exception here and fail the result future
+                            return failedFuture(e);
+                        }
+                    });
+        }
+
+        /**
+         * Determines the data requests required to retrieve the data of this verticle.
+         *
+         * @param query   the query to resolve
+         * @param context the context of the query to resolve
+         * @return a future to the data requests required
+         */
+        Future<Collection<DataRequest>> requireRequests(DataQuery query, DataContext context) {
+            return requireData(query, context);
+        }
+
+        /**
+         * Called with all data requests returned by {@link DataVerticle#requireData(DataQuery, DataContext)}, before
+         * the individual requests get resolved.
+         *
+         * @param requests the data requests to resolve
+         * @param context  the context of the query to resolve
+         * @return a future, which must be completed before the requests can be resolved
+         */
+        @SuppressWarnings("PMD.UnusedFormalParameter")
+        Future<Void> prepareRequests(Collection<DataRequest> requests, DataContext context) {
+            return succeededFuture();
+        }
+
+        /**
+         * Resolves an individual data request.
+         *
+         * @param request        the data request to resolve
+         * @param requestContext the (copied) context to resolve the request with
+         * @return a future to the data requested
+         */
+        Future<Object> resolveRequest(DataRequest request, DataContext requestContext) {
+            Future<Object> future = requestData(vertx, request, requestContext);
+            reportRequestDataMetrics(request, future);
+            return future;
         }
 
         /**
@@ -621,22 +1297,334 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         }
     }
 
-    private class OptimizedResolutionRoutine implements ResolutionRoutine {
+    /**
+     * The routine orchestrating an optimized resolution. The whole tree of required data is collected first, by
+     * requesting all involved verticle in the {@link ResolutionPhase#REQUIRE} phase. Identical data requests are
+     * resolved only once for the whole tree. All leaves of the tree are requested in parallel and as soon as all data
+     * required by a verticle is available, the verticle is requested in the {@link ResolutionPhase#RETRIEVE} phase,
+     * where it pulls the results of its required data from this routine.
+     */
+    private class OptimizedResolutionRoutine extends RecursiveResolutionRoutine {
+        private final Map<List<Object>, Vertex> vertices = new HashMap<>();
+
+        private final Promise<Void> planned = Promise.promise();
+
+        private final Promise<Void> registered = Promise.promise();
+
+        private final String resolutionAddress = getAddress() + "#" + UUID.randomUUID();
+
+        private int pendingPlans;
+
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
-            return failedFuture(new UnsupportedOperationException("Optimized resolution strategy not available."));
+            MessageConsumer<JsonObject> resultConsumer =
+                    vertx.eventBus().consumer(resolutionAddress, this::replyResult);
+            resultConsumer.completionHandler(registered);
+            return super.execute(query, context).onComplete(anyResult -> resultConsumer.unregister());
+        }
+
+        @Override
+        Future<Void> prepareRequests(Collection<DataRequest> requests, DataContext context) {
+            // guard the planning from completing, before all requests of this verticle have been planned
+            pendingPlans++;
+            requests.forEach(request -> plan(request, context.copy()));
+            planCompleted();
+
+            return CompositeFuture.all(registered.future(), planned.future()).compose(v -> checkForCycles());
+        }
+
+        @Override
+        Future<Object> resolveRequest(DataRequest request, DataContext requestContext) {
+            Vertex vertex = vertices.get(requestKey(request));
+            return vertex.result().onSuccess(result -> {
+                requestContext.setData(vertex.context.data());
+                requestContext.mergeResponseData(vertex.context.responseData());
+            });
+        }
+
+        /**
+         * Adds a data request to the tree of required data. In case the request is targeted to a data verticle, the
+         * verticle is requested in the {@link ResolutionPhase#REQUIRE} phase, to determine its required data.
+         *
+         * @param request the data request to plan
+         * @param context the context to request the data with
+         * @return the vertex of the data request
+         */
+        private Vertex plan(DataRequest request, DataContext context) {
+            List<Object> key = requestKey(request);
+            Vertex vertex = vertices.get(key);
+            if (vertex != null) {
+                return vertex;
+            }
+
+            Vertex newVertex = new Vertex(request, context);
+            vertices.put(key, newVertex);
+            if (request.getQualifiedName() == null || request.getResolutionStrategy() == RECURSIVE) {
+                // data sources, data sinks, entities and verticle explicitly requested recursively are leaves
+                return newVertex;
+            }
+
+            pendingPlans++;
+            MultiMap headers =
+                    MultiMap.caseInsensitiveMultiMap().add(RESOLUTION_PHASE_HEADER, ResolutionPhase.REQUIRE.name());
+            Future<JsonObject> requireFuture;
+            try {
+                requireFuture = requestData(vertx, request, context.copy(), headers);
+            } catch (Exception e) {
+                requireFuture = failedFuture(e);
+            }
+            requireFuture.onComplete(asyncRequire -> {
+                if (asyncRequire.succeeded()) {
+                    JsonObject require = asyncRequire.result();
+                    newVertex.required = true;
+                    newVertex.codecName = require.getString(CODEC_KEY);
+                    newVertex.planId = require.getString(PLAN_KEY);
+                    DataContext requireContext = newVertex.context.copy();
+                    if (requireContext instanceof DataContextImpl) {
+                        ((DataContextImpl) requireContext).pushVerticleToPath(request.getQualifiedName());
+                    }
+                    require.getJsonArray(REQUESTS_KEY).stream().map(JsonObject.class::cast).map(DataRequest::fromJson)
+                            .forEach(requireRequest -> newVertex.children
+                                    .add(plan(requireRequest, requireContext.copy())));
+                } else if (LOGGER.isDebugEnabled()) {
+                    // e.g. the verticle failed to determine its required data, request it without any optimization
+                    LOGGER.correlateWith(context).debug("Failed to determine required data of {}, requesting as leaf",
+                            request, asyncRequire.cause());
+                }
+                planCompleted();
+            });
+            return newVertex;
+        }
+
+        private void planCompleted() {
+            if (--pendingPlans == 0) {
+                planned.tryComplete();
+            }
+        }
+
+        private Future<Void> checkForCycles() {
+            Set<Vertex> visiting = new HashSet<>();
+            Set<Vertex> visited = new HashSet<>();
+            for (Vertex vertex : vertices.values()) {
+                if (hasCycle(vertex, visiting, visited)) {
+                    return failedFuture(new DataException(FAILURE_CODE_PROCESSING_FAILED,
+                            String.format("Cyclic data requirement detected for %s", vertex.request)));
+                }
+            }
+            return succeededFuture();
+        }
+
+        private boolean hasCycle(Vertex vertex, Set<Vertex> visiting, Set<Vertex> visited) {
+            if (visited.contains(vertex)) {
+                return false;
+            } else if (!visiting.add(vertex)) {
+                return true;
+            }
+
+            for (Vertex child : vertex.children) {
+                if (hasCycle(child, visiting, visited)) {
+                    return true;
+                }
+            }
+
+            visiting.remove(vertex);
+            visited.add(vertex);
+            return false;
+        }
+
+        /**
+         * Replies the result of a data request to a verticle requested in the {@link ResolutionPhase#RETRIEVE} phase.
+         *
+         * @param message the message containing the encoded data request
+         */
+        private void replyResult(Message<JsonObject> message) {
+            Vertex vertex = vertices.get(requestKey(DataRequest.fromJson(message.body())));
+            if (vertex == null || vertex.result == null) {
+                message.fail(FAILURE_CODE_PROCESSING_FAILED, "Data request is not part of the resolution");
+                return;
+            }
+
+            vertex.result.onComplete(asyncResult -> {
+                try {
+                    if (asyncResult.succeeded()) {
+                        message.reply(asyncResult.result(),
+                                deliveryOptions(vertx, null, vertex.context).setCodecName(vertex.codecName));
+                    } else {
+                        message.reply(mapException(asyncResult.cause()));
+                    }
+                } catch (IllegalArgumentException e) {
+                    message.fail(FAILURE_CODE_MISSING_MESSAGE_CODEC, e.getMessage());
+                }
+            });
+        }
+
+        /**
+         * A vertex in the tree of required data.
+         */
+        private final class Vertex {
+            private final DataRequest request;
+
+            private final DataContext context;
+
+            private final List<Vertex> children = new ArrayList<>();
+
+            private boolean required;
+
+            private String codecName;
+
+            private String planId;
+
+            private Future<Object> result;
+
+            Vertex(DataRequest request, DataContext context) {
+                this.request = request;
+                this.context = context;
+            }
+
+            /**
+             * Returns a future to the result of this vertex. Leaves are requested immediately, all other verticle are
+             * requested as soon as the results of all their children are available.
+             *
+             * @return a future to the result of the data request of this vertex
+             */
+            Future<Object> result() {
+                if (result == null) {
+                    if (required) {
+                        MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                                .add(RESOLUTION_PHASE_HEADER, ResolutionPhase.RETRIEVE.name())
+                                .add(RESOLUTION_ADDRESS_HEADER, resolutionAddress);
+                        if (planId != null) {
+                            headers.add(RESOLUTION_PLAN_HEADER, planId);
+                        }
+                        result = CompositeFuture
+                                .join(children.stream().map(Vertex::result).map(Future.class::cast)
+                                        .collect(Collectors.toList()))
+                                .otherwiseEmpty().compose(v -> requestData(vertx, request, context, headers));
+                    } else {
+                        result = requestData(vertx, request, context);
+                    }
+                    reportRequestDataMetrics(request, result);
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * The routine of a verticle requested in the {@link ResolutionPhase#REQUIRE} phase of an optimized resolution.
+     * Replies the (encodable) data requests required by this verticle, as well as the name of the message codec of
+     * this verticle. All required data requests are kept as a plan, so that they can be reused in the
+     * {@link ResolutionPhase#RETRIEVE} phase, without having to require the data a second time. Plans which are not
+     * retrieved within the event bus timeout are discarded.
+     */
+    private class OptimizedRequireRoutine implements ResolutionRoutine {
+        @Override
+        public Future<JsonObject> execute(DataQuery query, DataContext context) {
+            return requireData(query, context).map(requests -> {
+                Collection<DataRequest> planned = Optional.ofNullable(requests).orElse(emptyList());
+                String planId = UUID.randomUUID().toString();
+                plannedRequests.put(planId, planned);
+                vertx.setTimer(SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout()),
+                        timerId -> plannedRequests.remove(planId));
+
+                return new JsonObject().put(PLAN_KEY, planId)
+                        .put(CODEC_KEY, Optional.ofNullable(getMessageCodec()).map(MessageCodec::name).orElse(null))
+                        .put(REQUESTS_KEY, new JsonArray(planned.stream().map(DataRequest::toJson)
+                                .filter(Objects::nonNull).collect(Collectors.toList())));
+            });
+        }
+
+        @Override
+        public boolean usesMessageCodec() {
+            return false;
+        }
+    }
+
+    /**
+     * The routine of a verticle requested in the {@link ResolutionPhase#RETRIEVE} phase of an optimized resolution.
+     * All required data, which has been resolved by the verticle orchestrating the resolution, is pulled from it.
+     */
+    private class OptimizedRetrieveRoutine extends RecursiveResolutionRoutine {
+        private final String resolutionAddress;
+
+        private final String planId;
+
+        OptimizedRetrieveRoutine(String resolutionAddress, String planId) {
+            super();
+            this.resolutionAddress = resolutionAddress;
+            this.planId = planId;
+        }
+
+        @Override
+        Future<Collection<DataRequest>> requireRequests(DataQuery query, DataContext context) {
+            Collection<DataRequest> planned = planId != null ? plannedRequests.remove(planId) : null;
+            if (planned == null) {
+                // e.g. the plan was made by another instance of this verticle, or it expired already
+                return super.requireRequests(query, context);
+            }
+
+            return succeededFuture(planned);
+        }
+
+        @Override
+        Future<Object> resolveRequest(DataRequest request, DataContext requestContext) {
+            JsonObject encodedRequest = request.toJson();
+            if (encodedRequest == null || resolutionAddress == null) {
+                return super.resolveRequest(request, requestContext);
+            }
+
+            return vertx.eventBus().request(resolutionAddress, encodedRequest, deliveryOptions(vertx, null, null))
+                    .transform(asyncReply -> {
+                        if (asyncReply.failed()) {
+                            // e.g. the request was not known when planning the resolution, resolve it on our own
+                            LOGGER.correlateWith(requestContext).debug("Failed to pull result of {}, requesting it",
+                                    request, asyncReply.cause());
+                            return super.resolveRequest(request, requestContext);
+                        }
+
+                        Object body = asyncReply.result().body();
+                        if (body instanceof DataException) {
+                            return failedFuture((DataException) body);
+                        }
+
+                        mergeResponseContext(requestContext, asyncReply.result().headers());
+                        return succeededFuture(body);
+                    });
         }
     }
 
     private class ManipulationRoutine implements ResolutionRoutine {
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
+            Future<T> future;
             try {
-                return manipulateData(query, context);
+                future = manipulateData(query, context);
             } catch (Exception e) {
                 // handle any (runtime) exception here and fail the result future
                 return failedFuture(e);
             }
+
+            // after data was manipulated, cached results are invalidated, so that subsequent reads see the changes
+            return resultCache == null ? future : future.compose(result -> resultCache.invalidate().otherwise(
+                    throwable -> {
+                        LOGGER.correlateWith(context).warn("Failed to invalidate the result cache of {}",
+                                getQualifiedName(), throwable);
+                        return null;
+                    }).map(result));
+        }
+    }
+
+    /**
+     * The result of a coalesced data request, together with the data context the request was performed with.
+     */
+    private static final class CoalescedResult {
+        private final Object result;
+
+        private final DataContext context;
+
+        CoalescedResult(Object result, DataContext context) {
+            this.result = result;
+            this.context = context;
         }
     }
 }
@@ -0,0 +1,246 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataException.FAILURE_CODE_CIRCUIT_OPEN;
+import static io.neonbee.data.DataException.FAILURE_CODE_NO_HANDLERS;
+import static io.neonbee.data.DataException.FAILURE_CODE_OVERLOADED;
+import static io.neonbee.data.DataException.FAILURE_CODE_PROCESSING_FAILED;
+import static io.neonbee.data.DataException.FAILURE_CODE_TIMEOUT;
+import static io.vertx.core.Future.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.config.CircuitBreakerConfig;
+import io.neonbee.data.DataException;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+
+/**
+ * A circuit breaker for the data requests to one data verticle, see {@link CircuitBreakerConfig} for details on the
+ * states of the circuit breaker.
+ * <p>
+ * Only failures indicating that the requested data verticle is unavailable or malfunctioning are recorded as failed
+ * requests, namely timeouts, missing handlers, overloaded verticles, failed processing and failures with a HTTP server
+ * error (5xx) failure code. Any other failure, e.g. caused by an invalid request, is recorded as successful request.
+ */
+public class DataCircuitBreaker {
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Requests are permitted and their outcome is recorded.
+         */
+        CLOSED,
+
+        /**
+         * Requests fail immediately.
+         */
+        OPEN,
+
+        /**
+         * A limited number of trial requests is permitted, to determine whether to close or open the circuit breaker.
+         */
+        HALF_OPEN
+    }
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final byte FAILED = 1;
+
+    private static final byte SLOW = 2;
+
+    private final String name;
+
+    private final CircuitBreakerConfig config;
+
+    private final LongSupplier nanoTime;
+
+    private final byte[] outcomes;
+
+    private State state = State.CLOSED;
+
+    private int recordedCalls;
+
+    private int nextOutcome;
+
+    private long openUntil;
+
+    private int halfOpenPermits;
+
+    private long rejectedCalls;
+
+    /**
+     * Creates a new circuit breaker.
+     *
+     * @param name   the name of the circuit breaker, e.g. the qualified name of the requested data verticle
+     * @param config the circuit breaker configuration
+     */
+    public DataCircuitBreaker(String name, CircuitBreakerConfig config) {
+        this(name, config, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    DataCircuitBreaker(String name, CircuitBreakerConfig config, LongSupplier nanoTime) {
+        this.name = name;
+        this.config = config;
+        this.nanoTime = nanoTime;
+        this.outcomes = new byte[Math.max(1, config.getWindowSize())];
+    }
+
+    /**
+     * Executes a request, in case the circuit breaker permits it, and records its outcome.
+     *
+     * @param <T>     the type of the result
+     * @param request the supplier executing the request
+     * @return a future to the result of the request, or a future failed with
+     *         {@link DataException#FAILURE_CODE_CIRCUIT_OPEN} in case the circuit breaker is open
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> request) {
+        if (!tryAcquirePermission()) {
+            return failedFuture(new DataException(FAILURE_CODE_CIRCUIT_OPEN,
+                    String.format("Circuit breaker of %s is open. Request failed fast", name)));
+        }
+
+        long startTime = nanoTime.getAsLong();
+        Future<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = failedFuture(e);
+        }
+
+        return future.onComplete(asyncResult -> record(NANOSECONDS.toMillis(nanoTime.getAsLong() - startTime),
+                asyncResult.failed() && isFailure(asyncResult.cause())));
+    }
+
+    /**
+     * Returns the current state of the circuit breaker.
+     *
+     * @return the state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoTime.getAsLong() - openUntil >= 0) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the number of requests rejected, as the circuit breaker was open.
+     *
+     * @return the number of rejected requests
+     */
+    public synchronized long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    /**
+     * Returns the current failure rate of the recorded requests.
+     *
+     * @return the failure rate in percent, or 0 in case no request was recorded yet
+     */
+    public synchronized double getFailureRate() {
+        return rate(FAILED);
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoTime.getAsLong() - openUntil < 0) {
+                rejectedCalls++;
+                return false;
+            }
+
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                rejectedCalls++;
+                return false;
+            }
+            halfOpenPermits--;
+        }
+
+        return true;
+    }
+
+    private synchronized void record(long duration, boolean failed) {
+        if (state == State.OPEN) {
+            // outcomes of requests permitted before the circuit breaker opened, are not relevant anymore
+            return;
+        }
+
+        outcomes[nextOutcome] = (byte) ((failed ? FAILED : 0) | (duration >= config.getSlowCallDuration() ? SLOW : 0));
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+        recordedCalls = Math.min(recordedCalls + 1, outcomes.length);
+
+        int requiredCalls = state == State.HALF_OPEN ? config.getHalfOpenCalls()
+                : Math.max(1, Math.min(config.getMinimumCalls(), outcomes.length));
+        if (recordedCalls < requiredCalls) {
+            return;
+        }
+
+        boolean exceedsThresholds = rate(FAILED) >= config.getFailureRateThreshold()
+                || rate(SLOW) >= config.getSlowCallRateThreshold();
+        if (exceedsThresholds) {
+            transitionTo(State.OPEN);
+        } else if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private double rate(byte outcome) {
+        if (recordedCalls == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = 0; i < recordedCalls; i++) {
+            if ((outcomes[i] & outcome) != 0) {
+                count++;
+            }
+        }
+        return count * 100.0 / recordedCalls;
+    }
+
+    private void transitionTo(State newState) {
+        LOGGER.info("Circuit breaker of {} changed from state {} to {}", name, state, newState);
+        state = newState;
+        recordedCalls = 0;
+        nextOutcome = 0;
+        if (newState == State.OPEN) {
+            openUntil = nanoTime.getAsLong() + config.getOpenDuration() * 1_000_000;
+        } else if (newState == State.HALF_OPEN) {
+            halfOpenPermits = config.getHalfOpenCalls();
+        }
+    }
+
+    /**
+     * Returns whether a failure indicates that the requested data verticle is unavailable or malfunctioning.
+     *
+     * @param cause the cause of the failed request
+     * @return true if the failure should be recorded as failed request
+     */
+    @VisibleForTesting
+    static boolean isFailure(Throwable cause) {
+        if (!(cause instanceof DataException)) {
+            return true;
+        }
+
+        int failureCode = ((DataException) cause).failureCode();
+        switch (failureCode) {
+        case FAILURE_CODE_TIMEOUT:
+        case FAILURE_CODE_NO_HANDLERS:
+        case FAILURE_CODE_PROCESSING_FAILED:
+        case FAILURE_CODE_OVERLOADED:
+            return true;
+        default:
+            // HTTP server errors
+            return failureCode >= 500 && failureCode < 600;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.neonbee.data.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.neonbee.config.CircuitBreakerConfig;
+
+/**
+ * Holds one {@link DataCircuitBreaker} per requested data verticle and exports the state of the circuit breakers as
+ * metrics:
+ * <ul>
+ * <li>{@code neonbee.data.circuit.breaker.state}: the state of the circuit breaker (0 closed, 1 open, 2 half-open)</li>
+ * <li>{@code neonbee.data.circuit.breaker.failure.rate}: the failure rate of the recorded requests in percent</li>
+ * <li>{@code neonbee.data.circuit.breaker.rejected}: the number of requests rejected by the circuit breaker</li>
+ * </ul>
+ * All metrics are tagged with the qualified name of the requested data verticle as {@code target}.
+ */
+public class DataCircuitBreakers {
+    private static final String METRICS_PREFIX = "neonbee.data.circuit.breaker.";
+
+    private final Map<String, DataCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private final Supplier<CircuitBreakerConfig> configSupplier;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a new holder of circuit breakers.
+     *
+     * @param configSupplier a supplier of the current circuit breaker configuration
+     * @param meterRegistry  the registry to export the metrics of the circuit breakers to
+     */
+    public DataCircuitBreakers(Supplier<CircuitBreakerConfig> configSupplier, MeterRegistry meterRegistry) {
+        this.configSupplier = configSupplier;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the circuit breaker for a data verticle, in case circuit breakers are enabled.
+     *
+     * @param qualifiedName the qualified name of the data verticle
+     * @return the circuit breaker, or null in case circuit breakers are disabled
+     */
+    public DataCircuitBreaker get(String qualifiedName) {
+        CircuitBreakerConfig config = configSupplier.get();
+        if (config == null || !config.isEnabled()) {
+            return null;
+        }
+
+        return circuitBreakers.computeIfAbsent(qualifiedName, name -> {
+            DataCircuitBreaker circuitBreaker = new DataCircuitBreaker(name, config);
+            registerMetrics(name, circuitBreaker);
+            return circuitBreaker;
+        });
+    }
+
+    private void registerMetrics(String qualifiedName, DataCircuitBreaker circuitBreaker) {
+        if (meterRegistry == null) {
+            return;
+        }
+
+        List<Tag> tags = List.of(Tag.of("target", qualifiedName));
+        Gauge.builder(METRICS_PREFIX + "state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("state of the circuit breaker (0 closed, 1 open, 2 half-open)").tags(tags)
+                .register(meterRegistry);
+        Gauge.builder(METRICS_PREFIX + "failure.rate", circuitBreaker, DataCircuitBreaker::getFailureRate)
+                .description("failure rate of the recorded requests in percent").tags(tags).register(meterRegistry);
+        FunctionCounter.builder(METRICS_PREFIX + "rejected", circuitBreaker, DataCircuitBreaker::getRejectedCalls)
+                .description("requests rejected by the circuit breaker").tags(tags).register(meterRegistry);
+    }
+}
@@ -56,6 +56,15 @@ public class DataContextImpl implements DataContext {
 
     private static final String RESPONSE_METADATA_KEY = "responsedata";
 
+    /**
+     * The version prefix of the compact context encoding. Contexts encoded as JSON always start with a curly bracket.
+     */
+    private static final char COMPACT_FORMAT_VERSION = '1';
+
+    private static final char NULL_FIELD = '-';
+
+    private static final char FIELD_LENGTH_SEPARATOR = ':';
+
     private final String correlationId;
 
     private final String bearerToken;
@@ -70,6 +79,16 @@ public class DataContextImpl implements DataContext {
 
     private Deque<DataVerticleCoordinate> pathStack;
 
+    /*
+     * The sections of a compact encoded context, which did not get decoded yet. The sections get decoded lazily on
+     * first access, or are passed on as is, in case the context is encoded again without being accessed.
+     */
+    private String encodedData;
+
+    private String encodedResponseData;
+
+    private String encodedPath;
+
     /**
      * This is a map between {@link DataRequest} to an invoked verticle and the received response data for the request.
      * This map will not be propagated to the upstream verticles by default.
@@ -149,8 +168,17 @@ public class DataContextImpl implements DataContext {
         this.sessionId = original.sessionId();
         this.bearerToken = original.bearerToken();
         this.userPrincipal = original.userPrincipal();
-        this.setData(original.data());
-        this.setPath(original.path());
+        if (original instanceof DataContextImpl && ((DataContextImpl) original).encodedData != null) {
+            this.encodedData = ((DataContextImpl) original).encodedData;
+        } else {
+            this.setData(original.data());
+        }
+        if (original instanceof DataContextImpl && ((DataContextImpl) original).encodedPath != null) {
+            this.encodedPath = ((DataContextImpl) original).encodedPath;
+            this.pathStack = new ArrayDeque<>();
+        } else {
+            this.setPath(original.path());
+        }
     }
 
     @Override
@@ -170,7 +198,10 @@ public class DataContextImpl implements DataContext {
 
     @Override
     public Map<String, Object> data() {
-        if (this.data == null) {
+        if (this.encodedData != null) {
+            this.data = new JsonObject(this.encodedData).getMap();
+            this.encodedData = null;
+        } else if (this.data == null) {
             this.data = new HashMap<>();
         }
         return this.data;
@@ -183,6 +214,7 @@ public class DataContextImpl implements DataContext {
      */
     @VisibleForTesting
     protected void setPath(Iterator<DataVerticleCoordinate> path) {
+        this.encodedPath = null;
         this.pathStack =
                 streamPath(path).collect(Collector.of(ArrayDeque::new, (deq, t) -> deq.addFirst(t), (d1, d2) -> {
                     d2.addAll(d1);
@@ -198,6 +230,7 @@ public class DataContextImpl implements DataContext {
      */
     @VisibleForTesting
     protected DataContext setPath(Deque<DataVerticleCoordinate> path) {
+        this.encodedPath = null;
         this.pathStack = mutableCopyOf(path, ArrayDeque::new);
         return this;
     }
@@ -205,6 +238,7 @@ public class DataContextImpl implements DataContext {
     @Override
     @SuppressWarnings("PMD.NullAssignment")
     public final DataContext setData(Map<String, Object> data) {
+        this.encodedData = null;
         this.data = (data != null) && !data.isEmpty() ? mutableCopyOf(data) : null;
         return this;
     }
@@ -213,7 +247,7 @@ public class DataContextImpl implements DataContext {
     public DataContext mergeData(Map<String, Object> data) {
         if ((data != null) && !data.isEmpty()) {
             // instead of putAll, might be worth it to write a more sophisticated logic using .merge()
-            this.data.putAll(mutableCopyOf(data));
+            this.data().putAll(mutableCopyOf(data));
         }
         return this;
     }
@@ -250,7 +284,10 @@ public class DataContextImpl implements DataContext {
 
     @Override
     public Map<String, Object> responseData() {
-        if (this.responseData == null) {
+        if (this.encodedResponseData != null) {
+            this.responseData = new JsonObject(this.encodedResponseData).getMap();
+            this.encodedResponseData = null;
+        } else if (this.responseData == null) {
             this.responseData = new HashMap<>();
         }
         return this.responseData;
@@ -302,6 +339,12 @@ public class DataContextImpl implements DataContext {
 
     /**
      * Encodes a given {@link DataContext} to string.
+     * <p>
+     * The context is encoded in a compact format of length-prefixed fields, which is cheap to encode and to decode.
+     * The data, the response data and the path of the context are only decoded when accessed. Sections which did not
+     * get accessed after decoding a context, are passed on as is, when encoding the context again. Nodes of previous
+     * versions of NeonBee are not able to decode the compact format, thus it is only used to send the context via the
+     * event bus, if enabled via {@link io.neonbee.config.NeonBeeConfig#setCompactDataContextFormat(boolean)}.
      *
      * @param context A data context to encode
      * @return The passed data context represented as string
@@ -311,6 +354,43 @@ public class DataContextImpl implements DataContext {
             // actually it's fine for the context to be null, so also a null should be set as header
             return null;
         }
+
+        DataContextImpl contextImpl = context instanceof DataContextImpl ? (DataContextImpl) context : null;
+        StringBuilder builder = new StringBuilder(256).append(COMPACT_FORMAT_VERSION);
+        appendField(builder, context.correlationId());
+        appendField(builder, context.sessionId());
+        appendField(builder, context.bearerToken());
+        appendField(builder, Optional.ofNullable(context.userPrincipal()).map(JsonObject::encode).orElse(null));
+        if (contextImpl != null && contextImpl.encodedData != null) {
+            appendField(builder, contextImpl.encodedData);
+        } else {
+            appendField(builder, mapToJson(context.data()));
+        }
+        if (contextImpl != null && contextImpl.encodedResponseData != null) {
+            appendField(builder, contextImpl.encodedResponseData);
+        } else {
+            appendField(builder, mapToJson(context.responseData()));
+        }
+        if (contextImpl != null && contextImpl.encodedPath != null) {
+            appendField(builder, contextImpl.encodedPath);
+        } else {
+            appendField(builder, encodePath(context.path()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Encodes a given {@link DataContext} to a JSON string. This is the format used by earlier versions of NeonBee and
+     * used by default to send the context via the event bus. It is supported when decoding a context using
+     * {@link #decodeContextFromString(String)}.
+     *
+     * @param context A data context to encode
+     * @return The passed data context represented as JSON string
+     */
+    public static String encodeContextToJsonString(DataContext context) {
+        if (context == null) {
+            return null;
+        }
         return new JsonObject().put(CORRELATION_ID, context.correlationId()).put(SESSION_ID_KEY, context.sessionId())
                 .put(BEARER_TOKEN_KEY, context.bearerToken()).put(USER_PRINCIPAL_KEY, context.userPrincipal())
                 .put(DATA_KEY, new JsonObject(context.data()))
@@ -318,6 +398,30 @@ public class DataContextImpl implements DataContext {
                 .put(PATH_KEY, pathToJson(context.path())).toString();
     }
 
+    private static String mapToJson(Map<String, Object> map) {
+        return isNullOrEmpty(map) ? null : new JsonObject(map).encode();
+    }
+
+    private static String encodePath(Iterator<DataVerticleCoordinate> path) {
+        StringBuilder builder = new StringBuilder();
+        streamPath(path).forEach(coordinate -> {
+            appendField(builder, coordinate.getQualifiedName());
+            appendField(builder, coordinate.getDeploymentId());
+            appendField(builder, coordinate.getIpAddress());
+            appendField(builder, coordinate.getRequestTimestamp());
+            appendField(builder, coordinate.getResponseTimestamp());
+        });
+        return builder.length() > 0 ? builder.toString() : null;
+    }
+
+    private static void appendField(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append(NULL_FIELD);
+        } else {
+            builder.append(value.length()).append(FIELD_LENGTH_SEPARATOR).append(value);
+        }
+    }
+
     private static JsonArray pathToJson(Iterator<DataVerticleCoordinate> path) {
         return new JsonArray(streamPath(path).map(JsonObject::mapFrom).collect(Collectors.toList()));
     }
@@ -334,6 +438,16 @@ public class DataContextImpl implements DataContext {
             return null;
         }
 
+        if (!contextString.isEmpty() && contextString.charAt(0) == COMPACT_FORMAT_VERSION) {
+            FieldReader reader = new FieldReader(contextString, 1);
+            DataContextImpl context = new DataContextImpl(reader.next(), reader.next(), reader.next(),
+                    Optional.ofNullable(reader.next()).map(JsonObject::new).orElse(null), null, null, null);
+            context.encodedData = reader.next();
+            context.encodedResponseData = reader.next();
+            context.encodedPath = reader.next();
+            return context;
+        }
+
         JsonObject contextJson = new JsonObject(contextString);
         return new DataContextImpl(contextJson.getString(CORRELATION_ID), contextJson.getString(SESSION_ID_KEY),
                 contextJson.getString(BEARER_TOKEN_KEY), contextJson.getJsonObject(USER_PRINCIPAL_KEY),
@@ -349,13 +463,32 @@ public class DataContextImpl implements DataContext {
                 .collect(ArrayDeque::new, Deque::push, Deque::addAll);
     }
 
+    /**
+     * Returns the path stack, decoding the path lazily in case this context was decoded from a compact string.
+     *
+     * @return the path stack
+     */
+    private Deque<DataVerticleCoordinate> pathStack() {
+        if (encodedPath != null) {
+            Deque<DataVerticleCoordinate> decodedPath = new ArrayDeque<>();
+            FieldReader reader = new FieldReader(encodedPath, 0);
+            while (reader.hasNext()) {
+                decodedPath.push(new DataVerticleCoordinateImpl(reader.next(), reader.next(), reader.next(),
+                        reader.next(), reader.next()));
+            }
+            pathStack = decodedPath;
+            encodedPath = null;
+        }
+        return pathStack;
+    }
+
     /**
      * Push a new verticle into the stack.
      *
      * @param name verticle name
      */
     public void pushVerticleToPath(String name) {
-        if (!pathStack.isEmpty()) {
+        if (!pathStack().isEmpty()) {
             DataVerticleCoordinate topVerticle = pathStack.peek();
             if (name.equalsIgnoreCase(topVerticle.getQualifiedName())) {
                 LOGGER.error("A DataVerticle {} is sending message to itself, which could lead to a dead loop", name);
@@ -363,7 +496,7 @@ public class DataContextImpl implements DataContext {
             }
         }
 
-        pathStack.push(new DataVerticleCoordinateImpl(name));
+        pathStack().push(new DataVerticleCoordinateImpl(name));
     }
 
     /**
@@ -373,7 +506,7 @@ public class DataContextImpl implements DataContext {
      * @return current context
      */
     public DataContext amendTopVerticleCoordinate(String deploymentId) {
-        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast).ifPresent(coordinate -> {
+        Optional.ofNullable(pathStack().peek()).map(DataVerticleCoordinateImpl.class::cast).ifPresent(coordinate -> {
             coordinate.setDeploymentId(deploymentId);
             coordinate.setIpAddress(getHostIp());
         });
@@ -384,12 +517,12 @@ public class DataContextImpl implements DataContext {
      * Remove the top coordinate from the stack.
      */
     public void popVerticleFromPath() {
-        pathStack.pop();
+        pathStack().pop();
     }
 
     @Override
     public Iterator<DataVerticleCoordinate> path() {
-        return unmodifiableIterator(pathStack.descendingIterator());
+        return unmodifiableIterator(pathStack().descendingIterator());
     }
 
     /**
@@ -422,7 +555,38 @@ public class DataContextImpl implements DataContext {
 
     @Override
     public void updateResponseTimestamp() {
-        Optional.ofNullable(pathStack.peek()).map(DataVerticleCoordinateImpl.class::cast)
+        Optional.ofNullable(pathStack().peek()).map(DataVerticleCoordinateImpl.class::cast)
                 .ifPresent(DataVerticleCoordinateImpl::updateResponseTimestamp);
     }
+
+    /**
+     * Reads the length-prefixed fields of a compact encoded context.
+     */
+    private static final class FieldReader {
+        private final String encoded;
+
+        private int position;
+
+        FieldReader(String encoded, int position) {
+            this.encoded = encoded;
+            this.position = position;
+        }
+
+        boolean hasNext() {
+            return position < encoded.length();
+        }
+
+        String next() {
+            if (encoded.charAt(position) == NULL_FIELD) {
+                position++;
+                return null;
+            }
+
+            int separator = encoded.indexOf(FIELD_LENGTH_SEPARATOR, position);
+            int start = separator + 1;
+            int end = start + Integer.parseInt(encoded, position, separator, 10);
+            position = end;
+            return encoded.substring(start, end);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package io.neonbee.data.internal;
+
+import static io.vertx.core.Future.failedFuture;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Coalesces identical data requests, which are in-flight at the same time (also known as "singleflight").
+ * <p>
+ * The first request for a given key is executed, any further request for the same key, issued before the first request
+ * completed, will not be executed, but share the result of the first request. As soon as the first request completed,
+ * the key is released and the next request for the same key will be executed again. Thus, no results are cached.
+ */
+public class DataRequestCoalescer {
+    private final Vertx vertx;
+
+    private final Map<Object, Future<?>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new coalescer for data requests.
+     *
+     * @param vertx the Vert.x instance
+     */
+    public DataRequestCoalescer(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    /**
+     * Executes a request, or joins an identical request which is currently in-flight.
+     * <p>
+     * The returned future is always completed on the context of the caller, even if the caller joined a request issued
+     * on another context.
+     *
+     * @param <T>     the type of the result
+     * @param key     the key identifying identical requests, must implement equals and hashCode
+     * @param request the supplier executing the request, in case no identical request is in-flight
+     * @return a future to the result of the request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> coalesce(Object key, Supplier<Future<T>> request) {
+        Promise<T> promise = Promise.promise();
+        Future<T> inFlightRequest = (Future<T>) inFlightRequests.putIfAbsent(key, promise.future());
+        if (inFlightRequest != null) {
+            Context context = vertx.getOrCreateContext();
+            Promise<T> joinedPromise = Promise.promise();
+            inFlightRequest
+                    .onComplete(asyncResult -> context.runOnContext(nothing -> joinedPromise.handle(asyncResult)));
+            return joinedPromise.future();
+        }
+
+        Future<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = failedFuture(e);
+        }
+
+        future.onComplete(asyncResult -> {
+            inFlightRequests.remove(key, promise.future());
+            promise.handle(asyncResult);
+        });
+        return promise.future();
+    }
+
+    /**
+     * Returns the number of requests currently in-flight.
+     *
+     * @return the number of in-flight requests
+     */
+    @VisibleForTesting
+    int inFlightRequests() {
+        return inFlightRequests.size();
+    }
+}
@@ -0,0 +1,143 @@
+package io.neonbee.data.internal;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Tracks the latencies of the replies of data verticles per address, to derive adaptive timeouts and the delay after
+ * which a request is hedged.
+ * <p>
+ * The latencies of the last {@code windowSize} replies are kept per address. As long as less than
+ * {@code minSamples} latencies were observed for an address, no adaptive timeout or hedge delay is derived.
+ */
+public class DataRequestLatencyTracker {
+    /**
+     * The percentile of the observed latencies, after which a request is hedged.
+     */
+    public static final double HEDGE_PERCENTILE = 0.95;
+
+    /**
+     * The percentile of the observed latencies, the adaptive timeout is derived from.
+     */
+    public static final double TIMEOUT_PERCENTILE = 0.99;
+
+    @VisibleForTesting
+    static final int DEFAULT_WINDOW_SIZE = 128;
+
+    @VisibleForTesting
+    static final int DEFAULT_MIN_SAMPLES = 20;
+
+    @VisibleForTesting
+    static final int TIMEOUT_FACTOR = 3;
+
+    @VisibleForTesting
+    static final long MIN_TIMEOUT_MILLIS = 500;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final int windowSize;
+
+    private final int minSamples;
+
+    /**
+     * Creates a new latency tracker, keeping the last {@value #DEFAULT_WINDOW_SIZE} latencies per address.
+     */
+    public DataRequestLatencyTracker() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MIN_SAMPLES);
+    }
+
+    @VisibleForTesting
+    DataRequestLatencyTracker(int windowSize, int minSamples) {
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Records the latency of a reply received from an address.
+     *
+     * @param address the address the request was sent to
+     * @param latency the latency of the reply in milliseconds
+     */
+    public void record(String address, long latency) {
+        windows.computeIfAbsent(address, key -> new Window(windowSize)).add(latency);
+    }
+
+    /**
+     * Returns a percentile of the latencies observed for an address.
+     *
+     * @param address    the address
+     * @param percentile the percentile in the range of (0, 1]
+     * @return the percentile in milliseconds, or -1 in case not enough latencies were observed yet
+     */
+    public long percentile(String address, double percentile) {
+        Window window = windows.get(address);
+        return window != null ? window.percentile(percentile, minSamples) : -1;
+    }
+
+    /**
+     * Derives an adaptive timeout for requests to an address, which is a multiple of the {@link #TIMEOUT_PERCENTILE} of
+     * the latencies observed, but never exceeds the default timeout.
+     *
+     * @param address        the address
+     * @param defaultTimeout the default timeout in milliseconds, used if not enough latencies were observed yet
+     * @return the timeout in milliseconds
+     */
+    public long adaptiveTimeout(String address, long defaultTimeout) {
+        long latency = percentile(address, TIMEOUT_PERCENTILE);
+        if (latency < 0) {
+            return defaultTimeout;
+        }
+
+        return Math.min(defaultTimeout, Math.max(MIN_TIMEOUT_MILLIS, latency * TIMEOUT_FACTOR));
+    }
+
+    /**
+     * Returns the delay after which a request to an address should be hedged, which is the {@link #HEDGE_PERCENTILE} of
+     * the latencies observed.
+     *
+     * @param address the address
+     * @return the delay in milliseconds, or -1 in case the request should not be hedged
+     */
+    public long hedgeDelay(String address) {
+        long latency = percentile(address, HEDGE_PERCENTILE);
+        return latency < 0 ? -1 : Math.max(1, latency);
+    }
+
+    /**
+     * A ring buffer of the last observed latencies.
+     */
+    private static final class Window {
+        private final long[] latencies;
+
+        private int count;
+
+        private int next;
+
+        Window(int size) {
+            latencies = new long[size];
+        }
+
+        synchronized void add(long latency) {
+            latencies[next] = latency;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+        }
+
+        long percentile(double percentile, int minSamples) {
+            long[] sorted;
+            synchronized (this) {
+                if (count < minSamples || count == 0) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(latencies, count);
+            }
+
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataException.FAILURE_CODE_OVERLOADED;
+import static io.vertx.core.Future.failedFuture;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.data.DataException;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Bounds the number of data requests a data verticle processes concurrently, configured in the {@code concurrency}
+ * section of the configuration of a data verticle:
+ *
+ * <pre>
+ * {
+ *     "concurrency": {
+ *         "maxInFlight": 64,
+ *         "maxQueued": 64
+ *     }
+ * }
+ * </pre>
+ *
+ * At most {@code maxInFlight} requests are processed at the same time. Further requests are queued and processed in
+ * order of their arrival, as soon as a request in-flight completed. In case also {@code maxQueued} requests are queued
+ * already (defaults to {@code maxInFlight}), requests are rejected immediately, failing with a {@link DataException}
+ * with the {@link DataException#FAILURE_CODE_OVERLOADED} failure code. This way an overloaded data verticle sheds load
+ * immediately, instead of accumulating requests, which would time out eventually anyways.
+ */
+public final class DataRequestLimiter {
+    /**
+     * Key for the maximum number of requests processed concurrently.
+     */
+    public static final String MAX_IN_FLIGHT = "maxInFlight";
+
+    /**
+     * Key for the maximum number of requests waiting to be processed.
+     */
+    public static final String MAX_QUEUED = "maxQueued";
+
+    private final int maxInFlight;
+
+    private final int maxQueued;
+
+    private final String name;
+
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+
+    private int inFlight;
+
+    @VisibleForTesting
+    DataRequestLimiter(int maxInFlight, int maxQueued, String name) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.name = name;
+    }
+
+    /**
+     * Creates a new request limiter for the given configuration.
+     *
+     * @param concurrencyConfig the concurrency configuration of the data verticle
+     * @param name              the name of the data verticle, used in the message of rejected requests
+     * @return a new request limiter, or null in case no maximum number of requests in-flight is configured
+     */
+    public static DataRequestLimiter create(JsonObject concurrencyConfig, String name) {
+        Integer maxInFlight = concurrencyConfig != null ? concurrencyConfig.getInteger(MAX_IN_FLIGHT) : null;
+        if (maxInFlight == null || maxInFlight <= 0) {
+            return null;
+        }
+
+        return new DataRequestLimiter(maxInFlight, Math.max(0, concurrencyConfig.getInteger(MAX_QUEUED, maxInFlight)),
+                name);
+    }
+
+    /**
+     * Executes a request, as soon as less than the maximum number of requests are in-flight.
+     * <p>
+     * In case the request can be executed immediately, any exception thrown by the request is propagated to the
+     * caller. In case the request had to be queued, any exception thrown fails the returned future.
+     *
+     * @param <T>     the type of the result
+     * @param request the supplier executing the request
+     * @return a future to the result of the request, or a failed future in case the request got rejected
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> request) {
+        synchronized (this) {
+            if (inFlight >= maxInFlight) {
+                if (queue.size() >= maxQueued) {
+                    return failedFuture(new DataException(FAILURE_CODE_OVERLOADED, String.format(
+                            "Data verticle %s is overloaded. Rejected request, as %d requests are in-flight and %d"
+                                    + " requests are queued",
+                            name, inFlight, queue.size())));
+                }
+
+                Promise<T> promise = Promise.promise();
+                queue.add(() -> {
+                    Future<T> future;
+                    try {
+                        future = request.get();
+                    } catch (RuntimeException e) {
+                        future = failedFuture(e);
+                    }
+                    future.onComplete(asyncResult -> {
+                        promise.handle(asyncResult);
+                        release();
+                    });
+                });
+                return promise.future();
+            }
+
+            inFlight++;
+        }
+
+        Future<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        return future.onComplete(asyncResult -> release());
+    }
+
+    /**
+     * Releases one request in-flight and executes the next queued request, if any.
+     */
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+
+        // the released slot is taken over by the next request
+        next.run();
+    }
+
+    /**
+     * Returns the number of requests currently in-flight.
+     *
+     * @return the number of requests in-flight
+     */
+    @VisibleForTesting
+    synchronized int inFlightRequests() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of requests currently queued.
+     *
+     * @return the number of queued requests
+     */
+    @VisibleForTesting
+    synchronized int queuedRequests() {
+        return queue.size();
+    }
+}
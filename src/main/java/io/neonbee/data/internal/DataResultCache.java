@@ -0,0 +1,347 @@
+package io.neonbee.data.internal;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.helper.CollectionHelper;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A size-aware cache for the results of a data verticle, configured in the {@code cache} section of the configuration
+ * of a data verticle:
+ *
+ * <pre>
+ * {
+ *     "cache": {
+ *         "enabled": true,
+ *         "ttl": 60,
+ *         "maxWeight": 10485760,
+ *         "perUser": true,
+ *         "contextDataKeys": ["tenant"],
+ *         "cluster": false
+ *     }
+ * }
+ * </pre>
+ *
+ * Results are cached for {@code ttl} seconds after they have been retrieved. The weight of a result is estimated by its
+ * (encoded) size in bytes, results are evicted least recently used, as soon as the total weight of all results exceeds
+ * {@code maxWeight}. The key of a cached result is derived from the query, the user principal of the data context
+ * (unless {@code perUser} is set to false) and the values of the {@code contextDataKeys} in the data of the context,
+ * e.g. to cache results per tenant.
+ * <p>
+ * In case {@code cluster} is set to true, the cache acts as a near-cache in front of a second, cluster-wide tier,
+ * which is shared by all instances of the data verticle on all nodes of the cluster. Results missing in the local tier
+ * are looked up in the cluster-wide tier, results retrieved are put into both tiers. Invalidating the cache, e.g. after
+ * data was manipulated, invalidates the cached results on all nodes. Only {@link Buffer}, {@link JsonObject},
+ * {@link JsonArray} and {@link String} results are put into the cluster-wide tier.
+ * <p>
+ * Results are copied when being cached and when being returned from the cache, in case they can be copied (see
+ * {@link CollectionHelper#copyOf(Object)}, e.g. {@link EntityWrapper#copy()}), so receivers are able to modify the
+ * results returned. Results which cannot be copied are not cached.
+ */
+public final class DataResultCache {
+    /**
+     * Key to enable the cache.
+     */
+    public static final String ENABLED = "enabled";
+
+    /**
+     * Key for the time to live of the cached results in seconds.
+     */
+    public static final String TTL = "ttl";
+
+    /**
+     * Key for the maximum weight of all cached results in (estimated) bytes.
+     */
+    public static final String MAX_WEIGHT = "maxWeight";
+
+    /**
+     * Key to determine if results should be cached per user.
+     */
+    public static final String PER_USER = "perUser";
+
+    /**
+     * Key for the data of the context, which should be part of the cache key.
+     */
+    public static final String CONTEXT_DATA_KEYS = "contextDataKeys";
+
+    /**
+     * Key to enable the cluster-wide tier of the cache.
+     */
+    public static final String CLUSTER = "cluster";
+
+    @VisibleForTesting
+    static final long DEFAULT_TTL = 60;
+
+    @VisibleForTesting
+    static final long DEFAULT_MAX_WEIGHT = 10L * 1024 * 1024;
+
+    private static final int DEFAULT_WEIGHT = 1024;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final Cache<List<Object>, CachedResult> cache;
+
+    private final long ttl;
+
+    private final boolean perUser;
+
+    private final List<String> contextDataKeys;
+
+    private final boolean clustered;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private DistributedDataResultCache distributedCache;
+
+    private DataResultCache(long ttl, long maxWeight, boolean perUser, List<String> contextDataKeys,
+            boolean clustered) {
+        this.cache = CacheBuilder.newBuilder().expireAfterWrite(ttl, TimeUnit.SECONDS).maximumWeight(maxWeight)
+                .weigher((List<Object> key, CachedResult value) -> value.weight).recordStats().build();
+        this.ttl = ttl;
+        this.perUser = perUser;
+        this.contextDataKeys = contextDataKeys;
+        this.clustered = clustered;
+    }
+
+    /**
+     * Creates a new result cache for the given configuration.
+     *
+     * @param cacheConfig the cache configuration of the data verticle
+     * @return a new result cache, or null in case the cache is not configured or not enabled
+     */
+    public static DataResultCache create(JsonObject cacheConfig) {
+        if (cacheConfig == null || !cacheConfig.getBoolean(ENABLED, Boolean.FALSE)) {
+            return null;
+        }
+
+        List<String> contextDataKeys = new ArrayList<>();
+        cacheConfig.getJsonArray(CONTEXT_DATA_KEYS, new JsonArray()).forEach(key -> contextDataKeys.add((String) key));
+        return new DataResultCache(cacheConfig.getLong(TTL, DEFAULT_TTL),
+                cacheConfig.getLong(MAX_WEIGHT, DEFAULT_MAX_WEIGHT), cacheConfig.getBoolean(PER_USER, Boolean.TRUE),
+                List.copyOf(contextDataKeys), cacheConfig.getBoolean(CLUSTER, Boolean.FALSE));
+    }
+
+    /**
+     * Connects the cache to its cluster-wide tier, in case the cluster-wide tier is enabled.
+     *
+     * @param vertx the Vert.x instance
+     * @param name  the name of the cache shared by all instances in the cluster, e.g. the address of the data verticle
+     * @return a future, which is completed as soon as the cache is ready to be used
+     */
+    public Future<Void> connect(Vertx vertx, String name) {
+        if (!clustered) {
+            return succeededFuture();
+        }
+
+        DistributedDataResultCache distributedCache = new DistributedDataResultCache(vertx, name,
+                TimeUnit.SECONDS.toMillis(ttl), this::invalidateLocalTier);
+        return distributedCache.connect().onSuccess(nothing -> this.distributedCache = distributedCache);
+    }
+
+    /**
+     * Derives the cache key for a query and a context.
+     *
+     * @param query   the query
+     * @param context the data context of the query
+     * @return the key to use to get or put a result
+     */
+    public List<Object> key(DataQuery query, DataContext context) {
+        List<Object> key = new ArrayList<>(2 + contextDataKeys.size());
+        // the key has to be a copy, as the query could be modified after the result was cached
+        key.add(query.copy());
+        if (context != null) {
+            key.add(perUser ? context.userPrincipal() : null);
+            Map<String, Object> data = context.data();
+            for (String contextDataKey : contextDataKeys) {
+                key.add(CollectionHelper.copyOf(data.get(contextDataKey)));
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Returns the cached result for a key.
+     *
+     * @param key the key derived via {@link #key(DataQuery, DataContext)}
+     * @return the cached result or null, in case no result is cached
+     */
+    public CachedResult get(List<Object> key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Looks up the cached result for a key, first in the local tier and then in the cluster-wide tier, if enabled.
+     * Results found in the cluster-wide tier are put into the local tier. Failures of the cluster-wide tier are treated
+     * like cache misses.
+     *
+     * @param key the key derived via {@link #key(DataQuery, DataContext)}
+     * @return a future to the cached result or to null, in case no result is cached
+     */
+    public Future<CachedResult> lookup(List<Object> key) {
+        long lookupGeneration = generation();
+        CachedResult cachedResult = get(key);
+        if (cachedResult != null || distributedCache == null) {
+            return succeededFuture(cachedResult);
+        }
+
+        return distributedCache.get(key).onSuccess(distributedResult -> {
+            if (distributedResult != null && lookupGeneration == generation()) {
+                cache.put(key, distributedResult);
+            }
+        }).recover(throwable -> {
+            LOGGER.warn("Failed to look up a result in the distributed cache", throwable);
+            return succeededFuture();
+        });
+    }
+
+    /**
+     * Returns the current generation of the cache, which changes whenever the cache gets invalidated, on this node or,
+     * in case the cluster-wide tier is enabled, on any node of the cluster.
+     *
+     * @return the current generation of the cache
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Puts a result into the cache, and into the cluster-wide tier, if enabled.
+     *
+     * @param key          the key derived via {@link #key(DataQuery, DataContext)}
+     * @param result       the result to cache
+     * @param responseData the response data of the data context, after the result has been retrieved
+     */
+    public void put(List<Object> key, Object result, Map<String, Object> responseData) {
+        put(key, generation(), result, responseData);
+    }
+
+    /**
+     * Puts a result into the cache, and into the cluster-wide tier, if enabled, unless the cache got invalidated after
+     * the result has been looked up. Otherwise a result retrieved before an invalidation would be cached afterwards.
+     *
+     * @param key          the key derived via {@link #key(DataQuery, DataContext)}
+     * @param generation   the {@link #generation() generation} of the cache, when the result was looked up
+     * @param result       the result to cache
+     * @param responseData the response data of the data context, after the result has been retrieved
+     */
+    public void put(List<Object> key, long generation, Object result, Map<String, Object> responseData) {
+        if (generation != generation()) {
+            LOGGER.debug("Result retrieved before the cache got invalidated is not cached");
+            return;
+        }
+        if (!CollectionHelper.isCopyable(result)) {
+            LOGGER.debug("Result of type {} cannot be copied and is not cached", result.getClass().getName());
+            return;
+        }
+
+        Object cachedResult = CollectionHelper.copyOf(result);
+        CachedResult value =
+                new CachedResult(cachedResult, CollectionHelper.mutableCopyOf(responseData), weigh(cachedResult));
+        cache.put(key, value);
+        if (distributedCache != null) {
+            distributedCache.put(key, value);
+        }
+    }
+
+    /**
+     * Invalidates all cached results, in case the cluster-wide tier is enabled, on all nodes of the cluster.
+     *
+     * @return a future, which is completed as soon as the results got invalidated on this node
+     */
+    public Future<Void> invalidate() {
+        invalidateLocalTier();
+        return distributedCache != null ? distributedCache.invalidate() : succeededFuture();
+    }
+
+    private void invalidateLocalTier() {
+        // any invalidation of the cluster-wide tier invalidates the local tier, so the generation guards both tiers
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the underlying cache, e.g. to monitor it.
+     *
+     * @return the underlying cache
+     */
+    public Cache<List<Object>, CachedResult> getCache() {
+        return cache;
+    }
+
+    @VisibleForTesting
+    static int weigh(Object result) {
+        long weight;
+        if (result == null) {
+            weight = 1;
+        } else if (result instanceof Buffer) {
+            weight = ((Buffer) result).length();
+        } else if (result instanceof CharSequence) {
+            weight = ((CharSequence) result).length();
+        } else if (result instanceof JsonObject) {
+            weight = ((JsonObject) result).encode().getBytes(UTF_8).length;
+        } else if (result instanceof JsonArray) {
+            weight = ((JsonArray) result).encode().getBytes(UTF_8).length;
+        } else if (result instanceof EntityWrapper) {
+            weight = (long) ((EntityWrapper) result).getEntities().size() * DEFAULT_WEIGHT;
+        } else if (result instanceof byte[]) {
+            weight = ((byte[]) result).length;
+        } else {
+            weight = DEFAULT_WEIGHT;
+        }
+        return (int) Math.max(1, Math.min(weight, Integer.MAX_VALUE));
+    }
+
+    /**
+     * A cached result, together with the response data to set to the context, when the result is returned.
+     */
+    public static final class CachedResult {
+        private final Object result;
+
+        private final Map<String, Object> responseData;
+
+        private final int weight;
+
+        CachedResult(Object result, Map<String, Object> responseData, int weight) {
+            this.result = result;
+            this.responseData = responseData;
+            this.weight = weight;
+        }
+
+        /**
+         * Returns a copy of the cached result (if it can be copied).
+         *
+         * @return the cached result
+         */
+        public Object getResult() {
+            return CollectionHelper.copyOf(result);
+        }
+
+        /**
+         * Returns the response data of the context, after the result has been retrieved.
+         *
+         * @return the response data
+         */
+        public Map<String, Object> getResponseData() {
+            return responseData;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.DataException.FAILURE_CODE_PROCESSING_FAILED;
+
+import java.util.UUID;
+
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * The producing side of the chunked event bus protocol used to stream the results of a data verticle.
+ * <p>
+ * The producer registers a consumer on a unique address, which is sent to the requester of the stream. The requester
+ * pulls the chunks of the stream one by one, by sending a message to the address (see {@link DataStreamReader}). The
+ * producer replies each pull with the next chunk of the stream, or with an empty message with the {@link #END_HEADER},
+ * as soon as the stream ended. Only after a chunk was pulled, the next chunk is fetched from the source stream, thus
+ * the requester controls the flow of the stream. In case the requester did not pull any chunk for the given idle
+ * timeout, or sent a message with the {@link #CANCEL_HEADER}, the producer stops producing the stream.
+ */
+public final class DataStreamProducer {
+    /**
+     * Header of the reply, which indicates that the stream ended.
+     */
+    public static final String END_HEADER = "streamEnd";
+
+    /**
+     * Header of a pull message, which indicates that the requester is no longer interested in the stream.
+     */
+    public static final String CANCEL_HEADER = "streamCancel";
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final Vertx vertx;
+
+    private final ReadStream<Buffer> source;
+
+    private final long idleTimeout;
+
+    private final String address = "DataStream[" + UUID.randomUUID() + "]";
+
+    private MessageConsumer<Void> consumer;
+
+    private Message<Void> pendingPull;
+
+    private Buffer pendingChunk;
+
+    private boolean ended;
+
+    private Throwable failure;
+
+    private long idleTimerId = -1;
+
+    private DataStreamProducer(Vertx vertx, ReadStream<Buffer> source, long idleTimeout) {
+        this.vertx = vertx;
+        this.source = source;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Starts producing a stream from a source stream.
+     *
+     * @param vertx       the Vert.x instance
+     * @param source      the source stream
+     * @param idleTimeout the time in milliseconds after which the stream is cancelled, in case no chunk was pulled
+     * @return the address to pull the chunks of the stream from
+     */
+    public static String produce(Vertx vertx, ReadStream<Buffer> source, long idleTimeout) {
+        return new DataStreamProducer(vertx, source, idleTimeout).start();
+    }
+
+    /**
+     * Starts producing a stream consisting of one single chunk.
+     *
+     * @param vertx       the Vert.x instance
+     * @param chunk       the only chunk of the stream
+     * @param idleTimeout the time in milliseconds after which the stream is cancelled, in case no chunk was pulled
+     * @return the address to pull the chunk of the stream from
+     */
+    public static String produce(Vertx vertx, Buffer chunk, long idleTimeout) {
+        DataStreamProducer producer = new DataStreamProducer(vertx, null, idleTimeout);
+        producer.pendingChunk = chunk;
+        producer.ended = true;
+        return producer.start();
+    }
+
+    private String start() {
+        if (source != null) {
+            source.pause();
+            source.handler(chunk -> {
+                pendingChunk = chunk;
+                replyPendingPull();
+            });
+            source.endHandler(nothing -> {
+                ended = true;
+                replyPendingPull();
+            });
+            source.exceptionHandler(throwable -> {
+                failure = throwable;
+                replyPendingPull();
+            });
+        }
+
+        consumer = vertx.eventBus().consumer(address, this::handlePull);
+        resetIdleTimer();
+        return address;
+    }
+
+    private void handlePull(Message<Void> message) {
+        if (message.headers().contains(CANCEL_HEADER)) {
+            LOGGER.debug("Stream {} was cancelled by the requester", address);
+            stop();
+            return;
+        }
+
+        resetIdleTimer();
+        pendingPull = message;
+        if (!replyPendingPull() && source != null) {
+            source.fetch(1);
+        }
+    }
+
+    /**
+     * Replies the pending pull, in case a chunk, the end of the stream, or a failure is available.
+     *
+     * @return true if the pending pull was replied
+     */
+    private boolean replyPendingPull() {
+        if (pendingPull == null) {
+            return false;
+        }
+
+        Message<Void> pull = pendingPull;
+        if (pendingChunk != null) {
+            pendingPull = null;
+            Buffer chunk = pendingChunk;
+            pendingChunk = null;
+            pull.reply(chunk);
+        } else if (failure != null) {
+            pendingPull = null;
+            pull.fail(FAILURE_CODE_PROCESSING_FAILED, "Streaming failed. " + failure.getMessage());
+            stop();
+        } else if (ended) {
+            pendingPull = null;
+            pull.reply(null, new DeliveryOptions().addHeader(END_HEADER, Boolean.TRUE.toString()));
+            stop();
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void resetIdleTimer() {
+        if (idleTimerId >= 0) {
+            vertx.cancelTimer(idleTimerId);
+        }
+        idleTimerId = vertx.setTimer(idleTimeout, timerId -> {
+            LOGGER.warn("Stream {} was not pulled for {}ms and got cancelled", address, idleTimeout);
+            stop();
+        });
+    }
+
+    private void stop() {
+        vertx.cancelTimer(idleTimerId);
+        consumer.unregister();
+        if (source != null && !ended) {
+            source.pause();
+            source.handler(null);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.data.internal.DataStreamProducer.CANCEL_HEADER;
+import static io.neonbee.data.internal.DataStreamProducer.END_HEADER;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * The requesting side of the chunked event bus protocol used to stream the results of a data verticle, see
+ * {@link DataStreamProducer} for details on the protocol.
+ * <p>
+ * Chunks are only pulled from the producer, while there is demand for the stream, one chunk at a time. Thus, pausing
+ * this stream also pauses the producer of the stream. Setting the handler to null cancels the stream.
+ */
+public final class DataStreamReader implements ReadStream<Buffer> {
+    private final Vertx vertx;
+
+    private final String address;
+
+    private final long sendTimeout;
+
+    private Handler<Buffer> handler;
+
+    private Handler<Void> endHandler;
+
+    private Handler<Throwable> exceptionHandler;
+
+    private long demand = Long.MAX_VALUE;
+
+    private boolean pulling;
+
+    private boolean ended;
+
+    /**
+     * Creates a new reader for a stream.
+     *
+     * @param vertx       the Vert.x instance
+     * @param address     the address of the producer of the stream
+     * @param sendTimeout the timeout in milliseconds to wait for each chunk
+     */
+    public DataStreamReader(Vertx vertx, String address, long sendTimeout) {
+        this.vertx = vertx;
+        this.address = address;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public DataStreamReader exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public DataStreamReader handler(Handler<Buffer> handler) {
+        Handler<Buffer> previousHandler = this.handler;
+        this.handler = handler;
+        if (handler != null) {
+            pull();
+        } else if (previousHandler != null && !ended) {
+            ended = true;
+            vertx.eventBus().send(address, null, new DeliveryOptions().addHeader(CANCEL_HEADER, "true"));
+        }
+        return this;
+    }
+
+    @Override
+    public DataStreamReader pause() {
+        demand = 0;
+        return this;
+    }
+
+    @Override
+    public DataStreamReader resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public DataStreamReader fetch(long amount) {
+        if (amount > 0) {
+            demand += amount;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+            pull();
+        }
+        return this;
+    }
+
+    @Override
+    public DataStreamReader endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void pull() {
+        if (pulling || ended || demand == 0 || handler == null) {
+            return;
+        }
+
+        pulling = true;
+        vertx.eventBus().<Buffer>request(address, null, new DeliveryOptions().setSendTimeout(sendTimeout))
+                .onComplete(asyncReply -> {
+                    pulling = false;
+                    if (ended) {
+                        return;
+                    }
+
+                    if (asyncReply.failed()) {
+                        ended = true;
+                        if (exceptionHandler != null) {
+                            exceptionHandler.handle(asyncReply.cause());
+                        }
+                        return;
+                    }
+
+                    Message<Buffer> reply = asyncReply.result();
+                    if (reply.headers().contains(END_HEADER)) {
+                        ended = true;
+                        if (endHandler != null) {
+                            endHandler.handle(null);
+                        }
+                        return;
+                    }
+
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                    if (handler != null) {
+                        handler.handle(reply.body());
+                    }
+                    pull();
+                });
+    }
+}
@@ -0,0 +1,214 @@
+package io.neonbee.data.internal;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.hash.Hashing;
+
+import io.neonbee.NeonBee;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.internal.DataResultCache.CachedResult;
+import io.neonbee.internal.SharedDataAccessor;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Counter;
+
+/**
+ * The cluster-wide tier of a {@link DataResultCache}, storing results in the shared async. map of NeonBee.
+ * <p>
+ * Instead of removing entries from the cluster-wide map, results are invalidated by incrementing a cluster-wide
+ * generation counter, which is part of the key of any entry. The new generation is published via the event bus, so
+ * that all nodes invalidate their local tier and stop reading entries of the previous generation, which expire after
+ * their time to live. Only results which can be transferred via the cluster are stored, namely {@link Buffer},
+ * {@link JsonObject}, {@link JsonArray} and {@link String} results.
+ */
+final class DistributedDataResultCache {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final String TYPE_KEY = "type";
+
+    private static final String RESULT_KEY = "result";
+
+    private static final String RESPONSE_DATA_KEY = "responseData";
+
+    private final Vertx vertx;
+
+    private final String name;
+
+    private final long ttl;
+
+    private final Runnable invalidateLocalTier;
+
+    private Counter generationCounter;
+
+    private long generation;
+
+    /**
+     * Creates a new distributed cache tier.
+     *
+     * @param vertx               the Vert.x instance
+     * @param name                the name of the cache, e.g. the address of the data verticle
+     * @param ttl                 the time to live of entries in milliseconds
+     * @param invalidateLocalTier called when the cache got invalidated, to invalidate the local tier
+     */
+    DistributedDataResultCache(Vertx vertx, String name, long ttl, Runnable invalidateLocalTier) {
+        this.vertx = vertx;
+        this.name = name;
+        this.ttl = ttl;
+        this.invalidateLocalTier = invalidateLocalTier;
+    }
+
+    /**
+     * Retrieves the current generation and starts listening for invalidations.
+     *
+     * @return a future, which is completed as soon as the cache is ready to be used
+     */
+    Future<Void> connect() {
+        return new SharedDataAccessor(vertx, DataResultCache.class).getCounter(name).compose(counter -> {
+            generationCounter = counter;
+            return counter.get();
+        }).compose(currentGeneration -> {
+            generation = currentGeneration;
+            Promise<Void> registered = Promise.promise();
+            vertx.eventBus().<Long>consumer(invalidationAddress(), this::handleInvalidation)
+                    .completionHandler(registered);
+            return registered.future();
+        });
+    }
+
+    /**
+     * Invalidates all results cached on any node.
+     *
+     * @return a future, which is completed as soon as the results of this node got invalidated
+     */
+    Future<Void> invalidate() {
+        return generationCounter.incrementAndGet().onSuccess(newGeneration -> {
+            updateGeneration(newGeneration);
+            vertx.eventBus().publish(invalidationAddress(), newGeneration);
+        }).mapEmpty();
+    }
+
+    /**
+     * Returns a cached result.
+     *
+     * @param key the key of the result
+     * @return a future to the result, or to null in case no result is cached
+     */
+    Future<CachedResult> get(List<Object> key) {
+        return NeonBee.get(vertx).getAsyncMap().get(mapKey(key)).map(value -> value instanceof JsonObject
+                ? decode((JsonObject) value) : null);
+    }
+
+    /**
+     * Puts a result into the cache, in case it can be transferred via the cluster.
+     *
+     * @param key          the key of the result
+     * @param cachedResult the result to cache
+     * @return a future, which is completed as soon as the result was put
+     */
+    Future<Void> put(List<Object> key, CachedResult cachedResult) {
+        JsonObject value = encode(cachedResult);
+        if (value == null) {
+            return succeededFuture();
+        }
+
+        Future<Void> putFuture;
+        try {
+            putFuture = NeonBee.get(vertx).getAsyncMap().put(mapKey(key), value, ttl);
+        } catch (RuntimeException e) {
+            // e.g. in case the response data contains values, which cannot be encoded / copied
+            putFuture = failedFuture(e);
+        }
+        return putFuture.onFailure(
+                throwable -> LOGGER.warn("Failed to put result of {} into the distributed cache", name, throwable));
+    }
+
+    private void handleInvalidation(Message<Long> message) {
+        updateGeneration(message.body());
+    }
+
+    private void updateGeneration(long newGeneration) {
+        if (newGeneration > generation) {
+            generation = newGeneration;
+            invalidateLocalTier.run();
+        }
+    }
+
+    private String invalidationAddress() {
+        return DataResultCache.class.getSimpleName() + "[" + name + "]#invalidate";
+    }
+
+    /**
+     * Derives a key of the cluster-wide map, from the generation and a hash over a stable representation of the key.
+     *
+     * @param key the key of the local tier
+     * @return the key of the cluster-wide map
+     */
+    private String mapKey(List<Object> key) {
+        JsonArray stableKey = new JsonArray();
+        for (Object keyPart : key) {
+            if (keyPart instanceof DataQuery) {
+                DataQuery query = (DataQuery) keyPart;
+                stableKey.add(query.getAction().name()).add(query.getUriPath())
+                        .add(new JsonObject(new TreeMap<>(query.getParametersView())))
+                        .add(new JsonObject(new TreeMap<>(query.getHeadersView()))).add(query.getBodyView());
+            } else {
+                stableKey.add(keyPart);
+            }
+        }
+
+        return DataResultCache.class.getSimpleName() + "[" + name + "]#" + generation + "#"
+                + Hashing.sha256().hashString(stableKey.encode(), UTF_8);
+    }
+
+    private static JsonObject encode(CachedResult cachedResult) {
+        Object result = cachedResult.getResult();
+        String type;
+        if (result instanceof Buffer) {
+            type = "buffer";
+        } else if (result instanceof JsonObject) {
+            type = "object";
+        } else if (result instanceof JsonArray) {
+            type = "array";
+        } else if (result instanceof String) {
+            type = "string";
+        } else {
+            return null;
+        }
+
+        return new JsonObject().put(TYPE_KEY, type).put(RESULT_KEY, result).put(RESPONSE_DATA_KEY,
+                new JsonObject(cachedResult.getResponseData()));
+    }
+
+    private static CachedResult decode(JsonObject value) {
+        Object result;
+        switch (value.getString(TYPE_KEY)) {
+        case "buffer":
+            result = value.getBuffer(RESULT_KEY);
+            break;
+        case "object":
+            result = value.getJsonObject(RESULT_KEY);
+            break;
+        case "array":
+            result = value.getJsonArray(RESULT_KEY);
+            break;
+        default:
+            result = value.getString(RESULT_KEY);
+            break;
+        }
+
+        Map<String, Object> responseData = value.getJsonObject(RESPONSE_DATA_KEY, new JsonObject()).getMap();
+        return new CachedResult(result, responseData, DataResultCache.weigh(result));
+    }
+}
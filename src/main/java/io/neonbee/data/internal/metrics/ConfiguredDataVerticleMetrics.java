@@ -3,6 +3,7 @@ package io.neonbee.data.internal.metrics;
 import java.util.List;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -55,6 +56,11 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      */
     public static final String TIMING = "reportTiming";
 
+    /**
+     * Key for reporting cache metrics.
+     */
+    public static final String CACHE = "reportCache";
+
     @VisibleForTesting
     static final NoopDataVerticleMetrics DUMMY_IMPL = new NoopDataVerticleMetrics();
 
@@ -72,13 +78,17 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     @VisibleForTesting
     final DataVerticleMetrics reportTimingMetric;
 
+    @VisibleForTesting
+    final DataVerticleMetrics reportCacheMetrics;
+
     ConfiguredDataVerticleMetrics(DataVerticleMetrics reportNumberOfRequests,
             DataVerticleMetrics reportActiveRequestsGauge, DataVerticleMetrics reportStatusCounter,
-            DataVerticleMetrics reportTimingMetric) {
+            DataVerticleMetrics reportTimingMetric, DataVerticleMetrics reportCacheMetrics) {
         this.reportNumberOfRequests = reportNumberOfRequests;
         this.reportActiveRequestsGauge = reportActiveRequestsGauge;
         this.reportStatusCounter = reportStatusCounter;
         this.reportTimingMetric = reportTimingMetric;
+        this.reportCacheMetrics = reportCacheMetrics;
     }
 
     /**
@@ -89,8 +99,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      * registry associated with the registry in the micrometer options.
      *
      * If you specify any of the configuration values "reportNumberOfRequests", "reportActiveRequests",
-     * "reportStatusCounter", "reportTiming", only the values configured as true will be reported. If you do not specify
-     * any of these values, all metrics are reported.
+     * "reportStatusCounter", "reportTiming", "reportCache", only the values configured as true will be reported. If you
+     * do not specify any of these values, all metrics are reported.
      *
      * Full example:
      *
@@ -102,7 +112,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      *     "reportNumberOfRequests" : true,
      *     "reportActiveRequests" : true
      *     "reportStatusCounter" : true,
-     *     "reportTiming" : true
+     *     "reportTiming" : true,
+     *     "reportCache" : true
      * }
      * }
      * </pre>
@@ -142,7 +153,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
                     Boolean.TRUE.equals(metricsConfig.getBoolean(NUMBER_OF_REQUESTS)) ? metricsImpl : DUMMY_IMPL,
                     Boolean.TRUE.equals(metricsConfig.getBoolean(ACTIVE_REQUESTS)) ? metricsImpl : DUMMY_IMPL,
                     Boolean.TRUE.equals(metricsConfig.getBoolean(STATUS_COUNTER)) ? metricsImpl : DUMMY_IMPL,
-                    Boolean.TRUE.equals(metricsConfig.getBoolean(TIMING)) ? metricsImpl : DUMMY_IMPL);
+                    Boolean.TRUE.equals(metricsConfig.getBoolean(TIMING)) ? metricsImpl : DUMMY_IMPL,
+                    Boolean.TRUE.equals(metricsConfig.getBoolean(CACHE)) ? metricsImpl : DUMMY_IMPL);
         }
     }
 
@@ -165,4 +177,9 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
         reportTimingMetric.reportTimingMetric(name, description, tags, future);
     }
+
+    @Override
+    public void reportCacheMetrics(String name, Cache<?, ?> cache, Iterable<Tag> tags) {
+        reportCacheMetrics.reportCacheMetrics(name, cache, tags);
+    }
 }
@@ -2,6 +2,8 @@ package io.neonbee.data.internal.metrics;
 
 import java.util.List;
 
+import com.google.common.cache.Cache;
+
 import io.micrometer.core.instrument.Tag;
 import io.vertx.core.Future;
 
@@ -47,4 +49,13 @@ public interface DataVerticleMetrics {
      * @param future      the future to measure
      */
     void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future);
+
+    /**
+     * Reports cache metrics, such as the number of hits, misses and evictions of a cache.
+     *
+     * @param name  the name of the cache
+     * @param cache the cache to monitor
+     * @param tags  dimensions of a meter used to classify the metric
+     */
+    void reportCacheMetrics(String name, Cache<?, ?> cache, Iterable<Tag> tags);
 }
@@ -6,6 +6,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 
+import com.google.common.cache.Cache;
 import com.google.common.collect.Iterables;
 
 import io.micrometer.core.instrument.Counter;
@@ -15,6 +16,7 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.vertx.core.Future;
 
 public class DataVerticleMetricsImpl implements DataVerticleMetrics {
@@ -75,4 +77,9 @@ public class DataVerticleMetricsImpl implements DataVerticleMetrics {
         timer.record(time, TimeUnit.NANOSECONDS);
     }
 
+    @Override
+    public void reportCacheMetrics(String name, Cache<?, ?> cache, Iterable<Tag> tags) {
+        GuavaCacheMetrics.monitor(registry, cache, name, tags);
+    }
+
 }
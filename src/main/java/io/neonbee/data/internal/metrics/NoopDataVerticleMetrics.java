@@ -2,6 +2,8 @@ package io.neonbee.data.internal.metrics;
 
 import java.util.List;
 
+import com.google.common.cache.Cache;
+
 import io.micrometer.core.instrument.Tag;
 import io.vertx.core.Future;
 
@@ -31,4 +33,9 @@ public class NoopDataVerticleMetrics implements DataVerticleMetrics {
     public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
         // This method is intentionally empty.
     }
+
+    @Override
+    public void reportCacheMetrics(String name, Cache<?, ?> cache, Iterable<Tag> tags) {
+        // This method is intentionally empty.
+    }
 }
@@ -45,6 +45,30 @@ public class ODataV4Endpoint implements Endpoint {
      */
     public static final String CONFIG_URI_CONVERSION = "uriConversion";
 
+    /**
+     * The key to configure the maximum number of parts of a $batch request processed concurrently. A value of 0 or less
+     * does not limit the number of parts processed concurrently.
+     */
+    public static final String CONFIG_BATCH_PARALLELISM = "batchParallelism";
+
+    /**
+     * The default maximum number of parts of a $batch request processed concurrently. By default all parts of a $batch
+     * request are processed concurrently.
+     */
+    public static final int DEFAULT_BATCH_PARALLELISM = 0;
+
+    /**
+     * The key to configure the maximum number of entities returned for an entity collection, before the response is
+     * paged and a next link is returned. The default of 0 disables server-side paging.
+     */
+    public static final String CONFIG_MAX_PAGE_SIZE = "maxPageSize";
+
+    /**
+     * The key to configure the maximum page size per entity set (as an object of full qualified entity set names to
+     * page sizes), overriding the {@link #CONFIG_MAX_PAGE_SIZE}.
+     */
+    public static final String CONFIG_MAX_PAGE_SIZES = "maxPageSizes";
+
     /**
      * The default path the OData V4 endpoint is exposed by NeonBee.
      */
@@ -190,7 +214,7 @@ public class ODataV4Endpoint implements Endpoint {
         vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
             // do not refresh the router if it wasn't even initialized
             if (initialized.get()) {
-                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models);
+                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, config, models);
             }
         });
 
@@ -204,7 +228,7 @@ public class ODataV4Endpoint implements Endpoint {
                 routingContext -> new SharedDataAccessor(vertx, ODataV4Endpoint.class).getLocalLock(asyncLock ->
                 // immediately initialize the router, this will also "arm" the event bus listener
                 (!initialized.getAndSet(true)
-                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models)
+                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, config, models)
                         : succeededFuture()).onComplete(handler -> {
                             // wait for the refresh to finish (the result doesn't matter), remove the initial route, as
                             // this will redirect all requests to the registered service endpoint handlers (if non have
@@ -227,7 +251,8 @@ public class ODataV4Endpoint implements Endpoint {
     }
 
     private static Future<Void> refreshRouter(Vertx vertx, Router router, String basePath, UriConversion uriConversion,
-            RegexBlockList exposedEntities, AtomicReference<Map<String, EntityModel>> currentModels) {
+            RegexBlockList exposedEntities, JsonObject config,
+            AtomicReference<Map<String, EntityModel>> currentModels) {
         return NeonBee.get(vertx).getModelManager().getSharedModels().compose(models -> {
             if (models == currentModels.get()) {
                 return succeededFuture(); // no update needed
@@ -267,7 +292,7 @@ public class ODataV4Endpoint implements Endpoint {
                                     routingContext.next();
                                 })
                                 // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
-                                .handler(new OlingoEndpointHandler(edmxModel));
+                                .handler(new OlingoEndpointHandler(edmxModel, config));
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
                                     schemaNamespace, basePath, uriPath,
@@ -1,21 +1,30 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_BATCH_PARALLELISM;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_MAX_PAGE_SIZE;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_MAX_PAGE_SIZES;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.DEFAULT_BATCH_PARALLELISM;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.normalizeUri;
-import static io.neonbee.internal.helper.BufferHelper.inputStreamToBuffer;
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static io.neonbee.internal.helper.AsyncHelper.executeBlocking;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.AMBIGUOUS_XHTTP_METHOD;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.HTTP_METHOD_NOT_ALLOWED;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.INVALID_HTTP_METHOD;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
-import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataHandler;
 import org.apache.olingo.server.api.ODataLibraryException;
@@ -32,24 +41,60 @@ import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollecti
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.PrimitiveProcessor;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public final class OlingoEndpointHandler implements Handler<RoutingContext> {
+    /**
+     * The size of the chunks the OData response content is written to the HTTP response with.
+     */
+    @VisibleForTesting
+    static final int RESPONSE_CHUNK_SIZE = 64 * 1024;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final String METADATA_PATH = "/$metadata";
+
     private final ServiceMetadata serviceMetadata;
 
+    private final String schemaNamespace;
+
+    private final int batchParallelism;
+
+    private final JsonObject maxPageSizes;
+
+    private final int defaultMaxPageSize;
+
     /**
      * Returns the OlingoEndpointHandler.
      *
      * @param serviceMetadata The metadata of the service
      */
     public OlingoEndpointHandler(ServiceMetadata serviceMetadata) {
+        this(serviceMetadata, new JsonObject());
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler.
+     *
+     * @param serviceMetadata The metadata of the service
+     * @param config          The configuration of the OData V4 endpoint
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, JsonObject config) {
         this.serviceMetadata = serviceMetadata;
+        this.schemaNamespace = serviceMetadata.getEdm().getEntityContainer().getNamespace();
+        this.batchParallelism = config.getInteger(CONFIG_BATCH_PARALLELISM, DEFAULT_BATCH_PARALLELISM);
+        this.defaultMaxPageSize = config.getInteger(CONFIG_MAX_PAGE_SIZE, 0);
+        this.maxPageSizes = Optional.ofNullable(config.getJsonObject(CONFIG_MAX_PAGE_SIZES)).orElseGet(JsonObject::new);
     }
 
     @Override
@@ -58,29 +103,22 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         // done, in case Olingo handles the request synchronously, the processPromise will be completed here
         Vertx vertx = routingContext.vertx();
         Promise<Void> processPromise = Promise.promise();
-        vertx.<ODataResponse>executeBlocking(blockingPromise -> {
-            OData odata = OData.newInstance();
-            ODataHandler odataHandler = odata.createRawHandler(serviceMetadata);
 
-            // add further built-in processors for NeonBee here (every processor must handle the processPromise)
-            odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
+        ODataRequest odataRequest;
+        try {
+            odataRequest = mapToODataRequest(routingContext, schemaNamespace);
+        } catch (ODataLibraryException e) {
+            routingContext.fail(getStatusCode(e), e);
+            return;
+        }
 
-            try {
-                ODataResponse odataResponse = odataHandler.process(mapToODataRequest(routingContext,
-                        serviceMetadata.getEdm().getEntityContainer().getNamespace()));
-                // check for synchronous processing, complete the processPromise in case a response body is set
-                if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code())
-                        || (odataResponse.getContent() != null) || (odataResponse.getODataContent() != null)) {
-                    processPromise.tryComplete();
-                }
-                blockingPromise.complete(odataResponse);
-            } catch (ODataLibraryException e) {
-                blockingPromise.fail(e);
-            }
-        }, asyncODataResponse -> {
+        // all NeonBee processors are non-blocking, they only dispatch the request and process the response on the
+        // event loop. Only the metadata document is serialized synchronously by Olingo and could become large, so keep
+        // on handling metadata requests on a worker thread.
+        Future<ODataResponse> odataResponseFuture = METADATA_PATH.equals(odataRequest.getRawODataPath())
+                ? executeBlocking(vertx, () -> process(vertx, routingContext, processPromise, odataRequest))
+                : process(routingContext, processPromise, odataRequest);
+        odataResponseFuture.onComplete(asyncODataResponse -> {
             // failed to map / process OData request, so fail the web request
             if (asyncODataResponse.failed()) {
                 Throwable cause = asyncODataResponse.cause();
@@ -109,6 +147,41 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         });
     }
 
+    private Future<ODataResponse> process(RoutingContext routingContext, Promise<Void> processPromise,
+            ODataRequest odataRequest) {
+        try {
+            return succeededFuture(process(routingContext.vertx(), routingContext, processPromise, odataRequest));
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    private ODataResponse process(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            ODataRequest odataRequest) {
+        // the processors hold the state of the request they process, thus the (lightweight) handler is created per
+        // request, while the OData instance is buffered per thread, instead of creating a new instance every time
+        ODataHandler odataHandler = getBufferedOData().createRawHandler(serviceMetadata);
+
+        // add further built-in processors for NeonBee here (every processor must handle the processPromise)
+        odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise,
+                this::getMaxPageSize));
+        odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
+        odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise, batchParallelism));
+        odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
+
+        ODataResponse odataResponse = odataHandler.process(odataRequest);
+        // check for synchronous processing, complete the processPromise in case a response body is set
+        if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code()) || (odataResponse.getContent() != null)
+                || (odataResponse.getODataContent() != null)) {
+            processPromise.tryComplete();
+        }
+        return odataResponse;
+    }
+
+    private int getMaxPageSize(EdmEntitySet entitySet) {
+        return maxPageSizes.getInteger(schemaNamespace + '.' + entitySet.getName(), defaultMaxPageSize);
+    }
+
     private static int getStatusCode(Throwable throwable) {
         return throwable instanceof ODataApplicationException ? ((ODataApplicationException) throwable).getStatusCode()
                 : -1;
@@ -205,6 +278,11 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
 
     /**
      * Maps a ODataResponse to a existing Vert.x HttpServerResponse.
+     * <p>
+     * The content of the ODataResponse is streamed to the HttpServerResponse in chunks of {@link #RESPONSE_CHUNK_SIZE}
+     * bytes, so that the payload does not have to be copied into one large buffer first. Responses which fit into a
+     * single chunk are ended with this chunk directly, all larger responses are written with chunked transfer encoding
+     * (unless a Content-Length header was set).
      *
      * @param odataResponse The ODataResponse to map
      * @param response      The HttpServerResponse to map to
@@ -221,13 +299,107 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         }
         // OData response content
         if (odataResponse.getContent() != null) {
-            response.end(inputStreamToBuffer(odataResponse.getContent()));
+            streamContent(odataResponse.getContent(), response, true);
         } else if (odataResponse.getODataContent() != null) {
-            ByteArrayOutputStream byteArrayOutput = new ByteArrayOutputStream();
-            odataResponse.getODataContent().write(byteArrayOutput);
-            response.end(Buffer.buffer(byteArrayOutput.toByteArray()));
+            try (OutputStream output = new ResponseOutputStream(response)) {
+                odataResponse.getODataContent().write(output);
+            }
         } else {
             response.end(); // no content (e.g. for update / delete requests)
         }
     }
+
+    /**
+     * Writes the content to the response chunk by chunk, until the write queue of the response is full. In this case
+     * streaming continues as soon as the response was drained.
+     */
+    private static void streamContent(InputStream content, HttpServerResponse response, boolean firstChunk)
+            throws IOException {
+        while (!response.writeQueueFull()) {
+            byte[] chunk = content.readNBytes(RESPONSE_CHUNK_SIZE);
+            if (chunk.length < RESPONSE_CHUNK_SIZE) {
+                content.close();
+                response.end(Buffer.buffer(chunk));
+                return;
+            }
+
+            if (firstChunk) {
+                prepareChunkedResponse(response);
+            }
+            response.write(Buffer.buffer(chunk));
+            firstChunk = false;
+        }
+
+        response.drainHandler(nothing -> {
+            try {
+                streamContent(content, response, false);
+            } catch (IOException e) {
+                // the status code was already sent, thus the only option is to abort the response
+                LOGGER.error("Failed to stream the OData response content", e);
+                response.reset();
+            }
+        });
+    }
+
+    private static void prepareChunkedResponse(HttpServerResponse response) {
+        if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+            response.setChunked(true);
+        }
+    }
+
+    /**
+     * An {@link OutputStream} writing to a HttpServerResponse in chunks of {@link #RESPONSE_CHUNK_SIZE} bytes. As the
+     * content is pushed to the stream synchronously, the stream cannot wait for the response to be drained.
+     */
+    private static class ResponseOutputStream extends OutputStream {
+        private final HttpServerResponse response;
+
+        private Buffer chunk = Buffer.buffer(RESPONSE_CHUNK_SIZE);
+
+        private boolean chunked;
+
+        ResponseOutputStream(HttpServerResponse response) {
+            super();
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) {
+            chunk.appendByte((byte) b);
+            writeChunkIfFull();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                int length = Math.min(remaining, RESPONSE_CHUNK_SIZE - chunk.length());
+                chunk.appendBytes(b, offset, length);
+                offset += length;
+                remaining -= length;
+                writeChunkIfFull();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (chunked && chunk.length() == 0) {
+                response.end();
+            } else {
+                response.end(chunk);
+            }
+        }
+
+        private void writeChunkIfFull() {
+            if (chunk.length() >= RESPONSE_CHUNK_SIZE) {
+                if (!chunked) {
+                    prepareChunkedResponse(response);
+                    chunked = true;
+                }
+                response.write(chunk);
+                chunk = Buffer.buffer(RESPONSE_CHUNK_SIZE);
+            }
+        }
+    }
 }
@@ -0,0 +1,741 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BOOLEAN;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BYTE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_DATE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_DATE_TIME_OFFSET;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_DECIMAL;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_DOUBLE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT16;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT32;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT64;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_NULL;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_SBYTE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_SINGLE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_STRING;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_TIME_OF_DAY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A $filter expression, which was compiled once into a tree of evaluation nodes, so that it can be evaluated against
+ * any number of entities, without walking the Olingo expression tree again for every single entity.
+ * <p>
+ * Every node has a type, which is known after compilation, and evaluates to a typed Java value: a {@link BigInteger}
+ * for all integer types, a {@link BigDecimal} for all decimal types, an {@link Instant} for dates and date times, a
+ * {@link Boolean} or a {@link String}. The operators and method calls work on these values directly. Literals are
+ * parsed and typed once during compilation, member properties are resolved once and only their values are read and
+ * typed per entity, and the common type of the operands of a comparison is determined once during compilation, too.
+ * Operators or method calls which are not supported fail with a 501 (Not Implemented) when being evaluated.
+ */
+public final class CompiledFilterExpression implements Predicate<Entity> {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final long ONE_SECOND_AS_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final EdmType[] INTEGER_TYPES =
+            { PRIMITIVE_BYTE, PRIMITIVE_SBYTE, PRIMITIVE_INT16, PRIMITIVE_INT32, PRIMITIVE_INT64 };
+
+    private static final EdmType[] DECIMAL_TYPES = { PRIMITIVE_SINGLE, PRIMITIVE_DOUBLE, PRIMITIVE_DECIMAL };
+
+    /**
+     * The types the operands of a comparison are converted to, if they have different types, in order of precedence.
+     */
+    private static final EdmType[] NUMERIC_TYPE_PRECEDENCE = { PRIMITIVE_DOUBLE, PRIMITIVE_SINGLE, PRIMITIVE_DECIMAL,
+            PRIMITIVE_INT64, PRIMITIVE_INT32, PRIMITIVE_INT16 };
+
+    private static final EntityComparison DATE_TIME_CONVERTER = new EntityComparison() {};
+
+    private final Node root;
+
+    private CompiledFilterExpression(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given filter expression.
+     *
+     * @param routingContext the current routingContext
+     * @param expression     the filter expression to compile
+     * @return a compiled filter expression, which can be evaluated against multiple entities
+     * @throws ODataApplicationException if the expression cannot be compiled
+     * @throws ExpressionVisitException  if the expression cannot be visited
+     */
+    public static CompiledFilterExpression compile(RoutingContext routingContext, Expression expression)
+            throws ODataApplicationException, ExpressionVisitException {
+        return new CompiledFilterExpression(expression.accept(new Compiler(routingContext)));
+    }
+
+    /**
+     * Evaluates the compiled filter expression against the given entity.
+     *
+     * @param entity the entity to evaluate the expression for
+     * @return true if the expression evaluates to true for the given entity
+     * @throws ODataApplicationException if the evaluation of the expression fails
+     */
+    public boolean matches(Entity entity) throws ODataApplicationException {
+        return Boolean.TRUE.equals(root.evaluate(entity));
+    }
+
+    /**
+     * Evaluates the compiled filter expression against the given entity. In contrast to {@link #matches(Entity)} any
+     * {@link ODataApplicationException} is wrapped into an {@link IllegalStateException}.
+     *
+     * @param entity the entity to evaluate the expression for
+     * @return true if the expression evaluates to true for the given entity
+     */
+    @Override
+    public boolean test(Entity entity) {
+        try {
+            return matches(entity);
+        } catch (ODataApplicationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean is(EdmType type, EdmType... types) {
+        for (EdmType candidate : types) {
+            if (candidate.equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private abstract static class Node {
+        /**
+         * The type of the values this node evaluates to, or null in case the type is unknown.
+         */
+        final EdmType type;
+
+        Node(EdmType type) {
+            this.type = type;
+        }
+
+        /**
+         * @return the typed value of this node for the given entity, or null
+         */
+        abstract Object evaluate(Entity entity) throws ODataApplicationException;
+
+        boolean is(EdmType... types) {
+            return CompiledFilterExpression.is(type, types);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StringFunction {
+        Object apply(String first, String second);
+    }
+
+    @FunctionalInterface
+    private interface DateFunction {
+        Object apply(Instant instant, Object value);
+    }
+
+    private static final class Compiler implements ExpressionVisitor<Node> {
+        private final RoutingContext routingContext;
+
+        Compiler(RoutingContext routingContext) {
+            this.routingContext = routingContext;
+        }
+
+        @Override
+        public Node visitBinaryOperator(BinaryOperatorKind operator, Node left, List<Node> right) {
+            if (BinaryOperatorKind.IN.equals(operator)) {
+                return new InNode(left, right);
+            }
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitBinaryOperator(BinaryOperatorKind operator, Node left, Node right) {
+            switch (operator) {
+            case AND:
+                return new AndNode(left, right);
+            case OR:
+                return new OrNode(left, right);
+            case EQ:
+                return new ComparisonNode(left, right, result -> result == 0, false);
+            case NE:
+                return new ComparisonNode(left, right, result -> result == 0, true);
+            case GE:
+                return new ComparisonNode(left, right, result -> result >= 0, false);
+            case GT:
+                return new ComparisonNode(left, right, result -> result > 0, false);
+            case LE:
+                return new ComparisonNode(left, right, result -> result <= 0, false);
+            case LT:
+                return new ComparisonNode(left, right, result -> result < 0, false);
+            case IN:
+                return new InNode(left, List.of(right));
+            default:
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.correlateWith(routingContext).debug("Operator '{}' is not yet implemented.", operator);
+                }
+                return new NotImplementedNode();
+            }
+        }
+
+        @Override
+        public Node visitLiteral(Literal literal) {
+            String literalText = EdmHelper.extractValueFromLiteral(literal.getText());
+            EdmType literalType = literal.getType();
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.correlateWith(routingContext).trace("literal type: {}, literal text: {}", literalType,
+                        literalText);
+            }
+            return new LiteralNode(literalText, literalType);
+        }
+
+        @Override
+        public Node visitUnaryOperator(UnaryOperatorKind operator, Node operand) {
+            if (UnaryOperatorKind.NOT.equals(operator)) {
+                return new NotNode(operand);
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.correlateWith(routingContext).debug("Unary Operator '{}' is not yet implemented.", operator);
+            }
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitMember(Member member) {
+            List<UriResource> uriResourceParts = member.getResourcePath().getUriResourceParts();
+            UriResource initialPart = uriResourceParts.get(0);
+            if (initialPart instanceof UriResourceProperty) {
+                return new MemberNode(
+                        Optional.ofNullable(((UriResourceProperty) initialPart).getProperty()).orElseThrow());
+            }
+            return new NotImplementedNode();
+        }
+
+        @Override
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        public Node visitMethodCall(MethodKind methodCall, List<Node> parameters) {
+            switch (methodCall) {
+            case ENDSWITH:
+                return new StringFunctionNode(parameters, String::endsWith, PRIMITIVE_BOOLEAN, null);
+            case INDEXOF:
+                return new StringFunctionNode(parameters, (value, search) -> BigInteger.valueOf(value.indexOf(search)),
+                        PRIMITIVE_INT32, null);
+            case STARTSWITH:
+                return new StringFunctionNode(parameters, String::startsWith, PRIMITIVE_BOOLEAN, null);
+            case TOLOWER:
+                return new StringFunctionNode(parameters, (value, unused) -> value.toLowerCase(Locale.ENGLISH),
+                        PRIMITIVE_STRING, null);
+            case TOUPPER:
+                return new StringFunctionNode(parameters, (value, unused) -> value.toUpperCase(Locale.ENGLISH),
+                        PRIMITIVE_STRING, null);
+            case TRIM:
+                return new StringFunctionNode(parameters, (value, unused) -> value.trim(), PRIMITIVE_STRING, null);
+            case SUBSTRING:
+                return new SubstringNode(parameters);
+            case CONTAINS:
+                return new StringFunctionNode(parameters, String::contains, PRIMITIVE_BOOLEAN, Boolean.FALSE);
+            case CONCAT:
+                return new StringFunctionNode(parameters, String::concat, PRIMITIVE_STRING, null);
+            case LENGTH:
+                return new StringFunctionNode(parameters, (value, unused) -> BigInteger.valueOf(value.length()),
+                        PRIMITIVE_INT32, null);
+            case YEAR:
+                return dateField(parameters, ChronoField.YEAR, PRIMITIVE_DATE_TIME_OFFSET, PRIMITIVE_DATE);
+            case MONTH:
+                return dateField(parameters, ChronoField.MONTH_OF_YEAR, PRIMITIVE_DATE_TIME_OFFSET, PRIMITIVE_DATE);
+            case DAY:
+                return dateField(parameters, ChronoField.DAY_OF_MONTH, PRIMITIVE_DATE_TIME_OFFSET, PRIMITIVE_DATE);
+            case HOUR:
+                return dateField(parameters, ChronoField.HOUR_OF_DAY, PRIMITIVE_DATE_TIME_OFFSET,
+                        PRIMITIVE_TIME_OF_DAY);
+            case MINUTE:
+                return dateField(parameters, ChronoField.MINUTE_OF_HOUR, PRIMITIVE_DATE_TIME_OFFSET,
+                        PRIMITIVE_TIME_OF_DAY);
+            case SECOND:
+                return dateField(parameters, ChronoField.SECOND_OF_MINUTE, PRIMITIVE_DATE_TIME_OFFSET,
+                        PRIMITIVE_TIME_OF_DAY);
+            case FRACTIONALSECONDS:
+                return new DateFunctionNode(parameters, Compiler::fractionalSeconds, PRIMITIVE_DECIMAL,
+                        PRIMITIVE_DATE_TIME_OFFSET, PRIMITIVE_TIME_OF_DAY);
+            default:
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.correlateWith(routingContext).debug("Method Call '{}' is not yet implemented.", methodCall);
+                }
+                return new NotImplementedNode();
+            }
+        }
+
+        @Override
+        public Node visitTypeLiteral(EdmType type) {
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitAlias(String aliasName) {
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitEnum(EdmEnumType type, List<String> enumValues) {
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitLambdaExpression(String lambdaFunction, String lambdaVariable, Expression expression) {
+            return new NotImplementedNode();
+        }
+
+        @Override
+        public Node visitLambdaReference(String variableName) {
+            return new NotImplementedNode();
+        }
+
+        private Node dateField(List<Node> parameters, ChronoField field, EdmType... expectedTypes) {
+            return new DateFunctionNode(parameters,
+                    (instant, value) -> BigInteger.valueOf(instant.atZone(ZoneId.systemDefault()).get(field)),
+                    PRIMITIVE_INT32, expectedTypes);
+        }
+
+        @SuppressWarnings("JavaInstantGetSecondsGetNano")
+        private static Object fractionalSeconds(Instant instant, Object value) {
+            int nanos = value instanceof Timestamp ? ((Timestamp) value).getNanos() : instant.getNano();
+            return new BigDecimal(nanos).divide(BigDecimal.valueOf(ONE_SECOND_AS_NANOS));
+        }
+
+        /**
+         * Converts the given value into the typed Java value of the given type. Values of the most common types are
+         * converted directly, all others are typed by {@link ExpressionVisitorOperand#setType()}.
+         */
+        private Object typed(Object value, EdmType type, EdmProperty edmProperty) throws ODataApplicationException {
+            if (value == null) {
+                return null;
+            } else if (CompiledFilterExpression.is(type, INTEGER_TYPES)) {
+                return toBigInteger(value, type);
+            } else if (CompiledFilterExpression.is(type, DECIMAL_TYPES)) {
+                return toBigDecimal(value, type);
+            } else if (PRIMITIVE_DATE.equals(type) || PRIMITIVE_DATE_TIME_OFFSET.equals(type)) {
+                return DATE_TIME_CONVERTER.dateTimeObjectToInstant(routingContext, value);
+            } else if ((PRIMITIVE_STRING.equals(type) && (value instanceof String))
+                    || (PRIMITIVE_BOOLEAN.equals(type) && (value instanceof Boolean))) {
+                return value;
+            }
+            return new ExpressionVisitorOperand(routingContext, value, type, edmProperty).setType().getValue();
+        }
+
+        private BigInteger toBigInteger(Object value, EdmType type) throws ODataApplicationException {
+            if (value instanceof BigInteger) {
+                return (BigInteger) value;
+            } else if ((value instanceof Byte) || (value instanceof Short) || (value instanceof Integer)
+                    || (value instanceof Long)) {
+                return BigInteger.valueOf(((Number) value).longValue());
+            } else if (value instanceof String) {
+                try {
+                    return new BigInteger((String) value);
+                } catch (NumberFormatException e) {
+                    throw castFailed(value, type, e);
+                }
+            }
+            throw castFailed(value, type, null);
+        }
+
+        private BigDecimal toBigDecimal(Object value, EdmType type) throws ODataApplicationException {
+            if (value instanceof BigDecimal) {
+                return (BigDecimal) value;
+            }
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                throw castFailed(value, type, e);
+            }
+        }
+
+        private ODataApplicationException castFailed(Object value, EdmType type, Exception cause) {
+            String message = "Cast of value with type" + value.getClass() + " to type " + type + " failed.";
+            LOGGER.correlateWith(routingContext).error(message);
+            return new ODataApplicationException(message, HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(),
+                    Locale.ENGLISH, cause);
+        }
+
+        private ODataApplicationException badRequest(String message) {
+            LOGGER.correlateWith(routingContext).error(message);
+            return new ODataApplicationException(message, HttpStatusCode.BAD_REQUEST.getStatusCode(), Locale.ENGLISH);
+        }
+
+        private final class LiteralNode extends Node {
+            private final Object value;
+
+            private final ODataApplicationException exception;
+
+            LiteralNode(String literalText, EdmType literalType) {
+                super(literalType);
+                Object typedValue = null;
+                ODataApplicationException typingException = null;
+                try {
+                    typedValue = typed(literalText, literalType, null);
+                } catch (ODataApplicationException e) {
+                    // literals which cannot be typed only fail when being evaluated, same as any unsupported operator
+                    typingException = e;
+                }
+                this.value = typedValue;
+                this.exception = typingException;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                if (exception != null) {
+                    throw exception;
+                }
+                return value;
+            }
+        }
+
+        private final class MemberNode extends Node {
+            private final EdmProperty edmProperty;
+
+            private final String propertyName;
+
+            MemberNode(EdmProperty edmProperty) {
+                super(edmProperty.getType());
+                this.edmProperty = edmProperty;
+                this.propertyName = edmProperty.getName();
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Property property = Optional.ofNullable(entity.getProperty(propertyName)).orElseThrow();
+                if (property.isPrimitive()) {
+                    return typed(property.getValue(), type, edmProperty);
+                }
+                return throwNotImplementedODataException();
+            }
+        }
+
+        private final class NotImplementedNode extends Node {
+            NotImplementedNode() {
+                super(null);
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                // unsupported expressions only fail when being evaluated, not already when being compiled
+                return throwNotImplementedODataException();
+            }
+        }
+
+        private final class AndNode extends Node {
+            private final Node left;
+
+            private final Node right;
+
+            AndNode(Node left, Node right) {
+                super(PRIMITIVE_BOOLEAN);
+                this.left = left;
+                this.right = right;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object leftValue = left.evaluate(entity);
+                Object rightValue = right.evaluate(entity);
+                if (!left.is(PRIMITIVE_BOOLEAN) || !right.is(PRIMITIVE_BOOLEAN)) {
+                    throw badRequest("And operator needs two binary operands");
+                }
+
+                if (Boolean.TRUE.equals(leftValue) && Boolean.TRUE.equals(rightValue)) {
+                    return Boolean.TRUE;
+                } else if (Boolean.FALSE.equals(leftValue) || Boolean.FALSE.equals(rightValue)) {
+                    return Boolean.FALSE;
+                }
+                return null;
+            }
+        }
+
+        private final class OrNode extends Node {
+            private final Node left;
+
+            private final Node right;
+
+            OrNode(Node left, Node right) {
+                super(PRIMITIVE_BOOLEAN);
+                this.left = left;
+                this.right = right;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object leftValue = left.evaluate(entity);
+                Object rightValue = right.evaluate(entity);
+                if (!left.is(PRIMITIVE_BOOLEAN) || !right.is(PRIMITIVE_BOOLEAN)) {
+                    throw badRequest("Or operator needs two binary operands");
+                }
+
+                if (Boolean.TRUE.equals(leftValue) || Boolean.TRUE.equals(rightValue)) {
+                    return Boolean.TRUE;
+                } else if (Boolean.FALSE.equals(leftValue) && Boolean.FALSE.equals(rightValue)) {
+                    return Boolean.FALSE;
+                }
+                return null;
+            }
+        }
+
+        private final class NotNode extends Node {
+            private final Node operand;
+
+            NotNode(Node operand) {
+                super(operand.type);
+                this.operand = operand;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object value = operand.evaluate(entity);
+                if (value == null) {
+                    return null;
+                } else if (is(PRIMITIVE_BOOLEAN)) {
+                    return !(Boolean) value;
+                }
+                throw badRequest("Unsupported type: " + type);
+            }
+        }
+
+        private final class ComparisonNode extends Node {
+            private final Node left;
+
+            private final Node right;
+
+            private final EdmType leftType;
+
+            private final EdmType rightType;
+
+            private final IntPredicate expected;
+
+            private final boolean negated;
+
+            ComparisonNode(Node left, Node right, IntPredicate expected, boolean negated) {
+                super(PRIMITIVE_BOOLEAN);
+                this.left = left;
+                this.right = right;
+                this.leftType = commonType(left.type, right.type);
+                this.rightType = commonType(right.type, left.type);
+                this.expected = expected;
+                this.negated = negated;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object leftValue = convert(left.evaluate(entity), left.type, leftType);
+                Object rightValue = convert(right.evaluate(entity), right.type, rightType);
+
+                // a null value is only equal to another null value, but neither greater nor less than any value
+                boolean result = ((leftValue == null) == (rightValue == null))
+                        && expected.test(leftValue == null ? 0 : compare(leftValue, rightValue));
+                return negated ^ result;
+            }
+
+            @SuppressWarnings("unchecked")
+            private int compare(Object leftValue, Object rightValue) {
+                if (CompiledFilterExpression.is(leftType, INTEGER_TYPES)) {
+                    return ((BigInteger) leftValue).compareTo((BigInteger) rightValue);
+                } else if (CompiledFilterExpression.is(leftType, DECIMAL_TYPES)) {
+                    return ((BigDecimal) leftValue).compareTo((BigDecimal) rightValue);
+                } else if ((leftValue.getClass() == rightValue.getClass()) && (leftValue instanceof Comparable<?>)) {
+                    return ((Comparable<Object>) leftValue).compareTo(rightValue);
+                }
+                return leftValue.equals(rightValue) ? 0 : 1;
+            }
+
+            private Object convert(Object value, EdmType type, EdmType targetType) throws ODataApplicationException {
+                return Objects.equals(type, targetType) ? value : typed(value, targetType, null);
+            }
+
+            /**
+             * Determines the type an operand has to be converted to, in order to be compared with the other operand.
+             */
+            private EdmType commonType(EdmType type, EdmType otherType) {
+                if (Objects.equals(type, otherType) || PRIMITIVE_NULL.equals(type)
+                        || PRIMITIVE_NULL.equals(otherType)) {
+                    return type;
+                }
+                for (EdmType numericType : NUMERIC_TYPE_PRECEDENCE) {
+                    if (numericType.equals(type) || numericType.equals(otherType)) {
+                        return numericType;
+                    }
+                }
+                return type;
+            }
+        }
+
+        private final class InNode extends Node {
+            private final Node left;
+
+            private final List<Node> right;
+
+            InNode(Node left, List<Node> right) {
+                super(PRIMITIVE_BOOLEAN);
+                this.left = left;
+                this.right = right;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object leftValue = left.evaluate(entity);
+                for (Node node : right) {
+                    Object rightValue;
+                    try {
+                        rightValue = node.evaluate(entity);
+                    } catch (ODataApplicationException e) {
+                        LOGGER.correlateWith(routingContext).error("Can't set type of operand", e);
+                        continue;
+                    }
+                    if ((leftValue != null) && leftValue.equals(rightValue)) {
+                        return Boolean.TRUE;
+                    }
+                }
+                return Boolean.FALSE;
+            }
+        }
+
+        private final class StringFunctionNode extends Node {
+            private final Node first;
+
+            private final Node second;
+
+            private final StringFunction function;
+
+            private final Object nullParameterValue;
+
+            StringFunctionNode(List<Node> parameters, StringFunction function, EdmType returnType,
+                    Object nullParameterValue) {
+                super(returnType);
+                this.first = parameters.get(0);
+                this.second = parameters.size() > 1 ? parameters.get(1) : null;
+                this.function = function;
+                this.nullParameterValue = nullParameterValue;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                String firstValue = stringValue(first, entity);
+                String secondValue = second != null ? stringValue(second, entity) : null;
+                if ((firstValue == null) || ((second != null) && (secondValue == null))) {
+                    return nullParameterValue;
+                }
+                return function.apply(firstValue, secondValue);
+            }
+
+            private String stringValue(Node parameter, Entity entity) throws ODataApplicationException {
+                Object value = parameter.evaluate(entity);
+                if ((value == null) || parameter.is(PRIMITIVE_STRING)) {
+                    return (String) value;
+                }
+                throw badRequest("Invalid parameter. Expected parameter of type Edm.String.");
+            }
+        }
+
+        // See https://issues.oasis-open.org/browse/ODATA-781
+        private final class SubstringNode extends Node {
+            private final Node value;
+
+            private final Node start;
+
+            private final Node length;
+
+            SubstringNode(List<Node> parameters) {
+                super(PRIMITIVE_STRING);
+                this.value = parameters.get(0);
+                this.start = parameters.get(1);
+                this.length = parameters.size() > 2 ? parameters.get(2) : null;
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object stringValue = value.evaluate(entity);
+                Object startValue = start.evaluate(entity);
+                if (!start.is(INTEGER_TYPES)) {
+                    startValue = typed(startValue, PRIMITIVE_INT32, null);
+                }
+
+                if ((stringValue == null) || (startValue == null)) {
+                    return null;
+                } else if (!value.is(PRIMITIVE_STRING)) {
+                    throw badRequest("Substring has invalid parameters. First parameter should be Edm.String,"
+                            + " second parameter should be Edm.Int32");
+                }
+
+                String string = (String) stringValue;
+                int begin = Math.max(0, Math.min(((BigInteger) startValue).intValue(), string.length()));
+                int end = string.length();
+                if (length != null) {
+                    Object lengthValue = typed(length.evaluate(entity), PRIMITIVE_INT32, null);
+                    if (lengthValue == null) {
+                        return null;
+                    }
+                    end = Math.max(0, Math.min(begin + ((BigInteger) lengthValue).intValue(), string.length()));
+                }
+                return string.substring(begin, end);
+            }
+        }
+
+        private final class DateFunctionNode extends Node {
+            private final Node operand;
+
+            private final DateFunction function;
+
+            private final boolean validOperand;
+
+            DateFunctionNode(List<Node> parameters, DateFunction function, EdmType returnType,
+                    EdmType... expectedTypes) {
+                super(returnType);
+                this.operand = parameters.get(0);
+                this.function = function;
+                this.validOperand = operand.is(expectedTypes)
+                        && operand.is(PRIMITIVE_DATE, PRIMITIVE_DATE_TIME_OFFSET, PRIMITIVE_TIME_OF_DAY);
+            }
+
+            @Override
+            Object evaluate(Entity entity) throws ODataApplicationException {
+                Object value = operand.evaluate(entity);
+                if (value == null) {
+                    return null;
+                } else if (!validOperand) {
+                    throw badRequest("Invalid type");
+                }
+                return function.apply(DATE_TIME_CONVERTER.dateTimeObjectToInstant(routingContext, value), value);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -24,4 +25,77 @@ public class EntityChainedComparator implements Comparator<Entity> {
         }
         return 0;
     }
+
+    /**
+     * Sorts the passed list of entities in place, resulting in the same order as {@code entities.sort(this)}. The sort
+     * keys of each entity are extracted only once, before sorting, instead of in every single comparison.
+     *
+     * @param entities the list of entities to sort
+     */
+    public void sort(List<Entity> entities) {
+        Object[][] sortKeys = extractSortKeys(entities);
+        if (sortKeys == null) {
+            entities.sort(this);
+            return;
+        }
+
+        Integer[] indices = new Integer[entities.size()];
+        Arrays.setAll(indices, Integer::valueOf);
+        Arrays.sort(indices, indexComparator(entities, sortKeys));
+
+        Entity[] unsortedEntities = entities.toArray(new Entity[0]);
+        for (int i = 0; i < indices.length; i++) {
+            entities.set(i, unsortedEntities[indices[i]]);
+        }
+    }
+
+    /**
+     * Returns a comparator for indices of the passed list of entities, comparing the entities at the given indices.
+     * Entities which are equal are ordered by their index, thus the order is stable. If possible, the sort keys of the
+     * entities are extracted once up front.
+     *
+     * @param entities the list of entities to compare
+     * @return a comparator of indices of the passed list
+     */
+    public Comparator<Integer> indexComparator(List<Entity> entities) {
+        return indexComparator(entities, extractSortKeys(entities));
+    }
+
+    private Comparator<Integer> indexComparator(List<Entity> entities, Object[][] sortKeys) {
+        Comparator<Integer> comparator = sortKeys != null ? (index1, index2) -> compareSortKeys(sortKeys[index1],
+                sortKeys[index2]) : (index1, index2) -> compare(entities.get(index1), entities.get(index2));
+        return comparator.thenComparing(Comparator.naturalOrder());
+    }
+
+    private int compareSortKeys(Object[] sortKeys1, Object[] sortKeys2) {
+        for (int i = 0; i < sortKeys1.length; i++) {
+            int result = entityComparators.get(i).compareSortKey(sortKeys1[i], sortKeys2[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Extracts the sort keys of all entities. In case any sort key cannot be extracted, null is returned and the
+     * entities have to be compared using {@link #compare(Entity, Entity)}, which will also report any errors.
+     */
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+    private Object[][] extractSortKeys(List<Entity> entities) {
+        Object[][] sortKeys = new Object[entities.size()][];
+        try {
+            int index = 0;
+            for (Entity entity : entities) {
+                Object[] entitySortKeys = new Object[entityComparators.size()];
+                for (int i = 0; i < entitySortKeys.length; i++) {
+                    entitySortKeys[i] = entityComparators.get(i).getSortKey(entity);
+                }
+                sortKeys[index++] = entitySortKeys;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return sortKeys;
+    }
 }
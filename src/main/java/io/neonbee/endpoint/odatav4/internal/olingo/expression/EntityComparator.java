@@ -49,4 +49,37 @@ public class EntityComparator implements Comparator<Entity>, EntityComparison {
         // If the requested sort order is 'desc' reverse the order
         return isDescending ? -compareResult : compareResult;
     }
+
+    /**
+     * Extracts the sort key of the given entity, see {@link #compareSortKey(Object, Object)}.
+     *
+     * @param entity the entity to extract the sort key from
+     * @return the sort key, or null in case the sort property value is null
+     * @throws IllegalArgumentException if no sort key can be created for the sort property value
+     */
+    Object getSortKey(Entity entity) {
+        Object value = entity.getProperty(sortPropertyName).getValue();
+        return value == null ? null : toSortKey(routingContext, value, propertyTypeKind, sortPropertyName);
+    }
+
+    /**
+     * Compares two sort keys extracted by {@link #getSortKey(Entity)}, resulting in the same order as if the entities
+     * were compared using {@link #compare(Entity, Entity)}.
+     *
+     * @param sortKey1 the first sort key
+     * @param sortKey2 the second sort key
+     * @return a negative integer, zero, or a positive integer as the first sort key is less than, equal to, or greater
+     *         than the second sort key.
+     */
+    int compareSortKey(Object sortKey1, Object sortKey2) {
+        // Sort null values last in case of 'asc' order
+        if (sortKey1 == null) {
+            return (sortKey2 == null) ? 0 : (isDescending ? -1 : 1);
+        } else if (sortKey2 == null) {
+            return isDescending ? 1 : -1;
+        }
+
+        int compareResult = compareSortKeys(sortKey1, sortKey2);
+        return isDescending ? -compareResult : compareResult;
+    }
 }
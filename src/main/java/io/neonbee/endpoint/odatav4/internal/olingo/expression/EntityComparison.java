@@ -312,6 +312,107 @@ public interface EntityComparison {
         }
     }
 
+    /**
+     * Converts a property value into a sort key, which can be compared using {@link #compareSortKeys(Object, Object)}.
+     * Comparing two sort keys results in the same order as comparing the two property values with
+     * {@link #comparePropertyValues(RoutingContext, Object, Object, EdmPrimitiveTypeKind, String)}, however all type
+     * checks and conversions are done only once per value, instead of once per comparison.
+     *
+     * @param routingContext   the routing context
+     * @param propertyValue    the property value to convert, must not be null
+     * @param propertyTypeKind the Edm primitive type kind that is taken into account during type conversion
+     * @param propertyName     the name of the property to convert
+     * @return the sort key of the property value
+     * @throws IllegalArgumentException in case the property value is not of one of the expected types of the passed
+     *                                  primitive type kind or cannot be converted
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    default Object toSortKey(RoutingContext routingContext, Object propertyValue,
+            EdmPrimitiveTypeKind propertyTypeKind, String propertyName) {
+        try {
+            switch (propertyTypeKind) {
+            case Binary:
+                if (instanceOfExpectedType(EDM_BINARY_JAVA_TYPES, propertyValue)) {
+                    return Array.getLength(propertyValue);
+                }
+                break;
+            case Int16:
+            case Int32:
+            case Int64:
+            case Byte:
+            case SByte:
+                if (propertyValue instanceof BigInteger) {
+                    return propertyValue;
+                } else if (instanceOfExpectedType(EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, propertyValue)) {
+                    // all other integer types fit into a long, which is much cheaper to compare than a BigInteger
+                    return ((Number) propertyValue).longValue();
+                }
+                break;
+            case Decimal:
+            case Duration:
+                if (instanceOfExpectedType(EDM_DECIMAL_DURATION_JAVA_TYPES, propertyValue)) {
+                    return toBigDecimal(propertyValue);
+                }
+                break;
+            case Single:
+            case Double:
+                if (instanceOfExpectedType(EDM_SINGLE_DOUBLE_JAVA_TYPES, propertyValue)) {
+                    return toBigDecimal(propertyValue);
+                }
+                break;
+            case Date:
+            case TimeOfDay:
+            case DateTimeOffset:
+                if (instanceOfExpectedType(EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES, propertyValue)) {
+                    return dateTimeObjectToLong(routingContext, propertyValue);
+                }
+                break;
+            case Boolean:
+                if (instanceOfExpectedType(EDM_BOOLEAN_JAVA_TYPES, propertyValue)) {
+                    return propertyValue;
+                }
+                break;
+            case String:
+                if (instanceOfExpectedType(EDM_STRING_JAVA_TYPES, propertyValue)) {
+                    return propertyValue;
+                }
+                break;
+            case Guid:
+                if (instanceOfExpectedType(EDM_GUID_JAVA_TYPES, propertyValue)) {
+                    return propertyValue;
+                }
+                break;
+            default:
+                break;
+            }
+        } catch (ODataApplicationException | RuntimeException e) {
+            throw new IllegalArgumentException(e);
+        }
+        throw new IllegalArgumentException("Cannot create a sort key of type " + propertyTypeKind + " for property "
+                + propertyName + " with a value of type " + propertyValue.getClass().getSimpleName());
+    }
+
+    /**
+     * Compares two sort keys created by
+     * {@link #toSortKey(RoutingContext, Object, EdmPrimitiveTypeKind, String)} for the same primitive type kind.
+     *
+     * @param sortKey1 the first sort key, must not be null
+     * @param sortKey2 the second sort key, must not be null
+     * @return Returns a negative integer, zero, or a positive integer as the first sort key is less than, equal to, or
+     *         greater than the second sort key.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    default int compareSortKeys(Object sortKey1, Object sortKey2) {
+        if (sortKey1 instanceof Long && sortKey2 instanceof Long) {
+            return Long.compare((Long) sortKey1, (Long) sortKey2);
+        } else if (sortKey1 instanceof String) {
+            return ((String) sortKey1).compareToIgnoreCase((String) sortKey2);
+        } else if (sortKey1 instanceof BigInteger || sortKey2 instanceof BigInteger) {
+            return toBigInteger(sortKey1).compareTo(toBigInteger(sortKey2));
+        }
+        return ((Comparable) sortKey1).compareTo(sortKey2);
+    }
+
     private void errorLog(RoutingContext routingContext, Exception e) {
         errorLog(routingContext, null, e);
     }
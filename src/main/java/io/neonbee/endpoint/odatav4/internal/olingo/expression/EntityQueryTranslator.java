@@ -0,0 +1,342 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Binary;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.entity.EntityFilter;
+import io.neonbee.entity.EntityFilter.Operator;
+import io.neonbee.entity.EntityQuery;
+
+/**
+ * Translates the $filter, $orderby, $skip and $top options of an OData request into an {@link EntityQuery}, which can
+ * be passed to entity verticles.
+ * <p>
+ * Filter expressions are translated as far as possible: comparisons of properties with literals, "in" operations,
+ * the string functions contains, startswith and endswith and any logical combination of those are supported. Parts of
+ * the filter combined by "and" on the top level are translated individually, so that unsupported parts (e.g. other
+ * method calls or arithmetic operations) only render the filter incomplete, instead of preventing the translation.
+ */
+public final class EntityQueryTranslator {
+    private EntityQueryTranslator() {}
+
+    /**
+     * Translates the query options of an OData request into an {@link EntityQuery}.
+     *
+     * @param uriInfo the UriInfo of the OData request
+     * @return the entity query, which is empty in case the request has neither a $filter, $orderby, $skip nor $top
+     *         option, or none of the options could be translated. The $skip and $top options are only translated, in
+     *         case the $filter and $orderby options could be translated completely
+     */
+    public static EntityQuery translate(UriInfo uriInfo) {
+        EntityQuery entityQuery = new EntityQuery();
+
+        FilterOption filterOption = uriInfo.getFilterOption();
+        if (filterOption != null) {
+            List<Expression> conjuncts = new ArrayList<>();
+            collectConjuncts(filterOption.getExpression(), conjuncts);
+
+            List<EntityFilter> filters = new ArrayList<>(conjuncts.size());
+            for (Expression conjunct : conjuncts) {
+                try {
+                    filters.add(translateFilter(conjunct));
+                } catch (ExpressionVisitException e) {
+                    entityQuery.setFilterComplete(false);
+                }
+            }
+            if (!filters.isEmpty()) {
+                entityQuery.setFilter(filters.size() == 1 ? filters.get(0) : EntityFilter.and(filters));
+            }
+        }
+
+        boolean orderByComplete = true;
+        OrderByOption orderByOption = uriInfo.getOrderByOption();
+        if (orderByOption != null) {
+            try {
+                List<EntityQuery.Order> orderBy = new ArrayList<>(orderByOption.getOrders().size());
+                for (OrderByItem orderByItem : orderByOption.getOrders()) {
+                    if (!(orderByItem.getExpression() instanceof Member)) {
+                        throw new ExpressionVisitException("Only properties can be ordered by");
+                    }
+                    orderBy.add(new EntityQuery.Order(getPropertyPath((Member) orderByItem.getExpression()),
+                            orderByItem.isDescending()));
+                }
+                entityQuery.setOrderBy(orderBy);
+            } catch (ExpressionVisitException e) {
+                // the order can only be translated as a whole, thus leave the order of the entity query empty
+                orderByComplete = false;
+            }
+        }
+
+        // paging the entities at their source is only correct, if they are filtered and ordered completely as well
+        if (!entityQuery.isFilterComplete() || !orderByComplete) {
+            return entityQuery;
+        }
+        if (uriInfo.getSkipOption() != null) {
+            entityQuery.setSkip(uriInfo.getSkipOption().getValue());
+        }
+        if (uriInfo.getTopOption() != null) {
+            entityQuery.setTop(uriInfo.getTopOption().getValue());
+        }
+        return entityQuery;
+    }
+
+    /**
+     * Translates a filter expression as a whole.
+     *
+     * @param expression the filter expression
+     * @return the filter
+     * @throws ExpressionVisitException in case the expression contains any unsupported parts
+     */
+    public static EntityFilter translateFilter(Expression expression) throws ExpressionVisitException {
+        try {
+            return toFilter(expression.accept(new FilterTranslator()));
+        } catch (ODataApplicationException e) {
+            throw new ExpressionVisitException(e.getMessage(), e);
+        }
+    }
+
+    private static void collectConjuncts(Expression expression, List<Expression> conjuncts) {
+        if (expression instanceof Binary && ((Binary) expression).getOperator() == BinaryOperatorKind.AND) {
+            collectConjuncts(((Binary) expression).getLeftOperand(), conjuncts);
+            collectConjuncts(((Binary) expression).getRightOperand(), conjuncts);
+        } else {
+            conjuncts.add(expression);
+        }
+    }
+
+    private static String getPropertyPath(Member member) throws ExpressionVisitException {
+        List<UriResource> resourceParts = member.getResourcePath().getUriResourceParts();
+        for (UriResource resourcePart : resourceParts) {
+            if (!(resourcePart instanceof UriResourceProperty)
+                    || ((UriResourceProperty) resourcePart).isCollection()) {
+                throw new ExpressionVisitException("Only paths of (complex) properties are supported");
+            }
+        }
+        return resourceParts.stream().map(UriResourceProperty.class::cast)
+                .map(resourcePart -> resourcePart.getProperty().getName()).collect(Collectors.joining("/"));
+    }
+
+    private static EntityFilter toFilter(Object operand) throws ExpressionVisitException {
+        if (operand instanceof EntityFilter) {
+            return (EntityFilter) operand;
+        } else if (operand instanceof PropertyPath) {
+            // a property on its own can only be a boolean property
+            return EntityFilter.compare(Operator.EQ, ((PropertyPath) operand).path, Boolean.TRUE);
+        }
+        throw new ExpressionVisitException("Operand is no boolean expression");
+    }
+
+    /**
+     * The path of a property referenced by a member expression.
+     */
+    private static final class PropertyPath {
+        final String path;
+
+        PropertyPath(String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * The value of a literal, which can also be null.
+     */
+    private static final class LiteralValue {
+        final Object value;
+
+        LiteralValue(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static final class FilterTranslator implements ExpressionVisitor<Object> {
+        @Override
+        public Object visitBinaryOperator(BinaryOperatorKind operator, Object left, Object right)
+                throws ExpressionVisitException {
+            switch (operator) {
+            case AND:
+                return EntityFilter.and(List.of(toFilter(left), toFilter(right)));
+            case OR:
+                return EntityFilter.or(List.of(toFilter(left), toFilter(right)));
+            case EQ:
+                return compare(Operator.EQ, Operator.EQ, left, right);
+            case NE:
+                return compare(Operator.NE, Operator.NE, left, right);
+            case GT:
+                return compare(Operator.GT, Operator.LT, left, right);
+            case GE:
+                return compare(Operator.GE, Operator.LE, left, right);
+            case LT:
+                return compare(Operator.LT, Operator.GT, left, right);
+            case LE:
+                return compare(Operator.LE, Operator.GE, left, right);
+            default:
+                throw new ExpressionVisitException("Operator " + operator + " is not supported");
+            }
+        }
+
+        @Override
+        public Object visitBinaryOperator(BinaryOperatorKind operator, Object left, List<Object> right)
+                throws ExpressionVisitException {
+            if (operator != BinaryOperatorKind.IN || !(left instanceof PropertyPath)) {
+                throw new ExpressionVisitException("Operator " + operator + " is not supported");
+            }
+
+            List<Object> values = new ArrayList<>(right.size());
+            for (Object operand : right) {
+                if (!(operand instanceof LiteralValue) || ((LiteralValue) operand).value == null) {
+                    throw new ExpressionVisitException("Only non-null literals are supported for the in operator");
+                }
+                values.add(((LiteralValue) operand).value);
+            }
+            return EntityFilter.in(((PropertyPath) left).path, values);
+        }
+
+        /**
+         * Compares a property with a literal, in case the literal is on the left side, the mirrored operator is used.
+         */
+        private static EntityFilter compare(Operator operator, Operator mirroredOperator, Object left, Object right)
+                throws ExpressionVisitException {
+            if (left instanceof PropertyPath && right instanceof LiteralValue) {
+                return EntityFilter.compare(operator, ((PropertyPath) left).path, ((LiteralValue) right).value);
+            } else if (left instanceof LiteralValue && right instanceof PropertyPath) {
+                return EntityFilter.compare(mirroredOperator, ((PropertyPath) right).path,
+                        ((LiteralValue) left).value);
+            }
+            throw new ExpressionVisitException("Only comparisons of properties with literals are supported");
+        }
+
+        @Override
+        public Object visitUnaryOperator(UnaryOperatorKind operator, Object operand) throws ExpressionVisitException {
+            if (operator != UnaryOperatorKind.NOT) {
+                throw new ExpressionVisitException("Operator " + operator + " is not supported");
+            }
+            return EntityFilter.not(toFilter(operand));
+        }
+
+        @Override
+        public Object visitMethodCall(MethodKind methodCall, List<Object> parameters)
+                throws ExpressionVisitException {
+            Operator operator;
+            switch (methodCall) {
+            case CONTAINS:
+                operator = Operator.CONTAINS;
+                break;
+            case STARTSWITH:
+                operator = Operator.STARTS_WITH;
+                break;
+            case ENDSWITH:
+                operator = Operator.ENDS_WITH;
+                break;
+            default:
+                throw new ExpressionVisitException("Method " + methodCall + " is not supported");
+            }
+
+            if (parameters.size() != 2 || !(parameters.get(0) instanceof PropertyPath)
+                    || !(parameters.get(1) instanceof LiteralValue)
+                    || !(((LiteralValue) parameters.get(1)).value instanceof String)) {
+                throw new ExpressionVisitException("Only string functions on properties are supported");
+            }
+            return EntityFilter.compare(operator, ((PropertyPath) parameters.get(0)).path,
+                    ((LiteralValue) parameters.get(1)).value);
+        }
+
+        @Override
+        public Object visitLiteral(Literal literal) throws ExpressionVisitException {
+            return new LiteralValue(parseLiteral(literal.getText(), literal.getType()));
+        }
+
+        /**
+         * Parses the text of a literal into a value of a JSON compatible type.
+         */
+        private static Object parseLiteral(String text, EdmType type) throws ExpressionVisitException {
+            if (type == null && "null".equals(text)) {
+                return null;
+            } else if (!(type instanceof EdmPrimitiveType)) {
+                throw new ExpressionVisitException("Only primitive literals are supported");
+            }
+
+            try {
+                switch (EdmPrimitiveTypeKind.valueOfFQN(type.getFullQualifiedName())) {
+                case String:
+                    return text.substring(1, text.length() - 1).replace("''", "'");
+                case Boolean:
+                    return Boolean.valueOf(text);
+                case Byte:
+                case SByte:
+                case Int16:
+                case Int32:
+                case Int64:
+                    return Long.valueOf(text);
+                case Decimal:
+                    return new BigDecimal(text);
+                case Single:
+                case Double:
+                    return Double.valueOf(text);
+                case Date:
+                case DateTimeOffset:
+                case TimeOfDay:
+                case Guid:
+                    return text;
+                default:
+                    throw new ExpressionVisitException("Literals of type " + type.getName() + " are not supported");
+                }
+            } catch (NumberFormatException e) {
+                throw new ExpressionVisitException("Literal " + text + " is not supported", e);
+            }
+        }
+
+        @Override
+        public Object visitMember(Member member) throws ExpressionVisitException {
+            return new PropertyPath(getPropertyPath(member));
+        }
+
+        @Override
+        public Object visitAlias(String aliasName) throws ExpressionVisitException {
+            throw new ExpressionVisitException("Aliases are not supported");
+        }
+
+        @Override
+        public Object visitTypeLiteral(EdmType type) throws ExpressionVisitException {
+            throw new ExpressionVisitException("Type literals are not supported");
+        }
+
+        @Override
+        public Object visitLambdaReference(String variableName) throws ExpressionVisitException {
+            throw new ExpressionVisitException("Lambda expressions are not supported");
+        }
+
+        @Override
+        public Object visitLambdaExpression(String lambdaFunction, String lambdaVariable, Expression expression)
+                throws ExpressionVisitException {
+            throw new ExpressionVisitException("Lambda expressions are not supported");
+        }
+
+        @Override
+        public Object visitEnum(EdmEnumType type, List<String> enumValues) throws ExpressionVisitException {
+            throw new ExpressionVisitException("Enumerations are not supported");
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -34,9 +36,55 @@ public final class OrderExpressionExecutor implements EntityComparison {
      */
     public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
             List<Entity> entityList) {
-
         // Sorts the list in 'asc' order by default e.g. in the case that nothing is specified
-        Collections.sort(entityList, new EntityChainedComparator(orderByOption.getOrders().stream()
+        createComparator(routingContext, orderByOption).sort(entityList);
+        return entityList;
+    }
+
+    /**
+     * Orders the passed list based on the passed order options, but only determines the first {@code limit} entities
+     * of the order. In case the limit is smaller than the size of the list, a new list containing only the first
+     * entities in order is returned. The remaining entities are never sorted, which reduces the costs of sorting from
+     * O(n log n) to O(n log k). Same as {@link #executeOrderOption(RoutingContext, OrderByOption, List)}, the ordering
+     * is stable, meaning that equal entities keep their relative order.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @param entityList     the list of entities to order
+     * @param limit          the number of entities in order to determine, e.g. the sum of $skip and $top
+     * @return a list with the first (up to) {@code limit} entities in order
+     */
+    public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList, int limit) {
+        if (limit >= entityList.size()) {
+            return executeOrderOption(routingContext, orderByOption, entityList);
+        } else if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // compare the indices of the entities, the index as a tie-breaker keeps the order stable
+        Comparator<Integer> indexComparator =
+                createComparator(routingContext, orderByOption).indexComparator(entityList);
+
+        // a max-heap holding the indices of the limit smallest entities seen so far, the largest one at its head
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, indexComparator.reversed());
+        for (int index = 0; index < entityList.size(); index++) {
+            if (heap.size() < limit) {
+                heap.add(index);
+            } else if (indexComparator.compare(index, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(index);
+            }
+        }
+
+        List<Integer> indices = new ArrayList<>(heap);
+        indices.sort(indexComparator);
+        return indices.stream().map(entityList::get).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static EntityChainedComparator createComparator(RoutingContext routingContext,
+            OrderByOption orderByOption) {
+        return new EntityChainedComparator(orderByOption.getOrders().stream()
                 .filter(orderByItem -> orderByItem.getExpression() instanceof Member).map(orderByItem -> {
                     /*
                      * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
@@ -58,8 +106,6 @@ public final class OrderExpressionExecutor implements EntityComparison {
                         }
                     }
                     return null;
-                }).filter(Objects::nonNull).collect(Collectors.toList())));
-
-        return entityList;
+                }).filter(Objects::nonNull).collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,111 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceLambdaVariable;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+/**
+ * Collects the names of all properties of an entity, which are referenced by an expression, e.g. the properties an
+ * entity has to provide in order to evaluate a filter expression on it.
+ */
+public final class PropertyNameCollector implements ExpressionVisitor<Void> {
+    private final Set<String> propertyNames = new HashSet<>();
+
+    private boolean complete = true;
+
+    private PropertyNameCollector() {}
+
+    /**
+     * Collects the names of all properties referenced by an expression.
+     *
+     * @param expression the expression to collect the property names of
+     * @return the names of the properties referenced, or null in case the expression references members, which cannot
+     *         be attributed to properties of the entity (e.g. aliases or navigation properties)
+     * @throws ExpressionVisitException  in case the expression could not be visited
+     * @throws ODataApplicationException in case the expression could not be visited
+     */
+    public static Set<String> collect(Expression expression)
+            throws ExpressionVisitException, ODataApplicationException {
+        PropertyNameCollector collector = new PropertyNameCollector();
+        expression.accept(collector);
+        return collector.complete ? collector.propertyNames : null;
+    }
+
+    @Override
+    public Void visitBinaryOperator(BinaryOperatorKind operator, Void left, Void right) {
+        return null;
+    }
+
+    @Override
+    public Void visitBinaryOperator(BinaryOperatorKind operator, Void left, List<Void> right) {
+        return null;
+    }
+
+    @Override
+    public Void visitUnaryOperator(UnaryOperatorKind operator, Void operand) {
+        return null;
+    }
+
+    @Override
+    public Void visitMethodCall(MethodKind methodCall, List<Void> parameters) {
+        return null;
+    }
+
+    @Override
+    public Void visitLambdaExpression(String lambdaFunction, String lambdaVariable, Expression expression)
+            throws ExpressionVisitException, ODataApplicationException {
+        return expression.accept(this);
+    }
+
+    @Override
+    public Void visitLiteral(Literal literal) {
+        return null;
+    }
+
+    @Override
+    public Void visitMember(Member member) {
+        UriResource resource = member.getResourcePath().getUriResourceParts().get(0);
+        if (resource instanceof UriResourceProperty) {
+            propertyNames.add(((UriResourceProperty) resource).getProperty().getName());
+        } else if (!(resource instanceof UriResourceLambdaVariable)) {
+            complete = false;
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitAlias(String aliasName) {
+        complete = false;
+        return null;
+    }
+
+    @Override
+    public Void visitTypeLiteral(EdmType type) {
+        return null;
+    }
+
+    @Override
+    public Void visitLambdaReference(String variableName) {
+        return null;
+    }
+
+    @Override
+    public Void visitEnum(EdmEnumType type, List<String> enumValues) {
+        return null;
+    }
+}
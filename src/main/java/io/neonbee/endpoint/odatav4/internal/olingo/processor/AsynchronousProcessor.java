@@ -1,5 +1,7 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+import static io.vertx.core.Future.failedFuture;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayDeque;
@@ -10,6 +12,7 @@ import java.util.Objects;
 
 import org.apache.olingo.server.api.processor.Processor;
 
+import io.neonbee.internal.helper.AsyncHelper.ThrowingSupplier;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -43,43 +46,49 @@ public abstract class AsynchronousProcessor implements Processor {
      * @return the processPromise
      */
     public Promise<Void> getProcessPromise() {
-        if (subProcessPromise != null) {
-            // never create a second subProcessPromise, as it'll never resolve
-            return subProcessPromise;
-        } else if (processingStack().isEmpty()) {
-            // return the main endpoint processPromise if not in batch processing, or in case this is batch
-            // processing, but the first call (by the BatchProcessor) to enterBatchProcessing
+        if (processingStack().isEmpty()) {
+            // return the main endpoint processPromise if not in batch processing, or in case this is the batch
+            // processor itself, which is about to dispatch the requests of the batch
             return processPromise;
-        } else {
-            // we are in batch processing (somebody has called enterBatchProcessing before and there is an element
-            // on the processingStack). Thus create a new subProcessPromise and put it onto the stack
+        }
+
+        // we are in batch processing (somebody has called dispatchBatchProcessing and there is an element on the
+        // processingStack). The same processor could handle multiple requests of one batch, thus create a new
+        // subProcessPromise for every layer of the processingStack, but never create a second subProcessPromise for
+        // the same layer, as it'll never resolve
+        List<Future<Void>> layer = requireNonNull(processingStack().peek(), "head of deque is empty");
+        if (subProcessPromise == null || !layer.contains(subProcessPromise.future())) {
             subProcessPromise = Promise.promise();
-            requireNonNull(processingStack().peek(), "head of deque is empty").add(subProcessPromise.future());
-            return subProcessPromise;
+            layer.add(subProcessPromise.future());
         }
+        return subProcessPromise;
     }
 
     /**
-     * The enterBatchProcessing method will return a processPromise (either the global one, or a sub-processPromise) and
-     * push a new processing stack to the processingStack. After processing the returned future should be resolved, as
-     * soon as all elements of the top processingStack resolve.
+     * Dispatches a request in batch processing. While dispatching, a new layer is pushed to the processingStack, so
+     * that all processors handling the request return a sub-processPromise (see {@link #getProcessPromise()}). As the
+     * processingStack is shared by all requests handled on the current context, the layer is popped again as soon as
+     * the (synchronous) dispatching returned, the returned future completes as soon as all sub-processPromises of the
+     * layer resolve.
      *
-     * @return a processPromise to resolve, when this layer of the processingStack finish
+     * @param <T>        the type of the result of the dispatcher
+     * @param dispatcher the dispatcher, e.g. a call to the batch facade to handle a request
+     * @return a future to the result of the dispatcher, which completes as soon as the request was processed
      */
-    public Promise<Void> enterBatchProcessing() {
-        Promise<Void> processPromise = getProcessPromise();
-        processingStack().push(new ArrayList<>());
-        return processPromise;
-    }
+    public <T> Future<T> dispatchBatchProcessing(ThrowingSupplier<T, Exception> dispatcher) {
+        List<Future<Void>> layer = new ArrayList<>();
+        processingStack().push(layer);
+        T result;
+        try {
+            result = dispatcher.get();
+        } catch (Exception e) {
+            return failedFuture(e);
+        } finally {
+            // pop the layer in any case, otherwise further requests on this context would assume batch processing
+            processingStack().pop();
+        }
 
-    /**
-     * This will pop the top element from he processingStack, as soon as all futures of the list returned resolve, the
-     * processFuture returned by enterBatchProcessing should be resolved.
-     *
-     * @return a list of processFutures to wait for being resolved
-     */
-    public List<Future<Void>> wrapUpBatchProcessing() {
-        return processingStack().pop();
+        return allComposite(layer).map(result);
     }
 
     private static Deque<List<Future<Void>>> processingStack() {
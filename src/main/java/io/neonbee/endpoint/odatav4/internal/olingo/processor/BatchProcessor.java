@@ -2,11 +2,14 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.vertx.core.Future.succeededFuture;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.olingo.commons.api.format.ContentType;
 import org.apache.olingo.commons.api.http.HttpHeader;
@@ -23,6 +26,7 @@ import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
 import org.apache.olingo.server.api.serializer.BatchSerializerException;
 
+import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
@@ -31,6 +35,8 @@ import io.vertx.ext.web.RoutingContext;
         justification = "Common practice in Olingo to name the implementation of the processor same as the interface")
 public class BatchProcessor extends AsynchronousProcessor
         implements org.apache.olingo.server.api.processor.BatchProcessor {
+    private final int parallelism;
+
     private OData odata;
 
     /**
@@ -39,9 +45,12 @@ public class BatchProcessor extends AsynchronousProcessor
      * @param vertx          the related Vert.x instance
      * @param routingContext the routingContext of the related request
      * @param processPromise the promise to complete when data has been fetched
+     * @param parallelism    the maximum number of parts of a batch request processed concurrently, 0 or less for no
+     *                       limit
      */
-    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise, int parallelism) {
         super(vertx, routingContext, processPromise);
+        this.parallelism = parallelism > 0 ? parallelism : Integer.MAX_VALUE;
     }
 
     @Override
@@ -49,6 +58,11 @@ public class BatchProcessor extends AsynchronousProcessor
         this.odata = odata;
     }
 
+    /**
+     * Processes the parts of a batch request concurrently, limited to the parallelism, if configured. The parts of a
+     * batch request are independent of each other, only the requests of a change set are processed consecutively (see
+     * {@link #processChangeSet(BatchFacade, List, List)}).
+     */
     @Override
     public void processBatch(BatchFacade facade, ODataRequest request, ODataResponse response)
             throws ODataApplicationException, ODataLibraryException {
@@ -58,16 +72,19 @@ public class BatchProcessor extends AsynchronousProcessor
         List<BatchRequestPart> requestParts =
                 odata.createFixedFormatDeserializer().parseBatchRequest(request.getBody(), boundary, options);
 
-        // by entering batch processing here, we'll enter a new processing phase
-        Promise<Void> processPromise = enterBatchProcessing();
+        // the batch processor is not called in batch processing, so this will return the main processPromise
+        Promise<Void> processPromise = getProcessPromise();
 
-        List<ODataResponsePart> responseParts = new ArrayList<>();
-        for (BatchRequestPart part : requestParts) {
-            responseParts.add(facade.handleBatchRequest(part));
+        // start as many lanes as parts should be processed concurrently, each lane will pick the next unprocessed part
+        // as soon as it finished processing its current part, the response parts are kept in the order of the request
+        List<ODataResponsePart> responseParts = new ArrayList<>(Collections.nCopies(requestParts.size(), null));
+        AtomicInteger nextPart = new AtomicInteger();
+        List<Future<Void>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < Math.min(parallelism, requestParts.size()); lane++) {
+            lanes.add(processNextPart(facade, requestParts, nextPart, responseParts));
         }
 
-        // wrap up the batch processing here, which will complete the current processing phase
-        allComposite(wrapUpBatchProcessing()).onComplete(resultHandler -> {
+        allComposite(lanes).onComplete(resultHandler -> {
             if (resultHandler.failed()) {
                 processPromise.fail(resultHandler.cause());
                 return;
@@ -90,11 +107,57 @@ public class BatchProcessor extends AsynchronousProcessor
         });
     }
 
+    private Future<Void> processNextPart(BatchFacade facade, List<BatchRequestPart> requestParts,
+            AtomicInteger nextPart, List<ODataResponsePart> responseParts) {
+        int index = nextPart.getAndIncrement();
+        if (index >= requestParts.size()) {
+            return succeededFuture();
+        }
+
+        BatchRequestPart part = requestParts.get(index);
+        return (part.isChangeSet() ? processChangeSet(facade, part.getRequests(), new ArrayList<>())
+                : dispatchBatchProcessing(() -> facade.handleBatchRequest(part))).compose(responsePart -> {
+                    responseParts.set(index, responsePart);
+                    return processNextPart(facade, requestParts, nextPart, responseParts);
+                });
+    }
+
+    /**
+     * Processes the requests of a change set consecutively, each request is only dispatched after the previous request
+     * was processed successfully. This keeps the ordering semantics of change sets, e.g. to allow referencing the
+     * result of a previous request in the change set. In case a request fails, the remaining requests are skipped and
+     * the failed response is returned instead of the change set.
+     * <p>
+     * NOTE: NeonBee does NOT support rolling-back change sets so far!
+     *
+     * @param facade    the batch facade
+     * @param requests  the requests of the change set
+     * @param responses the responses of the requests processed so far
+     * @return a future to the response part of the change set
+     */
+    private Future<ODataResponsePart> processChangeSet(BatchFacade facade, List<ODataRequest> requests,
+            List<ODataResponse> responses) {
+        if (responses.size() == requests.size()) {
+            return succeededFuture(new ODataResponsePart(responses, true));
+        }
+
+        ODataRequest request = requests.get(responses.size());
+        return dispatchBatchProcessing(() -> facade.handleODataRequest(request)).compose(response -> {
+            if (response.getStatusCode() >= BAD_REQUEST.code()) {
+                return succeededFuture(new ODataResponsePart(response, false));
+            }
+
+            responses.add(response);
+            return processChangeSet(facade, requests, responses);
+        });
+    }
+
     /**
-     * NOTE: NeonBee does NOT support processing / rolling-back change sets so far! This method will simply execute all
-     * ODataRequests consecutively. It would not make sense to fail / roll-back the transaction in this method, as
-     * facade.handleODataRequest will return immediately (as the request is processed) asynchronous. This is why the
-     * transaction handling has to take place in a different place more likely.
+     * NOTE: NeonBee processes change sets asynchronously when processing a batch request (see
+     * {@link #processChangeSet(BatchFacade, List, List)}), thus this method is only called in case a change set is
+     * handled by Olingo directly. It will simply dispatch all ODataRequests consecutively, without waiting for the
+     * (asynchronous) processing of the previous request. It would not make sense to fail / roll-back the transaction in
+     * this method, as facade.handleODataRequest will return immediately (as the request is processed) asynchronous.
      */
     @Override
     public ODataResponsePart processChangeSet(BatchFacade facade, List<ODataRequest> requests)
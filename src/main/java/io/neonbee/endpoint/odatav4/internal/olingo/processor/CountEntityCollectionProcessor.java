@@ -5,21 +5,28 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProces
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.chooseEntitySet;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchNavigationTargetEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_EXPAND_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.MAX_PAGE_SIZE_PREFERENCE;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_NEXT_SKIP_TOKEN_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_TOKEN_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.RESPONSE_HEADER_PREFIX;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardCountRequest;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardRequest;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Optional.ofNullable;
 
 import java.io.ByteArrayInputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.ToIntFunction;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.ContextURL.Suffix;
@@ -45,12 +52,14 @@ import org.apache.olingo.server.api.uri.queryoption.CountOption;
 import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.BaseEncoding;
 
-import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.CompiledFilterExpression;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
@@ -72,10 +81,14 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
 
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    private static final String SKIP_TOKEN_PREFIX = "offset:";
+
     private OData odata;
 
     private ServiceMetadata serviceMetadata;
 
+    private final ToIntFunction<EdmEntitySet> maxPageSize;
+
     /**
      * Creates a new EntityCollectionProcessor.
      *
@@ -84,7 +97,21 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
      * @param processPromise the promise to complete when data has been fetched
      */
     public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, entitySet -> 0);
+    }
+
+    /**
+     * Creates a new EntityCollectionProcessor, which pages entity collections on the server-side.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param maxPageSize    a function returning the maximum page size of an entity set, or 0 for no paging
+     */
+    public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            ToIntFunction<EdmEntitySet> maxPageSize) {
         super(vertx, routingContext, processPromise);
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -109,8 +136,14 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         EntityCollection entityCollection = new EntityCollection();
         Promise<List<Entity>> responsePromise = Promise.promise();
 
+        // only collections of an entity set are paged, collections of navigation properties are returned as a whole
+        int pageSize = resourceParts.size() == 1
+                ? getPageSize(maxPageSize.applyAsInt(uriResourceEntitySet.getEntitySet()),
+                        request.getHeaders(HttpHeader.PREFER))
+                : 0;
+
         // Fetch the data from backend
-        forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
+        forwardRequest(request, READ, uriInfo, pageSize, vertx, routingContext, processPromise).onSuccess(ew -> {
             boolean expandExecuted = ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_EXPAND_KEY))
                     .orElse(Boolean.FALSE);
             if (resourceParts.size() == 1) {
@@ -125,19 +158,22 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         boolean orderByExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_ORDER_BY_KEY))
                                         .orElse(Boolean.FALSE);
-                        if (!orderByExecuted) {
-                            applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList);
-                        }
                         boolean skipExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_KEY))
                                         .orElse(Boolean.FALSE);
-                        resultEntityList = skipExecuted ? resultEntityList
-                                : applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
                         boolean topExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_TOP_KEY))
                                         .orElse(Boolean.FALSE);
+                        if (!orderByExecuted) {
+                            resultEntityList = applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList,
+                                    topExecuted ? -1 : getOrderLimit(uriInfo, skipExecuted));
+                        }
+                        resultEntityList = skipExecuted ? resultEntityList
+                                : applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
                         resultEntityList = topExecuted ? resultEntityList
                                 : applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
+                        resultEntityList = applyServerPaging(request, uriInfo.getSkipTokenOption(), pageSize,
+                                resultEntityList, entityCollection);
                         Future<List<Entity>> resultEntityListFuture = expandExecuted ? succeededFuture(resultEntityList)
                                 : applyExpandQueryOptions(uriInfo, resultEntityList);
                         resultEntityListFuture.onComplete(responsePromise);
@@ -201,21 +237,21 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         if (filterOption != null) {
             LOGGER.correlateWith(routingContext).debug("Applying filter expression on list of entities with size: {}",
                     unfilteredEntities.size());
+            LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
+                    filterOption.getName(), filterOption.getText());
             filteredEntities = new ArrayList<>();
-            for (Entity entity : unfilteredEntities) {
-                FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
-                LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
-                        filterOption.getName(), filterOption.getText());
-                LOGGER.correlateWith(routingContext).debug("FilterExpressionVisitor for entity '{}' was created",
-                        entity);
-                try {
-                    if (Boolean.TRUE.equals(filterOption.getExpression().accept(filterExpressionVisitor).getValue())) {
+            try {
+                // compile the expression only once, instead of visiting the expression tree again for every entity
+                CompiledFilterExpression filterExpression =
+                        CompiledFilterExpression.compile(routingContext, filterOption.getExpression());
+                for (Entity entity : unfilteredEntities) {
+                    if (filterExpression.matches(entity)) {
                         filteredEntities.add(entity);
                     }
-                } catch (ODataApplicationException | ExpressionVisitException e) {
-                    LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
-                    throw e;
                 }
+            } catch (ODataApplicationException | ExpressionVisitException e) {
+                LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
+                throw e;
             }
             LOGGER.correlateWith(routingContext).debug(
                     "Filter expression was applied on list of entities and led to a result list of entities with size: {}",
@@ -225,13 +261,41 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return filteredEntities;
     }
 
-    private void applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList)
-            throws ODataApplicationException {
+    /**
+     * Returns the number of entities in order, which are needed to answer the request, in case a $top option is
+     * present. Only the first $skip + $top entities have to be ordered, as all others are cut off anyways.
+     *
+     * @return the number of entities in order needed, or -1 in case all entities have to be ordered
+     */
+    private static int getOrderLimit(UriInfo uriInfo, boolean skipExecuted) {
+        TopOption topOption = uriInfo.getTopOption();
+        if (topOption == null || topOption.getValue() < 0) {
+            return -1;
+        }
+
+        SkipOption skipOption = uriInfo.getSkipOption();
+        long limit = (long) topOption.getValue();
+        if (!skipExecuted && skipOption != null) {
+            if (skipOption.getValue() < 0) {
+                return -1;
+            }
+            limit += skipOption.getValue();
+        }
+        return limit > Integer.MAX_VALUE ? -1 : (int) limit;
+    }
+
+    private List<Entity> applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList,
+            int limit) throws ODataApplicationException {
+        List<Entity> orderedList = resultEntityList;
         if (orderByOption != null) {
             LOGGER.correlateWith(routingContext).debug("orderByOption name: {}, orderByOption text: {}",
                     orderByOption.getName(), orderByOption.getText());
             try {
-                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
+                // with a limit (e.g. $orderby combined with $top) only select the first entities in order
+                orderedList = limit < 0
+                        ? OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList)
+                        : OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList,
+                                limit);
             } catch (Exception e) {
                 String message = "Error during processing of orderBy option";
                 LOGGER.correlateWith(routingContext).error(message);
@@ -239,6 +303,7 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         e);
             }
         }
+        return orderedList;
     }
 
     private List<Entity> applySkipQueryOption(SkipOption skipOption, List<Entity> resultEntityList)
@@ -285,13 +350,126 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return topList;
     }
 
-    private Future<List<Entity>> applyExpandQueryOptions(UriInfo uriInfo, List<Entity> resultEntityList) {
-        return EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-            for (Entity requestedEntity : resultEntityList) {
-                expander.expand(requestedEntity);
+    /**
+     * Applies the $skiptoken option and cuts the result to the page size. In case the result exceeds the page size, a
+     * next link with a skip token to the next page is set to the entity collection. The skip token is opaque to the
+     * client, it holds the offset of the next page in the (filtered, ordered, skipped and topped) result. In case the
+     * entity verticle paged the result already, the next link is set based on the skip token returned by the entity
+     * verticle.
+     */
+    private List<Entity> applyServerPaging(ODataRequest request, SkipTokenOption skipTokenOption, int pageSize,
+            List<Entity> resultEntityList, EntityCollection entityCollection) throws ODataApplicationException {
+        boolean skipTokenExecuted =
+                ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_TOKEN_KEY))
+                        .orElse(Boolean.FALSE);
+        if (skipTokenExecuted) {
+            String nextSkipToken = routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_NEXT_SKIP_TOKEN_KEY);
+            if (nextSkipToken != null) {
+                entityCollection.setNext(getNextLink(request, nextSkipToken));
             }
             return resultEntityList;
-        });
+        }
+
+        int offset = skipTokenOption != null ? decodeSkipToken(skipTokenOption.getValue()) : 0;
+        List<Entity> pageList = resultEntityList.subList(Math.min(offset, resultEntityList.size()),
+                resultEntityList.size());
+        if (pageSize > 0 && pageList.size() > pageSize) {
+            LOGGER.correlateWith(routingContext).debug("Result exceeds the page size of {}, returning a next link",
+                    pageSize);
+            pageList = pageList.subList(0, pageSize);
+            entityCollection.setNext(getNextLink(request, encodeSkipToken(offset + pageSize)));
+        }
+        return pageList;
+    }
+
+    /**
+     * Returns the page size to use for a collection. Clients may request a smaller page size, using the
+     * {@value ProcessorHelper#MAX_PAGE_SIZE_PREFERENCE} preference of the Prefer header.
+     *
+     * @param maxPageSize   the maximum page size configured, or 0 in case the collection should not be paged
+     * @param preferHeaders the values of the Prefer header of the request
+     * @return the page size, or 0 in case the collection should not be paged
+     */
+    @VisibleForTesting
+    static int getPageSize(int maxPageSize, List<String> preferHeaders) {
+        int pageSize = Math.max(0, maxPageSize);
+        if (preferHeaders == null) {
+            return pageSize;
+        }
+
+        for (String preferHeader : preferHeaders) {
+            for (String preference : preferHeader.split(",")) {
+                String[] nameValue = preference.trim().split("=", 2);
+                if (nameValue.length == 2 && MAX_PAGE_SIZE_PREFERENCE.equalsIgnoreCase(nameValue[0].trim())) {
+                    try {
+                        int preferredPageSize = Integer.parseInt(nameValue[1].trim());
+                        if (preferredPageSize > 0 && (pageSize == 0 || preferredPageSize < pageSize)) {
+                            pageSize = preferredPageSize;
+                        }
+                    } catch (NumberFormatException e) {
+                        // preferences which cannot be fulfilled are ignored
+                    }
+                }
+            }
+        }
+        return pageSize;
+    }
+
+    @VisibleForTesting
+    static String encodeSkipToken(int offset) {
+        return BaseEncoding.base64Url().omitPadding()
+                .encode((SKIP_TOKEN_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @VisibleForTesting
+    static int decodeSkipToken(String skipToken) throws ODataApplicationException {
+        try {
+            String decodedSkipToken = new String(BaseEncoding.base64Url().omitPadding().decode(skipToken),
+                    StandardCharsets.UTF_8);
+            if (decodedSkipToken.startsWith(SKIP_TOKEN_PREFIX)) {
+                int offset = Integer.parseInt(decodedSkipToken.substring(SKIP_TOKEN_PREFIX.length()));
+                if (offset >= 0) {
+                    return offset;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well, any invalid token is handled below
+        }
+
+        throw new ODataApplicationException("Invalid value for $skiptoken", HttpStatusCode.BAD_REQUEST.getStatusCode(),
+                Locale.ENGLISH);
+    }
+
+    /**
+     * Returns the link to the next page, the URI of the request with the $skiptoken replaced.
+     */
+    @VisibleForTesting
+    static URI getNextLink(ODataRequest request, String skipToken) {
+        String requestUri = request.getRawRequestUri();
+        int queryIndex = requestUri.indexOf('?');
+        StringBuilder nextLink = new StringBuilder(queryIndex < 0 ? requestUri : requestUri.substring(0, queryIndex))
+                .append('?');
+        String rawQueryPath = request.getRawQueryPath();
+        if (rawQueryPath != null) {
+            for (String parameter : rawQueryPath.split("&")) {
+                String lowerCaseParameter = parameter.toLowerCase(Locale.ENGLISH);
+                if (!parameter.isEmpty() && !lowerCaseParameter.startsWith("$skiptoken=")
+                        && !lowerCaseParameter.startsWith("%24skiptoken=")) {
+                    nextLink.append(parameter).append('&');
+                }
+            }
+        }
+        return URI.create(nextLink.append("$skiptoken=").append(skipToken).toString());
+    }
+
+    private Future<List<Entity>> applyExpandQueryOptions(UriInfo uriInfo, List<Entity> resultEntityList) {
+        return EntityExpander.create(vertx, uriInfo.getExpandOption(), resultEntityList, routingContext)
+                .map(expander -> {
+                    for (Entity requestedEntity : resultEntityList) {
+                        expander.expand(requestedEntity);
+                    }
+                    return resultEntityList;
+                });
     }
 
     private EntityCollectionSerializerOptions createSerializerOptions(ODataRequest request, UriInfo uriInfo,
@@ -311,8 +489,8 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
     public void countEntityCollection(ODataRequest request, ODataResponse response, UriInfo uriInfo) {
         Promise<Void> processPromise = getProcessPromise();
 
-        // Fetch the data from backend
-        forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
+        // Fetch the count from backend, entity verticles supporting it, will only return the count, not the entities
+        forwardCountRequest(request, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
             try {
                 /*
                  * The response body MUST contain the exact count of items matching the request after applying any
@@ -321,10 +499,15 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                  * Content negotiation using the Accept request header or the $format system query option is not allowed
                  * with the path segment /$count.
                  */
-                List<Entity> resultEntityList = applyFilterQueryOption(uriInfo.getFilterOption(), ew.getEntities());
+                Object countHint = routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_COUNT_KEY);
+                boolean filterExecuted =
+                        ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_FILTER_KEY))
+                                .orElse(Boolean.FALSE);
+                long count = countHint instanceof Number ? ((Number) countHint).longValue()
+                        : countFilterQueryOption(filterExecuted ? null : uriInfo.getFilterOption(), ew.getEntities());
 
-                ByteArrayInputStream serializerContent = new ByteArrayInputStream(
-                        String.valueOf(resultEntityList.size()).getBytes(StandardCharsets.UTF_8));
+                ByteArrayInputStream serializerContent =
+                        new ByteArrayInputStream(String.valueOf(count).getBytes(StandardCharsets.UTF_8));
                 response.setContent(serializerContent);
                 response.setHeader(HttpHeader.CONTENT_TYPE, ContentType.TEXT_PLAIN.toContentTypeString());
                 response.setStatusCode(HttpStatusCode.OK.getStatusCode());
@@ -334,4 +517,28 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
             }
         });
     }
+
+    /**
+     * Counts the entities matching a filter, without collecting the matching entities in a new list.
+     */
+    private long countFilterQueryOption(FilterOption filterOption, List<Entity> entities) throws ODataException {
+        if (filterOption == null) {
+            return entities.size();
+        }
+
+        try {
+            CompiledFilterExpression filterExpression =
+                    CompiledFilterExpression.compile(routingContext, filterOption.getExpression());
+            long count = 0;
+            for (Entity entity : entities) {
+                if (filterExpression.matches(entity)) {
+                    count++;
+                }
+            }
+            return count;
+        } catch (ODataApplicationException | ExpressionVisitException e) {
+            LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
+            throw e;
+        }
+    }
 }
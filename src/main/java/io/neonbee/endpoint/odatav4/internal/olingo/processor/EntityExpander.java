@@ -2,6 +2,7 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchReferencedEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
@@ -13,7 +14,6 @@ import java.util.Map;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
 import org.apache.olingo.commons.api.data.Link;
-import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
@@ -26,10 +26,16 @@ import io.vertx.ext.web.RoutingContext;
 public final class EntityExpander {
     private final List<EdmNavigationProperty> navigationProperties;
 
-    private final Map<EdmEntityType, List<Entity>> fetchedEntities;
+    private final Map<EdmNavigationProperty, List<Entity>> fetchedEntities;
+
+    /**
+     * The fetched entities indexed by the referenced properties of each navigation property, built once on the first
+     * expand of a navigation property, so that expanding an entity is a lookup instead of a scan.
+     */
+    private final Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> indexedEntities = new HashMap<>();
 
     private EntityExpander(List<EdmNavigationProperty> navigationProperties,
-            Map<EdmEntityType, List<Entity>> fetchedEntities) {
+            Map<EdmNavigationProperty, List<Entity>> fetchedEntities) {
         this.navigationProperties = navigationProperties;
         this.fetchedEntities = fetchedEntities;
     }
@@ -45,13 +51,29 @@ public final class EntityExpander {
      * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
      */
     public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, RoutingContext routingContext) {
+        return create(vertx, expandOption, null, routingContext);
+    }
+
+    /**
+     * Creating the EntityExpander is an asynchronous operation, because during the creation the EntityExpander fetches
+     * all referenced entities of the passed entities to expand, based on the expand options. When the EntityExpander is
+     * created successfully, the expand of these entities happens synchronously.
+     *
+     * @param vertx            The Vert.x instance
+     * @param expandOption     The expand options of the OData request
+     * @param entitiesToExpand The entities which will be expanded, or null to fetch all potentially referenced entities
+     * @param routingContext   The routingContext of the request
+     * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
+     */
+    public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption,
+            List<Entity> entitiesToExpand, RoutingContext routingContext) {
         if (expandOption != null) {
             List<EdmNavigationProperty> navigationProperties = getNavigationProperties(expandOption);
-            Map<EdmEntityType, List<Entity>> fetchedEntities = new HashMap<>();
+            Map<EdmNavigationProperty, List<Entity>> fetchedEntities = new HashMap<>();
 
             List<Future<?>> fetchFutures = navigationProperties.stream().distinct().map(navProb -> {
-                return fetchReferencedEntities(navProb, vertx, routingContext)
-                        .map(entities -> fetchedEntities.put(navProb.getType(), entities));
+                return fetchReferencedEntities(navProb, entitiesToExpand, vertx, routingContext)
+                        .map(entities -> fetchedEntities.put(navProb, entities));
             }).collect(toList());
             return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, fetchedEntities));
         } else {
@@ -77,7 +99,8 @@ public final class EntityExpander {
             }
 
             List<Entity> entitiesToLink = getRelatedEntities(navigationProperty, entityToExpand,
-                    fetchedEntities.get(navigationProperty.getType()));
+                    indexedEntities.computeIfAbsent(navigationProperty, navProp -> indexReferencedEntities(navProp,
+                            fetchedEntities.get(navProp))));
             linkEntities(entityToExpand, navigationProperty, entitiesToLink);
         }
     }
@@ -1,23 +1,40 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.entity.EntityVerticle.requestEntity;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.internal.DataContextImpl;
@@ -30,6 +47,13 @@ import io.vertx.ext.web.RoutingContext;
 public final class NavigationPropertyHelper {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    /**
+     * The maximum number of keys of referenced entities requested with a single $filter query option.
+     */
+    private static final int KEY_FILTER_CHUNK_SIZE = 100;
+
+    private static final String FILTER_QUERY_OPTION = "$filter";
+
     /**
      * Fetches the related entity collection to the passed navigation property.
      *
@@ -40,11 +64,145 @@ public final class NavigationPropertyHelper {
      */
     public static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty, Vertx vertx,
             RoutingContext routingContext) {
+        return fetchReferencedEntities(navigationProperty, (String) null, vertx, routingContext);
+    }
+
+    /**
+     * Fetches the entities related to the passed source entities via the passed navigation property.
+     * <p>
+     * Instead of fetching the whole referenced entity collection, the distinct values of the referential constraint
+     * properties of the source entities are pushed down to the entity verticle as a $filter query option, split into
+     * chunks of at most {@value #KEY_FILTER_CHUNK_SIZE} keys. As entity verticles are free to ignore the $filter query
+     * option, the result may still contain unrelated entities, so use
+     * {@link #getRelatedEntities(EdmNavigationProperty, Entity, Map)} to relate the fetched entities.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with navigation property
+     * @param vertx              the current Vert.x instance
+     * @param routingContext     the current routing context
+     * @return a {@link Future} holding the (potentially) related {@link Entity} collection
+     */
+    public static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> sourceEntities, Vertx vertx, RoutingContext routingContext) {
+        List<String> sourcePropertyNames = getConstraintPropertyNames(navigationProperty, false);
+        if (sourceEntities == null || sourcePropertyNames.isEmpty()) {
+            return fetchReferencedEntities(navigationProperty, (String) null, vertx, routingContext);
+        }
+
+        Set<List<Object>> keys = new LinkedHashSet<>();
+        for (Entity sourceEntity : sourceEntities) {
+            List<Object> key = getPropertyValues(sourceEntity, sourcePropertyNames);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return succeededFuture(List.of());
+        }
+
+        List<String> filters;
+        try {
+            filters = buildKeyFilters(navigationProperty.getType(),
+                    getConstraintPropertyNames(navigationProperty, true), keys);
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.correlateWith(routingContext).warn("Failed to build key filter to fetch referenced entities", e);
+            return fetchReferencedEntities(navigationProperty, (String) null, vertx, routingContext);
+        }
+
+        List<Future<List<Entity>>> fetchFutures = filters.stream()
+                .map(filter -> fetchReferencedEntities(navigationProperty, filter, vertx, routingContext))
+                .collect(toList());
+        return allComposite(fetchFutures).map(v -> fetchFutures.size() == 1 ? fetchFutures.get(0).result()
+                : distinctEntities(navigationProperty.getType(), fetchFutures));
+    }
+
+    private static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty,
+            String filter, Vertx vertx, RoutingContext routingContext) {
         FullQualifiedName fqn = navigationProperty.getType().getFullQualifiedName();
-        DataRequest req = new DataRequest(fqn, new DataQuery(fqn.getNamespace() + "/" + fqn.getName()));
+        DataQuery query = new DataQuery(fqn.getNamespace() + "/" + fqn.getName());
+        if (filter != null) {
+            query.setParameter(FILTER_QUERY_OPTION, filter);
+        }
+        DataRequest req = new DataRequest(fqn, query);
         return requestEntity(vertx, req, new DataContextImpl(routingContext)).map(EntityWrapper::getEntities);
     }
 
+    /**
+     * Builds $filter expressions matching the passed keys, either using the in operator for a single property or a
+     * disjunction of conjunctions for composite keys.
+     */
+    @VisibleForTesting
+    static List<String> buildKeyFilters(EdmEntityType referencedType, List<String> referencedPropertyNames,
+            Collection<List<Object>> keys) throws EdmPrimitiveTypeException {
+        boolean singleProperty = referencedPropertyNames.size() == 1;
+        List<String> filters = new ArrayList<>();
+        StringBuilder filter = new StringBuilder();
+        int chunkSize = 0;
+        for (List<Object> key : keys) {
+            if (chunkSize > 0) {
+                filter.append(singleProperty ? "," : " or ");
+            } else if (singleProperty) {
+                filter.append(referencedPropertyNames.get(0)).append(" in (");
+            }
+
+            if (singleProperty) {
+                filter.append(toUriLiteral(referencedType, referencedPropertyNames.get(0), key.get(0)));
+            } else {
+                filter.append('(');
+                for (int i = 0; i < key.size(); i++) {
+                    filter.append(i > 0 ? " and " : "").append(referencedPropertyNames.get(i)).append(" eq ")
+                            .append(toUriLiteral(referencedType, referencedPropertyNames.get(i), key.get(i)));
+                }
+                filter.append(')');
+            }
+
+            if (++chunkSize == KEY_FILTER_CHUNK_SIZE) {
+                filters.add(filter.append(singleProperty ? ")" : "").toString());
+                filter.setLength(0);
+                chunkSize = 0;
+            }
+        }
+        if (chunkSize > 0) {
+            filters.add(filter.append(singleProperty ? ")" : "").toString());
+        }
+        return filters;
+    }
+
+    private static String toUriLiteral(EdmEntityType entityType, String propertyName, Object value)
+            throws EdmPrimitiveTypeException {
+        EdmProperty property = entityType.getStructuralProperty(propertyName);
+        EdmPrimitiveType type = (EdmPrimitiveType) property.getType();
+        return type.toUriLiteral(type.valueToString(value, property.isNullable(), property.getMaxLength(),
+                property.getPrecision(), property.getScale(), property.isUnicode()));
+    }
+
+    /**
+     * Merges the entities fetched by multiple requests, removing the entities with duplicate keys, which were returned
+     * by multiple requests, e.g. because an entity verticle ignored the $filter query option.
+     */
+    private static List<Entity> distinctEntities(EdmEntityType entityType,
+            List<Future<List<Entity>>> fetchFutures) {
+        List<String> keyNames = entityType.getKeyPredicateNames();
+        Map<List<Object>, Entity> distinctEntities = new LinkedHashMap<>();
+        List<Entity> entitiesWithoutKey = new ArrayList<>();
+        for (Future<List<Entity>> fetchFuture : fetchFutures) {
+            for (Entity entity : fetchFuture.result()) {
+                List<Object> key = new ArrayList<>(keyNames.size());
+                for (String keyName : keyNames) {
+                    key.add(Optional.ofNullable(entity.getProperty(keyName)).map(Property::getValue).orElse(null));
+                }
+                if (key.isEmpty() || key.contains(null)) {
+                    entitiesWithoutKey.add(entity);
+                } else {
+                    distinctEntities.putIfAbsent(key, entity);
+                }
+            }
+        }
+        List<Entity> entities = new ArrayList<>(distinctEntities.values());
+        entities.addAll(entitiesWithoutKey);
+        return entities;
+    }
+
     /**
      * Filters the referenced entities based on the navigation property.
      *
@@ -55,28 +213,85 @@ public final class NavigationPropertyHelper {
      */
     public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
             List<Entity> referencedEntities) {
-        List<Entity> filteredEntities = new ArrayList<>(referencedEntities);
+        return getRelatedEntities(navigationProperty, sourceEntity,
+                indexReferencedEntities(navigationProperty, referencedEntities));
+    }
+
+    /**
+     * Builds an index of the referenced entities, keyed by the values of the properties referenced by the referential
+     * constraints of the navigation property. Use {@link #getRelatedEntities(EdmNavigationProperty, Entity, Map)} to
+     * look up the related entities of a source entity in the index.
+     * <p>
+     * Building the index once, instead of filtering all referenced entities for every source entity, reduces expanding
+     * a navigation property of n source entities against m referenced entities from O(n*m) to O(n+m).
+     *
+     * @param navigationProperty the navigation property
+     * @param referencedEntities the entities of the referenced type
+     * @return a {@link Map} of the referenced property values to the {@link Entity entities} having these values
+     */
+    public static Map<List<Object>, List<Entity>> indexReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> referencedEntities) {
+        List<String> referencePropertyNames = getConstraintPropertyNames(navigationProperty, true);
+        Map<List<Object>, List<Entity>> index = new HashMap<>();
+        for (Entity referenceEntity : referencedEntities) {
+            List<Object> key = getPropertyValues(referenceEntity, referencePropertyNames);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(referenceEntity);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Looks up the entities related to the source entity in an index built by
+     * {@link #indexReferencedEntities(EdmNavigationProperty, List)}.
+     *
+     * @param navigationProperty      the navigation property
+     * @param sourceEntity            the entity with navigation property
+     * @param referencedEntitiesIndex the index of the entities of the referenced type
+     * @return a {@link List} with all related {@link Entity entities}
+     */
+    public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
+            Map<List<Object>, List<Entity>> referencedEntitiesIndex) {
+        List<Object> key = getPropertyValues(sourceEntity, getConstraintPropertyNames(navigationProperty, false));
+        return key != null ? new ArrayList<>(referencedEntitiesIndex.getOrDefault(key, List.of())) : new ArrayList<>();
+    }
+
+    /**
+     * Returns the names of the properties of either the source or the referenced side of the referential constraints.
+     *
+     * @param navigationProperty the navigation property
+     * @param referenced         true to return the property names of the referenced entity, false for the source entity
+     * @return the property names in the order of the referential constraints
+     */
+    static List<String> getConstraintPropertyNames(EdmNavigationProperty navigationProperty, boolean referenced) {
         boolean isCollection = navigationProperty.isCollection();
         List<EdmReferentialConstraint> constraints =
                 isCollection ? navigationProperty.getPartner().getReferentialConstraints()
                         : navigationProperty.getReferentialConstraints();
 
+        List<String> propertyNames = new ArrayList<>(constraints.size());
         for (EdmReferentialConstraint constraint : constraints) {
-            String propertyName = isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName();
-            String referencePropertyName =
-                    isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName();
-
-            Object propertyValue = sourceEntity.getProperty(propertyName).getValue();
-            List<Entity> remainingEntities = List.copyOf(filteredEntities);
-            filteredEntities.clear();
-            for (Entity referenceEntity : remainingEntities) {
-                Object referencePropertyValue = referenceEntity.getProperty(referencePropertyName).getValue();
-                if (propertyValue.equals(referencePropertyValue)) {
-                    filteredEntities.add(referenceEntity);
-                }
+            // for a collection the constraints are taken from the partner, thus the sides of the constraint are swapped
+            propertyNames.add(isCollection == referenced ? constraint.getPropertyName()
+                    : constraint.getReferencedPropertyName());
+        }
+        return propertyNames;
+    }
+
+    /**
+     * Returns the values of the properties of an entity, or null in case one of the values is null. As null values
+     * never match any other value, entities with null values can neither be related to, nor relate to other entities.
+     */
+    private static List<Object> getPropertyValues(Entity entity, List<String> propertyNames) {
+        Object[] values = new Object[propertyNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = entity.getProperty(propertyNames.get(i)).getValue();
+            if (values[i] == null) {
+                return null;
             }
         }
-        return filteredEntities;
+        return Arrays.asList(values);
     }
 
     /**
@@ -135,7 +350,7 @@ public final class NavigationPropertyHelper {
             Vertx vertx, RoutingContext routingContext) {
         if (navigationPart instanceof UriResourceNavigation) {
             EdmNavigationProperty edmNavigationProperty = ((UriResourceNavigation) navigationPart).getProperty();
-            return fetchReferencedEntities(edmNavigationProperty, vertx, routingContext)
+            return fetchReferencedEntities(edmNavigationProperty, List.of(sourceEntity), vertx, routingContext)
                     .map(entities -> getRelatedEntities(edmNavigationProperty, sourceEntity, entities));
         } else {
             return failedFuture("Expected second path segment to be a navigation property");
@@ -1,16 +1,36 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getConstraintPropertyNames;
+import static io.neonbee.entity.EntityVerticle.COUNT_ONLY_HEADER;
+import static io.neonbee.entity.EntityVerticle.ENTITY_QUERY_HEADER;
+import static io.neonbee.entity.EntityVerticle.SELECTED_PROPERTIES_HEADER;
 import static io.neonbee.entity.EntityVerticle.requestEntity;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.ExpandItem;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.SelectItem;
+import org.apache.olingo.server.api.uri.queryoption.SelectOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -19,6 +39,10 @@ import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.EntityQueryTranslator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.PropertyNameCollector;
+import io.neonbee.entity.EntityQuery;
+import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -49,6 +73,18 @@ public final class ProcessorHelper {
     /** OData key predicate key. */
     public static final String ODATA_KEY_PREDICATE_KEY = "OData.key";
 
+    /** OData skip token key. */
+    public static final String ODATA_SKIP_TOKEN_KEY = "OData.skiptoken";
+
+    /** OData next skip token key, the skip token to request the next page with. */
+    public static final String ODATA_NEXT_SKIP_TOKEN_KEY = "OData.nextskiptoken";
+
+    /** The preference of the Prefer header, to request a maximum page size for collections. */
+    public static final String MAX_PAGE_SIZE_PREFERENCE = "odata.maxpagesize";
+
+    /** OData count key, the number of entities matching the query, in case only the count was requested. */
+    public static final String ODATA_COUNT_KEY = "OData.count";
+
     private ProcessorHelper() {}
 
     private static DataQuery odataRequestToQuery(ODataRequest request, DataAction action, Buffer body) {
@@ -76,6 +112,50 @@ public final class ProcessorHelper {
         return forwardRequest(request, action, null, uriInfo, vertx, routingContext, processPromise);
     }
 
+    /**
+     * Maps an ODataRequest for a collection into an entity request and sends it to the related entity verticles. The
+     * maximum page size is passed to the entity verticles as {@value #MAX_PAGE_SIZE_PREFERENCE} preference of the
+     * Prefer header, so entity verticles are able to page the collection themselves (see
+     * {@link #ODATA_SKIP_TOKEN_KEY}).
+     *
+     * @param request        The ODataRequest
+     * @param action         The DataAction of the request
+     * @param uriInfo        The UriInfo of the ODataRequest
+     * @param maxPageSize    The maximum number of entities per page, or 0 in case the collection is not paged
+     * @param vertx          The Vert.x instance
+     * @param routingContext The routingContext of the request
+     * @param processPromise the processPromise of the current request
+     * @return a Future of EntityWrapper holding the result of the entity request.
+     */
+    public static Future<EntityWrapper> forwardRequest(ODataRequest request, DataAction action, UriInfo uriInfo,
+            int maxPageSize, Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        DataQuery query = odataRequestToQuery(request, action, null);
+        if (maxPageSize > 0) {
+            query.setHeader(HttpHeader.PREFER, MAX_PAGE_SIZE_PREFERENCE + "=" + maxPageSize);
+        }
+        return forwardQuery(query, uriInfo, vertx, routingContext, processPromise);
+    }
+
+    /**
+     * Maps an ODataRequest for the number of entities of a collection into an entity request and sends it to the
+     * related entity verticles. The query is flagged with the {@link EntityVerticle#COUNT_ONLY_HEADER}, so entity
+     * verticles are able to return only the number of entities matching the query as {@link #ODATA_COUNT_KEY} response
+     * hint, instead of returning all entities.
+     *
+     * @param request        The ODataRequest
+     * @param uriInfo        The UriInfo of the ODataRequest
+     * @param vertx          The Vert.x instance
+     * @param routingContext The routingContext of the request
+     * @param processPromise the processPromise of the current request
+     * @return a Future of EntityWrapper holding the result of the entity request.
+     */
+    public static Future<EntityWrapper> forwardCountRequest(ODataRequest request, UriInfo uriInfo, Vertx vertx,
+            RoutingContext routingContext, Promise<Void> processPromise) {
+        DataQuery query = odataRequestToQuery(request, DataAction.READ, null).setHeader(COUNT_ONLY_HEADER,
+                Boolean.TRUE.toString());
+        return forwardQuery(query, uriInfo, vertx, routingContext, processPromise);
+    }
+
     /**
      * Maps an ODataRequest into an entity request and sends it to the related entity verticles. If the ODataRequest
      * contains an Entity in the request body, this entity will also be forwarded.
@@ -95,7 +175,19 @@ public final class ProcessorHelper {
         EdmEntityType entityType = uriResourceEntitySet.getEntitySet().getEntityType();
         Buffer body = Optional.ofNullable(entity)
                 .map(e -> new EntityWrapper(entityType.getFullQualifiedName(), e).toBuffer(vertx)).orElse(null);
-        DataQuery query = odataRequestToQuery(request, action, body);
+        return forwardQuery(odataRequestToQuery(request, action, body), uriInfo, vertx, routingContext, processPromise);
+    }
+
+    private static Future<EntityWrapper> forwardQuery(DataQuery query, UriInfo uriInfo, Vertx vertx,
+            RoutingContext routingContext, Promise<Void> processPromise) {
+        UriResourceEntitySet uriResourceEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
+        EdmEntityType entityType = uriResourceEntitySet.getEntitySet().getEntityType();
+        if (query.getAction() == DataAction.READ) {
+            Optional.ofNullable(getRequiredPropertyNames(uriInfo, entityType))
+                    .ifPresent(names -> query.setHeader(SELECTED_PROPERTIES_HEADER, String.join(",", names)));
+            Optional.ofNullable(getEntityQuery(uriInfo))
+                    .ifPresent(entityQuery -> query.setHeader(ENTITY_QUERY_HEADER, entityQuery.toJson().encode()));
+        }
         DataContext dataContext = new DataContextImpl(routingContext);
         return requestEntity(vertx, new DataRequest(entityType.getFullQualifiedName(), query), dataContext)
                 .map(result -> {
@@ -104,6 +196,84 @@ public final class ProcessorHelper {
                 }).onFailure(processPromise::fail);
     }
 
+    /**
+     * Returns the names of all properties required to respond to a request with a $select option, that is the selected
+     * properties, the key properties and any property referenced by the $filter and $orderby options, or needed to
+     * resolve the navigation properties of the $expand option.
+     *
+     * @param uriInfo    the UriInfo of the request
+     * @param entityType the type of the entities requested
+     * @return the sorted names of the properties required, or null in case all properties are required
+     */
+    @VisibleForTesting
+    static Set<String> getRequiredPropertyNames(UriInfo uriInfo, EdmEntityType entityType) {
+        SelectOption selectOption = uriInfo.getSelectOption();
+        if (selectOption == null || uriInfo.getUriResourceParts().size() > 1 || uriInfo.getApplyOption() != null
+                || uriInfo.getSearchOption() != null) {
+            return null;
+        }
+
+        Set<String> propertyNames = new TreeSet<>(entityType.getKeyPredicateNames());
+        for (SelectItem selectItem : selectOption.getSelectItems()) {
+            if (selectItem.isStar() || selectItem.getResourcePath() == null) {
+                return null;
+            }
+            UriResource resource = selectItem.getResourcePath().getUriResourceParts().get(0);
+            if (!(resource instanceof UriResourceProperty)) {
+                return null;
+            }
+            propertyNames.add(((UriResourceProperty) resource).getProperty().getName());
+        }
+
+        List<Expression> expressions = new ArrayList<>();
+        Optional.ofNullable(uriInfo.getFilterOption()).map(FilterOption::getExpression).ifPresent(expressions::add);
+        Optional.ofNullable(uriInfo.getOrderByOption()).map(OrderByOption::getOrders).orElse(List.of())
+                .forEach(orderByItem -> expressions.add(orderByItem.getExpression()));
+        try {
+            for (Expression expression : expressions) {
+                Set<String> referencedNames = PropertyNameCollector.collect(expression);
+                if (referencedNames == null) {
+                    return null;
+                }
+                propertyNames.addAll(referencedNames);
+            }
+        } catch (ExpressionVisitException | ODataApplicationException e) {
+            return null;
+        }
+
+        ExpandOption expandOption = uriInfo.getExpandOption();
+        for (ExpandItem expandItem : expandOption != null ? expandOption.getExpandItems() : List.<ExpandItem>of()) {
+            if (expandItem.isStar() || expandItem.getResourcePath() == null) {
+                return null;
+            }
+            UriResource resource = expandItem.getResourcePath().getUriResourceParts().get(0);
+            if (!(resource instanceof UriResourceNavigation)) {
+                return null;
+            }
+            propertyNames.addAll(getConstraintPropertyNames(((UriResourceNavigation) resource).getProperty(), false));
+        }
+        return propertyNames;
+    }
+
+    /**
+     * Translates the query options of a request to a collection of entities into an entity query.
+     *
+     * @param uriInfo the UriInfo of the request
+     * @return the entity query, or null in case the request is no request to a collection of entities, or there are no
+     *         query options to translate
+     */
+    @VisibleForTesting
+    static EntityQuery getEntityQuery(UriInfo uriInfo) {
+        List<UriResource> resourceParts = uriInfo.getUriResourceParts();
+        if (resourceParts.size() != 1 || !((UriResourceEntitySet) resourceParts.get(0)).getKeyPredicates().isEmpty()
+                || uriInfo.getApplyOption() != null || uriInfo.getSearchOption() != null) {
+            return null;
+        }
+
+        EntityQuery entityQuery = EntityQueryTranslator.translate(uriInfo);
+        return entityQuery.isEmpty() && entityQuery.isFilterComplete() ? null : entityQuery;
+    }
+
     /**
      * Transfer response hints from data context into routing context.
      *
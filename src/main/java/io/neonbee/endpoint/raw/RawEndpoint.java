@@ -4,9 +4,12 @@ import static io.neonbee.data.DataAction.CREATE;
 import static io.neonbee.data.DataAction.DELETE;
 import static io.neonbee.data.DataAction.READ;
 import static io.neonbee.data.DataAction.UPDATE;
+import static io.neonbee.data.DataException.FAILURE_CODE_CIRCUIT_OPEN;
 import static io.neonbee.data.DataException.FAILURE_CODE_NO_HANDLERS;
+import static io.neonbee.data.DataException.FAILURE_CODE_OVERLOADED;
 import static io.neonbee.data.DataException.FAILURE_CODE_TIMEOUT;
 import static io.neonbee.data.DataVerticle.requestData;
+import static io.neonbee.data.DataVerticle.requestStream;
 import static io.neonbee.endpoint.Endpoint.createRouter;
 import static io.neonbee.internal.helper.CollectionHelper.multiMapToMap;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -15,6 +18,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.HEAD;
@@ -38,6 +42,7 @@ import io.neonbee.data.DataAction;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataVerticle;
 import io.neonbee.data.internal.DataContextImpl;
 import io.neonbee.endpoint.Endpoint;
 import io.neonbee.internal.RegexBlockList;
@@ -60,6 +65,12 @@ public class RawEndpoint implements Endpoint {
      */
     public static final String CONFIG_EXPOSE_HIDDEN_VERTICLES = "exposeHiddenVerticles";
 
+    /**
+     * The key to configure if the results of read requests should be streamed from the data verticles, see
+     * {@link DataVerticle#retrieveStream(DataQuery, io.neonbee.data.DataContext)}.
+     */
+    public static final String CONFIG_STREAMING = "streaming";
+
     /**
      * The default path the raw endpoint is exposed by NeonBee.
      */
@@ -90,6 +101,8 @@ public class RawEndpoint implements Endpoint {
 
         private final RegexBlockList exposedVerticles;
 
+        private final boolean streaming;
+
         /**
          * Creates a new RawDataEndpointHandler based on the given configuration.
          *
@@ -106,6 +119,9 @@ public class RawEndpoint implements Endpoint {
             // a block / allow list of all verticles that should be exposed via this endpoint (works in conjunction with
             // the exposeHiddenVerticles flag, as described in the previous comment)
             exposedVerticles = RegexBlockList.fromJson(config.getValue("exposedVerticles"));
+
+            // stream the results of read requests chunk by chunk, instead of requesting the materialized result
+            streaming = config.getBoolean(CONFIG_STREAMING, false);
         }
 
         @Override
@@ -145,26 +161,15 @@ public class RawEndpoint implements Endpoint {
                             .addHeader("X-HTTP-Method", request.method().name());
 
             DataContextImpl context = new DataContextImpl(routingContext);
+            if (streaming && action == READ) {
+                streamData(routingContext, new DataRequest(qualifiedName, query), context);
+                return;
+            }
+
             requestData(routingContext.vertx(), new DataRequest(qualifiedName, query),
                     new DataContextImpl(routingContext)).onComplete(asyncResult -> {
                         if (asyncResult.failed()) {
-                            Throwable cause = asyncResult.cause();
-                            if (cause instanceof DataException) {
-                                switch (((DataException) cause).failureCode()) {
-                                case FAILURE_CODE_NO_HANDLERS:
-                                    routingContext.fail(NOT_FOUND.code());
-                                    return;
-                                case FAILURE_CODE_TIMEOUT:
-                                    routingContext.fail(GATEWAY_TIMEOUT.code());
-                                    return;
-                                default:
-                                    /* nothing to do here, propagate error to the ErrorHandler */
-                                }
-                            }
-
-                            // propagate the error to the ErrorHandler which sets the status code depending on the
-                            // passed exception.
-                            routingContext.fail(-1, cause);
+                            handleFailure(routingContext, asyncResult.cause());
                             return;
                         }
 
@@ -198,6 +203,64 @@ public class RawEndpoint implements Endpoint {
                     });
         }
 
+        /**
+         * Streams the result of a read request chunk by chunk to the response. As the stream is piped to the response,
+         * the data verticle only produces further chunks, as soon as the response can be written.
+         *
+         * @param routingContext the routing context of the request
+         * @param request        the data request
+         * @param context        the data context of the request
+         */
+        private static void streamData(RoutingContext routingContext, DataRequest request, DataContextImpl context) {
+            requestStream(routingContext.vertx(), request, context).onComplete(asyncResult -> {
+                if (asyncResult.failed()) {
+                    handleFailure(routingContext, asyncResult.cause());
+                    return;
+                }
+
+                HttpServerResponse response = routingContext.response().setChunked(true).putHeader("Content-Type",
+                        Optional.ofNullable(context.responseData().get("Content-Type")).map(String.class::cast)
+                                .orElse("application/octet-stream"));
+                // the response must not be ended on failure, otherwise the client would receive a truncated response
+                asyncResult.result().pipe().endOnFailure(false).to(response).onFailure(cause -> {
+                    if (response.headWritten()) {
+                        // the status code was sent already, the only way to indicate the failure is to reset
+                        response.reset();
+                    } else {
+                        handleFailure(routingContext, cause);
+                    }
+                });
+            });
+        }
+
+        /**
+         * Fails the routing context with a status code matching the failure of a data request.
+         *
+         * @param routingContext the routing context to fail
+         * @param cause          the failure of the data request
+         */
+        private static void handleFailure(RoutingContext routingContext, Throwable cause) {
+            if (cause instanceof DataException) {
+                switch (((DataException) cause).failureCode()) {
+                case FAILURE_CODE_NO_HANDLERS:
+                    routingContext.fail(NOT_FOUND.code());
+                    return;
+                case FAILURE_CODE_TIMEOUT:
+                    routingContext.fail(GATEWAY_TIMEOUT.code());
+                    return;
+                case FAILURE_CODE_OVERLOADED:
+                case FAILURE_CODE_CIRCUIT_OPEN:
+                    routingContext.fail(SERVICE_UNAVAILABLE.code());
+                    return;
+                default:
+                    /* nothing to do here, propagate error to the ErrorHandler */
+                }
+            }
+
+            // propagate the error to the ErrorHandler which sets the status code depending on the passed exception.
+            routingContext.fail(-1, cause);
+        }
+
         /**
          * Determine the qualified name of the verticle. The verticle name will be the first path element which starts
          * with an upper case latin letter or a underscore _. Every path element till the verticle name is treated as
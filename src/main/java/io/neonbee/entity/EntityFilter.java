@@ -0,0 +1,393 @@
+package io.neonbee.entity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A structured, serializable filter on the properties of entities, e.g. derived from the $filter option of an OData
+ * request (see {@link EntityQuery}). Entity verticles can translate filters to the query language of their backend,
+ * e.g. to SQL predicates via {@link #toSql(List)}, in order to filter the entities at the source.
+ * <p>
+ * A filter either combines other filters ({@link Operator#AND}, {@link Operator#OR} and {@link Operator#NOT}), or
+ * compares a property of the entities with one or more values. Properties are referenced by their path, which is the
+ * name of the property, or the names of the (complex) properties leading to a property, separated by forward slashes
+ * (/). Values are either null, strings, booleans, longs, doubles or big decimals. Temporal and Guid values are kept as
+ * strings, in the representation of their OData literal.
+ */
+public final class EntityFilter {
+    /**
+     * The operators of a filter.
+     */
+    public enum Operator {
+        /** All operands must match. */
+        AND,
+        /** Any of the operands must match. */
+        OR,
+        /** The operand must not match. */
+        NOT,
+        /** The property equals the value. */
+        EQ,
+        /** The property does not equal the value. */
+        NE,
+        /** The property is greater than the value. */
+        GT,
+        /** The property is greater than or equals the value. */
+        GE,
+        /** The property is less than the value. */
+        LT,
+        /** The property is less than or equals the value. */
+        LE,
+        /** The property equals any of the values. */
+        IN,
+        /** The (string) property contains the value. */
+        CONTAINS,
+        /** The (string) property starts with the value. */
+        STARTS_WITH,
+        /** The (string) property ends with the value. */
+        ENDS_WITH
+    }
+
+    private static final String OPERATOR_KEY = "operator";
+
+    private static final String PROPERTY_KEY = "property";
+
+    private static final String VALUES_KEY = "values";
+
+    private static final String OPERANDS_KEY = "operands";
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final Operator operator;
+
+    private final String property;
+
+    private final List<Object> values;
+
+    private final List<EntityFilter> operands;
+
+    private EntityFilter(Operator operator, String property, List<Object> values, List<EntityFilter> operands) {
+        this.operator = operator;
+        this.property = property;
+        this.values = values;
+        this.operands = operands;
+    }
+
+    /**
+     * Creates a filter matching, if all of the given filters match.
+     *
+     * @param operands the filters to combine
+     * @return a new filter
+     */
+    public static EntityFilter and(List<EntityFilter> operands) {
+        return new EntityFilter(Operator.AND, null, List.of(), List.copyOf(operands));
+    }
+
+    /**
+     * Creates a filter matching, if any of the given filters match.
+     *
+     * @param operands the filters to combine
+     * @return a new filter
+     */
+    public static EntityFilter or(List<EntityFilter> operands) {
+        return new EntityFilter(Operator.OR, null, List.of(), List.copyOf(operands));
+    }
+
+    /**
+     * Creates a filter matching, if the given filter does not match.
+     *
+     * @param operand the filter to negate
+     * @return a new filter
+     */
+    public static EntityFilter not(EntityFilter operand) {
+        return new EntityFilter(Operator.NOT, null, List.of(), List.of(requireNonNull(operand)));
+    }
+
+    /**
+     * Creates a filter comparing a property with a value.
+     *
+     * @param operator the comparison operator, any operator but {@link Operator#AND}, {@link Operator#OR},
+     *                 {@link Operator#NOT} and {@link Operator#IN}
+     * @param property the path of the property to compare
+     * @param value    the value to compare the property with
+     * @return a new filter
+     */
+    public static EntityFilter compare(Operator operator, String property, Object value) {
+        switch (operator) {
+        case AND:
+        case OR:
+        case NOT:
+        case IN:
+            throw new IllegalArgumentException("Operator " + operator + " is no comparison operator");
+        default:
+            return new EntityFilter(operator, requireNonNull(property), Collections.singletonList(value), List.of());
+        }
+    }
+
+    /**
+     * Creates a filter matching, if a property equals any of the given values.
+     *
+     * @param property the path of the property to compare
+     * @param values   the values to compare the property with
+     * @return a new filter
+     */
+    public static EntityFilter in(String property, List<Object> values) {
+        return new EntityFilter(Operator.IN, requireNonNull(property), Collections.unmodifiableList(values),
+                List.of());
+    }
+
+    /**
+     * Returns the operator of this filter.
+     *
+     * @return the operator
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Returns the path of the property compared by this filter.
+     *
+     * @return the path of the property, or null in case this filter combines other filters
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Returns the value the property is compared with.
+     *
+     * @return the (first) value, or null in case this filter combines other filters
+     */
+    public Object getValue() {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Returns the values the property is compared with.
+     *
+     * @return the values, exactly one value for all comparisons, except for {@link Operator#IN}
+     */
+    public List<Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the filters combined by this filter.
+     *
+     * @return the filters combined, or an empty list in case this filter compares a property
+     */
+    public List<EntityFilter> getOperands() {
+        return operands;
+    }
+
+    /**
+     * Translates this filter to a SQL predicate. All values are passed as positional parameters (?), the properties
+     * are used as (quoted) column names.
+     *
+     * @param parameters a list to add the values of the positional parameters to
+     * @return a SQL predicate
+     * @see #toSql(List, UnaryOperator)
+     */
+    public String toSql(List<Object> parameters) {
+        return toSql(parameters, EntityFilter::quoteIdentifier);
+    }
+
+    /**
+     * Translates this filter to a SQL predicate. All values are passed as positional parameters (?).
+     * <p>
+     * In OData a comparison with a property being null is false and thus its negation is true, while in SQL both are
+     * unknown. Thus the predicate explicitly matches null values, wherever a comparison is negated.
+     *
+     * @param parameters   a list to add the values of the positional parameters to
+     * @param columnMapper a function mapping the path of a property to the SQL expression of its column
+     * @return a SQL predicate
+     */
+    public String toSql(List<Object> parameters, UnaryOperator<String> columnMapper) {
+        StringBuilder builder = new StringBuilder();
+        appendSql(builder, parameters, columnMapper, false);
+        return builder.toString();
+    }
+
+    private void appendSql(StringBuilder builder, List<Object> parameters, UnaryOperator<String> columnMapper,
+            boolean negate) {
+        switch (operator) {
+        case AND:
+        case OR:
+            // negations are pushed down to the comparisons (De Morgan), so that null values can be handled there
+            String junction = (operator == Operator.AND) != negate ? " AND " : " OR ";
+            builder.append('(');
+            for (int i = 0; i < operands.size(); i++) {
+                builder.append(i > 0 ? junction : "");
+                operands.get(i).appendSql(builder, parameters, columnMapper, negate);
+            }
+            builder.append(')');
+            return;
+        case NOT:
+            operands.get(0).appendSql(builder, parameters, columnMapper, !negate);
+            return;
+        default:
+            appendComparisonSql(builder, parameters, columnMapper.apply(property), negate);
+        }
+    }
+
+    private void appendComparisonSql(StringBuilder builder, List<Object> parameters, String column,
+            boolean negate) {
+        Object value = getValue();
+        if (value == null && (operator == Operator.EQ || operator == Operator.NE)) {
+            builder.append(column).append((operator == Operator.EQ) != negate ? " IS NULL" : " IS NOT NULL");
+            return;
+        }
+
+        // a positive comparison never matches null values, while a negated comparison has to match null values
+        Operator effectiveOperator = operator == Operator.NE ? Operator.EQ : operator;
+        boolean negated = operator == Operator.NE ? !negate : negate;
+        if (negated) {
+            builder.append('(');
+        }
+        builder.append(column);
+        switch (effectiveOperator) {
+        case EQ:
+            builder.append(negated ? " <> ?" : " = ?");
+            parameters.add(value);
+            break;
+        case GT:
+            builder.append(negated ? " <= ?" : " > ?");
+            parameters.add(value);
+            break;
+        case GE:
+            builder.append(negated ? " < ?" : " >= ?");
+            parameters.add(value);
+            break;
+        case LT:
+            builder.append(negated ? " >= ?" : " < ?");
+            parameters.add(value);
+            break;
+        case LE:
+            builder.append(negated ? " > ?" : " <= ?");
+            parameters.add(value);
+            break;
+        case IN:
+            builder.append(negated ? " NOT IN (" : " IN (");
+            for (int i = 0; i < values.size(); i++) {
+                builder.append(i > 0 ? ", ?" : "?");
+                parameters.add(values.get(i));
+            }
+            builder.append(')');
+            break;
+        default:
+            builder.append(negated ? " NOT LIKE ?" : " LIKE ?").append(" ESCAPE '").append(LIKE_ESCAPE).append('\'');
+            String pattern = escapeLike(String.valueOf(value));
+            parameters.add((effectiveOperator == Operator.STARTS_WITH ? "" : "%") + pattern
+                    + (effectiveOperator == Operator.ENDS_WITH ? "" : "%"));
+        }
+        if (negated) {
+            builder.append(" OR ").append(column).append(" IS NULL)");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char character : value.toCharArray()) {
+            if (character == '%' || character == '_' || character == LIKE_ESCAPE) {
+                builder.append(LIKE_ESCAPE);
+            }
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Quotes a property path as SQL identifier.
+     *
+     * @param property the path of a property
+     * @return the quoted identifier
+     */
+    static String quoteIdentifier(String property) {
+        return '"' + property.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Encodes this filter to JSON.
+     *
+     * @return this filter encoded as JsonObject
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject().put(OPERATOR_KEY, operator.name().toLowerCase(Locale.ROOT));
+        if (property != null) {
+            json.put(PROPERTY_KEY, property).put(VALUES_KEY, new JsonArray(new ArrayList<>(values)));
+        } else {
+            JsonArray encodedOperands = new JsonArray();
+            operands.stream().map(EntityFilter::toJson).forEach(encodedOperands::add);
+            json.put(OPERANDS_KEY, encodedOperands);
+        }
+        return json;
+    }
+
+    /**
+     * Decodes a filter previously encoded with {@link #toJson()}.
+     *
+     * @param json the encoded filter
+     * @return a new EntityFilter
+     */
+    public static EntityFilter fromJson(JsonObject json) {
+        Operator operator = Operator.valueOf(json.getString(OPERATOR_KEY).toUpperCase(Locale.ROOT));
+        String property = json.getString(PROPERTY_KEY);
+        if (property == null) {
+            List<EntityFilter> operands = new ArrayList<>();
+            for (Object operand : json.getJsonArray(OPERANDS_KEY, new JsonArray())) {
+                operands.add(fromJson((JsonObject) operand));
+            }
+            return new EntityFilter(operator, null, List.of(), Collections.unmodifiableList(operands));
+        }
+
+        List<Object> values = new ArrayList<>();
+        for (Object value : json.getJsonArray(VALUES_KEY, new JsonArray())) {
+            values.add(normalizeValue(value));
+        }
+        return new EntityFilter(operator, property, Collections.unmodifiableList(values), List.of());
+    }
+
+    /**
+     * Normalizes numbers decoded from JSON to the number types used in filters.
+     */
+    private static Object normalizeValue(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        return value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, property, values, operands);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof EntityFilter)) {
+            return false;
+        }
+
+        EntityFilter other = (EntityFilter) obj;
+        return operator == other.operator && Objects.equals(property, other.property)
+                && Objects.equals(values, other.values) && Objects.equals(operands, other.operands);
+    }
+
+    @Override
+    public String toString() {
+        return toJson().encode();
+    }
+}
@@ -0,0 +1,330 @@
+package io.neonbee.entity;
+
+import static io.neonbee.entity.EntityVerticle.ENTITY_QUERY_HEADER;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import io.neonbee.data.DataQuery;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A structured, serializable representation of the $filter, $orderby, $skip and $top options of an OData request to a
+ * collection of entities. It is passed to entity verticles with the {@link DataQuery}, so that entity verticles are
+ * able to filter, order and page the entities at their source, without having to interpret the OData UriInfo, see
+ * {@link #fromDataQuery(DataQuery)}.
+ * <p>
+ * The options are applied by the OData endpoint to the entities returned anyways, unless the entity verticle reports
+ * that it already applied an option, via the response data of the data context (e.g. by setting {@code OData.filter}
+ * to true). Note that in case the $filter option could only be translated partially (see
+ * {@link #isFilterComplete()}), the filter must not be reported as applied. The $skip and $top options are only
+ * passed, in case both the $filter and the $orderby option could be translated completely. Still they must only be
+ * applied by entity verticles, which applied the filter and the order as well.
+ */
+public final class EntityQuery {
+    private static final String FILTER_KEY = "filter";
+
+    private static final String FILTER_COMPLETE_KEY = "filterComplete";
+
+    private static final String ORDER_BY_KEY = "orderBy";
+
+    private static final String SKIP_KEY = "skip";
+
+    private static final String TOP_KEY = "top";
+
+    private EntityFilter filter;
+
+    private boolean filterComplete = true;
+
+    private List<Order> orderBy;
+
+    private Integer skip;
+
+    private Integer top;
+
+    /**
+     * The order of the entities by one property.
+     */
+    public static final class Order {
+        private static final String PROPERTY_KEY = "property";
+
+        private static final String DESCENDING_KEY = "descending";
+
+        private final String property;
+
+        private final boolean descending;
+
+        /**
+         * Creates a new order.
+         *
+         * @param property   the path of the property to order by
+         * @param descending true to order descending, false to order ascending
+         */
+        public Order(String property, boolean descending) {
+            this.property = requireNonNull(property);
+            this.descending = descending;
+        }
+
+        /**
+         * Returns the path of the property to order by.
+         *
+         * @return the path of the property
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Returns whether to order descending.
+         *
+         * @return true if the entities are ordered descending, false if ascending
+         */
+        public boolean isDescending() {
+            return descending;
+        }
+
+        JsonObject toJson() {
+            return new JsonObject().put(PROPERTY_KEY, property).put(DESCENDING_KEY, descending);
+        }
+
+        static Order fromJson(JsonObject json) {
+            return new Order(json.getString(PROPERTY_KEY), json.getBoolean(DESCENDING_KEY, false));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(property, descending);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Order)) {
+                return false;
+            }
+
+            Order other = (Order) obj;
+            return descending == other.descending && property.equals(other.property);
+        }
+    }
+
+    /**
+     * Returns the entity query passed with a data query, in case the data query is the result of an OData request to
+     * a collection of entities with any $filter, $orderby, $skip or $top option.
+     *
+     * @param query the data query
+     * @return the entity query passed with the data query, or null in case there is none
+     */
+    public static EntityQuery fromDataQuery(DataQuery query) {
+        return Optional.ofNullable(query.getHeader(ENTITY_QUERY_HEADER)).map(JsonObject::new)
+                .map(EntityQuery::fromJson).orElse(null);
+    }
+
+    /**
+     * Returns the filter of this query.
+     *
+     * @return the filter, or null in case the entities are not filtered
+     */
+    public EntityFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the filter of this query.
+     *
+     * @param filter the filter or null
+     * @return this instance for chaining
+     */
+    public EntityQuery setFilter(EntityFilter filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Returns whether the filter of this query is complete. Only parts of a $filter option, that are combined by "and"
+     * on the top level, can be translated individually. In case any of those parts could not be translated, the
+     * filter only consists of the parts translated and is incomplete. It is still safe to apply an incomplete filter,
+     * as it only matches more entities than requested, but more entities have to be filtered afterwards.
+     *
+     * @return true if the filter represents the complete $filter option, false otherwise
+     */
+    public boolean isFilterComplete() {
+        return filterComplete;
+    }
+
+    /**
+     * Sets whether the filter of this query is complete.
+     *
+     * @param filterComplete true if the filter represents the complete $filter option, false otherwise
+     * @return this instance for chaining
+     */
+    public EntityQuery setFilterComplete(boolean filterComplete) {
+        this.filterComplete = filterComplete;
+        return this;
+    }
+
+    /**
+     * Returns the order of this query.
+     *
+     * @return the properties to order by in order of their precedence, or null in case the entities are not ordered,
+     *         or the $orderby option could not be translated
+     */
+    public List<Order> getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Sets the order of this query.
+     *
+     * @param orderBy the properties to order by or null
+     * @return this instance for chaining
+     */
+    public EntityQuery setOrderBy(List<Order> orderBy) {
+        this.orderBy = orderBy != null ? List.copyOf(orderBy) : null;
+        return this;
+    }
+
+    /**
+     * Returns the number of entities to skip.
+     *
+     * @return the number of entities to skip, or null in case no entities are skipped, or the $filter or $orderby
+     *         option could not be translated completely
+     */
+    public Integer getSkip() {
+        return skip;
+    }
+
+    /**
+     * Sets the number of entities to skip.
+     *
+     * @param skip the number of entities to skip or null
+     * @return this instance for chaining
+     */
+    public EntityQuery setSkip(Integer skip) {
+        this.skip = skip;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of entities to return.
+     *
+     * @return the maximum number of entities, or null in case the number of entities is not limited, or the $filter
+     *         or $orderby option could not be translated completely
+     */
+    public Integer getTop() {
+        return top;
+    }
+
+    /**
+     * Sets the maximum number of entities to return.
+     *
+     * @param top the maximum number of entities or null
+     * @return this instance for chaining
+     */
+    public EntityQuery setTop(Integer top) {
+        this.top = top;
+        return this;
+    }
+
+    /**
+     * Returns whether this query neither filters, orders nor pages the entities.
+     *
+     * @return true if the query is empty
+     */
+    public boolean isEmpty() {
+        return filter == null && orderBy == null && skip == null && top == null;
+    }
+
+    /**
+     * Translates the order of this query to a SQL order by clause (without the ORDER BY keywords), using the
+     * properties as (quoted) column names.
+     *
+     * @return a SQL order by clause, or null in case the entities are not ordered
+     * @see #toSqlOrderBy(UnaryOperator)
+     */
+    public String toSqlOrderBy() {
+        return toSqlOrderBy(EntityFilter::quoteIdentifier);
+    }
+
+    /**
+     * Translates the order of this query to a SQL order by clause (without the ORDER BY keywords).
+     *
+     * @param columnMapper a function mapping the path of a property to the SQL expression of its column
+     * @return a SQL order by clause, or null in case the entities are not ordered
+     */
+    public String toSqlOrderBy(UnaryOperator<String> columnMapper) {
+        return orderBy == null || orderBy.isEmpty() ? null
+                : orderBy.stream().map(order -> columnMapper.apply(order.getProperty())
+                        + (order.isDescending() ? " DESC" : " ASC")).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Encodes this query to JSON.
+     *
+     * @return this query encoded as JsonObject
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject().put(FILTER_COMPLETE_KEY, filterComplete);
+        if (filter != null) {
+            json.put(FILTER_KEY, filter.toJson());
+        }
+        if (orderBy != null) {
+            json.put(ORDER_BY_KEY, new JsonArray(orderBy.stream().map(Order::toJson).collect(Collectors.toList())));
+        }
+        return json.put(SKIP_KEY, skip).put(TOP_KEY, top);
+    }
+
+    /**
+     * Decodes a query previously encoded with {@link #toJson()}.
+     *
+     * @param json the encoded query
+     * @return a new EntityQuery
+     */
+    public static EntityQuery fromJson(JsonObject json) {
+        List<Order> orderBy = null;
+        JsonArray encodedOrderBy = json.getJsonArray(ORDER_BY_KEY);
+        if (encodedOrderBy != null) {
+            orderBy = new ArrayList<>(encodedOrderBy.size());
+            for (Object order : encodedOrderBy) {
+                orderBy.add(Order.fromJson((JsonObject) order));
+            }
+        }
+
+        return new EntityQuery()
+                .setFilter(Optional.ofNullable(json.getJsonObject(FILTER_KEY)).map(EntityFilter::fromJson).orElse(null))
+                .setFilterComplete(json.getBoolean(FILTER_COMPLETE_KEY, true))
+                .setOrderBy(orderBy)
+                .setSkip(json.getInteger(SKIP_KEY)).setTop(json.getInteger(TOP_KEY));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filter, filterComplete, orderBy, skip, top);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof EntityQuery)) {
+            return false;
+        }
+
+        EntityQuery other = (EntityQuery) obj;
+        return filterComplete == other.filterComplete && Objects.equals(filter, other.filter)
+                && Objects.equals(orderBy, other.orderBy) && Objects.equals(skip, other.skip)
+                && Objects.equals(top, other.top);
+    }
+
+    @Override
+    public String toString() {
+        return toJson().encode();
+    }
+}
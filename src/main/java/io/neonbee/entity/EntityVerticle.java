@@ -15,6 +15,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.core.uri.parser.Parser;
@@ -37,6 +39,22 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.shareddata.AsyncMap;
 
 public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
+    /** Header of a DataQuery, which indicates that only the number of matching entities is requested. */
+    public static final String COUNT_ONLY_HEADER = "countOnly";
+
+    /**
+     * Header of a DataQuery, which contains a comma-separated list of the names of all properties required to respond
+     * to the request, in case a $select option was requested. Entity verticles reduce the entities they return to these
+     * properties, see {@link #transformRetrievedData(DataQuery, EntityWrapper, DataContext)}.
+     */
+    public static final String SELECTED_PROPERTIES_HEADER = "selectedProperties";
+
+    /**
+     * Header of a DataQuery, which contains the $filter, $orderby, $skip and $top options of a request to a collection
+     * of entities, translated to an {@link EntityQuery} encoded as JSON.
+     */
+    public static final String ENTITY_QUERY_HEADER = "entityQuery";
+
     @VisibleForTesting
     static final String SHARED_ENTITY_MAP_NAME = "entityVerticles[%s]";
 
@@ -225,6 +243,57 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
      */
     public abstract Future<Set<FullQualifiedName>> entityTypeNames();
 
+    /**
+     * Reduces the entities retrieved to the properties listed in the {@link #SELECTED_PROPERTIES_HEADER} of the query,
+     * in case a $select option was requested. This way only the properties actually required, are encoded and sent via
+     * the event bus, or consolidated with the entities of other entity verticles.
+     */
+    @Override
+    protected EntityWrapper transformRetrievedData(DataQuery query, EntityWrapper data, DataContext context) {
+        String selectedProperties = query.getHeader(SELECTED_PROPERTIES_HEADER);
+        if (data == null || selectedProperties == null) {
+            return data;
+        }
+
+        Set<String> propertyNames = Set.of(selectedProperties.split(","));
+        return new EntityWrapper(data.getTypeName(), data.getEntities().stream()
+                .map(entity -> pruneEntity(entity, propertyNames)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Copies an entity, only containing the given properties. The entity itself is not modified, as it could be still
+     * referenced e.g. by an entity verticle holding its entities in memory.
+     *
+     * @param entity        the entity to prune
+     * @param propertyNames the names of the properties to keep
+     * @return a copy of the entity, only containing the given properties
+     */
+    @VisibleForTesting
+    static Entity pruneEntity(Entity entity, Set<String> propertyNames) {
+        if (entity == null
+                || entity.getProperties().stream().map(Property::getName).allMatch(propertyNames::contains)) {
+            return entity;
+        }
+
+        Entity prunedEntity = new Entity();
+        prunedEntity.setType(entity.getType());
+        prunedEntity.setId(entity.getId());
+        prunedEntity.setETag(entity.getETag());
+        prunedEntity.setBaseURI(entity.getBaseURI());
+        prunedEntity.setSelfLink(entity.getSelfLink());
+        prunedEntity.setEditLink(entity.getEditLink());
+        prunedEntity.setMediaContentType(entity.getMediaContentType());
+        prunedEntity.setMediaContentSource(entity.getMediaContentSource());
+        prunedEntity.setMediaETag(entity.getMediaETag());
+        prunedEntity.getAnnotations().addAll(entity.getAnnotations());
+        prunedEntity.getOperations().addAll(entity.getOperations());
+        prunedEntity.getNavigationLinks().addAll(entity.getNavigationLinks());
+        prunedEntity.getAssociationLinks().addAll(entity.getAssociationLinks());
+        entity.getProperties().stream().filter(property -> propertyNames.contains(property.getName()))
+                .forEach(prunedEntity::addProperty);
+        return prunedEntity;
+    }
+
     /**
      * Will start this entity verticle and registers itself to the message bus for entity query requests.
      */
@@ -4,10 +4,16 @@ import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
+import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Link;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
 import io.neonbee.internal.codec.EntityWrapperMessageCodec;
@@ -87,6 +93,92 @@ public class EntityWrapper {
         return entities;
     }
 
+    /**
+     * Creates a copy of this entity wrapper, with a new list of copied entities. The properties, complex values,
+     * collections and navigation links (including any inline entities) of the entities are copied as well, so the copy
+     * can be modified without affecting this entity wrapper. Primitive property values are not copied.
+     *
+     * @return a copy of this entity wrapper
+     */
+    public EntityWrapper copy() {
+        List<Entity> copiedEntities = entities.stream().map(EntityWrapper::copyEntity).collect(Collectors.toList());
+        return new EntityWrapper(typeName, copiedEntities);
+    }
+
+    private static Entity copyEntity(Entity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        Entity copy = new Entity();
+        copy.setType(entity.getType());
+        copy.setId(entity.getId());
+        copy.setETag(entity.getETag());
+        copy.setBaseURI(entity.getBaseURI());
+        copy.setSelfLink(entity.getSelfLink());
+        copy.setEditLink(entity.getEditLink());
+        copy.setMediaContentType(entity.getMediaContentType());
+        copy.setMediaContentSource(entity.getMediaContentSource());
+        copy.setMediaETag(entity.getMediaETag());
+        copy.getAnnotations().addAll(entity.getAnnotations());
+        copy.getOperations().addAll(entity.getOperations());
+        copy.getAssociationLinks().addAll(entity.getAssociationLinks());
+        entity.getNavigationLinks().stream().map(EntityWrapper::copyLink).forEach(copy.getNavigationLinks()::add);
+        entity.getProperties().stream().map(EntityWrapper::copyProperty).forEach(copy::addProperty);
+        return copy;
+    }
+
+    private static Property copyProperty(Property property) {
+        Property copy = new Property(property.getType(), property.getName(), property.getValueType(),
+                copyValue(property.getValue()));
+        copy.getAnnotations().addAll(property.getAnnotations());
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof ComplexValue) {
+            ComplexValue complexValue = (ComplexValue) value;
+            ComplexValue copy = new ComplexValue();
+            copy.setTypeName(complexValue.getTypeName());
+            copy.getAnnotations().addAll(complexValue.getAnnotations());
+            complexValue.getValue().stream().map(EntityWrapper::copyProperty).forEach(copy.getValue()::add);
+            complexValue.getNavigationLinks().stream().map(EntityWrapper::copyLink)
+                    .forEach(copy.getNavigationLinks()::add);
+            return copy;
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(EntityWrapper::copyValue)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        return value;
+    }
+
+    private static Link copyLink(Link link) {
+        Link copy = new Link();
+        copy.setTitle(link.getTitle());
+        copy.setRel(link.getRel());
+        copy.setHref(link.getHref());
+        copy.setType(link.getType());
+        copy.setMediaETag(link.getMediaETag());
+        copy.setBindingLink(link.getBindingLink());
+        copy.getBindingLinks().addAll(link.getBindingLinks());
+        copy.getAnnotations().addAll(link.getAnnotations());
+        copy.setInlineEntity(copyEntity(link.getInlineEntity()));
+        EntityCollection inlineEntitySet = link.getInlineEntitySet();
+        if (inlineEntitySet != null) {
+            EntityCollection inlineEntitySetCopy = new EntityCollection();
+            inlineEntitySetCopy.setCount(inlineEntitySet.getCount());
+            inlineEntitySetCopy.setId(inlineEntitySet.getId());
+            inlineEntitySetCopy.setNext(inlineEntitySet.getNext());
+            inlineEntitySetCopy.setDeltaLink(inlineEntitySet.getDeltaLink());
+            inlineEntitySetCopy.getAnnotations().addAll(inlineEntitySet.getAnnotations());
+            inlineEntitySetCopy.getOperations().addAll(inlineEntitySet.getOperations());
+            inlineEntitySet.getEntities().stream().map(EntityWrapper::copyEntity)
+                    .forEach(inlineEntitySetCopy.getEntities()::add);
+            copy.setInlineEntitySet(inlineEntitySetCopy);
+        }
+        return copy;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(entities, typeName);
@@ -110,11 +202,14 @@ public class EntityWrapper {
      * A Vertx instance with loaded schema description for the entity must be provided to this method, since the schema
      * metadata is required during the serialization (conversion to buffer) process.
      *
+     * As the buffer might be transferred as a string (e.g. in the body of a {@link io.neonbee.data.DataQuery}), the
+     * textual JSON format is used. {@link #fromBuffer(Vertx, Buffer)} is able to decode any format though.
+     *
      * @param vertx vertx, in which the schemas are loaded
      * @return a buffer representation of entity wrapper
      */
     public Buffer toBuffer(Vertx vertx) {
-        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx);
+        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx, false);
         Buffer buffer = Buffer.buffer();
         codec.encodeToWire(buffer, this);
         return buffer;
@@ -1,25 +1,122 @@
 package io.neonbee.internal.codec;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.neonbee.data.DataAction;
 import io.neonbee.data.DataQuery;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * The message codec for {@link DataQuery}.
+ * <p>
+ * Queries are either encoded in the JSON format of previous versions of NeonBee, or in a compact binary format: a
+ * format marker, the ordinal of the action, the length-prefixed UTF-8 encoded URI path, the query parameters and
+ * headers as multi-maps and the raw bytes of the body. As opposed to the JSON format, binary bodies are transferred
+ * unchanged and no data binding is needed. The format marker is a negative byte, which can never be the first byte of
+ * the (length-prefixed) JSON format, so queries in both formats can be decoded. As nodes of previous versions of
+ * NeonBee are not able to decode the binary format, it is opt-in.
+ */
 public class DataQueryMessageCodec implements MessageCodec<DataQuery, DataQuery> {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    static final byte BINARY_FORMAT_MARKER = -1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final DataAction[] ACTIONS = DataAction.values();
+
+    private final boolean binaryFormat;
+
+    /**
+     * Creates a new DataQueryMessageCodec, encoding to the JSON format.
+     */
+    public DataQueryMessageCodec() {
+        this(false);
+    }
+
+    /**
+     * Creates a new DataQueryMessageCodec.
+     *
+     * @param binaryFormat if true, queries are encoded to the binary format, otherwise to the JSON format, e.g. in case
+     *                     other nodes in the cluster do not support decoding the binary format yet
+     */
+    public DataQueryMessageCodec(boolean binaryFormat) {
+        this.binaryFormat = binaryFormat;
+    }
+
     @Override
     public void encodeToWire(Buffer buffer, DataQuery query) {
-        JsonObject.mapFrom(query).writeToBuffer(buffer);
+        if (!binaryFormat) {
+            encodeJson(buffer, query);
+            return;
+        }
+
+        buffer.appendByte(BINARY_FORMAT_MARKER);
+        buffer.appendByte(query.getAction() != null ? (byte) query.getAction().ordinal() : (byte) NULL_LENGTH);
+        writeString(buffer, query.getUriPath());
+        // read the views of the query, to neither copy structures shared with other queries, nor modify the query
+        writeMultiMap(buffer, query.getParametersView());
+        writeMultiMap(buffer, query.getHeadersView());
+
+        Buffer body = query.getBodyView();
+        if (body != null) {
+            buffer.appendInt(body.length());
+            buffer.appendBuffer(body);
+        } else {
+            buffer.appendInt(NULL_LENGTH);
+        }
+    }
+
+    /**
+     * Encodes the query to the JSON format, as encoded by previous versions of NeonBee via data binding. The views of
+     * the query are used, to neither copy structures shared with other queries, nor modify the query.
+     *
+     * @param buffer the buffer to encode the query into
+     * @param query  the query to encode
+     */
+    private static void encodeJson(Buffer buffer, DataQuery query) {
+        Map<String, List<String>> parameters = query.getParametersView();
+        Map<String, List<String>> headers = query.getHeadersView();
+        Buffer body = query.getBodyView();
+        new JsonObject().put("action", query.getAction() != null ? query.getAction().name() : null)
+                .put("uriPath", query.getUriPath())
+                .put("parameters", parameters != null ? new JsonObject(new LinkedHashMap<>(parameters)) : null)
+                .put("headers", headers != null ? new JsonObject(new LinkedHashMap<>(headers)) : null)
+                .put("body", body != null ? body.toString() : null).writeToBuffer(buffer);
     }
 
     @Override
     public DataQuery decodeFromWire(int position, Buffer buffer) {
-        JsonObject jsonObject = new JsonObject();
-        jsonObject.readFromBuffer(position, buffer);
-        return jsonObject.mapTo(DataQuery.class);
+        if (buffer.getByte(position) != BINARY_FORMAT_MARKER) {
+            JsonObject jsonObject = new JsonObject();
+            jsonObject.readFromBuffer(position, buffer);
+            return jsonObject.mapTo(DataQuery.class);
+        }
+
+        int[] pos = { position + 1 };
+        byte actionOrdinal = buffer.getByte(pos[0]++);
+        DataAction action = actionOrdinal != NULL_LENGTH ? ACTIONS[actionOrdinal] : null;
+        String uriPath = readString(buffer, pos);
+        Map<String, List<String>> parameters = readMultiMap(buffer, pos);
+        Map<String, List<String>> headers = readMultiMap(buffer, pos);
+
+        int bodyLength = buffer.getInt(pos[0]);
+        pos[0] += Integer.BYTES;
+        // slicing does not copy the body, only the DataQuery itself will create a copy of it
+        Buffer body = bodyLength != NULL_LENGTH ? buffer.slice(pos[0], pos[0] + bodyLength) : null;
+
+        return new DataQuery(action, uriPath, parameters, null, body).setHeaders(headers);
     }
 
     @Override
     public DataQuery transform(DataQuery query) {
+        // copies of a query share their structures copy-on-write, so no deep copy is created for local deliveries
         return query.copy();
     }
 
@@ -32,4 +129,74 @@ public class DataQueryMessageCodec implements MessageCodec<DataQuery, DataQuery>
     public byte systemCodecID() {
         return -1;
     }
+
+    private static void writeString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+        } else {
+            byte[] bytes = value.getBytes(UTF_8);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        }
+    }
+
+    private static String readString(Buffer buffer, int[] pos) {
+        int length = buffer.getInt(pos[0]);
+        pos[0] += Integer.BYTES;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        String value = buffer.getString(pos[0], pos[0] + length, UTF_8.name());
+        pos[0] += length;
+        return value;
+    }
+
+    private static void writeMultiMap(Buffer buffer, Map<String, List<String>> multiMap) {
+        if (multiMap == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        buffer.appendInt(multiMap.size());
+        for (Map.Entry<String, List<String>> entry : multiMap.entrySet()) {
+            writeString(buffer, entry.getKey());
+            List<String> values = entry.getValue();
+            if (values == null) {
+                buffer.appendInt(NULL_LENGTH);
+                continue;
+            }
+
+            buffer.appendInt(values.size());
+            for (String value : values) {
+                writeString(buffer, value);
+            }
+        }
+    }
+
+    private static Map<String, List<String>> readMultiMap(Buffer buffer, int[] pos) {
+        int size = buffer.getInt(pos[0]);
+        pos[0] += Integer.BYTES;
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+
+        Map<String, List<String>> multiMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(buffer, pos);
+            int valuesSize = buffer.getInt(pos[0]);
+            pos[0] += Integer.BYTES;
+            if (valuesSize == NULL_LENGTH) {
+                multiMap.put(key, null);
+                continue;
+            }
+
+            List<String> values = new ArrayList<>(valuesSize);
+            for (int j = 0; j < valuesSize; j++) {
+                values.add(readString(buffer, pos));
+            }
+            multiMap.put(key, values);
+        }
+        return multiMap;
+    }
 }
@@ -1,18 +1,31 @@
 package io.neonbee.internal.codec;
 
 import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.olingo.commons.api.format.ContentType.APPLICATION_JSON;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 import org.apache.olingo.commons.api.data.ContextURL;
+import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.deserializer.DeserializerException;
 import org.apache.olingo.server.api.deserializer.DeserializerResult;
@@ -24,6 +37,10 @@ import org.apache.olingo.server.api.serializer.SerializerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import io.neonbee.NeonBee;
 import io.neonbee.entity.EntityModelDefinition;
 import io.neonbee.entity.EntityWrapper;
@@ -32,7 +49,25 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * The message codec for {@link EntityWrapper}.
+ * <p>
+ * The codec supports two wire formats: A textual OData JSON format, which is understood by all NeonBee versions and a
+ * compact binary format driven by the {@link EdmEntityType} of the wrapped entities. The binary format starts with a
+ * version byte, whereas the JSON format always starts with an opening curly bracket, so any buffer can be decoded
+ * regardless of the format it was encoded with. Entity types with non-primitive (e.g. complex or collection)
+ * properties are always encoded in the JSON format. The same applies to entities carrying any data besides the values
+ * of their properties, e.g. an id, an ETag, annotations or links, as the binary format contains the values only.
+ * <p>
+ * The binary format is opt-in, as NeonBee nodes of previous versions are not able to decode it. Besides the values of
+ * the entities, it contains a compact table of the names and primitive types of the encoded properties. In case the
+ * model of the entity type differs between the sending and the receiving node, the values are decoded according to
+ * this table.
+ */
 public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, EntityWrapper> {
+    @SuppressWarnings("checkstyle:JavadocVariable")
+    static final byte BINARY_FORMAT_VERSION = 1;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private static final String ENTITY = "entity";
@@ -43,15 +78,48 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     private static final String ENTITY_TYPE = "entityType";
 
+    private static final byte NULL_VALUE = 0;
+
+    private static final byte BINARY_VALUE = 1;
+
+    private static final byte LITERAL_VALUE = 2;
+
+    private static final byte ABSENT_VALUE = 3;
+
+    /**
+     * Returned when decoding a property, which was not part of the encoded entity at all.
+     */
+    private static final Object ABSENT = new Object();
+
+    private static final EdmPrimitiveTypeKind[] KINDS = EdmPrimitiveTypeKind.values();
+
+    // weak keys, as entity types of outdated models must not be held in memory
+    private static final LoadingCache<EdmEntityType, EntityTypeLayout> LAYOUTS =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(EntityTypeLayout::new));
+
     private final Vertx vertx;
 
+    private final boolean binaryFormat;
+
     /**
-     * Creates a new EntityWrapperMessageCodec.
+     * Creates a new EntityWrapperMessageCodec, encoding to the JSON format.
      *
      * @param vertx a Vert.x instance required to get the buffered model
      */
     public EntityWrapperMessageCodec(Vertx vertx) {
+        this(vertx, false);
+    }
+
+    /**
+     * Creates a new EntityWrapperMessageCodec.
+     *
+     * @param vertx        a Vert.x instance required to get the buffered model
+     * @param binaryFormat if true, entity wrappers are encoded to the binary format, otherwise to the JSON format,
+     *                     e.g. in case other nodes in the cluster do not support decoding the binary format yet
+     */
+    public EntityWrapperMessageCodec(Vertx vertx, boolean binaryFormat) {
         this.vertx = vertx;
+        this.binaryFormat = binaryFormat;
     }
 
     @Override
@@ -62,6 +130,14 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
             throw new IllegalStateException("Service metadata was not loaded yet for " + entityWrapper.getTypeName());
         }
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
+        if (binaryFormat) {
+            EntityTypeLayout layout = LAYOUTS.getUnchecked(entityType);
+            if (layout.binaryCompatible && !hasMetadata(entityWrapper)) {
+                encodeBinary(buffer, entityWrapper, layout);
+                return;
+            }
+        }
+
         EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer().getEntitySet(entityTypeName.getName());
         ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
         EntityCollectionSerializerOptions.Builder optionsBuilder =
@@ -84,6 +160,138 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
+    private static void encodeBinary(Buffer buffer, EntityWrapper entityWrapper, EntityTypeLayout layout) {
+        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
+        buffer.appendByte(BINARY_FORMAT_VERSION);
+        appendString(buffer, entityTypeName.getNamespace());
+        appendString(buffer, entityTypeName.getName());
+        buffer.appendInt(layout.fingerprint);
+        buffer.appendInt(layout.table.length).appendBytes(layout.table);
+
+        List<Entity> entities = entityWrapper.getEntities();
+        buffer.appendInt(entities.size());
+        for (Entity entity : entities) {
+            for (int ordinal = 0; ordinal < layout.properties.length; ordinal++) {
+                Property property = entity.getProperty(layout.names[ordinal]);
+                if (property == null) {
+                    buffer.appendByte(ABSENT_VALUE);
+                } else {
+                    encodeValue(buffer, layout, ordinal, property.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether any entity of the given entity wrapper carries data besides the values of its properties, which
+     * cannot be represented in the binary format.
+     *
+     * @param entityWrapper the entity wrapper to check
+     * @return true if the entity wrapper must be encoded in the JSON format
+     */
+    @SuppressWarnings({ "checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity" })
+    private static boolean hasMetadata(EntityWrapper entityWrapper) {
+        String typeName = entityWrapper.getTypeName().getFullQualifiedNameAsString();
+        for (Entity entity : entityWrapper.getEntities()) {
+            if ((entity.getId() != null) || (entity.getETag() != null) || (entity.getMediaETag() != null)
+                    || (entity.getMediaContentType() != null) || (entity.getMediaContentSource() != null)
+                    || (entity.getSelfLink() != null) || (entity.getEditLink() != null)
+                    || !entity.getMediaEditLinks().isEmpty() || !entity.getOperations().isEmpty()
+                    || !entity.getAnnotations().isEmpty() || !entity.getNavigationLinks().isEmpty()
+                    || !entity.getAssociationLinks().isEmpty() || !entity.getNavigationBindings().isEmpty()
+                    || ((entity.getType() != null) && !typeName.equals(entity.getType()))) {
+                return true;
+            }
+            for (Property property : entity.getProperties()) {
+                if (!property.getAnnotations().isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static void encodeValue(Buffer buffer, EntityTypeLayout layout, int ordinal, Object value) {
+        if (value == null) {
+            buffer.appendByte(NULL_VALUE);
+            return;
+        }
+
+        EdmPrimitiveTypeKind kind = layout.kinds[ordinal];
+        if (isBinaryEncodable(kind, value)) {
+            buffer.appendByte(BINARY_VALUE);
+            switch (kind) {
+            case String:
+                appendString(buffer, (String) value);
+                break;
+            case Boolean:
+                buffer.appendByte((byte) (((Boolean) value) ? 1 : 0));
+                break;
+            case Byte:
+            case SByte:
+            case Int16:
+                buffer.appendShort(((Number) value).shortValue());
+                break;
+            case Int32:
+                buffer.appendInt(((Number) value).intValue());
+                break;
+            case Int64:
+                buffer.appendLong(((Number) value).longValue());
+                break;
+            case Single:
+                buffer.appendFloat(((Number) value).floatValue());
+                break;
+            case Double:
+                buffer.appendDouble(((Number) value).doubleValue());
+                break;
+            case Guid:
+                buffer.appendLong(((UUID) value).getMostSignificantBits())
+                        .appendLong(((UUID) value).getLeastSignificantBits());
+                break;
+            default: // Binary
+                buffer.appendInt(((byte[]) value).length).appendBytes((byte[]) value);
+                break;
+            }
+            return;
+        }
+
+        // any other type / value is transferred as the literal representation of the EDM type
+        EdmProperty edmProperty = layout.properties[ordinal];
+        try {
+            buffer.appendByte(LITERAL_VALUE);
+            appendString(buffer,
+                    layout.types[ordinal].valueToString(value, edmProperty.isNullable(), edmProperty.getMaxLength(),
+                            edmProperty.getPrecision(), edmProperty.getScale(), edmProperty.isUnicode()));
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.warn("Error while serializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static boolean isBinaryEncodable(EdmPrimitiveTypeKind kind, Object value) {
+        switch (kind) {
+        case String:
+            return value instanceof String;
+        case Boolean:
+            return value instanceof Boolean;
+        case Byte:
+        case SByte:
+        case Int16:
+        case Int32:
+        case Int64:
+        case Single:
+        case Double:
+            return value instanceof Number;
+        case Guid:
+            return value instanceof UUID;
+        case Binary:
+            return value instanceof byte[];
+        default:
+            return false;
+        }
+    }
+
     private ServiceMetadata getServiceMetadata(FullQualifiedName entityTypeName) {
         return NeonBee.get(vertx).getModelManager()
                 .getBufferedModel(EntityModelDefinition.retrieveNamespace(entityTypeName.getNamespace()))
@@ -92,6 +300,10 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     @Override
     public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+        if (buffer.getByte(position) == BINARY_FORMAT_VERSION) {
+            return decodeBinary(position + 1, buffer);
+        }
+
         JsonObject jsonObject = buffer.getBuffer(position, buffer.length()).toJsonObject();
         JsonObject entityTypeJsonObject = jsonObject.getJsonObject(ENTITY_TYPE);
         FullQualifiedName entityTypeName =
@@ -111,6 +323,156 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
+    private EntityWrapper decodeBinary(int position, Buffer buffer) {
+        int[] pos = { position };
+        String namespace = readString(buffer, pos);
+        FullQualifiedName entityTypeName = new FullQualifiedName(namespace, readString(buffer, pos));
+        EdmEntityType entityType = getServiceMetadata(entityTypeName).getEdm().getEntityType(entityTypeName);
+        EntityTypeLayout layout = LAYOUTS.getUnchecked(entityType);
+        int fingerprint = buffer.getInt(pos[0]);
+        int tableLength = buffer.getInt(pos[0] + Integer.BYTES);
+        pos[0] += 2 * Integer.BYTES;
+        if (fingerprint == layout.fingerprint) {
+            // the model of the sending node equals the model of this node, so the property table can be skipped
+            pos[0] += tableLength;
+        } else {
+            layout = readLayout(buffer, pos, entityType);
+        }
+
+        int size = buffer.getInt(pos[0]);
+        pos[0] += Integer.BYTES;
+        String typeName = entityTypeName.getFullQualifiedNameAsString();
+        List<Entity> entities = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            Entity entity = new Entity();
+            entity.setType(typeName);
+            for (int ordinal = 0; ordinal < layout.names.length; ordinal++) {
+                Object value = decodeValue(buffer, pos, layout, ordinal);
+                if ((value == ABSENT) || (layout.properties[ordinal] == null)) {
+                    // the property was not part of the encoded entity, or it is not part of the model of this node or
+                    // not of a primitive type there
+                    continue;
+                }
+                entity.addProperty(new Property(layout.typeNames[ordinal], layout.names[ordinal], ValueType.PRIMITIVE,
+                        layout.converted[ordinal] ? convertValue(value, layout, ordinal) : value));
+            }
+            entities.add(entity);
+        }
+        return new EntityWrapper(entityTypeName, entities);
+    }
+
+    private static EntityTypeLayout readLayout(Buffer buffer, int[] pos, EdmEntityType entityType) {
+        int size = buffer.getInt(pos[0]);
+        pos[0] += Integer.BYTES;
+        String[] names = new String[size];
+        EdmPrimitiveTypeKind[] kinds = new EdmPrimitiveTypeKind[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            int length = buffer.getShort(pos[0]);
+            names[ordinal] = buffer.getString(pos[0] + Short.BYTES, pos[0] + Short.BYTES + length, UTF_8.name());
+            kinds[ordinal] = KINDS[buffer.getByte(pos[0] + Short.BYTES + length)];
+            pos[0] += Short.BYTES + length + Byte.BYTES;
+        }
+        return new EntityTypeLayout(entityType, names, kinds);
+    }
+
+    private static Object convertValue(Object value, EntityTypeLayout layout, int ordinal) {
+        if (value == null) {
+            return null;
+        }
+
+        EdmProperty edmProperty = layout.properties[ordinal];
+        EdmPrimitiveType targetType = (EdmPrimitiveType) edmProperty.getType();
+        try {
+            return targetType.valueOfString(layout.types[ordinal].valueToString(value, null, null, null, null, null),
+                    edmProperty.isNullable(), edmProperty.getMaxLength(), edmProperty.getPrecision(),
+                    edmProperty.getScale(), edmProperty.isUnicode(), targetType.getDefaultType());
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.warn("Error while deserializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Object decodeValue(Buffer buffer, int[] pos, EntityTypeLayout layout, int ordinal) {
+        byte valueType = buffer.getByte(pos[0]++);
+        if (valueType == NULL_VALUE) {
+            return null;
+        } else if (valueType == ABSENT_VALUE) {
+            return ABSENT;
+        } else if (valueType == LITERAL_VALUE) {
+            // the facets of the property of this node only apply, in case the type of the property is the same
+            EdmProperty edmProperty = layout.converted[ordinal] ? null : layout.properties[ordinal];
+            EdmPrimitiveType type = layout.types[ordinal];
+            String literal = readString(buffer, pos);
+            try {
+                return edmProperty != null
+                        ? type.valueOfString(literal, edmProperty.isNullable(), edmProperty.getMaxLength(),
+                                edmProperty.getPrecision(), edmProperty.getScale(), edmProperty.isUnicode(),
+                                type.getDefaultType())
+                        : type.valueOfString(literal, null, null, null, null, null, type.getDefaultType());
+            } catch (EdmPrimitiveTypeException e) {
+                LOGGER.warn("Error while deserializing entity wrapper.", e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        // the default types of the respective EDM primitive types are returned, same as the OData JSON deserializer
+        Object value;
+        switch (layout.kinds[ordinal]) {
+        case String:
+            return readString(buffer, pos);
+        case Boolean:
+            value = buffer.getByte(pos[0]) != 0;
+            pos[0] += Byte.BYTES;
+            return value;
+        case SByte:
+            value = (byte) buffer.getShort(pos[0]);
+            pos[0] += Short.BYTES;
+            return value;
+        case Byte:
+        case Int16:
+            value = buffer.getShort(pos[0]);
+            pos[0] += Short.BYTES;
+            return value;
+        case Int32:
+            value = buffer.getInt(pos[0]);
+            pos[0] += Integer.BYTES;
+            return value;
+        case Int64:
+            value = buffer.getLong(pos[0]);
+            pos[0] += Long.BYTES;
+            return value;
+        case Single:
+            value = buffer.getFloat(pos[0]);
+            pos[0] += Float.BYTES;
+            return value;
+        case Double:
+            value = buffer.getDouble(pos[0]);
+            pos[0] += Double.BYTES;
+            return value;
+        case Guid:
+            value = new UUID(buffer.getLong(pos[0]), buffer.getLong(pos[0] + Long.BYTES));
+            pos[0] += 2 * Long.BYTES;
+            return value;
+        default: // Binary
+            int length = buffer.getInt(pos[0]);
+            value = buffer.getBytes(pos[0] + Integer.BYTES, pos[0] + Integer.BYTES + length);
+            pos[0] += Integer.BYTES + length;
+            return value;
+        }
+    }
+
+    private static void appendString(Buffer buffer, String value) {
+        byte[] bytes = value.getBytes(UTF_8);
+        buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    private static String readString(Buffer buffer, int[] pos) {
+        int length = buffer.getInt(pos[0]);
+        String value = buffer.getString(pos[0] + Integer.BYTES, pos[0] + Integer.BYTES + length, UTF_8.name());
+        pos[0] += Integer.BYTES + length;
+        return value;
+    }
+
     @Override
     public EntityWrapper transform(EntityWrapper entity) {
         return entity;
@@ -125,4 +487,110 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
     public byte systemCodecID() {
         return -1;
     }
+
+    /**
+     * The structural properties of an entity type in the order they are encoded in the binary format.
+     */
+    private static final class EntityTypeLayout {
+        private final String[] names;
+
+        /**
+         * The properties of the model of this node, null for properties unknown to the model.
+         */
+        private final EdmProperty[] properties;
+
+        private final EdmPrimitiveType[] types;
+
+        private final EdmPrimitiveTypeKind[] kinds;
+
+        private final String[] typeNames;
+
+        /**
+         * Whether the type of the property differs between the model of the sending node and of this node.
+         */
+        private final boolean[] converted;
+
+        private final int fingerprint;
+
+        private final byte[] table;
+
+        private final boolean binaryCompatible;
+
+        /**
+         * Creates the layout of an entity type of the model of this node.
+         *
+         * @param entityType the entity type
+         */
+        EntityTypeLayout(EdmEntityType entityType) {
+            List<String> propertyNames = entityType.getPropertyNames();
+            int size = propertyNames.size();
+            names = propertyNames.toArray(String[]::new);
+            properties = new EdmProperty[size];
+            types = new EdmPrimitiveType[size];
+            kinds = new EdmPrimitiveTypeKind[size];
+            typeNames = new String[size];
+            converted = new boolean[size];
+
+            Buffer tableBuffer = Buffer.buffer().appendInt(size);
+            boolean compatible = true;
+            int hash = 1;
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                EdmProperty property = entityType.getStructuralProperty(names[ordinal]);
+                properties[ordinal] = property;
+                typeNames[ordinal] = property.getType().getFullQualifiedName().getFullQualifiedNameAsString();
+                hash = 31 * hash + Objects.hash(names[ordinal], typeNames[ordinal]);
+
+                // only non-collection properties of a primitive type can be encoded in the binary format
+                if (property.isCollection() || property.getType().getKind() != EdmTypeKind.PRIMITIVE) {
+                    compatible = false;
+                    continue;
+                }
+                types[ordinal] = (EdmPrimitiveType) property.getType();
+                kinds[ordinal] = EdmPrimitiveTypeKind.valueOfFQN(property.getType().getFullQualifiedName());
+
+                byte[] nameBytes = names[ordinal].getBytes(UTF_8);
+                tableBuffer.appendShort((short) nameBytes.length).appendBytes(nameBytes)
+                        .appendByte((byte) kinds[ordinal].ordinal());
+            }
+
+            this.fingerprint = hash;
+            this.table = tableBuffer.getBytes();
+            this.binaryCompatible = compatible;
+        }
+
+        /**
+         * Creates the layout of an entity type of the model of a sending node, which differs from the model of this
+         * node. The values are decoded according to the types of the sending node.
+         *
+         * @param entityType the entity type of the model of this node
+         * @param names      the names of the properties encoded by the sending node
+         * @param kinds      the primitive types of the properties encoded by the sending node
+         */
+        EntityTypeLayout(EdmEntityType entityType, String[] names, EdmPrimitiveTypeKind[] kinds) {
+            int size = names.length;
+            this.names = names;
+            this.kinds = kinds;
+            properties = new EdmProperty[size];
+            types = new EdmPrimitiveType[size];
+            typeNames = new String[size];
+            converted = new boolean[size];
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                types[ordinal] = getBufferedOData().createPrimitiveTypeInstance(kinds[ordinal]);
+
+                EdmProperty property = entityType.getStructuralProperty(names[ordinal]);
+                if (property == null || property.isCollection()
+                        || property.getType().getKind() != EdmTypeKind.PRIMITIVE) {
+                    continue;
+                }
+                properties[ordinal] = property;
+                typeNames[ordinal] = property.getType().getFullQualifiedName().getFullQualifiedNameAsString();
+                converted[ordinal] = EdmPrimitiveTypeKind.valueOfFQN(typeNames[ordinal]) != kinds[ordinal];
+            }
+
+            this.fingerprint = 0;
+            this.table = new byte[0];
+            this.binaryCompatible = true;
+        }
+    }
 }
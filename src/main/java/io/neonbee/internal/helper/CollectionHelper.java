@@ -20,6 +20,7 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.neonbee.entity.EntityWrapper;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.shareddata.Shareable;
@@ -94,6 +95,7 @@ public final class CollectionHelper {
      * <li>{@link Map}
      * <li>any array type
      * <li>{@link Shareable}
+     * <li>{@link EntityWrapper}
      * </ul>
      *
      * @param <T>    the type of the object to copy
@@ -135,11 +137,27 @@ public final class CollectionHelper {
             }
         } else if (object instanceof Shareable) {
             return (T) ((Shareable) object).copy();
+        } else if (object instanceof EntityWrapper) {
+            return (T) ((EntityWrapper) object).copy();
         } else {
             return object;
         }
     }
 
+    /**
+     * Returns whether an object is either immutable or can be copied with {@link #copyOf(Object)}, so that it is safe
+     * to hand out the object, respectively copies of it, to multiple receivers.
+     *
+     * @param object the object to check
+     * @return true if the object is immutable or can be copied
+     */
+    public static boolean isCopyable(Object object) {
+        return object == null || object instanceof String || object instanceof Number || object instanceof Boolean
+                || object instanceof Buffer || object instanceof List || object instanceof Set
+                || object instanceof Map || object.getClass().isArray() || object instanceof Shareable
+                || object instanceof EntityWrapper;
+    }
+
     /**
      * Converts a given map {@link Map} to a case-insensitive treemap {@link TreeMap} by creating a copy of all mutable
      * keys and values and adding them to a new case-insensitive treemap {@link TreeMap}.
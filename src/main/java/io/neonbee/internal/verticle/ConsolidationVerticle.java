@@ -1,6 +1,7 @@
 package io.neonbee.internal.verticle;
 
 import static io.neonbee.NeonBeeDeployable.NEONBEE_NAMESPACE;
+import static io.neonbee.entity.EntityVerticle.COUNT_ONLY_HEADER;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 
@@ -43,8 +44,11 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
     public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
         return EntityVerticle
                 .getVerticlesForEntityType(vertx, new FullQualifiedName(query.getHeader(ENTITY_TYPE_NAME_HEADER)))
+                // the number of entities cannot be consolidated, thus always request the entities to consolidate
                 .map(qualifiedNames -> qualifiedNames.stream()
-                        .map(qualifiedName -> new DataRequest(qualifiedName, query)).collect(Collectors.toList()));
+                        .map(qualifiedName -> new DataRequest(qualifiedName,
+                                query.copy().removeHeader(COUNT_ONLY_HEADER)))
+                        .collect(Collectors.toList()));
     }
 
     @Override
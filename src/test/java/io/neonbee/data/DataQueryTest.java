@@ -4,6 +4,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.net.URLDecoder;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.neonbee.internal.codec.DataQueryMessageCodec;
 import io.vertx.core.buffer.Buffer;
 
 class DataQueryTest {
@@ -265,4 +267,75 @@ class DataQueryTest {
         query2.getHeaderValues("header1").add("value2");
         assertThat(query1.getHeaderValues("header1")).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Copied DataQueries should share their structures until they are accessed or modified")
+    void testCopyOnWrite() {
+        DataQuery query1 = new DataQuery(DataAction.CREATE, "uri", Buffer.buffer("payload"))
+                .setParameter("name", "Hodor").setHeader("header1", "value1");
+        DataQuery query2 = query1.copy();
+        assertThat(query2.parameters).isSameInstanceAs(query1.parameters);
+        assertThat(query2.headers).isSameInstanceAs(query1.headers);
+        assertThat(query2.body).isSameInstanceAs(query1.body);
+        assertThat(query2).isEqualTo(query1);
+        assertThat(query2.getParameter("name")).isEqualTo("Hodor");
+        assertThat(query2.getHeader("HEADER1")).isEqualTo("value1");
+        assertThat(query2.parameters).isSameInstanceAs(query1.parameters);
+
+        query2.addParameter("name", "Jon").addHeader("header2", "value2");
+        query2.getBody().appendString("2");
+        assertThat(query1.getParameterValues("name")).containsExactly("Hodor");
+        assertThat(query1.getHeaders()).doesNotContainKey("header2");
+        assertThat(query1.getBody().toString()).isEqualTo("payload");
+        assertThat(query2.getParameterValues("name")).containsExactly("Hodor", "Jon");
+        assertThat(query2.getHeader("HEADER2")).isEqualTo("value2");
+        assertThat(query2.getBody().toString()).isEqualTo("payload2");
+
+        // the original query is also copied when accessed, so the copy cannot be modified through it
+        query1 = new DataQuery().setParameter("name", "Hodor");
+        query2 = query1.copy();
+        query1.getParameters().clear();
+        assertThat(query2.getParameter("name")).isEqualTo("Hodor");
+    }
+
+    @Test
+    @DisplayName("Structures accessed before a DataQuery was copied should not be shared with the copy")
+    void testCopyAfterAccess() {
+        DataQuery query1 = new DataQuery().setParameter("name", "Hodor").setHeader("header1", "value1");
+        Map<String, List<String>> headers = query1.getHeaders();
+        DataQuery query2 = query1.copy();
+        assertThat(query2.headers).isNotSameInstanceAs(query1.headers);
+        assertThat(query2.parameters).isSameInstanceAs(query1.parameters);
+
+        headers.put("header2", new ArrayList<>(List.of("value2")));
+        assertThat(query1.getHeader("header2")).isEqualTo("value2");
+        assertThat(query2.getHeader("header2")).isNull();
+
+        // the headers of the original query are owned by it, so accessing them again does not copy them
+        assertThat(query1.getHeaders()).isSameInstanceAs(headers);
+    }
+
+    @Test
+    @DisplayName("Views and the message codec should neither copy shared structures nor modify the DataQuery")
+    void testViews() {
+        DataQuery query1 = new DataQuery(DataAction.CREATE, "uri", Buffer.buffer("payload"))
+                .setParameter("name", "Hodor").setHeader("header1", "value1");
+        DataQuery query2 = query1.copy();
+        assertThat(query2.getParametersView()).containsExactly("name", List.of("Hodor"));
+        assertThat(query2.getHeadersView().get("HEADER1")).containsExactly("value1");
+        assertThat(query2.getBodyView().toString()).isEqualTo("payload");
+        assertThrows(UnsupportedOperationException.class, () -> query2.getParametersView().clear());
+        assertThrows(UnsupportedOperationException.class, () -> query2.getHeadersView().clear());
+        assertThrows(ReadOnlyBufferException.class, () -> query2.getBodyView().appendString("2"));
+
+        for (DataQueryMessageCodec codec : List.of(new DataQueryMessageCodec(), new DataQueryMessageCodec(true))) {
+            Buffer buffer = Buffer.buffer();
+            codec.encodeToWire(buffer, query2);
+            assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(query1);
+        }
+
+        assertThat(query2.parameters).isSameInstanceAs(query1.parameters);
+        assertThat(query2.headers).isSameInstanceAs(query1.headers);
+        assertThat(query2.body).isSameInstanceAs(query1.body);
+    }
 }
@@ -0,0 +1,78 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataException.FAILURE_CODE_CIRCUIT_OPEN;
+import static io.vertx.core.Future.failedFuture;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.CircuitBreakerConfig;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleCircuitBreakerTest extends DataVerticleTestBase {
+    private FailingDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        getNeonBee().getCompositeMeterRegistry().add(new SimpleMeterRegistry());
+        getNeonBee().getConfig().setCircuitBreakerConfig(
+                new CircuitBreakerConfig().setEnabled(true).setWindowSize(2).setMinimumCalls(2));
+        deployVerticle(verticle = new FailingDataVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Requests to a repeatedly failing verticle should fail fast and the state should be exported")
+    void testFailFast(VertxTestContext testContext) {
+        DataRequest request = new DataRequest(FailingDataVerticle.NAME, new DataQuery("/cars"));
+        requestData(request).recover(first -> requestData(request)).recover(second -> requestData(request))
+                .onComplete(testContext.failing(cause -> testContext.verify(() -> {
+                    assertThat(cause).isInstanceOf(DataException.class);
+                    assertThat(((DataException) cause).failureCode()).isEqualTo(FAILURE_CODE_CIRCUIT_OPEN);
+                    assertThat(verticle.retrievals.get()).isEqualTo(2);
+
+                    Gauge state = getNeonBee().getCompositeMeterRegistry().find("neonbee.data.circuit.breaker.state")
+                            .tag("target", FailingDataVerticle.NAME).gauge();
+                    assertThat(state).isNotNull();
+                    assertThat(state.value()).isEqualTo(1.0);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class FailingDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "FailingDataVerticle";
+
+        final AtomicInteger retrievals = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            retrievals.incrementAndGet();
+            return failedFuture(new IllegalStateException("Hodor"));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleCoalescingTest extends DataVerticleTestBase {
+    private CountingDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        getNeonBee().getConfig().setDataRequestCoalescing(true);
+        deployVerticle(verticle = new CountingDataVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Identical in-flight data requests should be coalesced")
+    void testCoalesceIdenticalRequests(VertxTestContext testContext) {
+        List<DataContext> contexts = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            DataContext context = new DataContextImpl();
+            contexts.add(context);
+            futures.add(requestData(new DataRequest(CountingDataVerticle.NAME, new DataQuery("/cars")), context));
+        }
+        futures.add(requestData(new DataRequest(CountingDataVerticle.NAME, new DataQuery("/bikes"))));
+
+        allComposite(futures).onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+            assertThat(verticle.retrievals.get()).isEqualTo(2);
+            for (int i = 0; i < 5; i++) {
+                assertThat(result.<JsonObject>resultAt(i)).isEqualTo(new JsonObject().put("uriPath", "/cars"));
+                assertThat(contexts.get(i).responseData()).containsEntry("retrieved", true);
+            }
+            assertThat(result.<JsonObject>resultAt(1)).isNotSameInstanceAs(result.resultAt(0));
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Data requests with different context data or actions should not be coalesced")
+    void testDoNotCoalesceDifferentRequests(VertxTestContext testContext) {
+        Future<Object> first = requestData(new DataRequest(CountingDataVerticle.NAME, new DataQuery("/cars")),
+                new DataContextImpl().put("user", "Hodor"));
+        Future<Object> second = requestData(new DataRequest(CountingDataVerticle.NAME, new DataQuery("/cars")),
+                new DataContextImpl().put("user", "Jon"));
+        Future<Object> third = requestData(new DataRequest(CountingDataVerticle.NAME,
+                new DataQuery(DataAction.UPDATE, "/cars")));
+        Future<Object> fourth = requestData(new DataRequest(CountingDataVerticle.NAME,
+                new DataQuery(DataAction.UPDATE, "/cars")));
+
+        CompositeFuture.all(first, second, third, fourth)
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(verticle.retrievals.get()).isEqualTo(2);
+                    assertThat(verticle.manipulations.get()).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Coalesced entity wrapper results should be copied for every caller")
+    void testCoalesceEntityWrapperResults(VertxTestContext testContext) {
+        getNeonBee().getConfig().setDirectLocalDispatch(true);
+        ObjectDataVerticle objectVerticle =
+                new ObjectDataVerticle(() -> new EntityWrapper("Hodor.Hodor", List.of(new Entity())));
+        deployVerticle(objectVerticle).compose(deployment -> requestDataInParallel(ObjectDataVerticle.NAME))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(objectVerticle.retrievals.get()).isEqualTo(1);
+                    assertThat(result.<EntityWrapper>resultAt(1)).isEqualTo(result.resultAt(0));
+                    assertThat(result.<EntityWrapper>resultAt(1)).isNotSameInstanceAs(result.resultAt(0));
+                    assertThat(result.<EntityWrapper>resultAt(1).getEntity())
+                            .isNotSameInstanceAs(result.<EntityWrapper>resultAt(0).getEntity());
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Results which cannot be copied should not be shared with coalesced data requests")
+    void testDoNotShareResultsWhichCannotBeCopied(VertxTestContext testContext) {
+        getNeonBee().getConfig().setDirectLocalDispatch(true);
+        ObjectDataVerticle objectVerticle = new ObjectDataVerticle(() -> new StringBuilder("Hodor"));
+        deployVerticle(objectVerticle).compose(deployment -> requestDataInParallel(ObjectDataVerticle.NAME))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(objectVerticle.retrievals.get()).isEqualTo(3);
+                    assertThat(result.<StringBuilder>resultAt(1)).isNotSameInstanceAs(result.resultAt(0));
+                    assertThat(result.<StringBuilder>resultAt(2)).isNotSameInstanceAs(result.resultAt(1));
+                    testContext.completeNow();
+                })));
+    }
+
+    @AfterEach
+    void resetDirectLocalDispatch() {
+        getNeonBee().getConfig().setDirectLocalDispatch(false);
+    }
+
+    private CompositeFuture requestDataInParallel(String name) {
+        return CompositeFuture.all(requestData(new DataRequest(name, new DataQuery("/objects"))),
+                requestData(new DataRequest(name, new DataQuery("/objects"))),
+                requestData(new DataRequest(name, new DataQuery("/objects"))));
+    }
+
+    private static class ObjectDataVerticle extends DataVerticle<Object> {
+        static final String NAME = "ObjectDataVerticle";
+
+        final AtomicInteger retrievals = new AtomicInteger();
+
+        private final Supplier<Object> resultSupplier;
+
+        ObjectDataVerticle(Supplier<Object> resultSupplier) {
+            this.resultSupplier = resultSupplier;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<Object> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            retrievals.incrementAndGet();
+            Promise<Object> promise = Promise.promise();
+            vertx.setTimer(100, timerId -> promise.complete(resultSupplier.get()));
+            return promise.future();
+        }
+    }
+
+    private static class CountingDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "CountingDataVerticle";
+
+        final AtomicInteger retrievals = new AtomicInteger();
+
+        final AtomicInteger manipulations = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            retrievals.incrementAndGet();
+            context.responseData().put("retrieved", true);
+
+            // delay the response, so that the requests are in-flight at the same time
+            Promise<JsonObject> promise = Promise.promise();
+            vertx.setTimer(100, timerId -> promise.complete(new JsonObject().put("uriPath", query.getUriPath())));
+            return promise.future();
+        }
+
+        @Override
+        public Future<JsonObject> manipulateData(DataQuery query, DataContext context) {
+            manipulations.incrementAndGet();
+            Promise<JsonObject> promise = Promise.promise();
+            vertx.setTimer(100, timerId -> promise.complete(new JsonObject()));
+            return promise.future();
+        }
+    }
+}
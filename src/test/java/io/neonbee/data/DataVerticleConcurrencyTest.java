@@ -0,0 +1,97 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataException.FAILURE_CODE_OVERLOADED;
+import static io.neonbee.internal.helper.AsyncHelper.joinComposite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataRequestLimiter;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleConcurrencyTest extends DataVerticleTestBase {
+    private SlowDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        DeploymentOptions options = new DeploymentOptions().setConfig(new JsonObject().put(
+                DataVerticle.CONFIG_CONCURRENCY_KEY,
+                new JsonObject().put(DataRequestLimiter.MAX_IN_FLIGHT, 2).put(DataRequestLimiter.MAX_QUEUED, 1)));
+        deployVerticle(verticle = new SlowDataVerticle(), options).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Requests exceeding the maximum in-flight and queued requests should be rejected immediately")
+    void testRejectOverload(VertxTestContext testContext) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(requestData(new DataRequest(SlowDataVerticle.NAME, new DataQuery("/cars"))));
+        }
+
+        joinComposite(futures).onComplete(testContext.failing(cause -> testContext.verify(() -> {
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                if (future.succeeded()) {
+                    succeeded++;
+                } else {
+                    assertThat(future.cause()).isInstanceOf(DataException.class);
+                    assertThat(((DataException) future.cause()).failureCode()).isEqualTo(FAILURE_CODE_OVERLOADED);
+                    rejected++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(3);
+            assertThat(rejected).isEqualTo(2);
+            assertThat(verticle.maxConcurrentRetrievals.get()).isEqualTo(2);
+            testContext.completeNow();
+        })));
+    }
+
+    private static class SlowDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "SlowDataVerticle";
+
+        final AtomicInteger concurrentRetrievals = new AtomicInteger();
+
+        final AtomicInteger maxConcurrentRetrievals = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            maxConcurrentRetrievals.accumulateAndGet(concurrentRetrievals.incrementAndGet(), Math::max);
+
+            Promise<JsonObject> promise = Promise.promise();
+            vertx.setTimer(100, timerId -> {
+                concurrentRetrievals.decrementAndGet();
+                promise.complete(new JsonObject());
+            });
+            return promise.future();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleDirectDispatchTest extends DataVerticleTestBase {
+    private static final JsonObject RESULT = new JsonObject().put("Hodor", "Hodor");
+
+    private final AtomicInteger sentMessages = new AtomicInteger();
+
+    private DirectDispatchDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        getNeonBee().getConfig().setDirectLocalDispatch(true);
+        getNeonBee().getVertx().eventBus().addOutboundInterceptor(deliveryContext -> {
+            if (deliveryContext.message().address().equals(DataVerticle.getAddress(DirectDispatchDataVerticle.NAME))) {
+                sentMessages.incrementAndGet();
+            }
+            deliveryContext.next();
+        });
+
+        deployVerticle(verticle = new DirectDispatchDataVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Data requests to local data verticles should be dispatched without using the event bus")
+    void testDirectDispatch(VertxTestContext testContext) {
+        DataQuery query = new DataQuery().setParameter("result", "ok");
+        DataContext context = new DataContextImpl();
+        requestData(new DataRequest(DirectDispatchDataVerticle.NAME, query), context)
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isSameInstanceAs(RESULT);
+                    assertThat(verticle.receivedQuery).isEqualTo(query);
+                    assertThat(verticle.receivedQuery).isNotSameInstanceAs(query);
+                    assertThat(context.<String>get("received")).isEqualTo("ok");
+                    assertThat(sentMessages.get()).isEqualTo(0);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Data requests should be sent via the event bus, if direct dispatching is disabled")
+    void testDirectDispatchDisabled(VertxTestContext testContext) {
+        getNeonBee().getConfig().setDirectLocalDispatch(false);
+        requestData(new DataRequest(DirectDispatchDataVerticle.NAME, new DataQuery().setParameter("result", "ok")))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo(RESULT);
+                    assertThat(sentMessages.get()).isEqualTo(1);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Failures of directly dispatched data requests should be mapped like failures sent via the event bus")
+    void testDirectDispatchFailures(VertxTestContext testContext) {
+        Future<Object> dataException = requestData(new DataRequest(DirectDispatchDataVerticle.NAME,
+                new DataQuery().setParameter("result", "dataException")));
+        Future<Object> otherException = requestData(new DataRequest(DirectDispatchDataVerticle.NAME,
+                new DataQuery().setParameter("result", "otherException")));
+
+        assertDataFailure(dataException, new DataException(418, "I'm a teapot"), testContext)
+                .compose(nothing -> assertDataFailure(otherException,
+                        new DataException(DataException.FAILURE_CODE_PROCESSING_FAILED,
+                                "Processing of message failed. Hodor"),
+                        testContext))
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Directly dispatched data requests should time out like requests sent via the event bus")
+    void testDirectDispatchTimeout(VertxTestContext testContext) {
+        requestData(new DataRequest(DirectDispatchDataVerticle.NAME, new DataQuery().setParameter("result", "never"))
+                .setSendTimeout(100)).onComplete(testContext.failing(cause -> testContext.verify(() -> {
+                    assertThat(cause).isInstanceOf(DataException.class);
+                    assertThat(((DataException) cause).failureCode()).isEqualTo(DataException.FAILURE_CODE_TIMEOUT);
+                    assertThat(sentMessages.get()).isEqualTo(0);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class DirectDispatchDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "DirectDispatchDataVerticle";
+
+        DataQuery receivedQuery;
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            receivedQuery = query;
+            String result = query.getParameter("result");
+            switch (result) {
+            case "dataException":
+                return failedFuture(new DataException(418, "I'm a teapot"));
+            case "otherException":
+                return failedFuture(new IllegalStateException("Hodor"));
+            case "never":
+                return Promise.<JsonObject>promise().future();
+            default:
+                context.put("received", result);
+                return succeededFuture(RESULT);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataException.FAILURE_CODE_TIMEOUT;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataRequestLatencyTracker;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleHedgingTest extends DataVerticleTestBase {
+    private SlowFirstDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        // observe some fast replies, so that a slow reply is hedged / times out
+        DataRequestLatencyTracker latencyTracker = getNeonBee().getDataRequestLatencyTracker();
+        for (int i = 0; i < 100; i++) {
+            latencyTracker.record(DataVerticle.getAddress(SlowFirstDataVerticle.NAME), 10);
+        }
+
+        deployVerticle(verticle = new SlowFirstDataVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Slow read requests should be hedged and return the first reply")
+    void testHedgedRequest(VertxTestContext testContext) {
+        getNeonBee().getConfig().setHedgedRequests(true);
+        long startTime = System.currentTimeMillis();
+        requestData(new DataRequest(SlowFirstDataVerticle.NAME, new DataQuery("/cars")))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo(new JsonObject().put("retrieval", 2));
+                    assertThat(verticle.retrievals.get()).isEqualTo(2);
+                    assertThat(System.currentTimeMillis() - startTime).isLessThan(SlowFirstDataVerticle.SLOW_DELAY);
+                    // the latency of the hedged reply is recorded, as experienced by the caller
+                    assertThat(getNeonBee().getDataRequestLatencyTracker()
+                            .percentile(DataVerticle.getAddress(SlowFirstDataVerticle.NAME), 1.0)).isGreaterThan(10L);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Manipulating requests should not be hedged")
+    void testNoHedgingOfManipulations(VertxTestContext testContext) {
+        getNeonBee().getConfig().setHedgedRequests(true);
+        requestData(new DataRequest(SlowFirstDataVerticle.NAME, new DataQuery(DataAction.UPDATE, "/cars")))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(verticle.manipulations.get()).isEqualTo(1);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Requests should time out adaptively, based on the observed latencies")
+    void testAdaptiveTimeout(VertxTestContext testContext) {
+        getNeonBee().getConfig().setAdaptiveTimeouts(true);
+        requestData(new DataRequest(SlowFirstDataVerticle.NAME, new DataQuery("/cars")))
+                .onComplete(testContext.failing(cause -> testContext.verify(() -> {
+                    assertThat(cause).isInstanceOf(DataException.class);
+                    assertThat(((DataException) cause).failureCode()).isEqualTo(FAILURE_CODE_TIMEOUT);
+                    // the timed out request is recorded with the timeout as latency
+                    assertThat(getNeonBee().getDataRequestLatencyTracker()
+                            .percentile(DataVerticle.getAddress(SlowFirstDataVerticle.NAME), 1.0)).isGreaterThan(10L);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class SlowFirstDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "SlowFirstDataVerticle";
+
+        static final long SLOW_DELAY = 1500;
+
+        final AtomicInteger retrievals = new AtomicInteger();
+
+        final AtomicInteger manipulations = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            int retrieval = retrievals.incrementAndGet();
+            Promise<JsonObject> promise = Promise.promise();
+            vertx.setTimer(retrieval == 1 ? SLOW_DELAY : 10,
+                    timerId -> promise.complete(new JsonObject().put("retrieval", retrieval)));
+            return promise.future();
+        }
+
+        @Override
+        public Future<JsonObject> manipulateData(DataQuery query, DataContext context) {
+            int manipulation = manipulations.incrementAndGet();
+            Promise<JsonObject> promise = Promise.promise();
+            vertx.setTimer(manipulation == 1 ? 100 : 10, timerId -> promise.complete(new JsonObject()));
+            return promise.future();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataResultCache;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleResultCacheTest extends DataVerticleTestBase {
+    private CachedDataVerticle verticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        DeploymentOptions options = new DeploymentOptions().setConfig(new JsonObject()
+                .put(DataVerticle.CONFIG_CACHE_KEY, new JsonObject().put(DataResultCache.ENABLED, true)));
+        deployVerticle(verticle = new CachedDataVerticle(), options).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Cached results should be returned without requiring or retrieving any data")
+    void testCacheHit(VertxTestContext testContext) {
+        DataContext secondContext = new DataContextImpl();
+        requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars")))
+                .compose(first -> requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars")),
+                        secondContext).map(second -> List.of(first, second)))
+                .onComplete(testContext.succeeding(results -> testContext.verify(() -> {
+                    assertThat(results.get(0)).isEqualTo(new JsonObject().put("uriPath", "/cars"));
+                    assertThat(results.get(1)).isEqualTo(results.get(0));
+                    assertThat(verticle.requires.get()).isEqualTo(1);
+                    assertThat(verticle.retrievals.get()).isEqualTo(1);
+                    assertThat(secondContext.responseData()).containsEntry("retrieved", true);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Results of different queries or users should be cached separately")
+    void testCacheMiss(VertxTestContext testContext) {
+        requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars")))
+                .compose(first -> requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/bikes"))))
+                .compose(second -> requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars")),
+                        new DataContextImpl("correlationId", null, new JsonObject().put("user", "Hodor"))))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(verticle.requires.get()).isEqualTo(3);
+                    assertThat(verticle.retrievals.get()).isEqualTo(3);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Manipulating data should invalidate the cached results")
+    void testInvalidateOnManipulation(VertxTestContext testContext) {
+        requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars")))
+                .compose(first -> requestData(
+                        new DataRequest(CachedDataVerticle.NAME, new DataQuery(DataAction.UPDATE, "/cars"))))
+                .compose(updated -> requestData(new DataRequest(CachedDataVerticle.NAME, new DataQuery("/cars"))))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(verticle.retrievals.get()).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class CachedDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "CachedDataVerticle";
+
+        final AtomicInteger requires = new AtomicInteger();
+
+        final AtomicInteger retrievals = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            requires.incrementAndGet();
+            return super.requireData(query, context);
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            retrievals.incrementAndGet();
+            context.responseData().put("retrieved", true);
+            return succeededFuture(new JsonObject().put("uriPath", query.getUriPath()));
+        }
+
+        @Override
+        public Future<JsonObject> manipulateData(DataQuery query, DataContext context) {
+            return succeededFuture(new JsonObject());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataAction.CREATE;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleStreamTest extends DataVerticleTestBase {
+    private StreamingDataVerticle streamingVerticle;
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticles(VertxTestContext testContext) {
+        CompositeFuture.all(deployVerticle(streamingVerticle = new StreamingDataVerticle()),
+                deployVerticle(new MaterializingDataVerticle())).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("All chunks of a stream should be received in order and only be produced on demand")
+    void testRequestStream(VertxTestContext testContext) {
+        List<String> chunks = new ArrayList<>();
+        requestStream(StreamingDataVerticle.NAME).onComplete(testContext.succeeding(stream -> {
+            stream.pause().endHandler(nothing -> testContext.verify(() -> {
+                assertThat(chunks).containsExactly("Hodor1", "Hodor2", "Hodor3").inOrder();
+                testContext.completeNow();
+            })).handler(chunk -> {
+                chunks.add(chunk.toString());
+                if (chunks.size() == 1) {
+                    // the stream is paused after the first chunk, so no further chunks must be produced
+                    getNeonBee().getVertx().setTimer(100, timerId -> testContext.verify(() -> {
+                        assertThat(streamingVerticle.source.emittedChunks).isEqualTo(1);
+                        stream.resume();
+                    }));
+                }
+            }).exceptionHandler(testContext::failNow).fetch(1);
+        }));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The result of a verticle not supporting streaming should be streamed as one chunk")
+    void testRequestStreamFallback(VertxTestContext testContext) {
+        List<Buffer> chunks = new ArrayList<>();
+        requestStream(MaterializingDataVerticle.NAME).onComplete(testContext.succeeding(stream -> {
+            stream.endHandler(nothing -> testContext.verify(() -> {
+                assertThat(chunks).hasSize(1);
+                assertThat(chunks.get(0).toJsonObject()).isEqualTo(MaterializingDataVerticle.RESULT);
+                testContext.completeNow();
+            })).exceptionHandler(testContext::failNow).handler(chunks::add);
+        }));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Requests other than read requests should not be streamed")
+    void testRequestStreamNonRead(VertxTestContext testContext) {
+        DataVerticle.requestStream(getNeonBee().getVertx(),
+                new DataRequest(StreamingDataVerticle.NAME, new DataQuery(CREATE, "/cars")), new DataContextImpl())
+                .onComplete(testContext.failing(cause -> testContext.verify(() -> {
+                    assertThat(cause).isInstanceOf(IllegalArgumentException.class);
+                    testContext.completeNow();
+                })));
+    }
+
+    private Future<ReadStream<Buffer>> requestStream(String qualifiedName) {
+        return DataVerticle.requestStream(getNeonBee().getVertx(),
+                new DataRequest(qualifiedName, new DataQuery("/cars")), new DataContextImpl());
+    }
+
+    private static class StreamingDataVerticle extends DataVerticle<Buffer> {
+        static final String NAME = "StreamingDataVerticle";
+
+        ChunkStream source;
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public ReadStream<Buffer> retrieveStream(DataQuery query, DataContext context) {
+            return source = new ChunkStream("Hodor1", "Hodor2", "Hodor3");
+        }
+    }
+
+    private static class MaterializingDataVerticle extends DataVerticle<JsonObject> {
+        static final String NAME = "MaterializingDataVerticle";
+
+        static final JsonObject RESULT = new JsonObject().put("name", "Hodor");
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<JsonObject> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(RESULT);
+        }
+    }
+
+    private static class ChunkStream implements ReadStream<Buffer> {
+        private final String[] chunks;
+
+        private Handler<Buffer> handler;
+
+        private Handler<Void> endHandler;
+
+        private long demand = Long.MAX_VALUE;
+
+        private boolean ended;
+
+        int emittedChunks;
+
+        ChunkStream(String... chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ChunkStream exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public ChunkStream handler(Handler<Buffer> handler) {
+            this.handler = handler;
+            emit();
+            return this;
+        }
+
+        @Override
+        public ChunkStream pause() {
+            demand = 0;
+            return this;
+        }
+
+        @Override
+        public ChunkStream resume() {
+            return fetch(Long.MAX_VALUE);
+        }
+
+        @Override
+        public ChunkStream fetch(long amount) {
+            demand += amount;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+            emit();
+            return this;
+        }
+
+        @Override
+        public ChunkStream endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        private void emit() {
+            while (handler != null && demand > 0 && emittedChunks < chunks.length) {
+                demand--;
+                handler.handle(Buffer.buffer(chunks[emittedChunks++]));
+            }
+            if (!ended && emittedChunks == chunks.length && endHandler != null) {
+                ended = true;
+                endHandler.handle(null);
+            }
+        }
+    }
+}
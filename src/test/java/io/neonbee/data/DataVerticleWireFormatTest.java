@@ -0,0 +1,95 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataVerticle.CONTEXT_HEADER;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DataVerticleWireFormatTest extends DataVerticleTestBase {
+    private final List<String> contextHeaders = new ArrayList<>();
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void deployDataVerticle(VertxTestContext testContext) {
+        getNeonBee().getVertx().eventBus().addOutboundInterceptor(deliveryContext -> {
+            if (deliveryContext.message().address().equals(DataVerticle.getAddress(WireFormatDataVerticle.NAME))) {
+                contextHeaders.add(deliveryContext.message().headers().get(CONTEXT_HEADER));
+            }
+            deliveryContext.next();
+        });
+
+        deployVerticle(new WireFormatDataVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @AfterEach
+    void resetConfig() {
+        getNeonBee().getConfig().setCompactDataContextFormat(false);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The data context should be sent as JSON by default, so nodes of previous versions can decode it")
+    void testJsonDataContextByDefault(VertxTestContext testContext) {
+        DataContext context = new DataContextImpl();
+        context.put("request", "Hodor");
+        requestData(new DataRequest(WireFormatDataVerticle.NAME, new DataQuery()), context)
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Hodor");
+                    assertThat(contextHeaders).hasSize(1);
+                    assertThat(contextHeaders.get(0)).startsWith("{");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("The data context should be sent in the compact format, if enabled")
+    void testCompactDataContext(VertxTestContext testContext) {
+        getNeonBee().getConfig().setCompactDataContextFormat(true);
+        DataContext context = new DataContextImpl();
+        context.put("request", "Hodor");
+        requestData(new DataRequest(WireFormatDataVerticle.NAME, new DataQuery()), context)
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Hodor");
+                    assertThat(contextHeaders).hasSize(1);
+                    assertThat(contextHeaders.get(0)).startsWith("1");
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class WireFormatDataVerticle extends DataVerticle<String> {
+        static final String NAME = "WireFormatDataVerticle";
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(context.<String>get("request"));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.neonbee.data;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataRequest.ResolutionStrategy.OPTIMIZED;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class OptimizedResolutionTest extends DataVerticleTestBase {
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the optimized resolution resolves the tree, deduplicates requests and requires data once")
+    void testOptimizedResolution(VertxTestContext testContext) {
+        LeafVerticle leaf = new LeafVerticle();
+        IntermediaryVerticle intermediaryA = new IntermediaryVerticle("IntermediaryA");
+        IntermediaryVerticle intermediaryB = new IntermediaryVerticle("IntermediaryB");
+        DataRequest request = new DataRequest("Root", new DataQuery()).setResolutionStrategy(OPTIMIZED);
+
+        deployVerticle(leaf).compose(de -> deployVerticle(intermediaryA))
+                .compose(de -> deployVerticle(intermediaryB))
+                .compose(de -> deployVerticle(new NodeVerticle("Root", "IntermediaryA", "IntermediaryB")))
+                .compose(de -> requestData(request, new DataContextImpl()))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Root(IntermediaryA(Leaf+Source),IntermediaryB(Leaf+Source))");
+                    assertThat(leaf.retrieveCount.get()).isEqualTo(1);
+                    assertThat(intermediaryA.requireCount.get()).isEqualTo(1);
+                    assertThat(intermediaryB.requireCount.get()).isEqualTo(1);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Check that the optimized resolution fails for cyclic data requirements")
+    void testOptimizedResolutionCycle(VertxTestContext testContext) {
+        DataRequest request = new DataRequest("CycleRoot", new DataQuery()).setResolutionStrategy(OPTIMIZED);
+
+        deployVerticle(new NodeVerticle("CycleA", "CycleB"))
+                .compose(de -> deployVerticle(new NodeVerticle("CycleB", "CycleA")))
+                .compose(de -> deployVerticle(new NodeVerticle("CycleRoot", "CycleA")))
+                .compose(de -> requestData(request, new DataContextImpl()))
+                .onComplete(testContext.failing(throwable -> testContext.verify(() -> {
+                    assertThat(throwable).isInstanceOf(DataException.class);
+                    assertThat(throwable.getMessage()).contains("Cyclic data requirement");
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class NodeVerticle extends DataVerticle<String> {
+        private final String name;
+
+        private final List<String> required;
+
+        NodeVerticle(String name, String... required) {
+            super();
+            this.name = name;
+            this.required = List.of(required);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(required.stream().map(DataRequest::new).collect(Collectors.toList()));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(name + required.stream().map(require::<String>resultFor)
+                    .collect(Collectors.joining(",", "(", ")")));
+        }
+    }
+
+    private static class IntermediaryVerticle extends DataVerticle<String> {
+        private final String name;
+
+        final AtomicInteger requireCount = new AtomicInteger();
+
+        private final DataSource<String> source = (query, context) -> succeededFuture("Source");
+
+        IntermediaryVerticle(String name) {
+            super();
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            requireCount.incrementAndGet();
+            return succeededFuture(List.of(new DataRequest(LeafVerticle.NAME, new DataQuery("leaf")),
+                    new DataRequest(source)));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(name + "(" + require.<String>resultFor(LeafVerticle.NAME) + "+"
+                    + require.values().stream().map(result -> (String) result.result()).filter("Source"::equals)
+                            .findFirst().orElse(null)
+                    + ")");
+        }
+    }
+
+    private static class LeafVerticle extends DataVerticle<String> {
+        static final String NAME = "Leaf";
+
+        final AtomicInteger retrieveCount = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            retrieveCount.incrementAndGet();
+            return succeededFuture(NAME);
+        }
+    }
+}
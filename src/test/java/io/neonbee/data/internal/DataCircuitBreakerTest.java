@@ -0,0 +1,105 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.DataException.FAILURE_CODE_CIRCUIT_OPEN;
+import static io.neonbee.data.DataException.FAILURE_CODE_TIMEOUT;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.config.CircuitBreakerConfig;
+import io.neonbee.data.DataException;
+import io.neonbee.data.internal.DataCircuitBreaker.State;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+class DataCircuitBreakerTest {
+    private static final CircuitBreakerConfig CONFIG = new CircuitBreakerConfig().setEnabled(true).setWindowSize(4)
+            .setMinimumCalls(4).setFailureRateThreshold(50).setSlowCallRateThreshold(75).setSlowCallDuration(100)
+            .setOpenDuration(1000).setHalfOpenCalls(2);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final DataCircuitBreaker circuitBreaker = new DataCircuitBreaker("Hodor", CONFIG, nanoTime::get);
+
+    @Test
+    @DisplayName("The circuit breaker should open when the failure rate threshold is reached and fail fast")
+    void testOpenOnFailures() {
+        succeed();
+        succeed();
+        fail();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        fail();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+        Future<Object> rejected = circuitBreaker.execute(() -> succeededFuture("Hodor"));
+        assertThat(rejected.failed()).isTrue();
+        assertThat(((DataException) rejected.cause()).failureCode()).isEqualTo(FAILURE_CODE_CIRCUIT_OPEN);
+        assertThat(circuitBreaker.getRejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("The circuit breaker should open when the slow call rate threshold is reached")
+    void testOpenOnSlowCalls() {
+        succeed();
+        for (int i = 0; i < 3; i++) {
+            Promise<Object> promise = Promise.promise();
+            circuitBreaker.execute(promise::future);
+            nanoTime.addAndGet(100_000_000);
+            promise.complete();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Failures not caused by the requested verticle should not open the circuit breaker")
+    void testIgnoreClientFailures() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.execute(() -> failedFuture(new DataException(400, "Bad Request")));
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(DataCircuitBreaker.isFailure(new DataException(FAILURE_CODE_TIMEOUT))).isTrue();
+        assertThat(DataCircuitBreaker.isFailure(new DataException(503))).isTrue();
+        assertThat(DataCircuitBreaker.isFailure(new IllegalStateException())).isTrue();
+        assertThat(DataCircuitBreaker.isFailure(new DataException(404))).isFalse();
+    }
+
+    @Test
+    @DisplayName("The circuit breaker should close or open again depending on the half-open trial requests")
+    void testHalfOpen() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+        // after the open duration, the circuit breaker permits a limited number of trial requests
+        nanoTime.addAndGet(1_000_000_000);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+        Promise<Object> first = Promise.promise();
+        Promise<Object> second = Promise.promise();
+        circuitBreaker.execute(first::future);
+        circuitBreaker.execute(second::future);
+        assertThat(circuitBreaker.execute(() -> succeededFuture()).failed()).isTrue();
+        first.fail("Hodor");
+        second.complete();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+
+        nanoTime.addAndGet(1_000_000_000);
+        succeed();
+        succeed();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(0);
+    }
+
+    private void succeed() {
+        circuitBreaker.execute(() -> succeededFuture());
+    }
+
+    private void fail() {
+        circuitBreaker.execute(() -> failedFuture(new DataException(FAILURE_CODE_TIMEOUT)));
+    }
+}
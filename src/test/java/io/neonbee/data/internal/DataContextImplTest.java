@@ -62,9 +62,55 @@ class DataContextImplTest {
         context.amendTopVerticleCoordinate("deploymentId1");
         context.pushVerticleToPath("Data2Verticle");
         context.amendTopVerticleCoordinate("deploymentId2");
-        String json = DataContextImpl.encodeContextToString(context);
+        String json = DataContextImpl.encodeContextToJsonString(context);
         JsonObject jsonObject = new JsonObject(json);
         assertThat(jsonObject.getJsonArray("path")).hasSize(2);
+
+        String compact = DataContextImpl.encodeContextToString(context);
+        assertThat(compact.length()).isLessThan(json.length());
+        assertEquals(2, contextPathSize(DataContextImpl.decodeContextFromString(compact)));
+    }
+
+    @Test
+    @DisplayName("test decoding the compact format lazily and passing on sections, which have not been accessed")
+    void testLazyDecoding() {
+        context.put("key", "value");
+        context.responseData().put("responseKey", "responseValue");
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        String contextString = DataContextImpl.encodeContextToString(context);
+
+        DataContextImpl decoded = (DataContextImpl) DataContextImpl.decodeContextFromString(contextString);
+        assertThat(DataContextImpl.encodeContextToString(decoded)).isEqualTo(contextString);
+        assertThat(DataContextImpl.encodeContextToString(decoded.copy()))
+                .isEqualTo(DataContextImpl.encodeContextToString(context.copy()));
+
+        assertThat(decoded.<String>get("key")).isEqualTo("value");
+        assertThat(decoded.responseData()).containsExactly("responseKey", "responseValue");
+        DataVerticleCoordinate coordinate = decoded.path().next();
+        assertThat(coordinate.getQualifiedName()).isEqualTo("Data1Verticle");
+        assertThat(coordinate.getDeploymentId()).isEqualTo("deploymentId1");
+        assertThat(coordinate.getRequestTimestamp()).isEqualTo(context.path().next().getRequestTimestamp());
+
+        decoded.pushVerticleToPath("Data2Verticle");
+        decoded.put("key2", "value2");
+        DataContext decodedAgain =
+                DataContextImpl.decodeContextFromString(DataContextImpl.encodeContextToString(decoded));
+        assertEquals(2, contextPathSize(decodedAgain));
+        assertThat(decodedAgain.data()).containsExactly("key", "value", "key2", "value2");
+    }
+
+    @Test
+    @DisplayName("test decoding a context encoded in the JSON format")
+    void testDecodeJsonFormat() {
+        context.put("key", "value");
+        context.pushVerticleToPath("Data1Verticle");
+        DataContext decoded =
+                DataContextImpl.decodeContextFromString(DataContextImpl.encodeContextToJsonString(context));
+        assertThat(decoded.correlationId()).isEqualTo("correlationId");
+        assertThat(decoded.userPrincipal()).isEqualTo(new JsonObject().put("username", "Duke"));
+        assertThat(decoded.data()).containsExactly("key", "value");
+        assertEquals(1, contextPathSize(decoded));
     }
 
     @Test
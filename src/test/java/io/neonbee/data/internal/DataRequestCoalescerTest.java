@@ -0,0 +1,94 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class DataRequestCoalescerTest {
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Identical in-flight requests should share one request")
+    void testCoalesceInFlightRequests(Vertx vertx, VertxTestContext testContext) {
+        DataRequestCoalescer coalescer = new DataRequestCoalescer(vertx);
+        AtomicInteger executions = new AtomicInteger();
+        Promise<String> promise = Promise.promise();
+
+        Future<String> first = coalescer.coalesce("key", () -> {
+            executions.incrementAndGet();
+            return promise.future();
+        });
+        Future<String> second = coalescer.coalesce("key", () -> {
+            executions.incrementAndGet();
+            return succeededFuture("second");
+        });
+        Future<String> other = coalescer.coalesce("otherKey", () -> {
+            executions.incrementAndGet();
+            return succeededFuture("other");
+        });
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(coalescer.inFlightRequests()).isEqualTo(1);
+        promise.complete("first");
+
+        CompositeFuture.all(first, second, other).onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+            assertThat(first.result()).isEqualTo("first");
+            assertThat(second.result()).isEqualTo("first");
+            assertThat(other.result()).isEqualTo("other");
+            assertThat(coalescer.inFlightRequests()).isEqualTo(0);
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Requests should be executed again after the in-flight request completed")
+    void testNoCaching(Vertx vertx, VertxTestContext testContext) {
+        DataRequestCoalescer coalescer = new DataRequestCoalescer(vertx);
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.coalesce("key", () -> succeededFuture(executions.incrementAndGet()))
+                .compose(first -> coalescer.coalesce("key", () -> succeededFuture(executions.incrementAndGet())))
+                .onComplete(testContext.succeeding(second -> testContext.verify(() -> {
+                    assertThat(second).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Failures of the in-flight request should be shared and release the key")
+    void testFailure(Vertx vertx, VertxTestContext testContext) {
+        DataRequestCoalescer coalescer = new DataRequestCoalescer(vertx);
+        Promise<String> promise = Promise.promise();
+
+        Future<String> first = coalescer.coalesce("key", promise::future);
+        Future<String> second = coalescer.coalesce("key", () -> succeededFuture("second"));
+        Future<String> third = coalescer.coalesce("otherKey", () -> {
+            throw new IllegalStateException("Hodor");
+        });
+        promise.fail("Hodor");
+
+        CompositeFuture.join(first, second, third).onComplete(testContext.failing(cause -> testContext.verify(() -> {
+            assertThat(first.cause()).hasMessageThat().isEqualTo("Hodor");
+            assertThat(second.cause()).isSameInstanceAs(first.cause());
+            assertThat(third.cause()).isInstanceOf(IllegalStateException.class);
+            assertThat(coalescer.inFlightRequests()).isEqualTo(0);
+            testContext.completeNow();
+        })));
+    }
+}
@@ -0,0 +1,63 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.internal.DataRequestLatencyTracker.HEDGE_PERCENTILE;
+import static io.neonbee.data.internal.DataRequestLatencyTracker.MIN_TIMEOUT_MILLIS;
+import static io.neonbee.data.internal.DataRequestLatencyTracker.TIMEOUT_FACTOR;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DataRequestLatencyTrackerTest {
+    @Test
+    @DisplayName("Percentiles should only be derived, after enough latencies have been observed")
+    void testPercentile() {
+        DataRequestLatencyTracker tracker = new DataRequestLatencyTracker(100, 10);
+        assertThat(tracker.percentile("address", 0.5)).isEqualTo(-1);
+        for (int i = 1; i <= 9; i++) {
+            tracker.record("address", i);
+        }
+        assertThat(tracker.percentile("address", 0.5)).isEqualTo(-1);
+
+        for (int i = 10; i <= 100; i++) {
+            tracker.record("address", i);
+        }
+        assertThat(tracker.percentile("address", 0.5)).isEqualTo(50);
+        assertThat(tracker.percentile("address", HEDGE_PERCENTILE)).isEqualTo(95);
+        assertThat(tracker.percentile("address", 1)).isEqualTo(100);
+        assertThat(tracker.percentile("otherAddress", 0.5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Only the latest latencies should be considered")
+    void testWindow() {
+        DataRequestLatencyTracker tracker = new DataRequestLatencyTracker(10, 10);
+        for (int i = 0; i < 10; i++) {
+            tracker.record("address", 1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.record("address", 10);
+        }
+        assertThat(tracker.percentile("address", 1)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Adaptive timeouts should be a multiple of the observed latencies, bounded by the default timeout")
+    void testAdaptiveTimeout() {
+        DataRequestLatencyTracker tracker = new DataRequestLatencyTracker(10, 10);
+        assertThat(tracker.adaptiveTimeout("address", 30000)).isEqualTo(30000);
+        assertThat(tracker.hedgeDelay("address")).isEqualTo(-1);
+
+        for (int i = 0; i < 10; i++) {
+            tracker.record("address", 1000);
+        }
+        assertThat(tracker.adaptiveTimeout("address", 30000)).isEqualTo(1000 * TIMEOUT_FACTOR);
+        assertThat(tracker.adaptiveTimeout("address", 2000)).isEqualTo(2000);
+        assertThat(tracker.hedgeDelay("address")).isEqualTo(1000);
+
+        for (int i = 0; i < 10; i++) {
+            tracker.record("address", 1);
+        }
+        assertThat(tracker.adaptiveTimeout("address", 30000)).isEqualTo(MIN_TIMEOUT_MILLIS);
+    }
+}
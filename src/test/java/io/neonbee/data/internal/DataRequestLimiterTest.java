@@ -0,0 +1,85 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.DataException.FAILURE_CODE_OVERLOADED;
+import static io.vertx.core.Future.succeededFuture;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataException;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+class DataRequestLimiterTest {
+    @Test
+    @DisplayName("The limiter should only be created if a maximum number of requests in-flight is configured")
+    void testCreate() {
+        assertThat(DataRequestLimiter.create(null, "Hodor")).isNull();
+        assertThat(DataRequestLimiter.create(new JsonObject(), "Hodor")).isNull();
+        assertThat(DataRequestLimiter.create(new JsonObject().put(DataRequestLimiter.MAX_IN_FLIGHT, 0), "Hodor"))
+                .isNull();
+        assertThat(DataRequestLimiter.create(new JsonObject().put(DataRequestLimiter.MAX_IN_FLIGHT, 1), "Hodor"))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Requests exceeding the maximum in-flight should be queued and rejected if the queue is full")
+    void testQueueAndReject() {
+        DataRequestLimiter limiter = new DataRequestLimiter(2, 1, "Hodor");
+        List<Promise<String>> promises = new ArrayList<>();
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(limiter.execute(() -> {
+                Promise<String> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            }));
+        }
+
+        assertThat(promises).hasSize(2);
+        assertThat(limiter.inFlightRequests()).isEqualTo(2);
+        assertThat(limiter.queuedRequests()).isEqualTo(1);
+        assertThat(futures.get(3).failed()).isTrue();
+        assertThat(futures.get(3).cause()).isInstanceOf(DataException.class);
+        assertThat(((DataException) futures.get(3).cause()).failureCode()).isEqualTo(FAILURE_CODE_OVERLOADED);
+
+        // completing a request in-flight executes the queued request
+        promises.get(0).complete("first");
+        assertThat(futures.get(0).result()).isEqualTo("first");
+        assertThat(promises).hasSize(3);
+        assertThat(limiter.inFlightRequests()).isEqualTo(2);
+        assertThat(limiter.queuedRequests()).isEqualTo(0);
+
+        promises.get(2).complete("third");
+        promises.get(1).fail("second");
+        assertThat(futures.get(2).result()).isEqualTo("third");
+        assertThat(futures.get(1).failed()).isTrue();
+        assertThat(limiter.inFlightRequests()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Exceptions thrown by requests should release the request")
+    void testExceptions() {
+        DataRequestLimiter limiter = new DataRequestLimiter(1, 1, "Hodor");
+        assertThrows(IllegalArgumentException.class, () -> limiter.execute(() -> {
+            throw new IllegalArgumentException("Hodor");
+        }));
+        assertThat(limiter.inFlightRequests()).isEqualTo(0);
+
+        Promise<String> promise = Promise.promise();
+        limiter.execute(promise::future);
+        Future<String> queued = limiter.execute(() -> {
+            throw new IllegalStateException("Hodor");
+        });
+        promise.complete();
+        assertThat(queued.cause()).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.inFlightRequests()).isEqualTo(0);
+        assertThat(limiter.execute(() -> succeededFuture("Hodor")).result()).isEqualTo("Hodor");
+    }
+}
@@ -0,0 +1,146 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class DataResultCacheTest {
+    @Test
+    @DisplayName("The cache should only be created if it is enabled")
+    void testCreate() {
+        assertThat(DataResultCache.create(null)).isNull();
+        assertThat(DataResultCache.create(new JsonObject())).isNull();
+        assertThat(DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, false))).isNull();
+        assertThat(DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Cache keys should be derived from the query, the user and the configured context data")
+    void testKey() {
+        DataResultCache cache = DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true)
+                .put(DataResultCache.CONTEXT_DATA_KEYS, new JsonArray().add("tenant")));
+        DataQuery query = new DataQuery("/cars").setParameter("$top", "1");
+
+        List<Object> key = cache.key(query, context("Hodor", "tenant1", "other1"));
+        assertThat(cache.key(query.copy(), context("Hodor", "tenant1", "other2"))).isEqualTo(key);
+        assertThat(cache.key(query, context("Jon", "tenant1", "other1"))).isNotEqualTo(key);
+        assertThat(cache.key(query, context("Hodor", "tenant2", "other1"))).isNotEqualTo(key);
+        assertThat(cache.key(new DataQuery("/bikes"), context("Hodor", "tenant1", "other1"))).isNotEqualTo(key);
+
+        // modifying the query must not modify the key
+        query.setParameter("$top", "2");
+        assertThat(cache.key(query, context("Hodor", "tenant1", "other1"))).isNotEqualTo(key);
+        assertThat(cache.key(query.setParameter("$top", "1"), context("Hodor", "tenant1", "other1")))
+                .isEqualTo(key);
+
+        DataResultCache anyUserCache = DataResultCache
+                .create(new JsonObject().put(DataResultCache.ENABLED, true).put(DataResultCache.PER_USER, false));
+        assertThat(anyUserCache.key(query, context("Hodor", "tenant1", "other1")))
+                .isEqualTo(anyUserCache.key(query, context("Jon", "tenant2", "other2")));
+    }
+
+    @Test
+    @DisplayName("Cached results should be copied and returned with their response data")
+    void testPutAndGet() {
+        DataResultCache cache = DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true));
+        List<Object> key = cache.key(new DataQuery("/cars"), null);
+        assertThat(cache.get(key)).isNull();
+
+        JsonObject result = new JsonObject().put("Hodor", "Hodor");
+        cache.put(key, result, Map.of("contentType", "application/json"));
+        result.put("Jon", "Snow");
+
+        JsonObject cachedResult = (JsonObject) cache.get(key).getResult();
+        assertThat(cachedResult).isEqualTo(new JsonObject().put("Hodor", "Hodor"));
+        cachedResult.put("Jon", "Snow");
+        assertThat(cache.get(key).getResult()).isEqualTo(new JsonObject().put("Hodor", "Hodor"));
+        assertThat(cache.get(key).getResponseData()).containsExactly("contentType", "application/json");
+    }
+
+    @Test
+    @DisplayName("Cached entity wrappers should be copied, so receivers are able to modify them")
+    void testPutAndGetEntityWrapper() {
+        DataResultCache cache = DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true));
+        List<Object> key = cache.key(new DataQuery("/cars"), null);
+
+        Entity entity = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Hodor"));
+        cache.put(key, new EntityWrapper("Hodor.Hodor", entity), Map.of());
+
+        EntityWrapper cachedResult = (EntityWrapper) cache.get(key).getResult();
+        assertThat(cachedResult).isEqualTo(new EntityWrapper("Hodor.Hodor", entity));
+        cachedResult.getEntity().getNavigationLinks().add(new Link());
+        cachedResult.getEntities().clear();
+
+        EntityWrapper otherCachedResult = (EntityWrapper) cache.get(key).getResult();
+        assertThat(otherCachedResult.getEntities()).hasSize(1);
+        assertThat(otherCachedResult.getEntity().getNavigationLinks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Results which cannot be copied should not be cached")
+    void testPutNotCopyable() {
+        DataResultCache cache = DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true));
+        List<Object> key = cache.key(new DataQuery("/cars"), null);
+        cache.put(key, new StringBuilder("Hodor"), Map.of());
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("Results retrieved before the cache got invalidated should not be cached")
+    void testPutAfterInvalidate() {
+        DataResultCache cache = DataResultCache.create(new JsonObject().put(DataResultCache.ENABLED, true));
+        List<Object> key = cache.key(new DataQuery("/cars"), null);
+
+        long generation = cache.generation();
+        assertThat(cache.get(key)).isNull();
+        cache.invalidate();
+        cache.put(key, generation, Buffer.buffer("Hodor"), Map.of());
+        assertThat(cache.get(key)).isNull();
+
+        cache.put(key, cache.generation(), Buffer.buffer("Hodor"), Map.of());
+        assertThat(cache.get(key)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Results should be evicted as soon as the maximum weight is exceeded")
+    void testEviction() {
+        DataResultCache cache = DataResultCache
+                .create(new JsonObject().put(DataResultCache.ENABLED, true).put(DataResultCache.MAX_WEIGHT, 100));
+        for (int i = 0; i < 10; i++) {
+            cache.put(cache.key(new DataQuery("/cars/" + i), null), Buffer.buffer(new byte[40]), null);
+        }
+
+        assertThat(cache.getCache().size()).isAtMost(2L);
+        assertThat(cache.getCache().stats().evictionCount()).isAtLeast(8L);
+    }
+
+    @Test
+    @DisplayName("The weight of results should be estimated by their size")
+    void testWeigh() {
+        assertThat(DataResultCache.weigh(null)).isEqualTo(1);
+        assertThat(DataResultCache.weigh(Buffer.buffer(new byte[42]))).isEqualTo(42);
+        assertThat(DataResultCache.weigh("Hodor")).isEqualTo(5);
+        assertThat(DataResultCache.weigh(new JsonObject().put("a", 1))).isEqualTo("{\"a\":1}".length());
+        assertThat(DataResultCache.weigh(new JsonArray().add(1))).isEqualTo("[1]".length());
+    }
+
+    private static DataContext context(String user, String tenant, String other) {
+        return new DataContextImpl("correlationId", "sessionId", "bearerToken",
+                new JsonObject().put("user", user), Map.of("tenant", tenant, "other", other));
+    }
+}
@@ -0,0 +1,129 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.NeonBeeProfile.NO_WEB;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.data.DataQuery;
+import io.neonbee.test.base.NeonBeeTestBase;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class DistributedDataResultCacheTest extends NeonBeeTestBase {
+    private static final JsonObject CLUSTER_CONFIG =
+            new JsonObject().put(DataResultCache.ENABLED, true).put(DataResultCache.CLUSTER, true);
+
+    @Override
+    protected void adaptOptions(TestInfo testInfo, NeonBeeOptions.Mutable options) {
+        options.addActiveProfile(NO_WEB);
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Results should be shared via the cluster-wide tier and populate the local tier")
+    void testSharedResults(Vertx vertx, VertxTestContext testContext) {
+        DataResultCache first = DataResultCache.create(CLUSTER_CONFIG);
+        DataResultCache second = DataResultCache.create(CLUSTER_CONFIG);
+        List<Object> key = first.key(new DataQuery("/cars"), null);
+
+        CompositeFuture.all(first.connect(vertx, "testSharedResults"), second.connect(vertx, "testSharedResults"))
+                .compose(connected -> {
+                    first.put(key, Buffer.buffer("Hodor"), Map.of("contentType", "text/plain"));
+                    // the second cache derives its own key, to verify the key is independent of the instance
+                    return second.lookup(second.key(new DataQuery("/cars"), null));
+                }).onComplete(testContext.succeeding(cachedResult -> testContext.verify(() -> {
+                    assertThat(cachedResult).isNotNull();
+                    assertThat(cachedResult.getResult()).isEqualTo(Buffer.buffer("Hodor"));
+                    assertThat(cachedResult.getResponseData()).containsEntry("contentType", "text/plain");
+                    assertThat(second.get(key)).isNotNull();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Invalidating the cache should invalidate the results of all caches")
+    void testInvalidate(Vertx vertx, VertxTestContext testContext) {
+        DataResultCache first = DataResultCache.create(CLUSTER_CONFIG);
+        DataResultCache second = DataResultCache.create(CLUSTER_CONFIG);
+        List<Object> key = first.key(new DataQuery("/cars"), null);
+
+        CompositeFuture.all(first.connect(vertx, "testInvalidate"), second.connect(vertx, "testInvalidate"))
+                .compose(connected -> {
+                    first.put(key, new JsonObject().put("Hodor", "Hodor"), Map.of());
+                    return second.lookup(key);
+                }).compose(cachedResult -> {
+                    testContext.verify(() -> assertThat(cachedResult).isNotNull());
+                    return second.invalidate();
+                }).onComplete(testContext.succeeding(invalidated -> {
+                    // the invalidation of the first cache is received asynchronously via the event bus
+                    vertx.setTimer(100, timerId -> CompositeFuture.all(first.lookup(key), second.lookup(key))
+                            .onComplete(testContext.succeeding(results -> testContext.verify(() -> {
+                                assertThat(first.get(key)).isNull();
+                                assertThat(results.<Object>resultAt(0)).isNull();
+                                assertThat(results.<Object>resultAt(1)).isNull();
+                                testContext.completeNow();
+                            }))));
+                }));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Results retrieved before any cache got invalidated should not be cached in any tier")
+    void testPutAfterInvalidate(Vertx vertx, VertxTestContext testContext) {
+        DataResultCache first = DataResultCache.create(CLUSTER_CONFIG);
+        DataResultCache second = DataResultCache.create(CLUSTER_CONFIG);
+        List<Object> key = first.key(new DataQuery("/cars"), null);
+
+        CompositeFuture.all(first.connect(vertx, "testPutAfterInvalidate"),
+                second.connect(vertx, "testPutAfterInvalidate")).compose(connected -> {
+                    long generation = first.generation();
+                    return first.lookup(key).compose(cachedResult -> {
+                        testContext.verify(() -> assertThat(cachedResult).isNull());
+                        return second.invalidate();
+                    }).map(generation);
+                }).onComplete(testContext.succeeding(generation -> {
+                    // the invalidation of the first cache is received asynchronously via the event bus
+                    vertx.setTimer(100, timerId -> {
+                        first.put(key, generation, new JsonObject().put("Hodor", "Hodor"), Map.of());
+                        CompositeFuture.all(first.lookup(key), second.lookup(key))
+                                .onComplete(testContext.succeeding(results -> testContext.verify(() -> {
+                                    assertThat(results.<Object>resultAt(0)).isNull();
+                                    assertThat(results.<Object>resultAt(1)).isNull();
+                                    testContext.completeNow();
+                                })));
+                    });
+                }));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Results which cannot be transferred via the cluster should only be cached locally")
+    void testLocalOnlyResults(Vertx vertx, VertxTestContext testContext) {
+        DataResultCache first = DataResultCache.create(CLUSTER_CONFIG);
+        DataResultCache second = DataResultCache.create(CLUSTER_CONFIG);
+        List<Object> key = first.key(new DataQuery("/cars"), null);
+
+        CompositeFuture.all(first.connect(vertx, "testLocalOnly"), second.connect(vertx, "testLocalOnly"))
+                .compose(connected -> {
+                    first.put(key, List.of("Hodor"), Map.of());
+                    return second.lookup(key);
+                }).onComplete(testContext.succeeding(cachedResult -> testContext.verify(() -> {
+                    assertThat(cachedResult).isNull();
+                    assertThat(first.get(key)).isNotNull();
+                    testContext.completeNow();
+                })));
+    }
+}
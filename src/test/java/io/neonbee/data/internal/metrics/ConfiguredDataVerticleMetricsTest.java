@@ -20,6 +20,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -103,7 +106,7 @@ class ConfiguredDataVerticleMetricsTest {
                 .put(ConfiguredDataVerticleMetrics.NUMBER_OF_REQUESTS, true)
                 .put(ConfiguredDataVerticleMetrics.ACTIVE_REQUESTS, true)
                 .put(ConfiguredDataVerticleMetrics.STATUS_COUNTER, true)
-                .put(ConfiguredDataVerticleMetrics.TIMING, true);
+                .put(ConfiguredDataVerticleMetrics.TIMING, true).put(ConfiguredDataVerticleMetrics.CACHE, true);
 
         MeterRegistry mockRegistry = mock(MeterRegistry.class);
         try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
@@ -117,6 +120,7 @@ class ConfiguredDataVerticleMetricsTest {
             assertThat(configuredInstance.reportActiveRequestsGauge).isInstanceOf(DataVerticleMetricsImpl.class);
             assertThat(configuredInstance.reportStatusCounter).isInstanceOf(DataVerticleMetricsImpl.class);
             assertThat(configuredInstance.reportTimingMetric).isInstanceOf(DataVerticleMetricsImpl.class);
+            assertThat(configuredInstance.reportCacheMetrics).isInstanceOf(DataVerticleMetricsImpl.class);
         }
     }
 
@@ -128,7 +132,7 @@ class ConfiguredDataVerticleMetricsTest {
                 .put(ConfiguredDataVerticleMetrics.NUMBER_OF_REQUESTS, false)
                 .put(ConfiguredDataVerticleMetrics.ACTIVE_REQUESTS, false)
                 .put(ConfiguredDataVerticleMetrics.STATUS_COUNTER, false)
-                .put(ConfiguredDataVerticleMetrics.TIMING, false);
+                .put(ConfiguredDataVerticleMetrics.TIMING, false).put(ConfiguredDataVerticleMetrics.CACHE, false);
 
         MeterRegistry mockRegistry = mock(MeterRegistry.class);
         try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
@@ -142,6 +146,7 @@ class ConfiguredDataVerticleMetricsTest {
             assertThat(configuredInstance.reportActiveRequestsGauge).isInstanceOf(NoopDataVerticleMetrics.class);
             assertThat(configuredInstance.reportStatusCounter).isInstanceOf(NoopDataVerticleMetrics.class);
             assertThat(configuredInstance.reportTimingMetric).isInstanceOf(NoopDataVerticleMetrics.class);
+            assertThat(configuredInstance.reportCacheMetrics).isInstanceOf(NoopDataVerticleMetrics.class);
 
             List<Tag> tags = List.of(new ImmutableTag("key", "value"));
 
@@ -159,9 +164,10 @@ class ConfiguredDataVerticleMetricsTest {
         NoopDataVerticleMetrics spyReportActiveRequestsGauge = spy(ConfiguredDataVerticleMetrics.DUMMY_IMPL);
         NoopDataVerticleMetrics spyReportStatusCounter = spy(ConfiguredDataVerticleMetrics.DUMMY_IMPL);
         NoopDataVerticleMetrics spyReportTimingMetric = spy(ConfiguredDataVerticleMetrics.DUMMY_IMPL);
+        NoopDataVerticleMetrics spyReportCacheMetrics = spy(ConfiguredDataVerticleMetrics.DUMMY_IMPL);
 
         ConfiguredDataVerticleMetrics configuredInstance = new ConfiguredDataVerticleMetrics(spyReportNumberOfRequests,
-                spyReportActiveRequestsGauge, spyReportStatusCounter, spyReportTimingMetric);
+                spyReportActiveRequestsGauge, spyReportStatusCounter, spyReportTimingMetric, spyReportCacheMetrics);
 
         List<Tag> tags = List.of(new ImmutableTag("key", "value"));
 
@@ -195,6 +201,11 @@ class ConfiguredDataVerticleMetricsTest {
         verify(spyReportTimingMetric, never()).reportActiveRequestsGauge(eq("name"), eq("description"), eq(tags),
                 any());
         verify(spyReportTimingMetric, never()).reportStatusCounter(eq("name"), eq("description"), eq(tags), any());
+
+        Cache<Object, Object> cache = CacheBuilder.newBuilder().build();
+        configuredInstance.reportCacheMetrics("name", cache, tags);
+        verify(spyReportCacheMetrics, times(1)).reportCacheMetrics(eq("name"), eq(cache), eq(tags));
+        verify(spyReportTimingMetric, never()).reportCacheMetrics(eq("name"), eq(cache), eq(tags));
     }
 
     private static void resetBackendRegistries() throws NoSuchFieldException, IllegalAccessException {
@@ -1,17 +1,21 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.RESPONSE_CHUNK_SIZE;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapODataResponse;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapToODataRequest;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 
 import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataRequest;
@@ -24,6 +28,7 @@ import org.mockito.stubbing.Answer;
 import com.google.common.base.Charsets;
 
 import io.neonbee.internal.handler.CorrelationIdHandler;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
@@ -73,6 +78,65 @@ class OlingoEndpointHandlerTest {
         assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
     }
 
+    @Test
+    @DisplayName("map large response content in chunks and respect backpressure")
+    @SuppressWarnings("unchecked")
+    void checkChunkedResponseMapping() {
+        byte[] content = new byte[RESPONSE_CHUNK_SIZE * 2 + 42];
+        Arrays.fill(content, (byte) 'x');
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setStatusCode(200);
+        odataResponse.setContent(new ByteArrayInputStream(content));
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(responseMock.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        // the write queue is full after the first chunk was written
+        when(responseMock.writeQueueFull()).thenReturn(false, true, false);
+        assertDoesNotThrow(() -> mapODataResponse(odataResponse, responseMock));
+
+        verify(responseMock).setChunked(true);
+        verify(responseMock, times(1)).write(any(Buffer.class));
+        verify(responseMock, never()).end(any(Buffer.class));
+
+        ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+        verify(responseMock).drainHandler(drainHandler.capture());
+        drainHandler.getValue().handle(null);
+
+        ArgumentCaptor<Buffer> writeBuffers = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock, times(2)).write(writeBuffers.capture());
+        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).end(endBuffer.capture());
+        assertThat(writeBuffers.getAllValues().stream().mapToInt(Buffer::length).toArray())
+                .isEqualTo(new int[] { RESPONSE_CHUNK_SIZE, RESPONSE_CHUNK_SIZE });
+        assertThat(endBuffer.getValue().length()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("map large OData response content in chunks")
+    void checkChunkedODataResponseMapping() throws Exception {
+        byte[] content = new byte[RESPONSE_CHUNK_SIZE + 42];
+        Arrays.fill(content, (byte) 'x');
+        ODataResponse odataResponse = new ODataResponse();
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            invocation.<OutputStream>getArgument(0).write(content);
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(responseMock.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        mapODataResponse(odataResponse, responseMock);
+
+        verify(responseMock).setChunked(true);
+        ArgumentCaptor<Buffer> writeBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).write(writeBuffer.capture());
+        assertThat(writeBuffer.getValue().length()).isEqualTo(RESPONSE_CHUNK_SIZE);
+        ArgumentCaptor<Buffer> endBuffer = ArgumentCaptor.forClass(Buffer.class);
+        verify(responseMock).end(endBuffer.capture());
+        assertThat(endBuffer.getValue().length()).isEqualTo(42);
+    }
+
     @Test
     @DisplayName("test mapToODataRequest")
     void testMapToODataRequest() throws Exception {
@@ -0,0 +1,96 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static io.neonbee.test.helper.EntityHelper.createEntity;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.edm.Edm;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+@Tag("benchmark")
+class CompiledFilterExpressionBenchmark {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final RoutingContext ROUTING_CONTEXT = Mockito.mock(RoutingContext.class);
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static final int ROUNDS = 20;
+
+    @Test
+    @DisplayName("Benchmark filtering entities with an expression compiled once against compiling it per entity")
+    void benchmarkFilter() throws Exception {
+        // this is no replacement for a proper micro benchmark, it only indicates the order of magnitude of the gain
+        Expression expression = parseFilter("ID ge 10 and contains(name, '9') and endswith(name, '9')");
+        for (int size : new int[] { 10_000, 100_000 }) {
+            List<Entity> cars = IntStream.range(0, size)
+                    .mapToObj(id -> createEntity(new JsonObject().put("ID", id).put("name", "Car " + id)))
+                    .collect(Collectors.toList());
+
+            long perEntityTime = 0;
+            long compiledTime = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                long start = System.nanoTime();
+                int perEntityMatches = 0;
+                for (Entity entity : cars) {
+                    // walks the expression tree for every entity, as evaluating the expression per entity used to do
+                    perEntityMatches +=
+                            CompiledFilterExpression.compile(ROUTING_CONTEXT, expression).matches(entity) ? 1 : 0;
+                }
+                long perEntityRoundTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                CompiledFilterExpression compiledExpression =
+                        CompiledFilterExpression.compile(ROUTING_CONTEXT, expression);
+                int compiledMatches = 0;
+                for (Entity entity : cars) {
+                    compiledMatches += compiledExpression.matches(entity) ? 1 : 0;
+                }
+                long compiledRoundTime = System.nanoTime() - start;
+
+                assertThat(compiledMatches).isEqualTo(perEntityMatches);
+                if (round >= WARMUP_ROUNDS) {
+                    perEntityTime += perEntityRoundTime;
+                    compiledTime += compiledRoundTime;
+                }
+            }
+
+            LOGGER.info("Filtering {} entities took {}ms on average compiling per entity and {}ms compiled once", size,
+                    TimeUnit.NANOSECONDS.toMillis(perEntityTime / ROUNDS),
+                    TimeUnit.NANOSECONDS.toMillis(compiledTime / ROUNDS));
+        }
+    }
+
+    private static Expression parseFilter(String filter) throws Exception {
+        Edm edm;
+        try (Reader reader = Files.newBufferedReader(TEST_RESOURCES
+                .resolve("io/neonbee/test/endpoint/odata/verticle/io.neonbee.test3.TestService3.edmx"), UTF_8)) {
+            edm = getBufferedOData()
+                    .createServiceMetadata(new MetadataParser().referenceResolver(null).buildEdmProvider(reader),
+                            List.of())
+                    .getEdm();
+        }
+        return new Parser(edm, getBufferedOData()).parseUri("TestCars", "$filter=" + filter, "", "")
+                .getFilterOption().getExpression();
+    }
+}
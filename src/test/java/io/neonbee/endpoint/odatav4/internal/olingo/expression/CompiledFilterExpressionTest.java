@@ -0,0 +1,118 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static io.neonbee.test.helper.EntityHelper.createEntity;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.edm.Edm;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+class CompiledFilterExpressionTest {
+    private static final RoutingContext ROUTING_CONTEXT = Mockito.mock(RoutingContext.class);
+
+    private static final List<Entity> CARS = IntStream.range(0, 1000)
+            .mapToObj(id -> createEntity(new JsonObject().put("ID", id).put("name", "Car " + id)
+                    .put("description", id % 2 == 1 ? "This is Car " + id : null)))
+            .collect(Collectors.toList());
+
+    private static Edm edm;
+
+    @BeforeAll
+    static void parseModel() throws Exception {
+        try (Reader reader = Files.newBufferedReader(TEST_RESOURCES
+                .resolve("io/neonbee/test/endpoint/odata/verticle/io.neonbee.test3.TestService3.edmx"), UTF_8)) {
+            edm = getBufferedOData()
+                    .createServiceMetadata(new MetadataParser().referenceResolver(null).buildEdmProvider(reader),
+                            List.of())
+                    .getEdm();
+        }
+    }
+
+    static Stream<Arguments> withFilters() {
+        return Stream.of(Arguments.of("ID eq 205", (IntPredicate) id -> id == 205),
+                Arguments.of("ID ne 205 and ID lt 500", (IntPredicate) id -> id != 205 && id < 500),
+                Arguments.of("ID ge 10 or name eq 'Car 1'", (IntPredicate) id -> id >= 10 || id == 1),
+                Arguments.of("not (ID gt 100)", (IntPredicate) id -> id <= 100),
+                Arguments.of("ID le 5.5", (IntPredicate) id -> id <= 5),
+                Arguments.of("ID eq 205.0", (IntPredicate) id -> id == 205),
+                Arguments.of("name in ('Car 1', 'Car 999')", (IntPredicate) id -> id == 1 || id == 999),
+                Arguments.of("ID in (1, 2, 3)", (IntPredicate) id -> id >= 1 && id <= 3),
+                Arguments.of("startswith(name, 'Car 1')", (IntPredicate) id -> String.valueOf(id).startsWith("1")),
+                Arguments.of("endswith(name, '99') or ID eq 0", (IntPredicate) id -> id % 100 == 99 || id == 0),
+                Arguments.of("contains(tolower(name), 'car 9') and length(name) gt 6",
+                        (IntPredicate) id -> id >= 100 && String.valueOf(id).startsWith("9")),
+                Arguments.of("concat(name, '!') eq 'Car 7!'", (IntPredicate) id -> id == 7),
+                Arguments.of("trim(toupper(name)) eq 'CAR 3'", (IntPredicate) id -> id == 3),
+                Arguments.of("substring(name, 4) eq '42'", (IntPredicate) id -> id == 42),
+                Arguments.of("substring(name, 4, 1) eq '7'", (IntPredicate) id -> String.valueOf(id).startsWith("7")),
+                Arguments.of("indexof(name, '42') eq 4", (IntPredicate) id -> String.valueOf(id).startsWith("42")),
+                Arguments.of("contains(description, '9')",
+                        (IntPredicate) id -> id % 2 == 1 && String.valueOf(id).contains("9")),
+                Arguments.of("not contains(description, '1')",
+                        (IntPredicate) id -> id % 2 == 0 || !String.valueOf(id).contains("1")),
+                Arguments.of("description ne 'This is Car 1'", (IntPredicate) id -> id != 1),
+                Arguments.of("startswith(description, 'This is Car 1') or ID eq 2",
+                        (IntPredicate) id -> (id % 2 == 1 && String.valueOf(id).startsWith("1")) || id == 2));
+    }
+
+    @ParameterizedTest(name = "{index}: {0}")
+    @MethodSource("withFilters")
+    @DisplayName("Compiled filter expressions must match the expected entities")
+    void testFilter(String filter, IntPredicate expectedIds) throws Exception {
+        CompiledFilterExpression compiledExpression = CompiledFilterExpression.compile(ROUTING_CONTEXT,
+                parseFilter(filter));
+
+        List<Entity> expected = CARS.stream().filter(entity -> expectedIds.test(getId(entity)))
+                .collect(Collectors.toList());
+        assertThat(expected).isNotEmpty();
+        assertThat(CARS.stream().filter(compiledExpression).collect(Collectors.toList()))
+                .containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    @DisplayName("Unsupported expressions must fail with not implemented when being evaluated")
+    void testNotImplemented() throws Exception {
+        CompiledFilterExpression compiledExpression =
+                CompiledFilterExpression.compile(ROUTING_CONTEXT, parseFilter("ID add 1 eq 2"));
+
+        ODataApplicationException exception =
+                assertThrows(ODataApplicationException.class, () -> compiledExpression.matches(CARS.get(0)));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatusCode.NOT_IMPLEMENTED.getStatusCode());
+        assertThrows(IllegalStateException.class, () -> compiledExpression.test(CARS.get(0)));
+    }
+
+    private static int getId(Entity entity) {
+        return (Integer) entity.getProperty("ID").getValue();
+    }
+
+    private static Expression parseFilter(String filter) throws Exception {
+        return new Parser(edm, getBufferedOData()).parseUri("TestCars", "$filter=" + filter, "", "")
+                .getFilterOption().getExpression();
+    }
+}
@@ -0,0 +1,76 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.ext.web.RoutingContext;
+
+@Tag("benchmark")
+class EntityChainedComparatorBenchmark {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final int WARMUP_ROUNDS = 1;
+
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("Benchmark sorting with precomputed sort keys against sorting with the comparator")
+    void benchmarkSort() throws ODataApplicationException {
+        // this is no replacement for a proper micro benchmark, it only indicates the order of magnitude of the gain
+        EntityChainedComparator chainedComparator = new EntityChainedComparator(
+                List.of(new EntityComparator(mock(RoutingContext.class), "ID", false, "Edm.Int32"),
+                        new EntityComparator(mock(RoutingContext.class), "name", true, "Edm.String")));
+        for (int size : new int[] { 10_000, 100_000, 1_000_000 }) {
+            // a fixed seed, so that every run sorts the same entities
+            List<Entity> entities = createEntities(size, new Random(size));
+
+            long comparatorTime = 0;
+            long sortKeyTime = 0;
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                List<Entity> comparatorSorted = new ArrayList<>(entities);
+                long start = System.nanoTime();
+                comparatorSorted.sort(chainedComparator);
+                long comparatorRoundTime = System.nanoTime() - start;
+
+                List<Entity> sortKeySorted = new ArrayList<>(entities);
+                start = System.nanoTime();
+                chainedComparator.sort(sortKeySorted);
+                long sortKeyRoundTime = System.nanoTime() - start;
+
+                assertThat(sortKeySorted).containsExactlyElementsIn(comparatorSorted).inOrder();
+                if (round >= WARMUP_ROUNDS) {
+                    comparatorTime += comparatorRoundTime;
+                    sortKeyTime += sortKeyRoundTime;
+                }
+            }
+
+            LOGGER.info("Sorting {} entities took {}ms on average with the comparator and {}ms with precomputed sort "
+                    + "keys", size, TimeUnit.NANOSECONDS.toMillis(comparatorTime / ROUNDS),
+                    TimeUnit.NANOSECONDS.toMillis(sortKeyTime / ROUNDS));
+        }
+    }
+
+    private static List<Entity> createEntities(int size, Random random) {
+        List<Entity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(new Entity()
+                    .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, random.nextInt(size / 2)))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Car " + random.nextInt(10))));
+        }
+        return entities;
+    }
+}
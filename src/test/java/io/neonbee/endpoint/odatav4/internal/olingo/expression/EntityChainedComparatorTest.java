@@ -4,11 +4,19 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.test.endpoint.odata.verticle.TestService3EntityVerticle.ENTITY_DATA_1;
 import static io.neonbee.test.endpoint.odata.verticle.TestService3EntityVerticle.ENTITY_DATA_3;
 import static io.neonbee.test.helper.EntityHelper.createEntity;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.vertx.ext.web.RoutingContext;
@@ -29,4 +37,43 @@ class EntityChainedComparatorTest {
 
         assertThat(chainedComparator.compare(createEntity(ENTITY_DATA_1), createEntity(ENTITY_DATA_3))).isEqualTo(-1);
     }
+
+    @Test
+    @DisplayName("Sorting with precomputed sort keys must result in the same order as sorting with the comparator")
+    void sortTest() throws ODataApplicationException {
+        EntityChainedComparator chainedComparator = createChainedComparator();
+
+        List<Entity> entities = createEntities(1000, new Random(42));
+        // mix in some values of other types, which are compared as BigIntegers or null
+        entities.get(1).getProperty("ID").setValue(ValueType.PRIMITIVE, BigInteger.valueOf(500));
+        entities.get(2).getProperty("ID").setValue(ValueType.PRIMITIVE, (short) 500);
+        entities.get(3).getProperty("name").setValue(ValueType.PRIMITIVE, null);
+
+        List<Entity> expected = new ArrayList<>(entities);
+        expected.sort(chainedComparator);
+        chainedComparator.sort(entities);
+        assertThat(entities).containsExactlyElementsIn(expected).inOrder();
+
+        // sort keys can't be created for strings as ID, the comparator used as fallback reports the error
+        entities.get(4).getProperty("ID").setValue(ValueType.PRIMITIVE, "4");
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> chainedComparator.sort(entities));
+        assertThat(exception).hasCauseThat().isInstanceOf(ODataApplicationException.class);
+    }
+
+    private static EntityChainedComparator createChainedComparator() throws ODataApplicationException {
+        return new EntityChainedComparator(
+                List.of(new EntityComparator(mock(RoutingContext.class), "ID", false, "Edm.Int32"),
+                        new EntityComparator(mock(RoutingContext.class), "name", true, "Edm.String")));
+    }
+
+    private static List<Entity> createEntities(int size, Random random) {
+        List<Entity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(new Entity()
+                    .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, random.nextInt(size / 2)))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Car " + random.nextInt(10))));
+        }
+        return entities;
+    }
 }
@@ -0,0 +1,88 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.olingo.commons.api.edm.Edm;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.entity.EntityFilter;
+import io.neonbee.entity.EntityFilter.Operator;
+import io.neonbee.entity.EntityQuery;
+
+class EntityQueryTranslatorTest {
+    private static Edm edm;
+
+    @BeforeAll
+    static void parseModel() throws Exception {
+        try (Reader reader = Files.newBufferedReader(TEST_RESOURCES
+                .resolve("io/neonbee/test/endpoint/odata/verticle/io.neonbee.test3.TestService3.edmx"), UTF_8)) {
+            edm = getBufferedOData()
+                    .createServiceMetadata(new MetadataParser().referenceResolver(null).buildEdmProvider(reader),
+                            List.of())
+                    .getEdm();
+        }
+    }
+
+    @Test
+    @DisplayName("All supported query options should be translated completely")
+    void testTranslateComplete() throws Exception {
+        EntityQuery query = EntityQueryTranslator.translate(parse("$filter=10 lt ID and (name eq 'Car''s' or "
+                + "not startswith(name, 'Car 1')) and description eq null and ID in (1, 2)"
+                + "&$orderby=name desc,ID&$skip=2&$top=5"));
+
+        assertThat(query.isFilterComplete()).isTrue();
+        assertThat(query.getFilter()).isEqualTo(EntityFilter.and(List.of(EntityFilter.compare(Operator.GT, "ID", 10L),
+                EntityFilter.or(List.of(EntityFilter.compare(Operator.EQ, "name", "Car's"),
+                        EntityFilter.not(EntityFilter.compare(Operator.STARTS_WITH, "name", "Car 1")))),
+                EntityFilter.compare(Operator.EQ, "description", null), EntityFilter.in("ID", List.of(1L, 2L)))));
+        assertThat(query.getOrderBy()).containsExactly(new EntityQuery.Order("name", true),
+                new EntityQuery.Order("ID", false)).inOrder();
+        assertThat(query.getSkip()).isEqualTo(2);
+        assertThat(query.getTop()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Unsupported parts of a filter combined by and should render the filter incomplete")
+    void testTranslatePartially() throws Exception {
+        EntityQuery query = EntityQueryTranslator
+                .translate(parse("$filter=ID ge 5 and length(name) gt 6 and contains(name, '9')&$orderby=ID&$top=5"));
+        assertThat(query.isFilterComplete()).isFalse();
+        assertThat(query.getFilter()).isEqualTo(EntityFilter.and(List.of(EntityFilter.compare(Operator.GE, "ID", 5L),
+                EntityFilter.compare(Operator.CONTAINS, "name", "9"))));
+        assertThat(query.getOrderBy()).containsExactly(new EntityQuery.Order("ID", false));
+        assertThat(query.getTop()).isNull();
+
+        query = EntityQueryTranslator.translate(parse("$filter=ID add 1 eq 2 or ID eq 0&$orderby=length(name)"));
+        assertThat(query.isFilterComplete()).isFalse();
+        assertThat(query.getFilter()).isNull();
+        assertThat(query.getOrderBy()).isNull();
+        assertThat(query.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Paging options should be left out, in case the order could not be translated")
+    void testTranslateIncompleteOrder() throws Exception {
+        EntityQuery query = EntityQueryTranslator.translate(parse("$orderby=length(name)&$skip=2&$top=5"));
+        assertThat(query.isFilterComplete()).isTrue();
+        assertThat(query.getOrderBy()).isNull();
+        assertThat(query.getSkip()).isNull();
+        assertThat(query.getTop()).isNull();
+        assertThat(query.isEmpty()).isTrue();
+    }
+
+    private static UriInfo parse(String query) throws Exception {
+        return new Parser(edm, getBufferedOData()).parseUri("TestCars", query, "", "");
+    }
+}
@@ -569,6 +569,56 @@ class OrderExpressionExecutorTest {
                         "org.apache.olingo.server.api.ODataApplicationException: An error has occurred while comparing two values of property testGuidProperty. The types of the compared values are UUID and String but both must be one of: UUID");
     }
 
+    @Test
+    @DisplayName("Ordering with a limit must return the same first entities as a full (stable) sort")
+    void executeOrderOptionWithLimitTest() {
+        List<Entity> entityList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entityList.add(new Entity() //
+                    .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE, (i * 37) % 10))
+                    .addProperty(new Property(null, "index", ValueType.PRIMITIVE, i)));
+        }
+
+        EdmTypeImpl edmType = mock(EdmTypeImpl.class);
+        when(edmType.getKind()).thenReturn(EdmTypeKind.PRIMITIVE);
+        when(edmType.toString()).thenReturn(EdmPrimitiveTypeKind.Int32.toString());
+
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(edmType);
+        when(edmProperty.getName()).thenReturn("testNumberProperty");
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        MemberImpl member = mock(MemberImpl.class);
+        when(member.getResourcePath()).thenReturn(resourcePath);
+
+        OrderByItemImpl orderByItem = mock(OrderByItemImpl.class);
+        when(orderByItem.getExpression()).thenReturn(member);
+
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(List.of(orderByItem));
+
+        for (boolean descending : new boolean[] { false, true }) {
+            when(orderByItem.isDescending()).thenReturn(descending);
+            List<Entity> sortedList =
+                    OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, new ArrayList<>(entityList));
+            for (int limit : new int[] { 1, 15, 99 }) {
+                assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, limit))
+                        .containsExactlyElementsIn(sortedList.subList(0, limit)).inOrder();
+            }
+            assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, 0))
+                    .isEmpty();
+        }
+
+        // a limit exceeding the size of the list results in a full sort of the passed list
+        assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, 100))
+                .isSameInstanceAs(entityList);
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     void classDefinitionTest() throws Exception {
@@ -2,12 +2,19 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.TOO_MANY_PARTS_EXCEPTION;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.decodeSkipToken;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.encodeSkipToken;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.getNextLink;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.getPageSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.List;
 
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.junit.jupiter.api.DisplayName;
@@ -26,4 +33,42 @@ class CountEntityCollectionProcessorTest {
                 () -> processor.readEntityCollection(null, null, mockedUriInfo, null));
         assertThat(exception).isEqualTo(TOO_MANY_PARTS_EXCEPTION);
     }
+
+    @Test
+    @DisplayName("The page size should respect the maximum page size and the preference of the client")
+    void testGetPageSize() {
+        assertThat(getPageSize(0, null)).isEqualTo(0);
+        assertThat(getPageSize(10, List.of())).isEqualTo(10);
+        assertThat(getPageSize(10, List.of("return=minimal, odata.maxpagesize=5"))).isEqualTo(5);
+        assertThat(getPageSize(10, List.of("odata.maxpagesize=20"))).isEqualTo(10);
+        assertThat(getPageSize(0, List.of("odata.maxpagesize=20"))).isEqualTo(20);
+        assertThat(getPageSize(10, List.of("odata.maxpagesize=hodor"))).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Skip tokens should be opaque and invalid skip tokens should be rejected")
+    void testSkipToken() throws ODataApplicationException {
+        String skipToken = encodeSkipToken(42);
+        assertThat(skipToken).doesNotContain("42");
+        assertThat(decodeSkipToken(skipToken)).isEqualTo(42);
+
+        ODataApplicationException exception =
+                assertThrows(ODataApplicationException.class, () -> decodeSkipToken("hodor"));
+        assertThat(exception.getStatusCode()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("The next link should contain all query options of the request and replace the skip token")
+    void testGetNextLink() {
+        ODataRequest request = new ODataRequest();
+        request.setRawRequestUri("http://localhost/odata/Service/Entities?$top=10&$skiptoken=abc");
+        request.setRawQueryPath("$top=10&$skiptoken=abc");
+        assertThat(getNextLink(request, "def").toString())
+                .isEqualTo("http://localhost/odata/Service/Entities?$top=10&$skiptoken=def");
+
+        request.setRawRequestUri("http://localhost/odata/Service/Entities");
+        request.setRawQueryPath(null);
+        assertThat(getNextLink(request, "def").toString())
+                .isEqualTo("http://localhost/odata/Service/Entities?$skiptoken=def");
+    }
 }
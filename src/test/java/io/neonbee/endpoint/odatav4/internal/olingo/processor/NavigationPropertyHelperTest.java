@@ -0,0 +1,140 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.apache.olingo.commons.core.edm.primitivetype.EdmPrimitiveTypeFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NavigationPropertyHelperTest {
+    private static final Entity ORDER_1 = order("A", 1);
+
+    private static final Entity ORDER_2 = order("A", 2);
+
+    private static final Entity ORDER_3 = order("B", 1);
+
+    private static final Entity ITEM_1 = item("A", 1, "item1");
+
+    private static final Entity ITEM_2 = item("A", 1, "item2");
+
+    private static final Entity ITEM_3 = item("B", 1, "item3");
+
+    private static final Entity ITEM_4 = item("A", null, "item4");
+
+    private static final List<Entity> ITEMS = List.of(ITEM_1, ITEM_2, ITEM_3, ITEM_4);
+
+    @Test
+    @DisplayName("Related entities of a collection navigation property should be found with a composite key")
+    void getRelatedEntitiesOfCollection() {
+        // Orders -> Items (collection), the constraints are defined at the partner (Items -> Order)
+        EdmNavigationProperty partner = mockNavigationProperty(false, null,
+                List.of(mockConstraint("orderSystem", "system"), mockConstraint("orderId", "id")));
+        EdmNavigationProperty items = mockNavigationProperty(true, partner, List.of());
+
+        Map<List<Object>, List<Entity>> index = NavigationPropertyHelper.indexReferencedEntities(items, ITEMS);
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, ORDER_1, index))
+                .containsExactly(ITEM_1, ITEM_2).inOrder();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, ORDER_2, index)).isEmpty();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(items, ORDER_3, ITEMS)).containsExactly(ITEM_3);
+    }
+
+    @Test
+    @DisplayName("Related entity of a single navigation property should be found with a composite key")
+    void getRelatedEntitiesOfEntity() {
+        // Items -> Order (single entity)
+        EdmNavigationProperty order = mockNavigationProperty(false, null,
+                List.of(mockConstraint("orderSystem", "system"), mockConstraint("orderId", "id")));
+
+        Map<List<Object>, List<Entity>> index =
+                NavigationPropertyHelper.indexReferencedEntities(order, List.of(ORDER_1, ORDER_2, ORDER_3));
+        assertThat(NavigationPropertyHelper.getRelatedEntities(order, ITEM_1, index)).containsExactly(ORDER_1);
+        assertThat(NavigationPropertyHelper.getRelatedEntities(order, ITEM_3, index)).containsExactly(ORDER_3);
+        assertThat(NavigationPropertyHelper.getRelatedEntities(order, ITEM_4, index)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Key filters should be built with the in operator for a single key property and in chunks")
+    void buildKeyFiltersSingleProperty() throws EdmPrimitiveTypeException {
+        EdmEntityType orderType = mockEntityType();
+        assertThat(NavigationPropertyHelper.buildKeyFilters(orderType, List.of("system"),
+                List.of(List.of("A"), List.of("O'Neil")))).containsExactly("system in ('A','O''Neil')");
+
+        List<String> filters = NavigationPropertyHelper.buildKeyFilters(orderType, List.of("id"),
+                IntStream.range(0, 150).mapToObj(List::<Object>of).collect(Collectors.toList()));
+        assertThat(filters).hasSize(2);
+        assertThat(filters.get(0)).startsWith("id in (0,1,");
+        assertThat(filters.get(0)).endsWith(",99)");
+        assertThat(filters.get(1)).startsWith("id in (100,");
+        assertThat(filters.get(1)).endsWith(",149)");
+    }
+
+    @Test
+    @DisplayName("Key filters should be built as a disjunction for composite keys")
+    void buildKeyFiltersCompositeKey() throws EdmPrimitiveTypeException {
+        assertThat(NavigationPropertyHelper.buildKeyFilters(mockEntityType(), List.of("system", "id"),
+                List.of(List.of("A", 1), List.of("B", 2))))
+                        .containsExactly("(system eq 'A' and id eq 1) or (system eq 'B' and id eq 2)");
+    }
+
+    private static EdmEntityType mockEntityType() {
+        EdmEntityType entityType = Mockito.mock(EdmEntityType.class);
+        EdmProperty system = mockProperty(EdmPrimitiveTypeKind.String);
+        EdmProperty id = mockProperty(EdmPrimitiveTypeKind.Int32);
+        Mockito.when(entityType.getStructuralProperty("system")).thenReturn(system);
+        Mockito.when(entityType.getStructuralProperty("id")).thenReturn(id);
+        return entityType;
+    }
+
+    private static EdmProperty mockProperty(EdmPrimitiveTypeKind kind) {
+        EdmProperty property = Mockito.mock(EdmProperty.class);
+        Mockito.when(property.getType()).thenReturn(EdmPrimitiveTypeFactory.getInstance(kind));
+        Mockito.when(property.isNullable()).thenReturn(true);
+        Mockito.when(property.isUnicode()).thenReturn(true);
+        Mockito.when(property.getMaxLength()).thenReturn(null);
+        Mockito.when(property.getPrecision()).thenReturn(null);
+        Mockito.when(property.getScale()).thenReturn(null);
+        return property;
+    }
+
+    private static Entity order(String system, Integer id) {
+        return new Entity().addProperty(new Property(null, "system", ValueType.PRIMITIVE, system))
+                .addProperty(new Property(null, "id", ValueType.PRIMITIVE, id));
+    }
+
+    private static Entity item(String orderSystem, Integer orderId, String name) {
+        return new Entity().addProperty(new Property(null, "orderSystem", ValueType.PRIMITIVE, orderSystem))
+                .addProperty(new Property(null, "orderId", ValueType.PRIMITIVE, orderId))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+
+    private static EdmReferentialConstraint mockConstraint(String propertyName, String referencedPropertyName) {
+        EdmReferentialConstraint constraint = Mockito.mock(EdmReferentialConstraint.class);
+        Mockito.when(constraint.getPropertyName()).thenReturn(propertyName);
+        Mockito.when(constraint.getReferencedPropertyName()).thenReturn(referencedPropertyName);
+        return constraint;
+    }
+
+    private static EdmNavigationProperty mockNavigationProperty(boolean collection, EdmNavigationProperty partner,
+            List<EdmReferentialConstraint> constraints) {
+        EdmNavigationProperty navigationProperty = Mockito.mock(EdmNavigationProperty.class);
+        Mockito.when(navigationProperty.isCollection()).thenReturn(collection);
+        Mockito.when(navigationProperty.getPartner()).thenReturn(partner);
+        Mockito.when(navigationProperty.getReferentialConstraints()).thenReturn(constraints);
+        return navigationProperty;
+    }
+}
@@ -0,0 +1,181 @@
+package io.neonbee.endpoint.raw;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.raw.RawEndpoint.CONFIG_STREAMING;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.config.EndpointConfig;
+import io.neonbee.config.ServerConfig;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.internal.verticle.ServerVerticle;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.neonbee.test.helper.WorkingDirectoryBuilder;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class RawEndpointStreamingTest extends DataVerticleTestBase {
+    @Override
+    protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
+        return super.provideWorkingDirectoryBuilder(testInfo, testContext).setCustomTask(root -> {
+            DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
+            EndpointConfig epc = new EndpointConfig().setType(RawEndpoint.class.getName())
+                    .setAdditionalConfig(new JsonObject().put(CONFIG_STREAMING, true));
+            ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
+            opts.setConfig(sc.toJson());
+            WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
+        });
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("All chunks of a stream should be written to the response")
+    void testStream(VertxTestContext testContext) {
+        deployVerticle(new StreamingDataVerticle(false, "Hodor1", "Hodor2"))
+                .compose(deployment -> createRequest(HttpMethod.GET, "/raw/StreamingDataVerticle/").send())
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(OK.code());
+                    assertThat(response.bodyAsString()).isEqualTo("Hodor1Hodor2");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("A stream failing after the response was started should reset the response instead of ending it")
+    void testStreamFailingAfterFirstChunk(VertxTestContext testContext) {
+        deployVerticle(new StreamingDataVerticle(true, "Hodor1"))
+                .compose(deployment -> createRequest(HttpMethod.GET, "/raw/StreamingDataVerticle/").send())
+                .onComplete(testContext.failing(cause -> testContext.completeNow()));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("A stream failing before the response was started should fail the request")
+    void testStreamFailingImmediately(VertxTestContext testContext) {
+        deployVerticle(new StreamingDataVerticle(true))
+                .compose(deployment -> createRequest(HttpMethod.GET, "/raw/StreamingDataVerticle/").send())
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(INTERNAL_SERVER_ERROR.code());
+                    testContext.completeNow();
+                })));
+    }
+
+    private static class StreamingDataVerticle extends DataVerticle<Buffer> {
+        private final boolean fail;
+
+        private final String[] chunks;
+
+        StreamingDataVerticle(boolean fail, String... chunks) {
+            this.fail = fail;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public String getName() {
+            return "StreamingDataVerticle";
+        }
+
+        @Override
+        public ReadStream<Buffer> retrieveStream(DataQuery query, DataContext context) {
+            return new ChunkStream(fail, chunks);
+        }
+    }
+
+    /**
+     * A stream emitting its chunks on demand, either ending or failing after all chunks were emitted.
+     */
+    private static class ChunkStream implements ReadStream<Buffer> {
+        private final boolean fail;
+
+        private final String[] chunks;
+
+        private Handler<Buffer> handler;
+
+        private Handler<Void> endHandler;
+
+        private Handler<Throwable> exceptionHandler;
+
+        private long demand = Long.MAX_VALUE;
+
+        private int emittedChunks;
+
+        private boolean completed;
+
+        ChunkStream(boolean fail, String... chunks) {
+            this.fail = fail;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ChunkStream exceptionHandler(Handler<Throwable> handler) {
+            this.exceptionHandler = handler;
+            return this;
+        }
+
+        @Override
+        public ChunkStream handler(Handler<Buffer> handler) {
+            this.handler = handler;
+            emit();
+            return this;
+        }
+
+        @Override
+        public ChunkStream pause() {
+            demand = 0;
+            return this;
+        }
+
+        @Override
+        public ChunkStream resume() {
+            return fetch(Long.MAX_VALUE);
+        }
+
+        @Override
+        public ChunkStream fetch(long amount) {
+            demand += amount;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+            emit();
+            return this;
+        }
+
+        @Override
+        public ChunkStream endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        private void emit() {
+            while (handler != null && demand > 0 && emittedChunks < chunks.length) {
+                demand--;
+                handler.handle(Buffer.buffer(chunks[emittedChunks++]));
+            }
+            if (!completed && handler != null && emittedChunks == chunks.length) {
+                if (fail && exceptionHandler != null) {
+                    completed = true;
+                    exceptionHandler.handle(new IllegalStateException("Hodor failed"));
+                } else if (!fail && endHandler != null) {
+                    completed = true;
+                    endHandler.handle(null);
+                }
+            }
+        }
+    }
+}
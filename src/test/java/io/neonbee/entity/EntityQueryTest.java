@@ -0,0 +1,72 @@
+package io.neonbee.entity;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityVerticle.ENTITY_QUERY_HEADER;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityFilter.Operator;
+
+class EntityQueryTest {
+    private static final EntityFilter FILTER = EntityFilter.and(List.of(
+            EntityFilter.compare(Operator.GT, "ID", 5L),
+            EntityFilter.or(List.of(EntityFilter.compare(Operator.CONTAINS, "name", "50%_off"),
+                    EntityFilter.in("category", List.of("A", "B")))),
+            EntityFilter.not(EntityFilter.compare(Operator.EQ, "price", new BigDecimal("9.99"))),
+            EntityFilter.compare(Operator.NE, "description", null)));
+
+    @Test
+    @DisplayName("Entity queries should be encoded to JSON and decoded again")
+    void testJsonRoundTrip() {
+        EntityQuery query = new EntityQuery().setFilter(FILTER).setFilterComplete(false)
+                .setOrderBy(List.of(new EntityQuery.Order("name", true), new EntityQuery.Order("ID", false)))
+                .setSkip(10).setTop(5);
+
+        EntityQuery decodedQuery = EntityQuery.fromJson(query.toJson());
+        assertThat(decodedQuery.getFilter().toString()).isEqualTo(FILTER.toString());
+        assertThat(decodedQuery.isFilterComplete()).isFalse();
+        assertThat(decodedQuery.getOrderBy()).isEqualTo(query.getOrderBy());
+        assertThat(decodedQuery.getSkip()).isEqualTo(10);
+        assertThat(decodedQuery.getTop()).isEqualTo(5);
+        assertThat(decodedQuery.getFilter().getOperands().get(0).getValue()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Entity queries should be read from the header of a data query")
+    void testFromDataQuery() {
+        EntityQuery query = new EntityQuery().setTop(1);
+        assertThat(EntityQuery.fromDataQuery(new DataQuery())).isNull();
+        assertThat(EntityQuery.fromDataQuery(new DataQuery().setHeader(ENTITY_QUERY_HEADER, query.toJson().encode())))
+                .isEqualTo(query);
+    }
+
+    @Test
+    @DisplayName("Filters should be translated to SQL predicates, matching null values like OData does")
+    void testToSql() {
+        List<Object> parameters = new ArrayList<>();
+        assertThat(FILTER.toSql(parameters)).isEqualTo("(\"ID\" > ? AND (\"name\" LIKE ? ESCAPE '\\' OR "
+                + "\"category\" IN (?, ?)) AND (\"price\" <> ? OR \"price\" IS NULL) AND \"description\" IS NOT NULL)");
+        assertThat(parameters).containsExactly(5L, "%50\\%\\_off%", "A", "B", new BigDecimal("9.99")).inOrder();
+
+        parameters.clear();
+        assertThat(EntityFilter.not(FILTER).toSql(parameters, property -> "t." + property))
+                .isEqualTo("((t.ID <= ? OR t.ID IS NULL) OR ((t.name NOT LIKE ? ESCAPE '\\' OR t.name IS NULL) AND "
+                        + "(t.category NOT IN (?, ?) OR t.category IS NULL)) OR t.price = ? OR t.description IS NULL)");
+        assertThat(parameters).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("The order of entity queries should be translated to SQL")
+    void testToSqlOrderBy() {
+        assertThat(new EntityQuery().toSqlOrderBy()).isNull();
+        assertThat(new EntityQuery()
+                .setOrderBy(List.of(new EntityQuery.Order("name", true), new EntityQuery.Order("ID", false)))
+                .toSqlOrderBy()).isEqualTo("\"name\" DESC, \"ID\" ASC");
+    }
+}
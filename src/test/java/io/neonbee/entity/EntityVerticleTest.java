@@ -7,6 +7,7 @@ import static io.neonbee.entity.EntityVerticle.CDS_SERVICE_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_PATH_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_PROPERTY_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_SET_NAME_GROUP;
+import static io.neonbee.entity.EntityVerticle.SELECTED_PROPERTIES_HEADER;
 import static io.neonbee.entity.EntityVerticle.SERVICE_NAMESPACE_GROUP;
 import static io.neonbee.entity.EntityVerticle.URI_PATH_PATTERN;
 import static io.neonbee.entity.EntityVerticle.sharedEntityMapName;
@@ -37,6 +38,7 @@ import io.neonbee.NeonBeeOptions;
 import io.neonbee.data.DataAction;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
 import io.neonbee.internal.verticle.ConsolidationVerticle;
 import io.neonbee.test.base.EntityVerticleTestBase;
@@ -225,6 +227,24 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("requestEntity must return entities reduced to the selected properties")
+    void requestEntitySelectedPropertiesTest(VertxTestContext testContext) {
+        DataQuery query = new DataQuery().setHeader(SELECTED_PROPERTIES_HEADER, "ID,name");
+        requestEntity(new DataRequest(EntityVerticleImpl3.FQN_TEST_PRODUCTS, query))
+                .onComplete(testContext.succeeding(ew -> testContext.verify(() -> {
+                    assertThat(ew.getEntities()).hasSize(2);
+                    for (Entity entity : ew.getEntities()) {
+                        assertThat(entity.getProperties().stream().map(Property::getName).collect(Collectors.toList()))
+                                .containsExactly("ID", "name").inOrder();
+                    }
+                    // the entities held by the entity verticle must not be modified
+                    assertThat(EntityVerticleImpl3.TEST_PRODUCTS.get(0).getProperties()).hasSize(3);
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
     @DisplayName("EntityVerticles should announce their entities, as soon as they are deployed and if the models reload")
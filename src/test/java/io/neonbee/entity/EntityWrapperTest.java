@@ -4,9 +4,11 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
@@ -48,6 +50,32 @@ class EntityWrapperTest extends NeonBeeTestBase {
         return WorkingDirectoryBuilder.standard().addModel(TEST_RESOURCES.resolveRelated("TestService2.csn"));
     }
 
+    @Test
+    @DisplayName("Check if copy creates a copy, which can be modified independently")
+    void testCopy() {
+        Entity inlineEntity = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Sam"));
+        Link link = new Link();
+        link.setTitle("Friend");
+        link.setInlineEntity(inlineEntity);
+        Entity entity = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Hodor"))
+                .addProperty(new Property(null, "Aliases", ValueType.COLLECTION_PRIMITIVE, List.of("Wylis")));
+        entity.getNavigationLinks().add(link);
+        EntityWrapper entityWrapper = new EntityWrapper("First.Name", entity);
+
+        EntityWrapper copy = entityWrapper.copy();
+        assertThat(copy).isEqualTo(entityWrapper);
+        assertThat(copy.getEntity()).isNotSameInstanceAs(entity);
+        assertThat(copy.getEntity().getNavigationLink("Friend").getInlineEntity()).isEqualTo(inlineEntity);
+        assertThat(copy.getEntity().getNavigationLink("Friend").getInlineEntity()).isNotSameInstanceAs(inlineEntity);
+
+        copy.getEntity().getProperty("Name").setValue(ValueType.PRIMITIVE, "Sam");
+        copy.getEntity().getNavigationLinks().clear();
+        copy.getEntities().clear();
+        assertThat(entityWrapper.getEntities()).containsExactly(entity);
+        assertThat(entity.getProperty("Name").getValue()).isEqualTo("Hodor");
+        assertThat(entity.getNavigationLinks()).containsExactly(link);
+    }
+
     @Test
     @DisplayName("Check if equals works as expected")
     void testEquals() {
@@ -6,14 +6,16 @@ import java.util.List;
 import java.util.Map;
 
 import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.neonbee.data.DataAction;
 import io.neonbee.data.DataQuery;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
 
 class DataQueryMessageCodecTest {
-    private final DataQueryMessageCodec codec = new DataQueryMessageCodec();
+    private final DataQueryMessageCodec codec = new DataQueryMessageCodec(true);
 
     @SuppressWarnings("deprecation")
     private final DataQuery query = new DataQuery(DataAction.UPDATE, "uri", "query1=value",
@@ -27,6 +29,61 @@ class DataQueryMessageCodecTest {
         assertThat(decoded).isEqualTo(query);
     }
 
+    @Test
+    @DisplayName("binary bodies and multiple parameter / header values should be transferred unchanged")
+    void testEncodeBinary() {
+        DataQuery binaryQuery = new DataQuery(DataAction.CREATE, "uri/\u00FC",
+                Buffer.buffer(new byte[] { (byte) 0xFF, 0, (byte) 0xC3, 0x28 }))
+                        .addParameter("$filter", "name eq '\u00E4&='", "second").addHeader("Header1", "value1")
+                        .addHeader("header1", "value2");
+
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, binaryQuery);
+        assertThat(buffer.getByte(0)).isEqualTo(DataQueryMessageCodec.BINARY_FORMAT_MARKER);
+
+        DataQuery decoded = codec.decodeFromWire(0, buffer);
+        assertThat(decoded).isEqualTo(binaryQuery);
+        assertThat(decoded.getBody().getBytes()).isEqualTo(binaryQuery.getBody().getBytes());
+        assertThat(decoded.getHeaderValues("HEADER1")).containsExactly("value1", "value2").inOrder();
+    }
+
+    @Test
+    @DisplayName("null values should be encoded and decoded")
+    void testEncodeNull() {
+        DataQuery emptyQuery = new DataQuery(null, null, (Map<String, List<String>>) null, null, null);
+
+        Buffer buffer = Buffer.buffer("prefix");
+        codec.encodeToWire(buffer, emptyQuery);
+        DataQuery decoded = codec.decodeFromWire(6, buffer);
+        assertThat(decoded.getAction()).isNull();
+        assertThat(decoded.getUriPath()).isNull();
+        assertThat(decoded.getBody()).isNull();
+        assertThat(decoded.getParameters()).isEmpty();
+        assertThat(decoded.getHeaders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("queries should be encoded in the JSON format by default, which previous versions can decode")
+    void testEncodeJsonByDefault() {
+        Buffer buffer = Buffer.buffer();
+        new DataQueryMessageCodec().encodeToWire(buffer, query);
+        assertThat(buffer.getByte(0)).isNotEqualTo(DataQueryMessageCodec.BINARY_FORMAT_MARKER);
+
+        // decode the same way, as previous versions of NeonBee did
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.readFromBuffer(0, buffer);
+        assertThat(jsonObject.mapTo(DataQuery.class)).isEqualTo(query);
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(query);
+    }
+
+    @Test
+    @DisplayName("queries encoded in the JSON format should still be decoded")
+    void testDecodeJson() {
+        Buffer buffer = Buffer.buffer();
+        JsonObject.mapFrom(query).writeToBuffer(buffer);
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(query);
+    }
+
     @Test
     void testTransform() {
         assertThat(codec.transform(query)).isEqualTo(query);
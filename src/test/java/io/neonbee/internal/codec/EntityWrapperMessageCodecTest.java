@@ -4,17 +4,29 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.olingo.commons.api.data.Annotation;
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
@@ -39,12 +51,13 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
 
     @Override
     protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
-        return WorkingDirectoryBuilder.standard().addModel(TEST_RESOURCES.resolveRelated("CodecService.csn"));
+        return WorkingDirectoryBuilder.standard().addModel(TEST_RESOURCES.resolveRelated("CodecService.csn"))
+                .addModel(TEST_RESOURCES.resolve("io/neonbee/test/endpoint/odata/verticle/TestService1.csn"));
     }
 
     @BeforeEach
     void setUp() {
-        codec = new EntityWrapperMessageCodec(getNeonBee().getVertx());
+        codec = new EntityWrapperMessageCodec(getNeonBee().getVertx(), true);
     }
 
     @Test
@@ -66,6 +79,158 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
         }).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("Should serialize and deserialize all primitive types in the binary format.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void encodeDecodeBinary(VertxTestContext testContext) {
+        UUID uuid = UUID.randomUUID();
+        Entity typedEntity = new Entity()
+                .addProperty(new Property(null, "KeyPropertyString", ValueType.PRIMITIVE, "KEY"))
+                .addProperty(new Property(null, "PropertyString", ValueType.PRIMITIVE, "Ünicode"))
+                .addProperty(new Property(null, "PropertyBinary", ValueType.PRIMITIVE, new byte[] { 1, 2, 3 }))
+                .addProperty(new Property(null, "PropertyBoolean", ValueType.PRIMITIVE, true))
+                .addProperty(new Property(null, "PropertyDate", ValueType.PRIMITIVE, LocalDate.of(2021, 2, 3)))
+                .addProperty(new Property(null, "PropertyTime", ValueType.PRIMITIVE, LocalTime.of(12, 34, 56)))
+                .addProperty(new Property(null, "PropertyTimestamp", ValueType.PRIMITIVE,
+                        Timestamp.valueOf("2021-02-03 12:34:56")))
+                .addProperty(
+                        new Property(null, "PropertyDecimal", ValueType.PRIMITIVE, new BigDecimal("123456.12345")))
+                .addProperty(new Property(null, "PropertyDouble", ValueType.PRIMITIVE, 1.5d))
+                .addProperty(new Property(null, "PropertyUuid", ValueType.PRIMITIVE, uuid))
+                .addProperty(new Property(null, "PropertyInt32", ValueType.PRIMITIVE, 42))
+                .addProperty(new Property(null, "PropertyInt64", ValueType.PRIMITIVE, 4_200_000_000L))
+                .addProperty(new Property(null, "PropertyDecimalFloat", ValueType.PRIMITIVE, null));
+        EntityWrapper typedWrapper =
+                new EntityWrapper("io.neonbee.test.TestService1.AllPropertiesNullable", typedEntity);
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer binaryBuffer = Buffer.buffer();
+            codec.encodeToWire(binaryBuffer, typedWrapper);
+            assertThat(binaryBuffer.getByte(0)).isEqualTo(EntityWrapperMessageCodec.BINARY_FORMAT_VERSION);
+
+            Buffer jsonBuffer = Buffer.buffer();
+            new EntityWrapperMessageCodec(getNeonBee().getVertx(), false).encodeToWire(jsonBuffer, typedWrapper);
+            assertThat(binaryBuffer.length()).isLessThan(jsonBuffer.length());
+
+            // both formats must result in the same values
+            Entity binaryEntity = codec.decodeFromWire(0, binaryBuffer).getEntity();
+            Entity jsonEntity = codec.decodeFromWire(0, jsonBuffer).getEntity();
+            for (Property property : binaryEntity.getProperties()) {
+                assertThat(property.getValue()).isEqualTo(jsonEntity.getProperty(property.getName()).getValue());
+            }
+            assertThat(binaryEntity.getProperty("PropertyString").getValue()).isEqualTo("Ünicode");
+            assertThat(binaryEntity.getProperty("PropertyInt64").getValue()).isEqualTo(4_200_000_000L);
+            assertThat(binaryEntity.getProperty("PropertyUuid").getValue()).isEqualTo(uuid);
+            assertThat(binaryEntity.getProperty("PropertyDecimal").getValue())
+                    .isEqualTo(new BigDecimal("123456.12345"));
+            // properties with a null value must stay null, absent properties must stay absent
+            assertThat(binaryEntity.getProperty("PropertyDecimalFloat")).isNotNull();
+            assertThat(binaryEntity.getProperty("PropertyDecimalFloat").getValue()).isNull();
+            assertThat(binaryEntity.getProperty("PropertyLargeString")).isNull();
+            assertThat(binaryEntity.getProperties()).hasSize(typedEntity.getProperties().size());
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should deserialize the binary format, in case the model of the sending node differs.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void decodeBinaryDifferentModel(VertxTestContext testContext) {
+        Buffer buffer = Buffer.buffer().appendByte(EntityWrapperMessageCodec.BINARY_FORMAT_VERSION);
+        appendString(buffer, "io.neonbee.test.TestService1");
+        appendString(buffer, "AllPropertiesNullable");
+        Buffer table = Buffer.buffer().appendInt(3);
+        appendTableEntry(table, "KeyPropertyString", EdmPrimitiveTypeKind.String);
+        appendTableEntry(table, "PropertyUnknown", EdmPrimitiveTypeKind.String);
+        appendTableEntry(table, "PropertyInt64", EdmPrimitiveTypeKind.Int32);
+        // a fingerprint not matching the model of this node, followed by the property table and one entity
+        buffer.appendInt(0).appendInt(table.length()).appendBuffer(table).appendInt(1);
+        appendString(buffer.appendByte((byte) 1), "KEY");
+        appendString(buffer.appendByte((byte) 1), "UNKNOWN");
+        buffer.appendByte((byte) 1).appendInt(42);
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Entity entity = codec.decodeFromWire(0, buffer).getEntity();
+            assertThat(entity.getProperty("KeyPropertyString").getValue()).isEqualTo("KEY");
+            assertThat(entity.getProperty("PropertyUnknown")).isNull();
+            assertThat(entity.getProperty("PropertyInt64").getValue()).isEqualTo(42L);
+            assertThat(entity.getProperty("PropertyInt64").getType()).isEqualTo("Edm.Int64");
+
+            // the table is skipped, in case the model of the sending node matches
+            Buffer binaryBuffer = Buffer.buffer();
+            codec.encodeToWire(binaryBuffer, new EntityWrapper("io.neonbee.test.TestService1.AllPropertiesNullable",
+                    new Entity().addProperty(new Property(null, "KeyPropertyString", ValueType.PRIMITIVE, "KEY"))));
+            assertThat(codec.decodeFromWire(0, binaryBuffer).getEntity().getProperty("KeyPropertyString").getValue())
+                    .isEqualTo("KEY");
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should encode entities carrying more than the values of their properties in the JSON format.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void encodeMetadataAsJson(VertxTestContext testContext) {
+        String typeName = "io.neonbee.test.TestService1.AllPropertiesNullable";
+        Entity etagEntity = createKeyEntity();
+        etagEntity.setETag("W/\"1\"");
+        Entity idEntity = createKeyEntity();
+        idEntity.setId(URI.create("AllPropertiesNullable('KEY')"));
+        Entity linkEntity = createKeyEntity();
+        linkEntity.getNavigationLinks().add(new Link());
+        Entity annotatedEntity = createKeyEntity();
+        Annotation annotation = new Annotation();
+        annotation.setTerm("io.neonbee.test.Annotation");
+        annotation.setType("String");
+        annotation.setValue(ValueType.PRIMITIVE, "ANNOTATION");
+        annotatedEntity.getProperty("KeyPropertyString").getAnnotations().add(annotation);
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            for (Entity entity : List.of(etagEntity, idEntity, linkEntity, annotatedEntity)) {
+                Buffer buffer = Buffer.buffer();
+                codec.encodeToWire(buffer, new EntityWrapper(typeName, List.of(createKeyEntity(), entity)));
+                assertThat(buffer.getByte(0)).isEqualTo((byte) '{');
+            }
+
+            Buffer buffer = Buffer.buffer();
+            codec.encodeToWire(buffer, new EntityWrapper(typeName, createKeyEntity()));
+            assertThat(buffer.getByte(0)).isEqualTo(EntityWrapperMessageCodec.BINARY_FORMAT_VERSION);
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should encode to the JSON format by default.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void encodeJsonByDefault(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer buffer = Buffer.buffer();
+            new EntityWrapperMessageCodec(getNeonBee().getVertx()).encodeToWire(buffer, wrapper);
+            assertThat(buffer.getByte(0)).isEqualTo((byte) '{');
+            assertThat(new NeonBeeConfig().isEntityWrapperBinaryFormat()).isFalse();
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should deserialize EntityWrapper encoded in the JSON format.")
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void decodeJsonFormat(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer buffer = wrapper.toBuffer(getNeonBee().getVertx());
+            assertThat(buffer.getByte(0)).isEqualTo((byte) '{');
+            Entity decodedEntity = codec.decodeFromWire(0, buffer).getEntity();
+            assertThat(decodedEntity.getProperty("name").getValue()).isEqualTo("NAME");
+            assertThat(EntityWrapper.fromBuffer(getNeonBee().getVertx(), buffer)).isEqualTo(codec.decodeFromWire(0,
+                    buffer));
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @DisplayName("Transform should return the same object")
     void testTransform() {
@@ -81,4 +246,18 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
     void testName() {
         assertThat(codec.name()).isEqualTo("entitywrapper");
     }
+
+    private static Entity createKeyEntity() {
+        return new Entity().addProperty(new Property(null, "KeyPropertyString", ValueType.PRIMITIVE, "KEY"));
+    }
+
+    private static void appendString(Buffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    private static void appendTableEntry(Buffer table, String name, EdmPrimitiveTypeKind kind) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        table.appendShort((short) bytes.length).appendBytes(bytes).appendByte((byte) kind.ordinal());
+    }
 }
@@ -3,12 +3,16 @@ package io.neonbee.internal.helper;
 import static com.google.common.truth.Truth.assertThat;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.json.JsonArray;
+
 class CollectionHelperTest {
 
     @Test
@@ -37,4 +41,17 @@ class CollectionHelperTest {
         assertThat(resultMap).isInstanceOf(TreeMap.class);
         assertThat(resultMap).containsExactlyEntriesIn(map);
     }
+
+    @Test
+    @DisplayName("Check if objects are immutable or copyable")
+    void testIsCopyable() {
+        assertThat(CollectionHelper.isCopyable(null)).isTrue();
+        assertThat(CollectionHelper.isCopyable("value")).isTrue();
+        assertThat(CollectionHelper.isCopyable(1)).isTrue();
+        assertThat(CollectionHelper.isCopyable(new JsonArray())).isTrue();
+        assertThat(CollectionHelper.isCopyable(new byte[0])).isTrue();
+        assertThat(CollectionHelper.isCopyable(new EntityWrapper("Hodor.Hodor", List.of()))).isTrue();
+        assertThat(CollectionHelper.isCopyable(new StringBuilder())).isFalse();
+        assertThat(CollectionHelper.isCopyable(new Object())).isFalse();
+    }
 }
@@ -0,0 +1,93 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_BATCH_PARALLELISM;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.config.EndpointConfig;
+import io.neonbee.config.ServerConfig;
+import io.neonbee.endpoint.odatav4.ODataV4Endpoint;
+import io.neonbee.internal.verticle.ServerVerticle;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.neonbee.test.helper.WorkingDirectoryBuilder;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataBatchTest extends ODataEndpointTestBase {
+    private static final String BOUNDARY = "batch_hodor";
+
+    private static final FullQualifiedName BATCH_FQN =
+            new FullQualifiedName(TEST_ENTITY_SET_FQN.getNamespace(), "$batch");
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @Override
+    protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
+        return super.provideWorkingDirectoryBuilder(testInfo, testContext).setCustomTask(root -> {
+            // process less parts concurrently than sent, so that the parts have to be distributed to the lanes
+            DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
+            EndpointConfig epc = new EndpointConfig().setType(ODataV4Endpoint.class.getName())
+                    .setAdditionalConfig(new JsonObject().put(CONFIG_BATCH_PARALLELISM, 2));
+            ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
+            opts.setConfig(sc.toJson());
+            WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
+        });
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        deployVerticle(new TestService1EntityVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with all parts of a batch request in the order of the request")
+    void batchRequestTest(VertxTestContext testContext) {
+        List<String> keys = List.of("id-0", "id-1", "id-2", "id.3", "id-4");
+        StringBuilder body = new StringBuilder();
+        for (String key : keys) {
+            body.append("--").append(BOUNDARY).append("\r\n").append("Content-Type: application/http\r\n")
+                    .append("Content-Transfer-Encoding: binary\r\n\r\n").append("GET ")
+                    .append(TEST_ENTITY_SET_FQN.getName()).append("('").append(key).append("') HTTP/1.1\r\n")
+                    .append("Accept: application/json\r\n\r\n\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("--\r\n");
+
+        requestOData(new ODataRequest(BATCH_FQN).setMethod(HttpMethod.POST)
+                .addHeader("Content-Type", "multipart/mixed;boundary=" + BOUNDARY)
+                .setBody(Buffer.buffer(body.toString())))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(202);
+                    String content = response.bodyAsString();
+                    int lastIndex = -1;
+                    for (String key : keys) {
+                        int index = content.indexOf("\"KeyPropertyString\":\"" + key + "\"");
+                        assertThat(index).isGreaterThan(lastIndex);
+                        lastIndex = index;
+                    }
+                    assertThat(content.split("HTTP/1.1 200 OK", -1)).hasLength(keys.size() + 1);
+                    testContext.completeNow();
+                })));
+    }
+}
@@ -0,0 +1,63 @@
+package io.neonbee.test.endpoint.odata;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_KEY;
+import static io.neonbee.entity.EntityVerticle.COUNT_ONLY_HEADER;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.vertx.core.Future;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataCountTest extends ODataEndpointTestBase {
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Respond with the count returned by an entity verticle supporting count-only requests")
+    void countOnlyTest(VertxTestContext testContext) {
+        deployVerticle(new CountingEntityVerticle())
+                .compose(v -> assertOData(requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setCount()), "42",
+                        testContext))
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Count the consolidated entities in case multiple entity verticles serve the same entity type")
+    void countOnlyConsolidatedTest(VertxTestContext testContext) {
+        deployVerticle(new CountingEntityVerticle()).compose(v -> deployVerticle(new TestService1EntityVerticle()))
+                .compose(v -> assertOData(requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setCount()), "12",
+                        testContext))
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
+    public static class CountingEntityVerticle extends TestService1EntityVerticle {
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            if (query.getHeader(COUNT_ONLY_HEADER) == null) {
+                return super.retrieveData(query, context);
+            }
+
+            context.responseData().put(ODATA_COUNT_KEY, 42);
+            return succeededFuture(new EntityWrapper(TEST_ENTITY_SET_FQN, List.of()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityFilter;
+import io.neonbee.entity.EntityFilter.Operator;
+import io.neonbee.entity.EntityQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataEntityQueryTest extends ODataEndpointTestBase {
+    private FilteringEntityVerticle entityVerticle;
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        deployVerticle(entityVerticle = new FilteringEntityVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entity verticles should receive the translated filter and be able to filter at the source")
+    void filterAtSourceTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN)
+                .setQuery(Map.of("$filter", "PropertyInt32 gt 2", "$orderby", "PropertyInt32 desc")))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    EntityQuery entityQuery = entityVerticle.entityQuery;
+                    assertThat(entityQuery.isFilterComplete()).isTrue();
+                    assertThat(entityQuery.getFilter())
+                            .isEqualTo(EntityFilter.compare(Operator.GT, "PropertyInt32", 2L));
+                    assertThat(entityQuery.getOrderBy())
+                            .containsExactly(new EntityQuery.Order("PropertyInt32", true));
+
+                    JsonArray values = response.bodyAsJsonObject().getJsonArray("value");
+                    assertThat(values.stream().map(value -> ((JsonObject) value)
+                            .getInteger("PropertyInt32")).collect(Collectors.toList())).containsExactly(42, 4, 3)
+                            .inOrder();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Entity verticles should not receive an entity query, in case there are no query options")
+    void noEntityQueryTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(entityVerticle.entityQuery).isNull();
+                    assertThat(response.bodyAsJsonObject().getJsonArray("value")).hasSize(6);
+                    testContext.completeNow();
+                })));
+    }
+
+    /**
+     * An entity verticle applying simple "greater than" filters on its own, reporting the filter as executed.
+     */
+    public static class FilteringEntityVerticle extends TestService1EntityVerticle {
+        EntityQuery entityQuery;
+
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            entityQuery = EntityQuery.fromDataQuery(query);
+            EntityFilter filter = entityQuery != null ? entityQuery.getFilter() : null;
+            if (filter == null || !entityQuery.isFilterComplete() || filter.getOperator() != Operator.GT) {
+                return super.retrieveData(query, context);
+            }
+
+            long value = ((Number) filter.getValue()).longValue();
+            return super.retrieveData(query, context).map(entityWrapper -> {
+                List<Entity> entities = entityWrapper.getEntities().stream().filter(entity -> ((Number) entity
+                        .getProperty(filter.getProperty()).getValue()).longValue() > value)
+                        .collect(Collectors.toList());
+                context.responseData().put(ODATA_FILTER_KEY, Boolean.TRUE);
+                return new EntityWrapper(entityWrapper.getTypeName(), entities);
+            });
+        }
+    }
+}
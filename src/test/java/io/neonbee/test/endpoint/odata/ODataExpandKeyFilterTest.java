@@ -0,0 +1,230 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.CATEGORIES_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.FOOD_CATEGORY;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.MOTORCYCLE_CATEGORY;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.PROPERTY_NAME_PRODUCTS;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.addProductsToCategory;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsCategoriesEntityVerticle.createCategory;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.ALL_PRODUCTS;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.CHEESE_PRODUCT;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.PRODUCTS_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.PROPERTY_NAME_CATEGORY;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.PROPERTY_NAME_CATEGORY_ID;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.PROPERTY_NAME_ID;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.STEAK_PRODUCT;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.STREET_GLIDE_SPECIAL_PRODUCT;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.S_1000_RR_PRODUCT;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.addCategoryToProduct;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.createProduct;
+import static io.neonbee.test.endpoint.odata.verticle.NavPropsProductsEntityVerticle.getDeclaredEntityModel;
+import static io.neonbee.test.helper.EntityHelper.createEntity;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityVerticle;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+/**
+ * These tests cover that expanding a navigation property only requests the referenced entities, by passing the keys of
+ * the referenced entities as $filter query option to the entity verticle of the referenced entities, e.g. for:<br>
+ * <br>
+ *
+ * <pre>
+ * http://baseUrl/odata/io.neonbee.test.NavProbs/Products?$expand=category
+ * </pre>
+ */
+class ODataExpandKeyFilterTest extends ODataEndpointTestBase {
+    private static final FullQualifiedName COMPOSITE_KEY_PRODUCTS_ENTITY_SET_FQN =
+            new FullQualifiedName("io.neonbee.compositekey.NavProbsCompositeKey", "Products");
+
+    private static final FullQualifiedName COMPOSITE_KEY_CATEGORIES_ENTITY_SET_FQN =
+            new FullQualifiedName("io.neonbee.compositekey.NavProbsCompositeKey", "Categories");
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel(), TEST_RESOURCES
+                .resolve("io/neonbee/test/endpoint/odata/verticle/NavigationPropertyCompositeKey.csn"));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Expanding a navigation property should request the referenced entities with the in operator")
+    void testExpandWithInFilter(VertxTestContext testContext) {
+        ReferencedEntityVerticle categories = new ReferencedEntityVerticle(CATEGORIES_ENTITY_SET_FQN,
+                List.of(FOOD_CATEGORY, MOTORCYCLE_CATEGORY, createCategory(3, "Bikes")));
+        ODataRequest oDataRequest = new ODataRequest(PRODUCTS_ENTITY_SET_FQN).setExpandQuery(PROPERTY_NAME_CATEGORY);
+        List<JsonObject> expected = List.of(addCategoryToProduct(STEAK_PRODUCT, FOOD_CATEGORY),
+                addCategoryToProduct(CHEESE_PRODUCT, FOOD_CATEGORY),
+                addCategoryToProduct(S_1000_RR_PRODUCT, MOTORCYCLE_CATEGORY),
+                addCategoryToProduct(STREET_GLIDE_SPECIAL_PRODUCT, MOTORCYCLE_CATEGORY));
+
+        CompositeFuture
+                .all(deployVerticle(new ReferencingEntityVerticle(PRODUCTS_ENTITY_SET_FQN, ALL_PRODUCTS)),
+                        deployVerticle(categories))
+                .compose(deployed -> assertODataEntitySetContainsExactly(requestOData(oDataRequest), expected,
+                        testContext))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(categories.filters).containsExactly("ID in (1,2)");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Expanding a collection navigation property should request the referenced entities with the in "
+            + "operator")
+    void testExpandCollectionWithInFilter(VertxTestContext testContext) {
+        ReferencedEntityVerticle products = new ReferencedEntityVerticle(PRODUCTS_ENTITY_SET_FQN, ALL_PRODUCTS);
+        ODataRequest oDataRequest = new ODataRequest(CATEGORIES_ENTITY_SET_FQN).setExpandQuery(PROPERTY_NAME_PRODUCTS);
+        List<JsonObject> expected =
+                List.of(addProductsToCategory(FOOD_CATEGORY, List.of(STEAK_PRODUCT, CHEESE_PRODUCT)));
+
+        CompositeFuture
+                .all(deployVerticle(new ReferencingEntityVerticle(CATEGORIES_ENTITY_SET_FQN, List.of(FOOD_CATEGORY))),
+                        deployVerticle(products))
+                .compose(deployed -> assertODataEntitySetContainsExactly(requestOData(oDataRequest), expected,
+                        testContext))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(products.filters).containsExactly("category_ID in (1)");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Expanding a navigation property should request the referenced entities in chunks of keys")
+    void testExpandWithChunkedInFilters(VertxTestContext testContext) {
+        // the keys of 250 distinct categories are requested in chunks of at most 100 keys
+        int size = 250;
+        ReferencedEntityVerticle categories = new ReferencedEntityVerticle(CATEGORIES_ENTITY_SET_FQN,
+                IntStream.rangeClosed(1, size).mapToObj(id -> createCategory(id, "Category " + id)).collect(toList()));
+        ODataRequest oDataRequest = new ODataRequest(PRODUCTS_ENTITY_SET_FQN).setExpandQuery(PROPERTY_NAME_CATEGORY);
+
+        CompositeFuture
+                .all(deployVerticle(new ReferencingEntityVerticle(PRODUCTS_ENTITY_SET_FQN,
+                        IntStream.rangeClosed(1, size).mapToObj(id -> createProduct(id, "Product " + id, id))
+                                .collect(toList()))),
+                        deployVerticle(categories))
+                .compose(deployed -> assertODataEntitySet(requestOData(oDataRequest), expandedProducts -> {
+                    assertThat(expandedProducts).hasSize(size);
+                    for (int i = 0; i < size; i++) {
+                        JsonObject product = expandedProducts.getJsonObject(i);
+                        assertThat(product.getJsonObject(PROPERTY_NAME_CATEGORY).getInteger(PROPERTY_NAME_ID))
+                                .isEqualTo(product.getInteger(PROPERTY_NAME_CATEGORY_ID));
+                    }
+                }, testContext)).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(categories.filters).containsExactly(keyInFilter(1, 100), keyInFilter(101, 200),
+                            keyInFilter(201, 250));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Expanding a navigation property with a composite key should request the referenced entities with a "
+            + "disjunction")
+    void testExpandWithCompositeKeyFilter(VertxTestContext testContext) {
+        JsonObject foodEn = compositeKeyCategory(1, "en", "Food");
+        JsonObject foodDe = compositeKeyCategory(1, "de", "Lebensmittel");
+        JsonObject steak = compositeKeyProduct(1, "Steak", foodEn);
+        JsonObject kaese = compositeKeyProduct(2, "Käse", foodDe);
+        JsonObject cheese = compositeKeyProduct(3, "Cheese", foodEn);
+        ReferencedEntityVerticle categories = new ReferencedEntityVerticle(COMPOSITE_KEY_CATEGORIES_ENTITY_SET_FQN,
+                List.of(foodEn, foodDe, compositeKeyCategory(2, "en", "Motorcycles")));
+        ODataRequest oDataRequest =
+                new ODataRequest(COMPOSITE_KEY_PRODUCTS_ENTITY_SET_FQN).setExpandQuery(PROPERTY_NAME_CATEGORY);
+        List<JsonObject> expected = List.of(addCategoryToProduct(steak, foodEn), addCategoryToProduct(kaese, foodDe),
+                addCategoryToProduct(cheese, foodEn));
+
+        CompositeFuture
+                .all(deployVerticle(new ReferencingEntityVerticle(COMPOSITE_KEY_PRODUCTS_ENTITY_SET_FQN,
+                        List.of(steak, kaese, cheese))), deployVerticle(categories))
+                .compose(deployed -> assertODataEntitySetContainsExactly(requestOData(oDataRequest), expected,
+                        testContext))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(categories.filters)
+                            .containsExactly("(ID eq 1 and locale eq 'en') or (ID eq 1 and locale eq 'de')");
+                    testContext.completeNow();
+                })));
+    }
+
+    private static String keyInFilter(int fromId, int toId) {
+        return IntStream.rangeClosed(fromId, toId).mapToObj(String::valueOf).collect(joining(",", "ID in (", ")"));
+    }
+
+    private static JsonObject compositeKeyCategory(int id, String locale, String name) {
+        return new JsonObject().put("ID", id).put("locale", locale).put("name", name);
+    }
+
+    private static JsonObject compositeKeyProduct(int id, String name, JsonObject category) {
+        return new JsonObject().put("ID", id).put("name", name).put("category_ID", category.getInteger("ID"))
+                .put("category_locale", category.getString("locale"));
+    }
+
+    /**
+     * An entity verticle returning all of its entities, regardless of the query. As the name of an entity verticle is
+     * derived from its class, the referencing and the referenced entity verticle must be of different classes.
+     */
+    private static class ReferencingEntityVerticle extends EntityVerticle {
+        private final FullQualifiedName entityTypeName;
+
+        private final List<JsonObject> entities;
+
+        ReferencingEntityVerticle(FullQualifiedName entityTypeName, List<JsonObject> entities) {
+            this.entityTypeName = entityTypeName;
+            this.entities = entities;
+        }
+
+        @Override
+        public Future<Set<FullQualifiedName>> entityTypeNames() {
+            return succeededFuture(Set.of(entityTypeName));
+        }
+
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            return succeededFuture(new EntityWrapper(entityTypeName,
+                    entities.stream().map(entity -> createEntity(entity)).collect(toList())));
+        }
+    }
+
+    /**
+     * An entity verticle recording the $filter query option of every query, returning all of its entities.
+     */
+    private static class ReferencedEntityVerticle extends ReferencingEntityVerticle {
+        final List<String> filters = new CopyOnWriteArrayList<>();
+
+        ReferencedEntityVerticle(FullQualifiedName entityTypeName, List<JsonObject> entities) {
+            super(entityTypeName, entities);
+        }
+
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            filters.add(query.getParameter("$filter"));
+            return super.retrieveData(query, context);
+        }
+    }
+}
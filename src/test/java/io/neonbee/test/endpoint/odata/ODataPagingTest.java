@@ -0,0 +1,96 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_MAX_PAGE_SIZE;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import io.neonbee.config.EndpointConfig;
+import io.neonbee.config.ServerConfig;
+import io.neonbee.endpoint.odatav4.ODataV4Endpoint;
+import io.neonbee.internal.verticle.ServerVerticle;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.neonbee.test.helper.WorkingDirectoryBuilder;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataPagingTest extends ODataEndpointTestBase {
+    private static final String NEXT_LINK = "@odata.nextLink";
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @Override
+    protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
+        return super.provideWorkingDirectoryBuilder(testInfo, testContext).setCustomTask(root -> {
+            DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
+            EndpointConfig epc = new EndpointConfig().setType(ODataV4Endpoint.class.getName())
+                    .setAdditionalConfig(new JsonObject().put(CONFIG_MAX_PAGE_SIZE, 4));
+            ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
+            opts.setConfig(sc.toJson());
+            WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
+        });
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        deployVerticle(new TestService1EntityVerticle()).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Collections exceeding the maximum page size should be paged with a next link")
+    void pagedEntitiesTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setQuery(Map.of("$count", "true")))
+                .compose(response -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    testContext.verify(() -> {
+                        assertThat(body.getJsonArray("value")).hasSize(4);
+                        assertThat(body.getInteger("@odata.count")).isEqualTo(6);
+                        assertThat(body.getString(NEXT_LINK)).contains("$skiptoken=");
+                    });
+                    return WebClient.create(getNeonBee().getVertx()).getAbs(body.getString(NEXT_LINK)).send();
+                }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getJsonArray("value")).hasSize(2);
+                    assertThat(body.containsKey(NEXT_LINK)).isFalse();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Clients should be able to prefer a smaller page size and the paging should respect $top")
+    void preferredPageSizeTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setQuery(Map.of("$top", "3"))
+                .addHeader("Prefer", "odata.maxpagesize=2")).compose(response -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    testContext.verify(() -> assertThat(body.getJsonArray("value")).hasSize(2));
+                    return WebClient.create(getNeonBee().getVertx()).getAbs(body.getString(NEXT_LINK))
+                            .putHeader("Prefer", "odata.maxpagesize=2").send();
+                }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getJsonArray("value")).hasSize(1);
+                    assertThat(body.containsKey(NEXT_LINK)).isFalse();
+                    testContext.completeNow();
+                })));
+    }
+}
@@ -0,0 +1,84 @@
+package io.neonbee.test.endpoint.odata;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityVerticle.SELECTED_PROPERTIES_HEADER;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.getDeclaredEntityModel;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.test.base.ODataEndpointTestBase;
+import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxTestContext;
+
+class ODataSelectTest extends ODataEndpointTestBase {
+    private SelectRecordingEntityVerticle entityVerticle;
+
+    @Override
+    protected List<Path> provideEntityModels() {
+        return List.of(getDeclaredEntityModel());
+    }
+
+    @BeforeEach
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    void setUp(VertxTestContext testContext) {
+        deployVerticle(entityVerticle = new SelectRecordingEntityVerticle())
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("Selected properties should be passed to the entity verticle, including keys and filtered properties")
+    void selectFilterTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN)
+                .setQuery(Map.of("$select", "PropertyString", "$filter", "PropertyInt32 eq 2")))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(entityVerticle.selectedProperties)
+                            .isEqualTo("KeyPropertyString,PropertyInt32,PropertyString");
+                    JsonArray values = response.bodyAsJsonObject().getJsonArray("value");
+                    assertThat(values).hasSize(1);
+                    JsonObject value = values.getJsonObject(0);
+                    assertThat(value.getString("KeyPropertyString")).isEqualTo("id-1");
+                    assertThat(value.getString("PropertyString")).isEqualTo("c");
+                    assertThat(value.containsKey("PropertyString100")).isFalse();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+    @DisplayName("No properties should be passed to the entity verticle, in case all properties are selected")
+    void selectAllTest(VertxTestContext testContext) {
+        requestOData(new ODataRequest(TEST_ENTITY_SET_FQN).setQuery(Map.of("$select", "*")))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(entityVerticle.selectedProperties).isNull();
+                    assertThat(response.bodyAsJsonObject().getJsonArray("value")).hasSize(6);
+                    testContext.completeNow();
+                })));
+    }
+
+    public static class SelectRecordingEntityVerticle extends TestService1EntityVerticle {
+        String selectedProperties;
+
+        @Override
+        public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+            selectedProperties = query.getHeader(SELECTED_PROPERTIES_HEADER);
+            return super.retrieveData(query, context);
+        }
+    }
+}